@@ -0,0 +1,72 @@
+package io.github._07manan.featureflags.relay;
+
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.model.FlagSnapshot;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One upstream environment served by the relay. Results come from an SDK client, so they are
+ * cached with the client's TTL, and concurrent misses for the same user are coalesced into a
+ * single upstream request.
+ */
+final class RelayEnvironment implements AutoCloseable {
+    private final FeatureFlagClient client;
+    private final ConcurrentHashMap<String, CompletableFuture<FlagSnapshot>> inFlight = new ConcurrentHashMap<>();
+
+    RelayEnvironment(FeatureFlagClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Returns all flags of a user. A cached result is returned directly; otherwise, if another
+     * thread is already fetching them, waits for its result instead of sending a second request
+     * upstream.
+     *
+     * @param userId the user ID (can be null)
+     * @return the user's flags
+     */
+    FlagSnapshot snapshot(String userId) {
+        FlagSnapshot cached = client.getCachedSnapshot(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // ConcurrentHashMap doesn't take null keys, and the upstream API treats a missing user as ""
+        String userKey = userId != null ? userId : "";
+        CompletableFuture<FlagSnapshot> fetch = new CompletableFuture<>();
+        CompletableFuture<FlagSnapshot> existing = inFlight.putIfAbsent(userKey, fetch);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            FlagSnapshot snapshot = client.getSnapshot(userId);
+            fetch.complete(snapshot);
+            return snapshot;
+        } catch (RuntimeException e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(userKey, fetch);
+        }
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private static FlagSnapshot join(CompletableFuture<FlagSnapshot> fetch) {
+        try {
+            return fetch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
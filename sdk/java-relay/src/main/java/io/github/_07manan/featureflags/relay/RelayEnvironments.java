@@ -0,0 +1,79 @@
+package io.github._07manan.featureflags.relay;
+
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.FeatureFlagRuntime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The environments a relay serves, keyed by API key and created on first use. All of them share
+ * one {@link FeatureFlagRuntime}, so each extra environment costs caches but no connections or
+ * threads. Environments whose key is rejected upstream are dropped again.
+ */
+final class RelayEnvironments implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(RelayEnvironments.class);
+
+    private final FeatureFlagRuntime runtime;
+    private final String upstreamUrl;
+    private final long cacheTTL;
+    private final TimeUnit cacheTTLUnit;
+    private final int maxEnvironments;
+    private final ConcurrentHashMap<String, RelayEnvironment> environments = new ConcurrentHashMap<>();
+
+    RelayEnvironments(FeatureFlagRuntime runtime, String upstreamUrl, long cacheTTL, TimeUnit cacheTTLUnit, int maxEnvironments) {
+        this.runtime = runtime;
+        this.upstreamUrl = upstreamUrl;
+        this.cacheTTL = cacheTTL;
+        this.cacheTTLUnit = cacheTTLUnit;
+        this.maxEnvironments = maxEnvironments;
+    }
+
+    /**
+     * @return the environment for the API key, or null if the relay is at capacity
+     */
+    RelayEnvironment get(String apiKey) {
+        RelayEnvironment environment = environments.get(apiKey);
+        if (environment != null) {
+            return environment;
+        }
+        // Checked outside computeIfAbsent, so concurrent first requests may overshoot slightly
+        if (environments.size() >= maxEnvironments) {
+            return null;
+        }
+        return environments.computeIfAbsent(apiKey, this::create);
+    }
+
+    void evict(String apiKey, RelayEnvironment environment) {
+        if (environments.remove(apiKey, environment)) {
+            environment.close();
+            logger.info("Dropped environment rejected by upstream");
+        }
+    }
+
+    int size() {
+        return environments.size();
+    }
+
+    @Override
+    public void close() {
+        environments.values().forEach(RelayEnvironment::close);
+        environments.clear();
+    }
+
+    private RelayEnvironment create(String apiKey) {
+        FeatureFlagClient client = FeatureFlagClient.builder()
+                .apiKey(apiKey)
+                .baseUrl(upstreamUrl)
+                .cacheTTL(cacheTTL, cacheTTLUnit)
+                .runtime(runtime)
+                // Anonymous per-environment MBeans would pile up by the thousand and only tell
+                // apart by number, and each adds counting to every cache lookup
+                .registerMBean(false)
+                .build();
+        logger.debug("Serving a new environment, {} in total", environments.size() + 1);
+        return new RelayEnvironment(client);
+    }
+}
@@ -0,0 +1,142 @@
+package io.github._07manan.featureflags.relay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.exception.ConcurrencyLimitExceededException;
+import io.github._07manan.featureflags.sdk.json.EvaluationCodec;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the evaluation API contract:
+ * <ul>
+ *   <li>{@code GET /evaluate/{flagKey}?user=} - one flag</li>
+ *   <li>{@code GET /evaluate?user=} - all active flags</li>
+ *   <li>{@code GET|HEAD /health}</li>
+ * </ul>
+ * Both evaluation endpoints are answered from the user's bulk result, so every flag a user asks
+ * for costs at most one upstream request per cache TTL. Errors use the upstream error body.
+ */
+final class RelayHandler implements HttpHandler {
+    private static final Logger logger = LoggerFactory.getLogger(RelayHandler.class);
+    private static final String HEADER_API_KEY = "X-API-Key";
+    private static final String EVALUATE_PATH = "/evaluate";
+
+    private final RelayEnvironments environments;
+
+    RelayHandler(RelayEnvironments environments) {
+        this.environments = environments;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+
+            if (path.equals("/health")) {
+                if (!method.equals("GET") && !method.equals("HEAD")) {
+                    respondError(exchange, 405, "method_not_allowed", "Method not allowed");
+                    return;
+                }
+                respond(exchange, 200, "{\"status\":\"ok\"}");
+                return;
+            }
+            if (!path.equals(EVALUATE_PATH) && !path.startsWith(EVALUATE_PATH + "/")) {
+                respondError(exchange, 404, "not_found", "Not found");
+                return;
+            }
+            if (!method.equals("GET")) {
+                respondError(exchange, 405, "method_not_allowed", "Method not allowed");
+                return;
+            }
+            evaluate(exchange, path);
+        }
+    }
+
+    private void evaluate(HttpExchange exchange, String path) throws IOException {
+        String apiKey = exchange.getRequestHeaders().getFirst(HEADER_API_KEY);
+        if (apiKey == null || apiKey.isBlank() || !apiKey.startsWith("ff_")) {
+            respondError(exchange, 401, "unauthorized", "Invalid or missing API key");
+            return;
+        }
+        RelayEnvironment environment = environments.get(apiKey);
+        if (environment == null) {
+            respondError(exchange, 503, "unavailable", "Relay is serving its maximum number of environments");
+            return;
+        }
+
+        String flagKey = path.length() > EVALUATE_PATH.length() + 1 ? path.substring(EVALUATE_PATH.length() + 1) : null;
+        String userId = queryParameter(exchange.getRequestURI().getRawQuery(), "user");
+        try {
+            FlagSnapshot snapshot = environment.snapshot(userId);
+            if (flagKey == null) {
+                List<EvaluationResult> results = new ArrayList<>(snapshot.size());
+                for (String key : snapshot.keys()) {
+                    results.add(snapshot.getResult(key));
+                }
+                respond(exchange, 200, EvaluationCodec.encodeFlags(results));
+                return;
+            }
+
+            EvaluationResult result = snapshot.getResult(flagKey);
+            if (result == null) {
+                respondError(exchange, 404, "not_found", "Flag not found");
+            } else {
+                respond(exchange, 200, EvaluationCodec.encodeResult(result));
+            }
+        } catch (AuthenticationException e) {
+            environments.evict(apiKey, environment);
+            respondError(exchange, 401, "unauthorized", "Invalid or missing API key");
+        } catch (ConcurrencyLimitExceededException e) {
+            respondError(exchange, 503, "unavailable", "Upstream is saturated");
+        } catch (RuntimeException e) {
+            logger.warn("Upstream evaluation failed", e);
+            respondError(exchange, 502, "bad_gateway", "Upstream evaluation failed");
+        }
+    }
+
+    /**
+     * @return the decoded value of the first occurrence of the parameter, or null if absent
+     */
+    static String queryParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq >= 0 ? pair.substring(0, eq) : pair;
+            if (URLDecoder.decode(key, StandardCharsets.UTF_8).equals(name)) {
+                return eq >= 0 ? URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8) : "";
+            }
+        }
+        return null;
+    }
+
+    private static void respondError(HttpExchange exchange, int status, String error, String message) throws IOException {
+        respond(exchange, status, "{\"error\":\"" + error + "\",\"message\":\"" + message + "\"}");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github._07manan.featureflags.relay;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a relay configured from environment variables:
+ * <ul>
+ *   <li>{@code RELAY_PORT} - port to listen on (default 8082)</li>
+ *   <li>{@code UPSTREAM_URL} - evaluation API base URL (default production)</li>
+ *   <li>{@code CACHE_TTL_SECONDS} - how long results are served from memory (default 30)</li>
+ *   <li>{@code MAX_ENVIRONMENTS} - maximum number of API keys served (default 1000)</li>
+ * </ul>
+ */
+public final class RelayMain {
+
+    private RelayMain() {
+    }
+
+    public static void main(String[] args) {
+        RelayServerBuilder builder = RelayServer.builder();
+        String port = System.getenv("RELAY_PORT");
+        if (port != null) {
+            builder.port(Integer.parseInt(port));
+        }
+        String upstreamUrl = System.getenv("UPSTREAM_URL");
+        if (upstreamUrl != null) {
+            builder.upstreamUrl(upstreamUrl);
+        }
+        String cacheTTL = System.getenv("CACHE_TTL_SECONDS");
+        if (cacheTTL != null) {
+            builder.cacheTTL(Long.parseLong(cacheTTL), TimeUnit.SECONDS);
+        }
+        String maxEnvironments = System.getenv("MAX_ENVIRONMENTS");
+        if (maxEnvironments != null) {
+            builder.maxEnvironments(Integer.parseInt(maxEnvironments));
+        }
+
+        RelayServer relay = builder.build();
+        Runtime.getRuntime().addShutdownHook(new Thread(relay::close, "relay-shutdown"));
+        relay.start();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github._07manan.featureflags.relay;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github._07manan.featureflags.sdk.FeatureFlagRuntime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Relay that serves the evaluation API contract inside a cluster. SDK clients point their
+ * {@code baseUrl} at the relay instead of the central evaluation API; the relay forwards each
+ * environment's traffic upstream over one shared connection pool and answers repeat requests
+ * from memory, so the evaluation API sees a handful of relays instead of every client.
+ * <p>
+ * Example usage:
+ * <pre>
+ * RelayServer relay = RelayServer.builder()
+ *     .port(8082)
+ *     .upstreamUrl("https://feature-flag-evaluation-api.onrender.com/")
+ *     .build();
+ * relay.start();
+ * </pre>
+ */
+public class RelayServer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(RelayServer.class);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final FeatureFlagRuntime runtime;
+    private final RelayEnvironments environments;
+
+    RelayServer(int port, int threads, FeatureFlagRuntime runtime, RelayEnvironments environments) {
+        this.runtime = runtime;
+        this.environments = environments;
+        this.executor = Executors.newFixedThreadPool(threads);
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Failed to bind relay to port " + port, e);
+        }
+        server.createContext("/", new RelayHandler(environments));
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Creates a new builder for constructing a {@link RelayServer}.
+     *
+     * @return a new builder instance
+     */
+    public static RelayServerBuilder builder() {
+        return new RelayServerBuilder();
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Relay listening on port {}", getPort());
+    }
+
+    /**
+     * @return the port the relay is bound to
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * @return the number of environments currently served
+     */
+    public int getEnvironmentCount() {
+        return environments.size();
+    }
+
+    /**
+     * Stops accepting requests, waits briefly for in-flight ones, and releases all resources.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdownNow();
+        environments.close();
+        runtime.close();
+        logger.info("Relay stopped");
+    }
+}
@@ -0,0 +1,161 @@
+package io.github._07manan.featureflags.relay;
+
+import io.github._07manan.featureflags.sdk.FeatureFlagRuntime;
+import io.github._07manan.featureflags.sdk.FeatureFlagRuntimeBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for creating {@link RelayServer} instances.
+ * Example usage:
+ * <pre>
+ * RelayServer relay = RelayServer.builder()
+ *     .port(8082)
+ *     .upstreamUrl("http://evaluation-api:8081")
+ *     .build();
+ * </pre>
+ */
+public class RelayServerBuilder {
+    private static final String DEFAULT_UPSTREAM_URL = "https://feature-flag-evaluation-api.onrender.com/";
+    private static final int DEFAULT_PORT = 8082;
+    private static final long DEFAULT_CACHE_TTL = 30;
+    private static final TimeUnit DEFAULT_CACHE_TTL_UNIT = TimeUnit.SECONDS;
+    private static final int DEFAULT_MAX_ENVIRONMENTS = 1000;
+    private static final int DEFAULT_THREADS = 64;
+
+    private int port = DEFAULT_PORT;
+    private String upstreamUrl = DEFAULT_UPSTREAM_URL;
+    private long cacheTTL = DEFAULT_CACHE_TTL;
+    private TimeUnit cacheTTLUnit = DEFAULT_CACHE_TTL_UNIT;
+    private int maxEnvironments = DEFAULT_MAX_ENVIRONMENTS;
+    private int threads = DEFAULT_THREADS;
+    private final FeatureFlagRuntimeBuilder runtime = FeatureFlagRuntime.builder();
+
+    RelayServerBuilder() {
+    }
+
+    /**
+     * Sets the port to listen on (optional). Use 0 to pick a free port. Default is 8082.
+     *
+     * @param port the port
+     * @return this builder
+     */
+    public RelayServerBuilder port(int port) {
+        this.port = port;
+        return this;
+    }
+
+    /**
+     * Sets the base URL of the upstream evaluation API (optional).
+     * Default is the production URL.
+     *
+     * @param upstreamUrl the upstream base URL (e.g., "http://evaluation-api:8081")
+     * @return this builder
+     */
+    public RelayServerBuilder upstreamUrl(String upstreamUrl) {
+        this.upstreamUrl = upstreamUrl;
+        return this;
+    }
+
+    /**
+     * Sets how long upstream results are served from memory (optional).
+     * Default is 30 seconds.
+     *
+     * @param ttl the TTL value
+     * @param unit the time unit
+     * @return this builder
+     */
+    public RelayServerBuilder cacheTTL(long ttl, TimeUnit unit) {
+        this.cacheTTL = ttl;
+        this.cacheTTLUnit = unit;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of environments (API keys) served at once (optional). Requests
+     * for further environments are answered with 503. Default is 1000.
+     *
+     * @param maxEnvironments the maximum number of environments
+     * @return this builder
+     */
+    public RelayServerBuilder maxEnvironments(int maxEnvironments) {
+        this.maxEnvironments = maxEnvironments;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads handling downstream requests (optional). Default is 64.
+     *
+     * @param threads the number of threads
+     * @return this builder
+     */
+    public RelayServerBuilder threads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Sets HTTP timeouts for upstream requests (optional).
+     * Default is 5s connection timeout, 10s socket timeout.
+     *
+     * @param connectionTimeout connection timeout value
+     * @param socketTimeout socket/read timeout value
+     * @param unit the time unit for both timeouts
+     * @return this builder
+     */
+    public RelayServerBuilder httpTimeout(long connectionTimeout, long socketTimeout, TimeUnit unit) {
+        runtime.httpTimeout(connectionTimeout, socketTimeout, unit);
+        return this;
+    }
+
+    /**
+     * Sets the size of the upstream connection pool shared by all environments (optional).
+     * Default is 200 total connections and 200 per route.
+     *
+     * @param maxTotal maximum connections across all routes
+     * @param maxPerRoute maximum connections to the upstream host
+     * @return this builder
+     */
+    public RelayServerBuilder connectionPool(int maxTotal, int maxPerRoute) {
+        runtime.connectionPool(maxTotal, maxPerRoute);
+        return this;
+    }
+
+    /**
+     * Sets the number of cached results across all environments (optional). Default is 100,000.
+     *
+     * @param maxEntries the maximum number of cache entries
+     * @return this builder
+     */
+    public RelayServerBuilder maxCacheEntries(long maxEntries) {
+        runtime.maxCacheEntries(maxEntries);
+        return this;
+    }
+
+    /**
+     * Builds the {@link RelayServer} instance. The server is bound but not started.
+     *
+     * @return a new RelayServer
+     * @throws IllegalArgumentException if a setting is invalid
+     */
+    public RelayServer build() {
+        if (upstreamUrl == null || upstreamUrl.isBlank()) {
+            throw new IllegalArgumentException("Upstream URL is required");
+        }
+        if (maxEnvironments < 1) {
+            throw new IllegalArgumentException("At least one environment must be allowed");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+
+        FeatureFlagRuntime built = runtime.build();
+        try {
+            RelayEnvironments environments = new RelayEnvironments(built, upstreamUrl, cacheTTL, cacheTTLUnit, maxEnvironments);
+            return new RelayServer(port, threads, built, environments);
+        } catch (RuntimeException e) {
+            built.close();
+            throw e;
+        }
+    }
+}
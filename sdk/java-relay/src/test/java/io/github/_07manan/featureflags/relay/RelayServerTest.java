@@ -0,0 +1,175 @@
+package io.github._07manan.featureflags.relay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RelayServerTest {
+
+    private static final String BULK_RESPONSE = "{\"flags\":{"
+            + "\"dark-mode\":{\"flagKey\":\"dark-mode\",\"value\":true,\"type\":\"BOOLEAN\",\"isDefault\":false},"
+            + "\"rate-limit\":{\"flagKey\":\"rate-limit\",\"value\":250,\"type\":\"NUMBER\",\"isDefault\":true}}}";
+
+    private HttpServer upstream;
+    private final AtomicInteger upstreamRequests = new AtomicInteger();
+    private volatile long upstreamLatencyMillis;
+    private RelayServer relay;
+    private String relayUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.createContext("/evaluate", this::serveUpstream);
+        upstream.setExecutor(Executors.newCachedThreadPool());
+        upstream.start();
+
+        relay = RelayServer.builder()
+                .port(0)
+                .upstreamUrl("http://localhost:" + upstream.getAddress().getPort())
+                .build();
+        relay.start();
+        relayUrl = "http://localhost:" + relay.getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.close();
+        upstream.stop(0);
+    }
+
+    private void serveUpstream(HttpExchange exchange) throws IOException {
+        upstreamRequests.incrementAndGet();
+        try {
+            Thread.sleep(upstreamLatencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        boolean authorized = "ff_test_key".equals(exchange.getRequestHeaders().getFirst("X-API-Key"));
+        byte[] body = (authorized ? BULK_RESPONSE : "{\"error\":\"unauthorized\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(authorized ? 200 : 401, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Test
+    void testServesSdkClientsFromOneUpstreamFetch() {
+        try (FeatureFlagClient client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key")
+                .baseUrl(relayUrl)
+                .build()) {
+
+            assertTrue(client.getBooleanFlag("dark-mode", "user-1", false));
+            assertEquals(250, client.getIntFlag("rate-limit", "user-1", 0));
+            assertEquals("none", client.getStringFlag("missing", "user-1", "none"));
+
+            Map<String, Object> flags = client.getAllFlags("user-1");
+            assertEquals(Map.of("dark-mode", true, "rate-limit", 250), flags);
+        }
+
+        // Every downstream request for user-1 was answered from the relay's bulk result
+        assertEquals(1, upstreamRequests.get());
+        assertEquals(1, relay.getEnvironmentCount());
+    }
+
+    @Test
+    void testCoalescesConcurrentMisses() throws Exception {
+        upstreamLatencyMillis = 200;
+        java.net.http.HttpClient http = java.net.http.HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(relayUrl + "/evaluate/dark-mode?user=user-1"))
+                .header("X-API-Key", "ff_test_key")
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                responses.add(executor.submit(() -> http.send(request, HttpResponse.BodyHandlers.ofString())));
+            }
+            for (Future<HttpResponse<String>> response : responses) {
+                HttpResponse<String> result = response.get(10, TimeUnit.SECONDS);
+                assertEquals(200, result.statusCode());
+                assertTrue(result.body().contains("\"value\":true"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, upstreamRequests.get());
+    }
+
+    @Test
+    void testErrorResponses() throws Exception {
+        java.net.http.HttpClient http = java.net.http.HttpClient.newHttpClient();
+
+        HttpResponse<String> missingFlag = http.send(HttpRequest.newBuilder(URI.create(relayUrl + "/evaluate/missing"))
+                .header("X-API-Key", "ff_test_key").build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(404, missingFlag.statusCode());
+        assertTrue(missingFlag.body().contains("not_found"));
+
+        HttpResponse<String> noKey = http.send(HttpRequest.newBuilder(URI.create(relayUrl + "/evaluate")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, noKey.statusCode());
+
+        HttpResponse<String> health = http.send(HttpRequest.newBuilder(URI.create(relayUrl + "/health")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, health.statusCode());
+    }
+
+    @Test
+    void testEnvironmentsRegisterNoMBeans() throws Exception {
+        java.net.http.HttpClient http = java.net.http.HttpClient.newHttpClient();
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(relayUrl + "/evaluate?user=user-1"))
+                .header("X-API-Key", "ff_test_key").build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+
+        assertEquals(1, relay.getEnvironmentCount());
+        assertTrue(ManagementFactory.getPlatformMBeanServer()
+                .queryNames(new ObjectName("io.github._07manan.featureflags:*"), null).isEmpty());
+    }
+
+    @Test
+    void testRejectedKeysAreDropped() {
+        try (FeatureFlagClient client = FeatureFlagClient.builder()
+                .apiKey("ff_revoked_key")
+                .baseUrl(relayUrl)
+                .build()) {
+
+            assertThrows(AuthenticationException.class, () -> client.getAllFlags("user-1"));
+        }
+        assertEquals(0, relay.getEnvironmentCount());
+    }
+
+    @Test
+    void testQueryParameter() {
+        assertEquals("user 1", RelayHandler.queryParameter("a=b&user=user+1", "user"));
+        assertEquals("ü&x", RelayHandler.queryParameter("user=%C3%BC%26x", "user"));
+        assertEquals("", RelayHandler.queryParameter("user", "user"));
+        assertNull(RelayHandler.queryParameter("users=1", "user"));
+        assertNull(RelayHandler.queryParameter(null, "user"));
+    }
+}
@@ -0,0 +1,48 @@
+package io.github._07manan.featureflags.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs the baseline: every benchmark matching the include pattern with 1, 8 and 64 threads and
+ * the GC profiler, writing one JSON result file per thread count.
+ * <p>
+ * Arguments, both optional:
+ * <ol>
+ *   <li>a regular expression selecting benchmarks (default all)</li>
+ *   <li>the directory for the result files (default {@code target/jmh})</li>
+ * </ol>
+ * For other JMH options run {@code org.openjdk.jmh.Main} from the same jar instead.
+ */
+public final class BenchmarkMain {
+
+    private static final int[] THREAD_COUNTS = {1, 8, 64};
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        String include = args.length > 0 ? args[0] : ".*";
+        Path resultDir = Path.of(args.length > 1 ? args[1] : "target/jmh");
+        Files.createDirectories(resultDir);
+
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(resultDir.resolve("threads-" + threads + ".json").toString())
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
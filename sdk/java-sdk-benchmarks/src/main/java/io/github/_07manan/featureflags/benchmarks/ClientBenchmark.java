@@ -0,0 +1,87 @@
+package io.github._07manan.featureflags.benchmarks;
+
+import io.github._07manan.featureflags.sdk.BooleanFlag;
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flag evaluations served from the client's local cache, the path every request takes once the
+ * cache is warm.
+ * <p>
+ * The cache is keyed by flag and then by user, so the difference between {@link #getBooleanFlag}
+ * and {@link #booleanFlagHandle}, which already holds its flag's cache, is the cost of resolving
+ * the flag key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ClientBenchmark {
+
+    private static final String FLAG_KEY = "new-checkout";
+
+    @Param({"1", "10000"})
+    private int users;
+
+    private FeatureFlagClient client;
+    private BooleanFlag handle;
+    private String[] userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult(FLAG_KEY, true, FlagType.BOOLEAN, false, "on"));
+        client = FeatureFlagClient.builder()
+                .apiKey("ff_benchmark_key")
+                .transport(transport)
+                .cacheTTL(1, TimeUnit.HOURS)
+                .registerMBean(false)
+                .build();
+        handle = client.booleanFlag(FLAG_KEY, false);
+
+        userIds = new String[users];
+        for (int i = 0; i < users; i++) {
+            userIds[i] = "user-" + i;
+            client.getBooleanFlag(FLAG_KEY, userIds[i], false);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public boolean getBooleanFlag() {
+        return client.getBooleanFlag(FLAG_KEY, randomUser(), false);
+    }
+
+    @Benchmark
+    public boolean booleanFlagHandle() {
+        return handle.isEnabled(randomUser());
+    }
+
+    private String randomUser() {
+        return userIds[ThreadLocalRandom.current().nextInt(users)];
+    }
+}
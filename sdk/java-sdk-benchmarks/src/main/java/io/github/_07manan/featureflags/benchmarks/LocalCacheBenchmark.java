@@ -0,0 +1,69 @@
+package io.github._07manan.featureflags.benchmarks;
+
+import io.github._07manan.featureflags.sdk.cache.LocalCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LocalCache} reads and writes from all benchmark threads against one shared cache.
+ * Keys are picked at random so threads contend on the same entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class LocalCacheBenchmark {
+
+    @Param({"1000", "100000"})
+    private int keys;
+
+    private LocalCache<String> cache;
+    private String[] keyNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Long enough that nothing expires during a trial
+        cache = new LocalCache<>(1, TimeUnit.HOURS);
+        keyNames = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            keyNames[i] = "user-" + i;
+            cache.put(keyNames[i], "value-" + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.shutdown();
+    }
+
+    @Benchmark
+    public String get() {
+        return cache.get(randomKey());
+    }
+
+    @Benchmark
+    public void put() {
+        String key = randomKey();
+        cache.put(key, key);
+    }
+
+    private String randomKey() {
+        return keyNames[ThreadLocalRandom.current().nextInt(keys)];
+    }
+}
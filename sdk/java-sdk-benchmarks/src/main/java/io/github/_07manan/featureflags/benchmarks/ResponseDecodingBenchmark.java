@@ -0,0 +1,88 @@
+package io.github._07manan.featureflags.benchmarks;
+
+import io.github._07manan.featureflags.sdk.json.EvaluationCodec;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of evaluation API response bodies through {@link EvaluationCodec}, which both HTTP
+ * transports call once a successful response arrived.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ResponseDecodingBenchmark {
+
+    private byte[] evaluationBody;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        evaluationBody = EvaluationCodec.encodeResult(result(0)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public EvaluationResult evaluation() throws IOException {
+        return EvaluationCodec.decodeResult(new ByteArrayInputStream(evaluationBody));
+    }
+
+    @Benchmark
+    public Map<String, EvaluationResult> bulkEvaluation(BulkBody bulk) throws IOException {
+        return EvaluationCodec.decodeFlags(new ByteArrayInputStream(bulk.body));
+    }
+
+    /**
+     * A bulk response body, sized separately so the single-flag benchmark runs once.
+     */
+    @State(Scope.Benchmark)
+    public static class BulkBody {
+
+        @Param({"10", "100", "1000"})
+        private int flags;
+
+        private byte[] body;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            List<EvaluationResult> results = new ArrayList<>(flags);
+            for (int i = 0; i < flags; i++) {
+                results.add(result(i));
+            }
+            body = EvaluationCodec.encodeFlags(results).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Cycles through the flag types so the body has the API's usual mix of values.
+     */
+    private static EvaluationResult result(int i) {
+        String flagKey = "flag-" + i;
+        return switch (i % 3) {
+            case 0 -> new EvaluationResult(flagKey, i % 2 == 0, FlagType.BOOLEAN, false, "variant-" + i);
+            case 1 -> new EvaluationResult(flagKey, "checkout-v" + i, FlagType.STRING, false, "variant-" + i);
+            default -> new EvaluationResult(flagKey, i * 1.5, FlagType.NUMBER, false, "variant-" + i);
+        };
+    }
+}
@@ -0,0 +1,168 @@
+package io.github._07manan.featureflags.benchmarks.load;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings of a load run, parsed from {@code -name value} arguments. Mode and rate options have
+ * the names and defaults of the {@code benchmarking/} stress tester, so the same profile can be
+ * run against the evaluation API and through the SDK.
+ */
+final class LoadConfig {
+
+    enum Mode {
+        CONSTANT, RAMPUP, SPIKE, SOAK
+    }
+
+    enum Endpoint {
+        SINGLE, BULK, BOTH
+    }
+
+    Mode mode = Mode.CONSTANT;
+    long durationNanos = TimeUnit.SECONDS.toNanos(30);
+    int concurrency = 50;
+    int rps = 1000;
+
+    int rampStartRps = 100;
+    int rampEndRps = 5000;
+    long rampStepNanos = TimeUnit.SECONDS.toNanos(5);
+
+    int spikeBaseRps = 500;
+    int spikePeakRps = 5000;
+    long spikeNanos = TimeUnit.SECONDS.toNanos(5);
+
+    int soakRps = 500;
+
+    int users = 1000;
+    String userPrefix = "user-";
+    long warmUpNanos = TimeUnit.SECONDS.toNanos(5);
+    Endpoint endpoint = Endpoint.BOTH;
+    String output = "target/load";
+    double errorThreshold = 5.0;
+
+    int flags = 20;
+    long stubLatencyNanos = TimeUnit.MILLISECONDS.toNanos(2);
+    long stubJitterNanos = TimeUnit.MILLISECONDS.toNanos(1);
+    double stubErrorRate;
+    long cacheTtlNanos = TimeUnit.SECONDS.toNanos(30);
+    boolean http2;
+
+    static LoadConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i];
+            if (!name.startsWith("-") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected -name value, got: " + name);
+            }
+            options.put(name.replaceFirst("^--?", ""), args[++i]);
+        }
+
+        LoadConfig config = new LoadConfig();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            config.set(option.getKey(), option.getValue());
+        }
+        config.validate();
+        return config;
+    }
+
+    private void set(String name, String value) {
+        switch (name) {
+            case "mode" -> mode = Mode.valueOf(value.toUpperCase(Locale.ROOT));
+            case "duration" -> durationNanos = parseDuration(value);
+            case "concurrency" -> concurrency = Integer.parseInt(value);
+            case "rps" -> rps = Integer.parseInt(value);
+            case "ramp-start" -> rampStartRps = Integer.parseInt(value);
+            case "ramp-end" -> rampEndRps = Integer.parseInt(value);
+            case "ramp-step" -> rampStepNanos = parseDuration(value);
+            case "spike-base" -> spikeBaseRps = Integer.parseInt(value);
+            case "spike-peak" -> spikePeakRps = Integer.parseInt(value);
+            case "spike-dur" -> spikeNanos = parseDuration(value);
+            case "soak-rps" -> soakRps = Integer.parseInt(value);
+            case "users" -> users = Integer.parseInt(value);
+            case "user-prefix" -> userPrefix = value;
+            case "warmup" -> warmUpNanos = parseDuration(value);
+            case "endpoint" -> endpoint = Endpoint.valueOf(value.toUpperCase(Locale.ROOT));
+            case "output" -> output = value;
+            case "error-threshold" -> errorThreshold = Double.parseDouble(value);
+            case "flags" -> flags = Integer.parseInt(value);
+            case "stub-latency" -> stubLatencyNanos = parseDuration(value);
+            case "stub-jitter" -> stubJitterNanos = parseDuration(value);
+            case "stub-error-rate" -> stubErrorRate = Double.parseDouble(value) / 100;
+            case "cache-ttl" -> cacheTtlNanos = parseDuration(value);
+            case "http2" -> http2 = Boolean.parseBoolean(value);
+            default -> throw new IllegalArgumentException("Unknown option: -" + name);
+        }
+    }
+
+    private void validate() {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("-concurrency must be >= 1");
+        }
+        if (rps < 1) {
+            throw new IllegalArgumentException("-rps must be >= 1");
+        }
+        if (durationNanos < TimeUnit.SECONDS.toNanos(1)) {
+            throw new IllegalArgumentException("-duration must be >= 1s");
+        }
+        if (rampStepNanos <= 0) {
+            throw new IllegalArgumentException("-ramp-step must be positive");
+        }
+        if (users < 1) {
+            throw new IllegalArgumentException("-users must be >= 1");
+        }
+        if (flags < 1) {
+            throw new IllegalArgumentException("-flags must be >= 1");
+        }
+        if (stubErrorRate < 0 || stubErrorRate > 1) {
+            throw new IllegalArgumentException("-stub-error-rate must be between 0 and 100");
+        }
+        if (cacheTtlNanos <= 0) {
+            throw new IllegalArgumentException("-cache-ttl must be positive");
+        }
+    }
+
+    /**
+     * @return the target rate over the run for the configured mode
+     */
+    LoadProfile profile() {
+        return switch (mode) {
+            case CONSTANT -> LoadProfile.constant(rps);
+            case RAMPUP -> LoadProfile.rampUp(rampStartRps, rampEndRps, rampStepNanos, durationNanos);
+            case SPIKE -> LoadProfile.spike(spikeBaseRps, spikePeakRps, spikeNanos, durationNanos);
+            case SOAK -> LoadProfile.constant(soakRps);
+        };
+    }
+
+    /**
+     * @return the rate of the mode's initial state, used for warm-up
+     */
+    int initialRps() {
+        return profile().rpsAt(0);
+    }
+
+    /**
+     * Parses durations in the stress tester's format, e.g. {@code 500ms}, {@code 30s}, {@code 2m} or {@code 1h}.
+     */
+    static long parseDuration(String value) {
+        int unitStart = 0;
+        while (unitStart < value.length() && (Character.isDigit(value.charAt(unitStart)) || value.charAt(unitStart) == '.')) {
+            unitStart++;
+        }
+        if (unitStart == 0) {
+            throw new IllegalArgumentException("Invalid duration: " + value);
+        }
+        double amount = Double.parseDouble(value.substring(0, unitStart));
+        long unitNanos = switch (value.substring(unitStart)) {
+            case "ns" -> 1L;
+            case "us", "µs" -> TimeUnit.MICROSECONDS.toNanos(1);
+            case "ms" -> TimeUnit.MILLISECONDS.toNanos(1);
+            case "s" -> TimeUnit.SECONDS.toNanos(1);
+            case "m" -> TimeUnit.MINUTES.toNanos(1);
+            case "h" -> TimeUnit.HOURS.toNanos(1);
+            default -> throw new IllegalArgumentException("Invalid duration unit in: " + value);
+        };
+        return (long) (amount * unitNanos);
+    }
+}
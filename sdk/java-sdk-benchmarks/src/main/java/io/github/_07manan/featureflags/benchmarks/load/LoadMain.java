@@ -0,0 +1,56 @@
+package io.github._07manan.featureflags.benchmarks.load;
+
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load tests the SDK end to end: starts a {@link StubEvaluationServer}, drives a
+ * {@link FeatureFlagClient} pointed at it under one of the stress tester's load profiles, and
+ * reports end-to-end and SDK overhead latency percentiles. Results are also written to
+ * {@code <output>/sdk-<mode>.json}.
+ * <p>
+ * Takes the stress tester's mode and rate options ({@code -mode}, {@code -duration},
+ * {@code -rps}, {@code -ramp-start}, ...) plus the stub and client options {@code -flags},
+ * {@code -stub-latency}, {@code -stub-jitter}, {@code -stub-error-rate} (percent),
+ * {@code -cache-ttl} and {@code -http2}. Exits with status 1 if the error rate exceeds
+ * {@code -error-threshold} percent.
+ */
+public final class LoadMain {
+
+    private LoadMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadConfig config = LoadConfig.parse(args);
+        LoadMetrics metrics = new LoadMetrics();
+
+        LoadReport report;
+        try (StubEvaluationServer stub = new StubEvaluationServer(0, config.flags, config.stubLatencyNanos,
+                config.stubJitterNanos, TimeUnit.NANOSECONDS, config.stubErrorRate)) {
+            stub.start();
+            try (FeatureFlagClient client = FeatureFlagClient.builder()
+                    .apiKey("ff_load_test")
+                    .baseUrl(stub.getBaseUrl())
+                    .cacheTTL(config.cacheTtlNanos, TimeUnit.NANOSECONDS)
+                    .http2(config.http2)
+                    .metrics(metrics)
+                    .registerMBean(false)
+                    .build();
+                 LoadRunner runner = new LoadRunner(config, client, metrics)) {
+                report = runner.run();
+            }
+        }
+
+        report.print(System.out);
+        Path file = Path.of(config.output, "sdk-" + config.mode.name().toLowerCase() + ".json");
+        report.writeJson(file);
+        System.out.println("  Results written to " + file);
+
+        if (report.errorRate() > config.errorThreshold) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github._07manan.featureflags.benchmarks.load;
+
+import io.github._07manan.featureflags.sdk.metrics.CacheMetrics;
+import io.github._07manan.featureflags.sdk.metrics.FallbackReason;
+import io.github._07manan.featureflags.sdk.metrics.FeatureFlagMetrics;
+import io.github._07manan.featureflags.sdk.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects what the client reports during a load run. Both transports make requests on the
+ * calling thread, so the time each call spent in HTTP exchanges is kept per thread and
+ * subtracted from its end-to-end latency to get the SDK's own overhead.
+ */
+final class LoadMetrics implements FeatureFlagMetrics {
+
+    final LongAdder cacheHits = new LongAdder();
+    final LongAdder cacheMisses = new LongAdder();
+    final LongAdder httpRequests = new LongAdder();
+    final LongAdder httpServerErrors = new LongAdder();
+    final LongAdder httpErrors = new LongAdder();
+    final LongAdder errorFallbacks = new LongAdder();
+    final LatencyHistogram httpLatency = new LatencyHistogram();
+
+    private final ThreadLocal<long[]> httpNanos = ThreadLocal.withInitial(() -> new long[1]);
+    private final CacheMetrics cacheMetrics = new CacheMetrics() {
+        @Override
+        public void hit() {
+            cacheHits.increment();
+        }
+
+        @Override
+        public void miss() {
+            cacheMisses.increment();
+        }
+    };
+
+    @Override
+    public CacheMetrics cache(String name) {
+        return cacheMetrics;
+    }
+
+    @Override
+    public void httpRequest(String endpoint, int statusCode, long durationNanos) {
+        httpRequests.increment();
+        if (statusCode >= 500) {
+            httpServerErrors.increment();
+        }
+        httpLatency.record(durationNanos);
+        httpNanos.get()[0] += durationNanos;
+    }
+
+    @Override
+    public void httpError(String endpoint, long durationNanos) {
+        httpErrors.increment();
+        httpNanos.get()[0] += durationNanos;
+    }
+
+    @Override
+    public void fallback(String flagKey, FallbackReason reason) {
+        if (reason == FallbackReason.ERROR || reason == FallbackReason.REJECTED) {
+            errorFallbacks.increment();
+        }
+    }
+
+    /**
+     * @return the time the calling thread spent in HTTP exchanges since the last call
+     */
+    long takeHttpNanos() {
+        long[] nanos = httpNanos.get();
+        long taken = nanos[0];
+        nanos[0] = 0;
+        return taken;
+    }
+
+    /**
+     * Discards everything recorded so far, e.g. during warm-up.
+     */
+    void reset() {
+        cacheHits.reset();
+        cacheMisses.reset();
+        httpRequests.reset();
+        httpServerErrors.reset();
+        httpErrors.reset();
+        errorFallbacks.reset();
+        httpLatency.reset();
+    }
+}
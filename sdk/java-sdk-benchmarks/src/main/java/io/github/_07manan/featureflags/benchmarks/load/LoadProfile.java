@@ -0,0 +1,40 @@
+package io.github._07manan.featureflags.benchmarks.load;
+
+/**
+ * Target request rate over the course of a run, matching the modes of the {@code benchmarking/}
+ * stress tester.
+ */
+interface LoadProfile {
+
+    /**
+     * @param elapsedNanos time since the run started
+     * @return the target requests per second at that time
+     */
+    int rpsAt(long elapsedNanos);
+
+    /**
+     * Sustains one rate for the whole run. Also used for soak runs.
+     */
+    static LoadProfile constant(int rps) {
+        return elapsedNanos -> rps;
+    }
+
+    /**
+     * Raises the rate from {@code startRps} to {@code endRps} in equal steps, one step every
+     * {@code stepNanos}, reaching {@code endRps} at the end of the run.
+     */
+    static LoadProfile rampUp(int startRps, int endRps, long stepNanos, long durationNanos) {
+        long steps = Math.max(1, durationNanos / stepNanos);
+        double increment = (double) (endRps - startRps) / steps;
+        return elapsedNanos -> (int) Math.min(endRps, startRps + (elapsedNanos / stepNanos) * increment);
+    }
+
+    /**
+     * Holds {@code baseRps}, except for {@code spikeNanos} in the middle of the run at {@code peakRps}.
+     */
+    static LoadProfile spike(int baseRps, int peakRps, long spikeNanos, long durationNanos) {
+        long spikeStart = (durationNanos - spikeNanos) / 2;
+        long spikeEnd = spikeStart + spikeNanos;
+        return elapsedNanos -> elapsedNanos >= spikeStart && elapsedNanos < spikeEnd ? peakRps : baseRps;
+    }
+}
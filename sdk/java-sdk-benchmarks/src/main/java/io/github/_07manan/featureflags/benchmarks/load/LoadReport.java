@@ -0,0 +1,117 @@
+package io.github._07manan.featureflags.benchmarks.load;
+
+import io.github._07manan.featureflags.sdk.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Results of a load run: throughput, errors, and end-to-end, SDK overhead and HTTP latency
+ * percentiles.
+ */
+final class LoadReport {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadConfig config;
+    private final long elapsedNanos;
+    private final long completed;
+    private final long dropped;
+    private final long failed;
+    private final LatencyHistogram endToEnd;
+    private final LatencyHistogram overhead;
+    private final LoadMetrics metrics;
+
+    LoadReport(
+            LoadConfig config,
+            long elapsedNanos,
+            long completed,
+            long dropped,
+            long failed,
+            LatencyHistogram endToEnd,
+            LatencyHistogram overhead,
+            LoadMetrics metrics) {
+        this.config = config;
+        this.elapsedNanos = elapsedNanos;
+        this.completed = completed;
+        this.dropped = dropped;
+        this.failed = failed;
+        this.endToEnd = endToEnd;
+        this.overhead = overhead;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return failed evaluations as a percentage of completed ones
+     */
+    double errorRate() {
+        return completed > 0 ? 100.0 * failed / completed : 0;
+    }
+
+    void print(PrintStream out) {
+        long lookups = metrics.cacheHits.sum() + metrics.cacheMisses.sum();
+        out.println();
+        out.printf("  Mode            %s, %s endpoint%n", name(config.mode), name(config.endpoint));
+        out.printf("  Evaluations     %d (%.0f/s)%n", completed, completed / (elapsedNanos / 1e9));
+        out.printf("  Dropped         %d (no idle worker)%n", dropped);
+        out.printf("  Failed          %d (%.2f%%)%n", failed, errorRate());
+        out.printf("  Cache hit ratio %.2f%%%n", lookups > 0 ? 100.0 * metrics.cacheHits.sum() / lookups : 0);
+        out.printf("  HTTP requests   %d (%d server errors, %d without response)%n",
+                metrics.httpRequests.sum(), metrics.httpServerErrors.sum(), metrics.httpErrors.sum());
+        out.println();
+        out.printf("  %-14s%10s%10s%10s%10s%10s%10s%n", "Latency (ms)", "p50", "p90", "p99", "p99.9", "max", "mean");
+        printRow(out, "End-to-end", endToEnd);
+        printRow(out, "SDK overhead", overhead);
+        printRow(out, "HTTP", metrics.httpLatency);
+        out.println();
+    }
+
+    void writeJson(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        StringBuilder json = new StringBuilder(1024);
+        json.append("{\"mode\":\"").append(name(config.mode)).append('"')
+                .append(",\"endpoint\":\"").append(name(config.endpoint)).append('"')
+                .append(",\"durationSeconds\":").append(elapsedNanos / 1e9)
+                .append(",\"completed\":").append(completed)
+                .append(",\"dropped\":").append(dropped)
+                .append(",\"failed\":").append(failed)
+                .append(",\"cacheHits\":").append(metrics.cacheHits.sum())
+                .append(",\"cacheMisses\":").append(metrics.cacheMisses.sum())
+                .append(",\"httpRequests\":").append(metrics.httpRequests.sum())
+                .append(",\"httpServerErrors\":").append(metrics.httpServerErrors.sum())
+                .append(",\"httpErrors\":").append(metrics.httpErrors.sum())
+                .append(",\"latencyNanos\":{");
+        appendHistogram(json, "endToEnd", endToEnd);
+        json.append(',');
+        appendHistogram(json, "sdkOverhead", overhead);
+        json.append(',');
+        appendHistogram(json, "http", metrics.httpLatency);
+        json.append("}}\n");
+        Files.writeString(file, json);
+    }
+
+    private static void printRow(PrintStream out, String label, LatencyHistogram histogram) {
+        out.printf("  %-14s", label);
+        for (double percentile : PERCENTILES) {
+            out.printf("%10.3f", histogram.getValueAtPercentile(percentile) / 1e6);
+        }
+        out.printf("%10.3f%10.3f%n", histogram.getMax() / 1e6, histogram.getMean() / 1e6);
+    }
+
+    private static void appendHistogram(StringBuilder json, String name, LatencyHistogram histogram) {
+        json.append('"').append(name).append("\":{\"count\":").append(histogram.getCount());
+        for (double percentile : PERCENTILES) {
+            json.append(",\"p").append(String.valueOf(percentile).replace(".0", "").replace('.', '_'))
+                    .append("\":").append(histogram.getValueAtPercentile(percentile));
+        }
+        json.append(",\"max\":").append(histogram.getMax())
+                .append(",\"mean\":").append(String.format(Locale.ROOT, "%.1f", histogram.getMean()))
+                .append('}');
+    }
+
+    private static String name(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
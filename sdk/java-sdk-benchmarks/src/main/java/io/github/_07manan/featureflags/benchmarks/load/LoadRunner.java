@@ -0,0 +1,154 @@
+package io.github._07manan.featureflags.benchmarks.load;
+
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.metrics.LatencyHistogram;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a client at the rate of a {@link LoadProfile}, the way the stress tester's runner drives
+ * the evaluation API: a token bucket refilled every millisecond hands out evaluations to a fixed
+ * number of workers, and evaluations that find every worker busy are dropped rather than queued.
+ */
+final class LoadRunner implements AutoCloseable {
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long PROGRESS_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LoadConfig config;
+    private final FeatureFlagClient client;
+    private final LoadMetrics metrics;
+    private final String[] userIds;
+    private final String[] flagKeys;
+    private final ExecutorService workers;
+    private final Semaphore idleWorkers;
+
+    private final LatencyHistogram endToEnd = new LatencyHistogram();
+    private final LatencyHistogram overhead = new LatencyHistogram();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    LoadRunner(LoadConfig config, FeatureFlagClient client, LoadMetrics metrics) {
+        this.config = config;
+        this.client = client;
+        this.metrics = metrics;
+        this.userIds = new String[config.users];
+        for (int i = 0; i < userIds.length; i++) {
+            userIds[i] = config.userPrefix + i;
+        }
+        this.flagKeys = new String[config.flags];
+        for (int i = 0; i < flagKeys.length; i++) {
+            flagKeys[i] = "flag-" + i;
+        }
+        this.workers = Executors.newFixedThreadPool(config.concurrency);
+        this.idleWorkers = new Semaphore(config.concurrency);
+    }
+
+    /**
+     * Warms up at the mode's initial rate with results discarded, then runs the profile.
+     */
+    LoadReport run() {
+        if (config.warmUpNanos > 0) {
+            System.out.printf("%n  Warming up for %ds...%n", TimeUnit.NANOSECONDS.toSeconds(config.warmUpNanos));
+            drive(LoadProfile.constant(config.initialRps()), config.warmUpNanos, false);
+            reset();
+            System.out.printf("  Warm-up complete. Starting test...%n%n");
+        }
+
+        long start = System.nanoTime();
+        drive(config.profile(), config.durationNanos, true);
+        long elapsed = System.nanoTime() - start;
+
+        return new LoadReport(config, elapsed, completed.sum(), dropped.sum(), failed.sum() + metrics.errorFallbacks.sum(),
+                endToEnd, overhead, metrics);
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    private void drive(LoadProfile profile, long durationNanos, boolean progress) {
+        long start = System.nanoTime();
+        long last = start;
+        long nextProgress = start + PROGRESS_NANOS;
+        long completedAtProgress = completed.sum();
+        double tokens = 0;
+
+        while (true) {
+            long now = System.nanoTime();
+            long elapsed = now - start;
+            if (elapsed >= durationNanos) {
+                break;
+            }
+            tokens += profile.rpsAt(elapsed) * ((now - last) / 1e9);
+            last = now;
+            for (; tokens >= 1; tokens--) {
+                if (idleWorkers.tryAcquire()) {
+                    workers.execute(this::evaluate);
+                } else {
+                    dropped.increment();
+                }
+            }
+
+            if (progress && now >= nextProgress) {
+                long done = completed.sum();
+                System.out.printf("  [%3ds/%ds] %6d req/s  p99 %8.3f ms  %d failed  %d in flight%n",
+                        TimeUnit.NANOSECONDS.toSeconds(elapsed), TimeUnit.NANOSECONDS.toSeconds(durationNanos),
+                        done - completedAtProgress, endToEnd.getValueAtPercentile(99) / 1e6,
+                        failed.sum() + metrics.errorFallbacks.sum(), config.concurrency - idleWorkers.availablePermits());
+                completedAtProgress = done;
+                nextProgress += PROGRESS_NANOS;
+            }
+            LockSupport.parkNanos(TICK_NANOS);
+        }
+
+        // Let evaluations in flight finish before results are read
+        idleWorkers.acquireUninterruptibly(config.concurrency);
+        idleWorkers.release(config.concurrency);
+    }
+
+    private void evaluate() {
+        try {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String userId = userIds[random.nextInt(userIds.length)];
+            boolean bulk = config.endpoint == LoadConfig.Endpoint.BULK
+                    || (config.endpoint == LoadConfig.Endpoint.BOTH && random.nextBoolean());
+
+            metrics.takeHttpNanos();
+            long start = System.nanoTime();
+            try {
+                if (bulk) {
+                    client.getAllFlags(userId);
+                } else {
+                    client.getBooleanFlag(flagKeys[random.nextInt(flagKeys.length)], userId, false);
+                }
+            } catch (RuntimeException e) {
+                // Single-flag getters return the default instead, which the metrics count
+                failed.increment();
+            }
+            long latency = System.nanoTime() - start;
+
+            endToEnd.record(latency);
+            overhead.record(Math.max(0, latency - metrics.takeHttpNanos()));
+            completed.increment();
+        } finally {
+            idleWorkers.release();
+        }
+    }
+
+    private void reset() {
+        endToEnd.reset();
+        overhead.reset();
+        completed.reset();
+        dropped.reset();
+        failed.reset();
+        metrics.reset();
+    }
+}
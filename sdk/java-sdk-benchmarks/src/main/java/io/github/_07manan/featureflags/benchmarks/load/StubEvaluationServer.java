@@ -0,0 +1,162 @@
+package io.github._07manan.featureflags.benchmarks.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github._07manan.featureflags.sdk.json.EvaluationCodec;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-JVM stand-in for the evaluation API that serves the {@code /evaluate} contract from fixed
+ * boolean flags {@code flag-0} to {@code flag-<n-1>}, so the SDK can be load tested without
+ * PostgreSQL or Redis.
+ * <p>
+ * Every response is delayed by the configured latency plus a random jitter, and a configured
+ * share of requests fails with a 500. Requests run on virtual threads, so the delay doesn't
+ * limit throughput.
+ */
+public class StubEvaluationServer implements AutoCloseable {
+    private static final String EVALUATE_PATH = "/evaluate";
+    private static final String API_KEY_HEADER = "X-API-Key";
+
+    static {
+        // Without it the JDK server's small responses wait on Nagle's algorithm, adding ~40 ms per
+        // request. Read once, when the first HttpServer in the JVM is created.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, byte[]> flagBodies = new HashMap<>();
+    private final byte[] bulkBody;
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final double errorRate;
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * @param port the port to listen on, or 0 for any free port
+     * @param flags the number of flags served
+     * @param latency fixed delay of every response
+     * @param jitter upper bound of the random delay added to every response
+     * @param unit the time unit of the delays
+     * @param errorRate share of requests answered with a 500, from 0 to 1
+     */
+    public StubEvaluationServer(int port, int flags, long latency, long jitter, TimeUnit unit, double errorRate) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("Error rate must be between 0 and 1");
+        }
+        this.latencyNanos = unit.toNanos(latency);
+        this.jitterNanos = unit.toNanos(jitter);
+        this.errorRate = errorRate;
+
+        Map<String, EvaluationResult> results = new HashMap<>();
+        for (int i = 0; i < flags; i++) {
+            String flagKey = "flag-" + i;
+            EvaluationResult result = new EvaluationResult(flagKey, i % 2 == 0, FlagType.BOOLEAN, false, "variant-" + i);
+            results.put(flagKey, result);
+            flagBodies.put(flagKey, EvaluationCodec.encodeResult(result).getBytes(StandardCharsets.UTF_8));
+        }
+        this.bulkBody = EvaluationCodec.encodeFlags(results.values()).getBytes(StandardCharsets.UTF_8);
+
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Failed to bind stub server to port " + port, e);
+        }
+        server.createContext(EVALUATE_PATH, this::handle);
+        server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * @return the base URL to point clients at
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * @return the number of requests received
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            delay();
+
+            String apiKey = exchange.getRequestHeaders().getFirst(API_KEY_HEADER);
+            if (apiKey == null || !apiKey.startsWith("ff_")) {
+                respond(exchange, 401, "{\"error\":\"unauthorized\",\"message\":\"Invalid or missing API key\"}");
+                return;
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                respond(exchange, 500, "{\"error\":\"internal\",\"message\":\"Injected error\"}");
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals(EVALUATE_PATH)) {
+                respond(exchange, 200, bulkBody);
+                return;
+            }
+            byte[] body = flagBodies.get(path.substring(EVALUATE_PATH.length() + 1));
+            if (body == null) {
+                respond(exchange, 404, "{\"error\":\"not_found\",\"message\":\"Flag not found\"}");
+            } else {
+                respond(exchange, 200, body);
+            }
+        }
+    }
+
+    private void delay() {
+        long nanos = latencyNanos + (jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos + 1) : 0);
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        respond(exchange, status, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
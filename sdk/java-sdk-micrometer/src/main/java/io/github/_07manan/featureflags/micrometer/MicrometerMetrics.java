@@ -0,0 +1,136 @@
+package io.github._07manan.featureflags.micrometer;
+
+import io.github._07manan.featureflags.sdk.metrics.CacheMetrics;
+import io.github._07manan.featureflags.sdk.metrics.FallbackReason;
+import io.github._07manan.featureflags.sdk.metrics.FeatureFlagMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FeatureFlagMetrics} that records into a Micrometer {@link MeterRegistry}.
+ * <pre>
+ * FeatureFlagClient client = FeatureFlagClient.builder()
+ *     .apiKey("ff_env_xxxxx")
+ *     .metrics(new MicrometerMetrics(registry))
+ *     .build();
+ * </pre>
+ * <table>
+ *   <caption>Meters</caption>
+ *   <tr><th>Meter</th><th>Type</th><th>Tags</th></tr>
+ *   <tr><td>{@code featureflags.cache.requests}</td><td>counter</td><td>{@code cache}, {@code result} ({@code hit} or {@code miss})</td></tr>
+ *   <tr><td>{@code featureflags.cache.evictions}</td><td>counter</td><td>{@code cache}</td></tr>
+ *   <tr><td>{@code featureflags.cache.rejections}</td><td>counter</td><td>{@code cache}</td></tr>
+ *   <tr><td>{@code featureflags.cache.expirations}</td><td>counter</td><td>{@code cache}</td></tr>
+ *   <tr><td>{@code featureflags.http.requests}</td><td>timer</td><td>{@code endpoint}, {@code status} ({@code none} without a response)</td></tr>
+ *   <tr><td>{@code featureflags.evaluation}</td><td>timer with a percentile histogram</td><td></td></tr>
+ *   <tr><td>{@code featureflags.fallbacks}</td><td>counter</td><td>{@code reason}</td></tr>
+ * </table>
+ * Meters are registered up front or on first use and then reused, so recording is a map lookup
+ * at most. Flag keys are not used as tags, to keep cardinality bounded. Several clients may share
+ * one instance; their meters are then combined.
+ */
+public class MicrometerMetrics implements FeatureFlagMetrics {
+    private final MeterRegistry registry;
+    private final Timer evaluations;
+    private final Map<FallbackReason, Counter> fallbacks = new EnumMap<>(FallbackReason.class);
+    private final Map<String, Map<Integer, Timer>> httpRequests = new ConcurrentHashMap<>();
+
+    public MicrometerMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.evaluations = Timer.builder("featureflags.evaluation")
+                .description("Flag evaluations through typed getters and flag handles")
+                .publishPercentileHistogram()
+                .register(registry);
+        // Filled up front and never modified, so reads need no synchronization
+        for (FallbackReason reason : FallbackReason.values()) {
+            fallbacks.put(reason, Counter.builder("featureflags.fallbacks")
+                    .description("Evaluations that served the caller's default value")
+                    .tag("reason", reason.name())
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public CacheMetrics cache(String name) {
+        return new CacheMeters(registry, name);
+    }
+
+    @Override
+    public void httpRequest(String endpoint, int statusCode, long durationNanos) {
+        httpTimer(endpoint, statusCode).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void httpError(String endpoint, long durationNanos) {
+        httpTimer(endpoint, 0).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void evaluation(long durationNanos) {
+        evaluations.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void fallback(String flagKey, FallbackReason reason) {
+        fallbacks.get(reason).increment();
+    }
+
+    /**
+     * @param statusCode the status code, or 0 for a request that got no response
+     */
+    private Timer httpTimer(String endpoint, int statusCode) {
+        return httpRequests.computeIfAbsent(endpoint, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(statusCode, k -> Timer.builder("featureflags.http.requests")
+                        .description("Requests to the evaluation API")
+                        .tag("endpoint", endpoint)
+                        .tag("status", statusCode != 0 ? Integer.toString(statusCode) : "none")
+                        .register(registry));
+    }
+
+    private static final class CacheMeters implements CacheMetrics {
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter evictions;
+        private final Counter rejections;
+        private final Counter expirations;
+
+        CacheMeters(MeterRegistry registry, String cache) {
+            this.hits = Counter.builder("featureflags.cache.requests").tag("cache", cache).tag("result", "hit").register(registry);
+            this.misses = Counter.builder("featureflags.cache.requests").tag("cache", cache).tag("result", "miss").register(registry);
+            this.evictions = Counter.builder("featureflags.cache.evictions").tag("cache", cache).register(registry);
+            this.rejections = Counter.builder("featureflags.cache.rejections").tag("cache", cache).register(registry);
+            this.expirations = Counter.builder("featureflags.cache.expirations").tag("cache", cache).register(registry);
+        }
+
+        @Override
+        public void hit() {
+            hits.increment();
+        }
+
+        @Override
+        public void miss() {
+            misses.increment();
+        }
+
+        @Override
+        public void evicted(int count) {
+            evictions.increment(count);
+        }
+
+        @Override
+        public void rejected() {
+            rejections.increment();
+        }
+
+        @Override
+        public void expired(int count) {
+            expirations.increment(count);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github._07manan.featureflags.micrometer;
+
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.metrics.CacheMetrics;
+import io.github._07manan.featureflags.sdk.metrics.FallbackReason;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerMetrics metrics = new MicrometerMetrics(registry);
+
+    @Test
+    void testCacheMeters() {
+        CacheMetrics flags = metrics.cache("flags");
+        flags.hit();
+        flags.hit();
+        flags.miss();
+        flags.evicted(3);
+        flags.rejected();
+        flags.expired(2);
+
+        assertEquals(2, registry.get("featureflags.cache.requests").tag("cache", "flags").tag("result", "hit").counter().count());
+        assertEquals(1, registry.get("featureflags.cache.requests").tag("cache", "flags").tag("result", "miss").counter().count());
+        assertEquals(3, registry.get("featureflags.cache.evictions").tag("cache", "flags").counter().count());
+        assertEquals(1, registry.get("featureflags.cache.rejections").tag("cache", "flags").counter().count());
+        assertEquals(2, registry.get("featureflags.cache.expirations").tag("cache", "flags").counter().count());
+    }
+
+    @Test
+    void testHttpAndEvaluationMeters() {
+        metrics.httpRequest("/evaluate/{flagKey}", 200, TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.httpRequest("/evaluate/{flagKey}", 200, TimeUnit.MILLISECONDS.toNanos(7));
+        metrics.httpRequest("/evaluate/{flagKey}", 404, TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.httpError("/evaluate", TimeUnit.SECONDS.toNanos(2));
+        metrics.evaluation(1_000);
+        metrics.fallback("banner", FallbackReason.NOT_FOUND);
+
+        assertEquals(2, registry.get("featureflags.http.requests").tag("endpoint", "/evaluate/{flagKey}").tag("status", "200").timer().count());
+        assertEquals(12, registry.get("featureflags.http.requests").tag("status", "200").timer().totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, registry.get("featureflags.http.requests").tag("status", "404").timer().count());
+        assertEquals(1, registry.get("featureflags.http.requests").tag("endpoint", "/evaluate").tag("status", "none").timer().count());
+        assertEquals(1, registry.get("featureflags.evaluation").timer().count());
+        assertEquals(1, registry.get("featureflags.fallbacks").tag("reason", "NOT_FOUND").counter().count());
+        assertEquals(0, registry.get("featureflags.fallbacks").tag("reason", "ERROR").counter().count());
+    }
+
+    @Test
+    void testRecordsClientActivity() {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, null));
+
+        try (FeatureFlagClient client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(transport)
+                .metrics(metrics)
+                .build()) {
+            assertEquals("blue", client.getStringFlag("banner", "user-1", "none"));
+            assertEquals("blue", client.getStringFlag("banner", "user-1", "none"));
+            assertEquals("none", client.getStringFlag("missing", "user-1", "none"));
+        }
+
+        assertEquals(1, registry.get("featureflags.cache.requests").tag("cache", "flags").tag("result", "hit").counter().count());
+        assertEquals(3, registry.get("featureflags.evaluation").timer().count());
+        assertEquals(1, registry.get("featureflags.fallbacks").tag("reason", "NOT_FOUND").counter().count());
+    }
+}
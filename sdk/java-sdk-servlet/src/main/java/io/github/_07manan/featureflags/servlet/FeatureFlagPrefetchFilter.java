@@ -0,0 +1,68 @@
+package io.github._07manan.featureflags.servlet;
+
+import io.github._07manan.featureflags.sdk.EvaluationContext;
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+/**
+ * Servlet filter that starts one bulk evaluation of the user's flags as a request comes in and
+ * lets the rest of the request run while it completes.
+ * <p>
+ * The result is available through {@link RequestFlags#current()} and {@link RequestFlags#from}.
+ * Once it arrives it also fills the client's local cache, so direct {@link FeatureFlagClient}
+ * lookups for the same user hit memory as well. Non-HTTP requests pass through untouched.
+ */
+public class FeatureFlagPrefetchFilter implements Filter {
+
+    private final FlagPrefetcher prefetcher;
+
+    /**
+     * Creates a filter running prefetches on virtual threads.
+     *
+     * @param client the client evaluating the flags
+     * @param userIdResolver resolves the user of each request
+     */
+    public FeatureFlagPrefetchFilter(FeatureFlagClient client, UserIdResolver userIdResolver) {
+        this(client, userIdResolver, null);
+    }
+
+    /**
+     * Creates a filter running prefetches on the given executor.
+     *
+     * @param client the client evaluating the flags
+     * @param userIdResolver resolves the user of each request
+     * @param executor the executor running the bulk evaluations, or null for a virtual thread each
+     */
+    public FeatureFlagPrefetchFilter(FeatureFlagClient client, UserIdResolver userIdResolver, Executor executor) {
+        this.prefetcher = new FlagPrefetcher(client, userIdResolver, executor);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest httpRequest)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        EvaluationContext previous = prefetcher.start(httpRequest);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestFlags.restore(previous);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        prefetcher.close();
+    }
+}
@@ -0,0 +1,66 @@
+package io.github._07manan.featureflags.servlet;
+
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Spring MVC counterpart of {@link FeatureFlagPrefetchFilter}, for applications that configure
+ * request handling through {@code WebMvcConfigurer.addInterceptors}.
+ * <p>
+ * The prefetch starts before the handler runs and the thread binding is cleared once the request
+ * completes or is handed off to async processing. If the interceptor is declared as a bean,
+ * Spring closes it on shutdown.
+ */
+public class FeatureFlagPrefetchInterceptor implements AsyncHandlerInterceptor, AutoCloseable {
+
+    private final FlagPrefetcher prefetcher;
+
+    /**
+     * Creates an interceptor running prefetches on virtual threads.
+     *
+     * @param client the client evaluating the flags
+     * @param userIdResolver resolves the user of each request
+     */
+    public FeatureFlagPrefetchInterceptor(FeatureFlagClient client, UserIdResolver userIdResolver) {
+        this(client, userIdResolver, null);
+    }
+
+    /**
+     * Creates an interceptor running prefetches on the given executor.
+     *
+     * @param client the client evaluating the flags
+     * @param userIdResolver resolves the user of each request
+     * @param executor the executor running the bulk evaluations, or null for a virtual thread each
+     */
+    public FeatureFlagPrefetchInterceptor(FeatureFlagClient client, UserIdResolver userIdResolver, Executor executor) {
+        this.prefetcher = new FlagPrefetcher(client, userIdResolver, executor);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Pool threads are always left unbound by afterCompletion, so there's nothing to restore
+        prefetcher.start(request);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        RequestFlags.restore(null);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestFlags.restore(null);
+    }
+
+    @Override
+    public void close() {
+        prefetcher.close();
+    }
+}
@@ -0,0 +1,52 @@
+package io.github._07manan.featureflags.servlet;
+
+import io.github._07manan.featureflags.sdk.EvaluationContext;
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Starts the bulk evaluation of a request's flags and binds the resulting context to the request.
+ * Shared by the filter and the interceptor.
+ */
+final class FlagPrefetcher implements AutoCloseable {
+
+    private final FeatureFlagClient client;
+    private final UserIdResolver userIdResolver;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    FlagPrefetcher(FeatureFlagClient client, UserIdResolver userIdResolver, Executor executor) {
+        this.client = Objects.requireNonNull(client, "client");
+        this.userIdResolver = Objects.requireNonNull(userIdResolver, "userIdResolver");
+        // Prefetches spend their time blocked on the network, so a virtual thread each is enough
+        this.ownedExecutor = executor == null ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.executor = executor != null ? executor : ownedExecutor;
+    }
+
+    /**
+     * Binds the request's context to the calling thread, starting its prefetch unless an earlier
+     * dispatch of the same request already did.
+     *
+     * @return the previously bound context, to pass to {@link RequestFlags#restore}
+     */
+    EvaluationContext start(HttpServletRequest request) {
+        EvaluationContext context = RequestFlags.from(request);
+        if (context == null) {
+            context = client.forUser(userIdResolver.resolve(request)).prefetchAsync(executor);
+            request.setAttribute(RequestFlags.ATTRIBUTE, context);
+        }
+        return RequestFlags.bind(context);
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github._07manan.featureflags.servlet;
+
+import io.github._07manan.featureflags.sdk.EvaluationContext;
+import jakarta.servlet.ServletRequest;
+
+/**
+ * Access to the flags prefetched for the current request by {@link FeatureFlagPrefetchFilter}
+ * or {@link FeatureFlagPrefetchInterceptor}.
+ * <p>
+ * The returned context waits for the in-flight bulk evaluation on its first check, so code that
+ * runs before it completes doesn't issue a single-flag request of its own. Like any
+ * {@link EvaluationContext}, it must only be used by the thread handling the request.
+ */
+public final class RequestFlags {
+
+    /**
+     * Request attribute holding the request's {@link EvaluationContext}.
+     */
+    public static final String ATTRIBUTE = RequestFlags.class.getName() + ".CONTEXT";
+
+    private static final ThreadLocal<EvaluationContext> CURRENT = new ThreadLocal<>();
+
+    private RequestFlags() {
+    }
+
+    /**
+     * Returns the flags of the request handled by the calling thread.
+     *
+     * @return the request's evaluation context
+     * @throws IllegalStateException if the thread isn't handling a request passed through the filter or interceptor
+     */
+    public static EvaluationContext current() {
+        EvaluationContext context = CURRENT.get();
+        if (context == null) {
+            throw new IllegalStateException("No feature flags are bound to this thread");
+        }
+        return context;
+    }
+
+    /**
+     * Returns the flags of a request.
+     *
+     * @param request the request
+     * @return the request's evaluation context, or null if it didn't pass through the filter or interceptor
+     */
+    public static EvaluationContext from(ServletRequest request) {
+        return (EvaluationContext) request.getAttribute(ATTRIBUTE);
+    }
+
+    static EvaluationContext bind(EvaluationContext context) {
+        EvaluationContext previous = CURRENT.get();
+        CURRENT.set(context);
+        return previous;
+    }
+
+    static void restore(EvaluationContext previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.github._07manan.featureflags.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.security.Principal;
+
+/**
+ * Resolves the user whose flags are prefetched for an incoming request.
+ */
+@FunctionalInterface
+public interface UserIdResolver {
+
+    /**
+     * Returns the user ID of a request.
+     *
+     * @param request the incoming request
+     * @return the user ID, or null to evaluate flags for the anonymous user
+     */
+    String resolve(HttpServletRequest request);
+
+    /**
+     * Reads the user ID from a request header.
+     *
+     * @param name the header name
+     * @return a resolver returning the header's first value
+     */
+    static UserIdResolver header(String name) {
+        return request -> request.getHeader(name);
+    }
+
+    /**
+     * Uses the name of the authenticated principal.
+     *
+     * @return a resolver returning the principal's name, or null for unauthenticated requests
+     */
+    static UserIdResolver principal() {
+        return request -> {
+            Principal principal = request.getUserPrincipal();
+            return principal != null ? principal.getName() : null;
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package io.github._07manan.featureflags.servlet;
+
+import io.github._07manan.featureflags.sdk.EvaluationContext;
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeatureFlagPrefetchFilterTest {
+
+    private InMemoryTransport transport;
+    private FeatureFlagClient client;
+    private FeatureFlagPrefetchFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        transport = new InMemoryTransport()
+                .put(new EvaluationResult("dark-mode", true, FlagType.BOOLEAN, false, null))
+                .put(new EvaluationResult("rate-limit", 250, FlagType.NUMBER, false, null))
+                .latency(50, TimeUnit.MILLISECONDS);
+        client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(transport)
+                .build();
+        filter = new FeatureFlagPrefetchFilter(client, UserIdResolver.header("X-User-Id"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        filter.destroy();
+        client.close();
+    }
+
+    @Test
+    void testRequestFlagsComeFromOneBulkEvaluation() throws Exception {
+        HttpServletRequest request = request("user-1");
+        AtomicReference<EvaluationContext> bound = new AtomicReference<>();
+
+        filter.doFilter(request, null, (req, res) -> {
+            bound.set(RequestFlags.current());
+            assertTrue(RequestFlags.current().getBooleanFlag("dark-mode", false));
+            assertEquals(250, RequestFlags.current().getIntFlag("rate-limit", 0));
+            // Direct client lookups hit the cache filled by the prefetch
+            assertTrue(client.getBooleanFlag("dark-mode", "user-1", false));
+        });
+
+        assertEquals(1, transport.getRequestCount());
+        assertSame(bound.get(), RequestFlags.from(request));
+        assertThrows(IllegalStateException.class, RequestFlags::current);
+    }
+
+    @Test
+    void testRedispatchReusesThePrefetch() throws Exception {
+        HttpServletRequest request = request("user-1");
+
+        filter.doFilter(request, null, (req, res) -> RequestFlags.current().getBooleanFlag("dark-mode", false));
+        EvaluationContext first = RequestFlags.from(request);
+        filter.doFilter(request, null, (req, res) -> assertSame(first, RequestFlags.current()));
+
+        assertEquals(1, transport.getRequestCount());
+    }
+
+    @Test
+    void testPrefetchAuthenticationFailureReachesTheChain() {
+        InMemoryTransport rejecting = new InMemoryTransport() {
+            @Override
+            public Map<String, EvaluationResult> evaluateAllFlags(String userId) {
+                throw new AuthenticationException("Invalid API key");
+            }
+        };
+        try (FeatureFlagClient rejectingClient = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(rejecting)
+                .build()) {
+            FeatureFlagPrefetchFilter rejectingFilter = new FeatureFlagPrefetchFilter(
+                    rejectingClient, UserIdResolver.header("X-User-Id"), Runnable::run);
+
+            assertThrows(AuthenticationException.class, () -> rejectingFilter.doFilter(request("user-1"), null,
+                    (req, res) -> RequestFlags.current().getBooleanFlag("dark-mode", false)));
+            assertThrows(IllegalStateException.class, RequestFlags::current);
+        }
+    }
+
+    @Test
+    void testNonHttpRequestsPassThrough() throws Exception {
+        ServletRequest request = (ServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ServletRequest.class}, (proxy, method, args) -> null);
+        AtomicReference<Boolean> called = new AtomicReference<>(false);
+
+        filter.doFilter(request, null, (req, res) -> {
+            called.set(true);
+            assertThrows(IllegalStateException.class, RequestFlags::current);
+        });
+
+        assertTrue(called.get());
+        assertEquals(0, transport.getRequestCount());
+    }
+
+    private static HttpServletRequest request(String userId) {
+        Map<String, Object> attributes = new HashMap<>();
+        return (HttpServletRequest) Proxy.newProxyInstance(FeatureFlagPrefetchFilterTest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getHeader" -> "X-User-Id".equals(args[0]) ? userId : null;
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,113 @@
+package io.github._07manan.featureflags.servlet;
+
+import io.github._07manan.featureflags.sdk.EvaluationContext;
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeatureFlagPrefetchInterceptorTest {
+
+    private InMemoryTransport transport;
+    private FeatureFlagClient client;
+    private FeatureFlagPrefetchInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        transport = new InMemoryTransport()
+                .put(new EvaluationResult("dark-mode", true, FlagType.BOOLEAN, false, null))
+                .put(new EvaluationResult("rate-limit", 250, FlagType.NUMBER, false, null))
+                .latency(50, TimeUnit.MILLISECONDS);
+        client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(transport)
+                .build();
+        interceptor = new FeatureFlagPrefetchInterceptor(client, UserIdResolver.header("X-User-Id"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestFlags.restore(null);
+        interceptor.close();
+        client.close();
+    }
+
+    @Test
+    void testRequestFlagsBoundUntilCompletion() {
+        HttpServletRequest request = request("user-1");
+
+        assertTrue(interceptor.preHandle(request, null, null));
+        EvaluationContext context = RequestFlags.current();
+        assertSame(context, RequestFlags.from(request));
+        assertTrue(context.getBooleanFlag("dark-mode", false));
+        assertEquals(250, context.getIntFlag("rate-limit", 0));
+        interceptor.afterCompletion(request, null, null, null);
+
+        assertEquals(1, transport.getRequestCount());
+        assertThrows(IllegalStateException.class, RequestFlags::current);
+    }
+
+    @Test
+    void testAsyncRedispatchReusesThePrefetch() {
+        HttpServletRequest request = request("user-1");
+
+        interceptor.preHandle(request, null, null);
+        EvaluationContext first = RequestFlags.current();
+        // The handler started async processing; the thread goes back to the pool unbound
+        interceptor.afterConcurrentHandlingStarted(request, null, null);
+        assertThrows(IllegalStateException.class, RequestFlags::current);
+
+        interceptor.preHandle(request, null, null);
+        assertSame(first, RequestFlags.current());
+        assertTrue(RequestFlags.current().getBooleanFlag("dark-mode", false));
+        interceptor.afterCompletion(request, null, null, null);
+
+        assertEquals(1, transport.getRequestCount());
+        assertThrows(IllegalStateException.class, RequestFlags::current);
+    }
+
+    @Test
+    void testPrefetchAuthenticationFailureReachesTheHandler() {
+        InMemoryTransport rejecting = new InMemoryTransport() {
+            @Override
+            public Map<String, EvaluationResult> evaluateAllFlags(String userId) {
+                throw new AuthenticationException("Invalid API key");
+            }
+        };
+        try (FeatureFlagClient rejectingClient = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(rejecting)
+                .build();
+             FeatureFlagPrefetchInterceptor rejectingInterceptor = new FeatureFlagPrefetchInterceptor(
+                     rejectingClient, UserIdResolver.header("X-User-Id"), Runnable::run)) {
+            HttpServletRequest request = request("user-1");
+
+            rejectingInterceptor.preHandle(request, null, null);
+            assertThrows(AuthenticationException.class, () -> RequestFlags.current().getBooleanFlag("dark-mode", false));
+            rejectingInterceptor.afterCompletion(request, null, null, null);
+        }
+    }
+
+    private static HttpServletRequest request(String userId) {
+        Map<String, Object> attributes = new HashMap<>();
+        return (HttpServletRequest) Proxy.newProxyInstance(FeatureFlagPrefetchInterceptorTest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getHeader" -> "X-User-Id".equals(args[0]) ? userId : null;
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,229 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import io.github._07manan.featureflags.sdk.model.EvaluationRecord;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.transport.EvaluationTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates flags for large sets of users, for analysis jobs and backfills.
+ * <p>
+ * Each user's flags are fetched with one bulk request, run in parallel on a dedicated fork-join
+ * pool. Results go straight to a sink on the calling thread, one {@link EvaluationRecord} per user
+ * and flag, and only a bounded number of users is in flight at any time, so memory stays flat
+ * however many users are read. Records of one user are delivered together; users are delivered in
+ * completion order. The client's caches and concurrency limiter are bypassed.
+ * <pre>
+ * try (BatchEvaluator evaluator = client.batchEvaluator()
+ *         .flags("new-checkout", "banner-color")
+ *         .parallelism(64)
+ *         .build()) {
+ *     evaluator.evaluate(Path.of("users.txt"), record -&gt; out.println(
+ *             record.getUserId() + "," + record.getFlagKey() + "," + record.getVariantId()));
+ * }
+ * </pre>
+ * A user whose request still fails after the configured retries aborts the run; users whose
+ * records were already delivered stay delivered, and users still in flight make no further
+ * requests or retries.
+ */
+public class BatchEvaluator implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(BatchEvaluator.class);
+    private static final long RETRY_BACKOFF_MILLIS = 100;
+
+    private final EvaluationTransport transport;
+    private final Set<String> flagKeys;
+    private final ForkJoinPool pool;
+    private final int maxInFlight;
+    private final int retries;
+
+    BatchEvaluator(EvaluationTransport transport, Set<String> flagKeys, int parallelism, int maxInFlight, int retries) {
+        this.transport = transport;
+        this.flagKeys = flagKeys;
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("featureflags-batch-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.maxInFlight = maxInFlight;
+        this.retries = retries;
+
+        logger.debug("BatchEvaluator initialized with parallelism {} and {} users in flight", parallelism, maxInFlight);
+    }
+
+    /**
+     * Evaluates flags for every user of an iterator.
+     *
+     * @param userIds the user IDs; null evaluates the anonymous user
+     * @param sink receives the records, always on the calling thread
+     * @return the number of users evaluated
+     * @throws AuthenticationException if authentication fails
+     * @throws FeatureFlagException if a user could not be evaluated
+     */
+    public long evaluate(Iterator<String> userIds, Consumer<EvaluationRecord> sink) {
+        BlockingQueue<UserResult> completed = new LinkedBlockingQueue<>();
+        CountDownLatch aborted = new CountDownLatch(1);
+        int inFlight = 0;
+        long users = 0;
+
+        try {
+            while (true) {
+                UserResult done;
+                while ((done = completed.poll()) != null) {
+                    inFlight--;
+                    users++;
+                    deliver(done, sink);
+                }
+                if (inFlight < maxInFlight && userIds.hasNext()) {
+                    String userId = userIds.next();
+                    pool.execute(() -> completed.add(evaluateUser(userId, aborted)));
+                    inFlight++;
+                } else if (inFlight > 0) {
+                    done = completed.take();
+                    inFlight--;
+                    users++;
+                    deliver(done, sink);
+                } else {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FeatureFlagException("Interrupted during batch evaluation", e);
+        } finally {
+            // Nothing is left in flight after a complete run; after an aborted one, stops the rest
+            aborted.countDown();
+        }
+
+        logger.debug("Batch evaluated {} users", users);
+        return users;
+    }
+
+    /**
+     * Evaluates flags for every user of a stream. The stream is consumed but not closed.
+     *
+     * @param userIds the user IDs; null evaluates the anonymous user
+     * @param sink receives the records, always on the calling thread
+     * @return the number of users evaluated
+     * @throws AuthenticationException if authentication fails
+     * @throws FeatureFlagException if a user could not be evaluated
+     */
+    public long evaluate(Stream<String> userIds, Consumer<EvaluationRecord> sink) {
+        return evaluate(userIds.iterator(), sink);
+    }
+
+    /**
+     * Evaluates flags for every user listed in a UTF-8 text file, one user ID per line.
+     * Surrounding whitespace is stripped and blank lines are skipped. The file is read as the
+     * evaluation progresses, so it is never held in memory.
+     *
+     * @param file the file of user IDs
+     * @param sink receives the records, always on the calling thread
+     * @return the number of users evaluated
+     * @throws AuthenticationException if authentication fails
+     * @throws FeatureFlagException if the file cannot be read or a user could not be evaluated
+     */
+    public long evaluate(Path file, Consumer<EvaluationRecord> sink) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return evaluate(reader.lines().map(String::strip).filter(line -> !line.isEmpty()), sink);
+        } catch (IOException | UncheckedIOException e) {
+            throw new FeatureFlagException("Failed to read user IDs from " + file, e);
+        }
+    }
+
+    /**
+     * Stops the worker threads. Requests still running are abandoned; the client and its
+     * transport stay open.
+     */
+    @Override
+    public void close() {
+        pool.shutdownNow();
+        logger.debug("BatchEvaluator closed");
+    }
+
+    /**
+     * Never throws, so the caller always gets a result to count. Returns without a request once
+     * the run was aborted.
+     */
+    private UserResult evaluateUser(String userId, CountDownLatch aborted) {
+        Throwable failure = null;
+        for (int attempt = 0; attempt <= retries && aborted.getCount() > 0; attempt++) {
+            try {
+                return new UserResult(userId, transport.evaluateAllFlags(userId), null);
+            } catch (AuthenticationException e) {
+                return new UserResult(userId, null, e);
+            } catch (RuntimeException e) {
+                failure = e;
+                if (attempt < retries && !backOff(attempt, aborted)) {
+                    break;
+                }
+            } catch (Throwable e) {
+                // Not retried, but still passed to the caller rather than leaving it waiting
+                return new UserResult(userId, null, e);
+            }
+        }
+        return new UserResult(userId, null, failure != null ? failure : new FeatureFlagException("Batch evaluation aborted"));
+    }
+
+    private void deliver(UserResult done, Consumer<EvaluationRecord> sink) {
+        if (done.failure instanceof AuthenticationException e) {
+            throw e;
+        }
+        if (done.failure instanceof Error e) {
+            throw e;
+        }
+        if (done.failure != null) {
+            throw new FeatureFlagException("Failed to evaluate flags for user: " + done.userId, done.failure);
+        }
+        for (EvaluationResult result : done.results.values()) {
+            if (flagKeys == null || flagKeys.contains(result.getFlagKey())) {
+                sink.accept(new EvaluationRecord(done.userId, result));
+            }
+        }
+    }
+
+    /**
+     * @return false if the run was aborted meanwhile, or if interrupted, e.g. because the
+     *         evaluator was closed
+     */
+    private static boolean backOff(int attempt, CountDownLatch aborted) {
+        try {
+            return !aborted.await(RETRY_BACKOFF_MILLIS << attempt, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class UserResult {
+        final String userId;
+        final Map<String, EvaluationResult> results;
+        final Throwable failure;
+
+        UserResult(String userId, Map<String, EvaluationResult> results, Throwable failure) {
+            this.userId = userId;
+            this.results = results;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.transport.EvaluationTransport;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Builder for creating {@link BatchEvaluator} instances, obtained from
+ * {@link FeatureFlagClient#batchEvaluator()}.
+ * Example usage:
+ * <pre>
+ * BatchEvaluator evaluator = client.batchEvaluator()
+ *     .flags("new-checkout", "banner-color")
+ *     .parallelism(64)
+ *     .build();
+ * </pre>
+ */
+public class BatchEvaluatorBuilder {
+    private static final int DEFAULT_PARALLELISM = 32;
+    private static final int DEFAULT_RETRIES = 2;
+
+    private final EvaluationTransport transport;
+    private Set<String> flagKeys;
+    private int parallelism = DEFAULT_PARALLELISM;
+    private Integer maxInFlight;
+    private int retries = DEFAULT_RETRIES;
+
+    BatchEvaluatorBuilder(EvaluationTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Restricts the records to the given flags (optional). Default is all active flags.
+     *
+     * @param flagKeys the flag keys
+     * @return this builder
+     */
+    public BatchEvaluatorBuilder flags(String... flagKeys) {
+        this.flagKeys = Set.of(flagKeys);
+        return this;
+    }
+
+    /**
+     * Restricts the records to the given flags (optional). Default is all active flags.
+     *
+     * @param flagKeys the flag keys
+     * @return this builder
+     */
+    public BatchEvaluatorBuilder flags(Collection<String> flagKeys) {
+        this.flagKeys = Set.copyOf(flagKeys);
+        return this;
+    }
+
+    /**
+     * Sets the number of worker threads, which is also the number of concurrent requests
+     * (optional). Requests mostly wait on the network, so this may well exceed the number of
+     * cores; keep it within the client's connection pool size. Default is 32.
+     *
+     * @param parallelism the number of worker threads
+     * @return this builder
+     */
+    public BatchEvaluatorBuilder parallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets how many users may be submitted but not yet delivered to the sink (optional). This
+     * bounds memory when the sink is slower than the API. Default is four times the parallelism.
+     *
+     * @param maxInFlight the maximum number of users in flight
+     * @return this builder
+     */
+    public BatchEvaluatorBuilder maxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Sets how many times a user's failed request is retried before the run is aborted
+     * (optional). Authentication failures are never retried. Default is 2.
+     *
+     * @param retries the number of retries
+     * @return this builder
+     */
+    public BatchEvaluatorBuilder retries(int retries) {
+        this.retries = retries;
+        return this;
+    }
+
+    /**
+     * Builds the {@link BatchEvaluator} instance.
+     *
+     * @return a new BatchEvaluator
+     * @throws IllegalArgumentException if the parallelism, in-flight limit or retries are invalid
+     */
+    public BatchEvaluator build() {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        int inFlight = maxInFlight != null ? maxInFlight : parallelism * 4;
+        if (inFlight < parallelism) {
+            throw new IllegalArgumentException("Max in flight must be at least the parallelism");
+        }
+        if (retries < 0) {
+            throw new IllegalArgumentException("Retries must not be negative");
+        }
+        return new BatchEvaluator(transport, flagKeys, parallelism, inFlight, retries);
+    }
+}
@@ -0,0 +1,37 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+
+/**
+ * Pre-resolved handle for a boolean flag. Create once via
+ * {@link FeatureFlagClient#booleanFlag(String, boolean)} and reuse:
+ * <pre>
+ * private final BooleanFlag newCheckout = client.booleanFlag("new-checkout", false);
+ *
+ * if (newCheckout.isEnabled(userId)) { ... }
+ * </pre>
+ */
+public final class BooleanFlag extends FlagHandle {
+    private final boolean defaultValue;
+
+    BooleanFlag(FeatureFlagClient client, String flagKey, boolean defaultValue) {
+        super(client, flagKey, FlagType.BOOLEAN);
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Evaluates the flag for a user.
+     *
+     * @param userId the user ID (can be null for non-percentage rollouts)
+     * @return the evaluated value, or the handle's default if not found or on error
+     */
+    public boolean isEnabled(String userId) {
+        EvaluationResult result = resolve(userId);
+        return result != null && result.getValue() instanceof Boolean value ? value : defaultValue;
+    }
+
+    public boolean getDefaultValue() {
+        return defaultValue;
+    }
+}
@@ -0,0 +1,82 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagSnapshot;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cached result of a bulk evaluation for one user.
+ * <p>
+ * Immutable. Flags invalidated after the bulk call are tracked as stale so that the next
+ * {@link FeatureFlagClient#getAllFlags(String)} only re-evaluates those flags instead of
+ * refetching the whole set.
+ */
+final class BulkEvaluation {
+    private final Map<String, EvaluationResult> results;
+    private final Set<String> staleKeys;
+    private final FlagSnapshot snapshot;
+
+    BulkEvaluation(Map<String, EvaluationResult> results) {
+        this(Map.copyOf(results), Collections.emptySet(), FlagSnapshot.of(results));
+    }
+
+    private BulkEvaluation(Map<String, EvaluationResult> results, Set<String> staleKeys, FlagSnapshot snapshot) {
+        this.results = results;
+        this.staleKeys = staleKeys;
+        this.snapshot = snapshot;
+    }
+
+    Map<String, EvaluationResult> getResults() {
+        return results;
+    }
+
+    Set<String> getStaleKeys() {
+        return staleKeys;
+    }
+
+    boolean isComplete() {
+        return staleKeys.isEmpty();
+    }
+
+    /**
+     * Returns a copy with the given flag marked stale, or this instance if the flag
+     * isn't part of the bulk result.
+     */
+    BulkEvaluation withStale(String flagKey) {
+        if (!results.containsKey(flagKey) || staleKeys.contains(flagKey)) {
+            return this;
+        }
+        Set<String> stale = new HashSet<>(staleKeys);
+        stale.add(flagKey);
+        return new BulkEvaluation(results, Collections.unmodifiableSet(stale), snapshot);
+    }
+
+    /**
+     * Returns a complete copy with the stale flags replaced by fresh results.
+     * Stale flags missing from {@code refreshed} no longer exist and are dropped.
+     */
+    BulkEvaluation withRefreshed(Map<String, EvaluationResult> refreshed) {
+        Map<String, EvaluationResult> merged = new HashMap<>(results);
+        for (String flagKey : staleKeys) {
+            EvaluationResult result = refreshed.get(flagKey);
+            if (result != null) {
+                merged.put(flagKey, result);
+            } else {
+                merged.remove(flagKey);
+            }
+        }
+        return new BulkEvaluation(merged);
+    }
+
+    /**
+     * Returns the snapshot built from the bulk result. Only meaningful when {@link #isComplete()}.
+     */
+    FlagSnapshot getSnapshot() {
+        return snapshot;
+    }
+}
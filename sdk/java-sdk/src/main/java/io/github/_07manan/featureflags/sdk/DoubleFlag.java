@@ -0,0 +1,32 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+
+/**
+ * Pre-resolved handle for a double flag. Create once via
+ * {@link FeatureFlagClient#doubleFlag(String, double)} and reuse.
+ */
+public final class DoubleFlag extends FlagHandle {
+    private final double defaultValue;
+
+    DoubleFlag(FeatureFlagClient client, String flagKey, double defaultValue) {
+        super(client, flagKey, FlagType.NUMBER);
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Evaluates the flag for a user.
+     *
+     * @param userId the user ID (can be null for non-percentage rollouts)
+     * @return the evaluated value, or the handle's default if not found or on error
+     */
+    public double getValue(String userId) {
+        EvaluationResult result = resolve(userId);
+        return result != null && result.getValue() instanceof Number value ? value.doubleValue() : defaultValue;
+    }
+
+    public double getDefaultValue() {
+        return defaultValue;
+    }
+}
@@ -0,0 +1,175 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.cache.LocalCache;
+import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagSnapshot;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Flag evaluation bound to one user for the lifetime of a request.
+ * <p>
+ * Created via {@link FeatureFlagClient#forUser(String)}. Each flag is resolved at most once,
+ * either lazily on first use or up front with {@link #prefetch()} or {@link #prefetchAsync(Executor)},
+ * and memoized in the context.
+ * Every later check of the same flag is a single map lookup that skips the shared cache, the
+ * type check and exposure recording, and sees the same value for the rest of the request even
+ * if the flag changes meanwhile.
+ * <pre>
+ * EvaluationContext flags = client.forUser(userId).prefetch();
+ *
+ * if (flags.getBooleanFlag("new-checkout", false)) { ... }
+ * int limit = flags.getIntFlag("rate-limit", 100);
+ * </pre>
+ * Contexts are cheap to create and not thread-safe; create one per request.
+ */
+public final class EvaluationContext {
+    private static final Logger logger = LoggerFactory.getLogger(EvaluationContext.class);
+
+    // Memoized marker for flags that resolved to the caller's default (not found or on error)
+    private static final EvaluationResult UNRESOLVED = new EvaluationResult(null, null, null, true, null);
+
+    private final FeatureFlagClient client;
+    private final String userId;
+    private final Map<String, EvaluationResult> resolved = new HashMap<>();
+    private FlagSnapshot snapshot;
+    private CompletableFuture<FlagSnapshot> pendingSnapshot;
+
+    EvaluationContext(FeatureFlagClient client, String userId) {
+        this.client = client;
+        this.userId = userId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Resolves all active flags for the user with a single bulk evaluation, so that later
+     * checks in this context don't need to evaluate flags one by one.
+     *
+     * @return this context
+     * @throws AuthenticationException if authentication fails
+     */
+    public EvaluationContext prefetch() {
+        awaitPrefetch();
+        if (snapshot == null) {
+            snapshot = client.getSnapshot(userId);
+        }
+        return this;
+    }
+
+    /**
+     * Starts resolving all active flags for the user with a single bulk evaluation on the given
+     * executor and returns without waiting, so the evaluation overlaps with the caller's own
+     * work. The first check waits for it to complete; if it failed, flags are evaluated one by
+     * one instead, except for authentication failures, which the first check throws as an
+     * {@link AuthenticationException}.
+     *
+     * @param executor the executor running the bulk evaluation
+     * @return this context
+     */
+    public EvaluationContext prefetchAsync(Executor executor) {
+        if (snapshot == null && pendingSnapshot == null) {
+            pendingSnapshot = CompletableFuture.supplyAsync(() -> client.getSnapshot(userId), executor);
+        }
+        return this;
+    }
+
+    public boolean getBooleanFlag(String flagKey, boolean defaultValue) {
+        EvaluationResult result = resolve(null, flagKey, FlagType.BOOLEAN);
+        return result != null && result.getValue() instanceof Boolean value ? value : defaultValue;
+    }
+
+    public String getStringFlag(String flagKey, String defaultValue) {
+        EvaluationResult result = resolve(null, flagKey, FlagType.STRING);
+        return result != null ? result.getStringValue() : defaultValue;
+    }
+
+    public int getIntFlag(String flagKey, int defaultValue) {
+        EvaluationResult result = resolve(null, flagKey, FlagType.NUMBER);
+        return result != null && result.getValue() instanceof Number value ? value.intValue() : defaultValue;
+    }
+
+    public double getDoubleFlag(String flagKey, double defaultValue) {
+        EvaluationResult result = resolve(null, flagKey, FlagType.NUMBER);
+        return result != null && result.getValue() instanceof Number value ? value.doubleValue() : defaultValue;
+    }
+
+    public boolean isEnabled(BooleanFlag flag) {
+        EvaluationResult result = resolve(flag.cache(), flag.getKey(), FlagType.BOOLEAN);
+        return result != null && result.getValue() instanceof Boolean value ? value : flag.getDefaultValue();
+    }
+
+    public String getValue(StringFlag flag) {
+        EvaluationResult result = resolve(flag.cache(), flag.getKey(), FlagType.STRING);
+        return result != null ? result.getStringValue() : flag.getDefaultValue();
+    }
+
+    public int getValue(IntFlag flag) {
+        EvaluationResult result = resolve(flag.cache(), flag.getKey(), FlagType.NUMBER);
+        return result != null && result.getValue() instanceof Number value ? value.intValue() : flag.getDefaultValue();
+    }
+
+    public double getValue(DoubleFlag flag) {
+        EvaluationResult result = resolve(flag.cache(), flag.getKey(), FlagType.NUMBER);
+        return result != null && result.getValue() instanceof Number value ? value.doubleValue() : flag.getDefaultValue();
+    }
+
+    private EvaluationResult resolve(LocalCache<EvaluationResult> flagCache, String flagKey, FlagType expectedType) {
+        EvaluationResult result = resolved.get(flagKey);
+        if (result != null && result.getType() == expectedType) {
+            // Type-checked and exposed when it was memoized
+            return result;
+        }
+        if (result != null) {
+            return result != UNRESOLVED ? client.checkType(result, expectedType) : null;
+        }
+
+        awaitPrefetch();
+        result = snapshot != null ? snapshot.getResult(flagKey) : null;
+        if (result == null) {
+            // Not in the prefetched snapshot (or nothing prefetched): evaluate this flag alone
+            LocalCache<EvaluationResult> cache = flagCache != null ? flagCache : client.existingFlagCache(flagKey);
+            result = client.lookup(cache, flagKey, userId);
+        }
+        if (result == null) {
+            resolved.put(flagKey, UNRESOLVED);
+            return null;
+        }
+        if (client.checkType(result, expectedType) == null) {
+            // Not memoized, so a later check with the right type still records the exposure
+            return null;
+        }
+        resolved.put(flagKey, result);
+        return client.expose(result, userId);
+    }
+
+    private void awaitPrefetch() {
+        if (pendingSnapshot == null) {
+            return;
+        }
+        CompletableFuture<FlagSnapshot> pending = pendingSnapshot;
+        pendingSnapshot = null;
+        try {
+            snapshot = pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof AuthenticationException authError) {
+                throw authError;
+            }
+            // Flags get evaluated one by one instead
+            logger.debug("Prefetch failed for user: {}, evaluating flags one by one", userId, e.getCause());
+        } catch (CancellationException e) {
+            logger.debug("Prefetch cancelled for user: {}, evaluating flags one by one", userId);
+        }
+    }
+}
@@ -1,18 +1,40 @@
 package io.github._07manan.featureflags.sdk;
 
+import io.github._07manan.featureflags.sdk.cache.CacheBudget;
 import io.github._07manan.featureflags.sdk.cache.LocalCache;
+import io.github._07manan.featureflags.sdk.cache.SharedCache;
 import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.exception.ConcurrencyLimitExceededException;
 import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
 import io.github._07manan.featureflags.sdk.exception.FlagNotFoundException;
-import io.github._07manan.featureflags.sdk.http.HttpClient;
+import io.github._07manan.featureflags.sdk.exposure.ExposureRecorder;
+import io.github._07manan.featureflags.sdk.http.AdaptiveConcurrencyLimiter;
+import io.github._07manan.featureflags.sdk.jfr.CacheLookupEvent;
+import io.github._07manan.featureflags.sdk.jfr.FallbackEvent;
+import io.github._07manan.featureflags.sdk.jfr.FlagEvaluationEvent;
+import io.github._07manan.featureflags.sdk.metrics.CacheMetrics;
+import io.github._07manan.featureflags.sdk.metrics.FallbackReason;
+import io.github._07manan.featureflags.sdk.metrics.FeatureFlagMetrics;
 import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagSnapshot;
 import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.tracing.FlagSpan;
+import io.github._07manan.featureflags.sdk.tracing.FlagTracer;
+import io.github._07manan.featureflags.sdk.transport.EvaluationTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Main client for evaluating feature flags with local caching.
@@ -30,29 +52,107 @@ import java.util.concurrent.TimeUnit;
  * String theme = client.getStringFlag("theme-color", "user-123", "blue");
  * int limit = client.getIntFlag("rate-limit", "user-123", 100);
  * 
+ * // For hot call sites, resolve the flag once and reuse the handle
+ * BooleanFlag checkout = client.booleanFlag("new-checkout", false);
+ * boolean enabled = checkout.isEnabled("user-123");
+ * 
+ * // React when a flag changes
+ * client.onFlagChange("new-checkout", (userId, change) -> reload(change.getCurrent()));
+ * 
  * client.close(); // Clean up resources when done
  * </pre>
  */
 public class FeatureFlagClient implements AutoCloseable {
     private static final Logger logger = LoggerFactory.getLogger(FeatureFlagClient.class);
+    private static final long LOG_THROTTLE_SECONDS = 60;
+    private static final long SWEEP_INTERVAL_SECONDS = 30;
+    // Bounds the negative cache, so callers passing arbitrary flag keys can't grow it without limit
+    private static final int MAX_MISSING_FLAGS = 1024;
+    private static final String EVALUATE_SPAN = "featureflags.evaluate";
+    private static final String EVALUATE_ALL_SPAN = "featureflags.evaluate_all";
+
+    // Internal outcomes of evaluateFlag, never returned to callers. NOT_FOUND is remembered per
+    // flag in missingFlags so unknown flags don't hit the API on every call.
+    private static final EvaluationResult NOT_FOUND = new EvaluationResult("", null, null, true, null);
+    private static final EvaluationResult REJECTED = new EvaluationResult("", null, null, true, null);
     
     private final String apiKey;
     private final String baseUrl;
-    private final HttpClient httpClient;
-    private final LocalCache<EvaluationResult> cache;
+    private final EvaluationTransport transport;
+    private final ScheduledExecutorService cleanupScheduler;
+    private final boolean ownsScheduler;
+    private final CacheBudget cacheBudget;
+    private final ScheduledFuture<?> pollTask;
+    private final ScheduledFuture<?> sweepTask;
+    private volatile long cacheTtlMillis;
+    private volatile long lastRefreshMillis;
+    private final ConcurrentHashMap<String, LocalCache<EvaluationResult>> flagCaches;
+    private final Set<String> handleFlags = ConcurrentHashMap.newKeySet();
+    // Held shared while writing to a flag cache and exclusively while dropping empty ones, so a
+    // result can't be written to a cache that is no longer in flagCaches
+    private final ReadWriteLock flagCachesLock = new ReentrantReadWriteLock();
+    private final LocalCache<BulkEvaluation> bulkCache;
+    private final LocalCache<Boolean> missingFlags;
+    private final SharedCacheTier sharedTier;
+    private final ExposureRecorder exposures;
+    private final FeatureFlagMetrics metrics;
+    private final FlagTracer tracer;
+    private final CacheMetrics flagCacheMetrics;
+    private final FeatureFlagClientManagement management;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final FlagChangeNotifier changeNotifier;
+    private final LogThrottle typeMismatchLogs = new LogThrottle(LOG_THROTTLE_SECONDS, TimeUnit.SECONDS);
+    private final LogThrottle errorLogs = new LogThrottle(LOG_THROTTLE_SECONDS, TimeUnit.SECONDS);
 
     FeatureFlagClient(
             String apiKey,
             String baseUrl,
             long cacheTTL,
             TimeUnit cacheTTLUnit,
-            long connectionTimeout,
-            long socketTimeout,
-            TimeUnit httpTimeoutUnit) {
+            EvaluationTransport transport,
+            int warmUpConnections,
+            AdaptiveConcurrencyLimiter limiter,
+            long pollInterval,
+            TimeUnit pollIntervalUnit,
+            FeatureFlagRuntime runtime,
+            SharedCache sharedCache,
+            ExposureRecorder exposures,
+            FeatureFlagMetrics metrics,
+            FlagTracer tracer,
+            String mbeanName) {
         this.apiKey = apiKey;
         this.baseUrl = baseUrl;
-        this.httpClient = new HttpClient(baseUrl, apiKey, connectionTimeout, socketTimeout, httpTimeoutUnit);
-        this.cache = new LocalCache<>(cacheTTL, cacheTTLUnit);
+        this.transport = transport;
+        this.ownsScheduler = runtime == null;
+        this.cleanupScheduler = runtime != null ? runtime.scheduler() : LocalCache.newCleanupScheduler();
+        // Each client gets its own share of the runtime's budget, so one busy environment can't
+        // stop the others from caching
+        this.cacheBudget = runtime != null ? runtime.cacheBudget().partition() : null;
+        this.cacheTtlMillis = cacheTTLUnit.toMillis(cacheTTL);
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.management = mbeanName != null ? new FeatureFlagClientManagement(this, mbeanName) : null;
+        this.flagCacheMetrics = cacheMetrics("flags");
+        this.flagCaches = new ConcurrentHashMap<>();
+        this.bulkCache = new LocalCache<>(cacheTtlMillis, TimeUnit.MILLISECONDS, cacheBudget, cacheMetrics("bulk"));
+        this.missingFlags = new LocalCache<>(cacheTtlMillis, TimeUnit.MILLISECONDS, new CacheBudget(MAX_MISSING_FLAGS), CacheMetrics.NOOP);
+        this.sharedTier = sharedCache != null ? new SharedCacheTier(sharedCache, apiKey, cacheTTL, cacheTTLUnit) : null;
+        this.exposures = exposures;
+        this.limiter = limiter;
+        this.changeNotifier = new FlagChangeNotifier();
+        changeNotifier.watch(buildUserKey(null), null);
+
+        if (warmUpConnections > 0) {
+            transport.warmUp(warmUpConnections);
+        }
+        this.sweepTask = cleanupScheduler.scheduleAtFixedRate(
+                this::sweepCaches, SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        this.pollTask = pollInterval > 0
+                ? cleanupScheduler.scheduleWithFixedDelay(this::pollWatchedUsers, pollInterval, pollInterval, pollIntervalUnit)
+                : null;
+        if (management != null) {
+            management.register();
+        }
         
         logger.info("FeatureFlagClient initialized with baseUrl: {}", baseUrl);
     }
@@ -75,24 +175,8 @@ public class FeatureFlagClient implements AutoCloseable {
      * @return the evaluated boolean value
      */
     public boolean getBooleanFlag(String flagKey, String userId, boolean defaultValue) {
-        try {
-            EvaluationResult result = evaluateFlag(flagKey, userId);
-            
-            if (result.getType() != FlagType.BOOLEAN) {
-                logger.warn("Flag '{}' type mismatch: expected BOOLEAN, got {}", flagKey, result.getType());
-                return defaultValue;
-            }
-            
-            return result.getBooleanValue();
-        } catch (FlagNotFoundException e) {
-            logger.debug("Flag '{}' not found, returning default: {}", flagKey, defaultValue);
-            return defaultValue;
-        } catch (AuthenticationException e) {
-            throw e;
-        } catch (Exception e) {
-            logger.error("Error evaluating boolean flag '{}', returning default: {}", flagKey, defaultValue, e);
-            return defaultValue;
-        }
+        EvaluationResult result = resolve(flagCaches.get(flagKey), flagKey, userId, FlagType.BOOLEAN);
+        return result != null && result.getValue() instanceof Boolean value ? value : defaultValue;
     }
 
     /**
@@ -104,24 +188,8 @@ public class FeatureFlagClient implements AutoCloseable {
      * @return the evaluated string value
      */
     public String getStringFlag(String flagKey, String userId, String defaultValue) {
-        try {
-            EvaluationResult result = evaluateFlag(flagKey, userId);
-            
-            if (result.getType() != FlagType.STRING) {
-                logger.warn("Flag '{}' type mismatch: expected STRING, got {}", flagKey, result.getType());
-                return defaultValue;
-            }
-            
-            return result.getStringValue();
-        } catch (FlagNotFoundException e) {
-            logger.debug("Flag '{}' not found, returning default: {}", flagKey, defaultValue);
-            return defaultValue;
-        } catch (AuthenticationException e) {
-            throw e;
-        } catch (Exception e) {
-            logger.error("Error evaluating string flag '{}', returning default: {}", flagKey, defaultValue, e);
-            return defaultValue;
-        }
+        EvaluationResult result = resolve(flagCaches.get(flagKey), flagKey, userId, FlagType.STRING);
+        return result != null ? result.getStringValue() : defaultValue;
     }
 
     /**
@@ -133,24 +201,8 @@ public class FeatureFlagClient implements AutoCloseable {
      * @return the evaluated integer value
      */
     public int getIntFlag(String flagKey, String userId, int defaultValue) {
-        try {
-            EvaluationResult result = evaluateFlag(flagKey, userId);
-            
-            if (result.getType() != FlagType.NUMBER) {
-                logger.warn("Flag '{}' type mismatch: expected NUMBER, got {}", flagKey, result.getType());
-                return defaultValue;
-            }
-            
-            return result.getIntValue();
-        } catch (FlagNotFoundException e) {
-            logger.debug("Flag '{}' not found, returning default: {}", flagKey, defaultValue);
-            return defaultValue;
-        } catch (AuthenticationException e) {
-            throw e;
-        } catch (Exception e) {
-            logger.error("Error evaluating int flag '{}', returning default: {}", flagKey, defaultValue, e);
-            return defaultValue;
-        }
+        EvaluationResult result = resolve(flagCaches.get(flagKey), flagKey, userId, FlagType.NUMBER);
+        return result != null && result.getValue() instanceof Number value ? value.intValue() : defaultValue;
     }
 
     /**
@@ -162,52 +214,106 @@ public class FeatureFlagClient implements AutoCloseable {
      * @return the evaluated double value
      */
     public double getDoubleFlag(String flagKey, String userId, double defaultValue) {
-        try {
-            EvaluationResult result = evaluateFlag(flagKey, userId);
-            
-            if (result.getType() != FlagType.NUMBER) {
-                logger.warn("Flag '{}' type mismatch: expected NUMBER, got {}", flagKey, result.getType());
-                return defaultValue;
-            }
-            
-            return result.getDoubleValue();
-        } catch (FlagNotFoundException e) {
-            logger.debug("Flag '{}' not found, returning default: {}", flagKey, defaultValue);
-            return defaultValue;
-        } catch (AuthenticationException e) {
-            throw e;
-        } catch (Exception e) {
-            logger.error("Error evaluating double flag '{}', returning default: {}", flagKey, defaultValue, e);
-            return defaultValue;
-        }
+        EvaluationResult result = resolve(flagCaches.get(flagKey), flagKey, userId, FlagType.NUMBER);
+        return result != null && result.getValue() instanceof Number value ? value.doubleValue() : defaultValue;
+    }
+
+    /**
+     * Creates an evaluation context bound to one user, meant to live for a single request.
+     * Each flag is resolved at most once per context and then memoized, so repeated checks
+     * are cheap and see the same value for the whole request.
+     *
+     * @param userId the user ID (can be null for non-percentage rollouts)
+     * @return a new evaluation context
+     */
+    public EvaluationContext forUser(String userId) {
+        return new EvaluationContext(this, userId);
+    }
+
+    /**
+     * Looks up the cache of a flag without creating it.
+     */
+    LocalCache<EvaluationResult> existingFlagCache(String flagKey) {
+        return flagCaches.get(flagKey);
+    }
+
+    /**
+     * Creates a handle for a boolean flag. Handles are meant to be created once and reused;
+     * they resolve the flag's cache up front so each evaluation does the least work possible.
+     *
+     * @param flagKey the flag key
+     * @param defaultValue the value returned if the flag is not found or on error
+     * @return a reusable flag handle
+     */
+    public BooleanFlag booleanFlag(String flagKey, boolean defaultValue) {
+        return new BooleanFlag(this, flagKey, defaultValue);
+    }
+
+    /**
+     * Creates a handle for a string flag. See {@link #booleanFlag(String, boolean)}.
+     *
+     * @param flagKey the flag key
+     * @param defaultValue the value returned if the flag is not found or on error
+     * @return a reusable flag handle
+     */
+    public StringFlag stringFlag(String flagKey, String defaultValue) {
+        return new StringFlag(this, flagKey, defaultValue);
+    }
+
+    /**
+     * Creates a handle for an integer flag. See {@link #booleanFlag(String, boolean)}.
+     *
+     * @param flagKey the flag key
+     * @param defaultValue the value returned if the flag is not found or on error
+     * @return a reusable flag handle
+     */
+    public IntFlag intFlag(String flagKey, int defaultValue) {
+        return new IntFlag(this, flagKey, defaultValue);
+    }
+
+    /**
+     * Creates a handle for a double flag. See {@link #booleanFlag(String, boolean)}.
+     *
+     * @param flagKey the flag key
+     * @param defaultValue the value returned if the flag is not found or on error
+     * @return a reusable flag handle
+     */
+    public DoubleFlag doubleFlag(String flagKey, double defaultValue) {
+        return new DoubleFlag(this, flagKey, defaultValue);
     }
 
     /**
      * Evaluates all active flags for a user.
      * Returns a map of flag keys to their raw values (Boolean, String, or Number).
+     * The bulk result is cached per user with the same TTL as single flags, so repeat
+     * calls within the TTL are served from memory.
      *
      * @param userId the user ID (can be null for non-percentage rollouts)
      * @return a map of flag keys to their evaluated values
      * @throws AuthenticationException if authentication fails
+     * @throws ConcurrencyLimitExceededException if the request was shed by the concurrency limiter
      * @throws FeatureFlagException for other errors
      */
     public Map<String, Object> getAllFlags(String userId) {
+        return getSnapshot(userId).toMap();
+    }
+
+    /**
+     * Evaluates all active flags for a user and returns them as an immutable snapshot.
+     * The snapshot offers typed accessors that don't hash or box, and is shared between
+     * calls for the same user while the bulk result is cached, so it can be fetched once
+     * and passed through a request.
+     *
+     * @param userId the user ID (can be null for non-percentage rollouts)
+     * @return a snapshot of the evaluated flags
+     * @throws AuthenticationException if authentication fails
+     * @throws ConcurrencyLimitExceededException if the request was shed by the concurrency limiter
+     * @throws FeatureFlagException for other errors
+     */
+    public FlagSnapshot getSnapshot(String userId) {
         try {
-            Map<String, EvaluationResult> results = httpClient.evaluateAllFlags(userId);
-            Map<String, Object> flags = new HashMap<>();
-            
-            for (Map.Entry<String, EvaluationResult> entry : results.entrySet()) {
-                EvaluationResult result = entry.getValue();
-                
-                String cacheKey = buildCacheKey(result.getFlagKey(), userId);
-                cache.put(cacheKey, result);
-                
-                flags.put(entry.getKey(), result.getValue());
-            }
-            
-            logger.debug("Evaluated {} flags for user: {}", flags.size(), userId);
-            return flags;
-        } catch (AuthenticationException e) {
+            return evaluateAllFlags(userId).getSnapshot();
+        } catch (AuthenticationException | ConcurrencyLimitExceededException e) {
             throw e;
         } catch (Exception e) {
             logger.error("Error evaluating all flags", e);
@@ -215,50 +321,605 @@ public class FeatureFlagClient implements AutoCloseable {
         }
     }
 
+    /**
+     * Returns the cached snapshot of a user without evaluating anything, so callers that
+     * coalesce requests of their own can skip that work when the snapshot is cached.
+     *
+     * @param userId the user ID (can be null)
+     * @return the cached snapshot, or null if none is cached or some of its flags were invalidated
+     */
+    public FlagSnapshot getCachedSnapshot(String userId) {
+        BulkEvaluation cached = bulkCache.peek(buildUserKey(userId));
+        return cached != null && cached.isComplete() ? cached.getSnapshot() : null;
+    }
+
+    /**
+     * Creates a builder for a {@link BatchEvaluator}, which evaluates flags for large sets of
+     * users through this client's transport. The evaluator must be closed before the client.
+     *
+     * @return a new batch evaluator builder
+     */
+    public BatchEvaluatorBuilder batchEvaluator() {
+        return new BatchEvaluatorBuilder(transport);
+    }
+
+    /**
+     * Registers a listener notified when the value of one flag changes for a watched user.
+     * Changes are detected by comparing each freshly fetched bulk result of a watched user
+     * with the previous one, either when {@link #getAllFlags(String)} or
+     * {@link #getSnapshot(String)} refetches it or on every poll if a poll interval is configured.
+     *
+     * @param flagKey the flag key
+     * @param listener the listener
+     */
+    public void onFlagChange(String flagKey, FlagChangeListener listener) {
+        changeNotifier.addListener(flagKey, listener);
+    }
+
+    /**
+     * Registers a listener notified when any flag changes for a watched user.
+     * See {@link #onFlagChange(String, FlagChangeListener)}.
+     *
+     * @param listener the listener
+     */
+    public void onAnyChange(FlagChangeListener listener) {
+        changeNotifier.addListener(listener);
+    }
+
+    /**
+     * Unregisters a listener from all flags it was registered for.
+     *
+     * @param listener the listener
+     */
+    public void removeFlagChangeListener(FlagChangeListener listener) {
+        changeNotifier.removeListener(listener);
+    }
+
+    /**
+     * Starts tracking flag changes for a user. The anonymous (null) user is watched by default.
+     *
+     * @param userId the user ID (can be null)
+     */
+    public void watchUser(String userId) {
+        changeNotifier.watch(buildUserKey(userId), userId);
+    }
+
+    /**
+     * Stops tracking flag changes for a user.
+     *
+     * @param userId the user ID (can be null)
+     */
+    public void unwatchUser(String userId) {
+        changeNotifier.unwatch(buildUserKey(userId));
+    }
+
+    /**
+     * Invalidates the cached value of a flag for one user.
+     * Other flags in that user's cached bulk result stay cached; only this flag is
+     * re-evaluated on the next {@link #getAllFlags(String)}. If a shared cache is configured,
+     * the flag and the user's bulk result are removed from it as well.
+     *
+     * @param flagKey the flag key
+     * @param userId the user ID (can be null)
+     */
     public void invalidateCache(String flagKey, String userId) {
-        String cacheKey = buildCacheKey(flagKey, userId);
-        cache.invalidate(cacheKey);
+        LocalCache<EvaluationResult> flagCache = flagCaches.get(flagKey);
+        if (flagCache != null) {
+            flagCache.invalidate(buildUserKey(userId));
+        }
+        missingFlags.invalidate(flagKey);
+        bulkCache.replace(buildUserKey(userId), bulk -> bulk.withStale(flagKey));
+        if (sharedTier != null) {
+            sharedTier.invalidate(flagKey, buildUserKey(userId));
+        }
         logger.debug("Invalidated cache for flag: {}, user: {}", flagKey, userId);
     }
 
+    /**
+     * Invalidates the cached value of a flag for all users, e.g. after the flag was changed.
+     * Cached bulk results keep their other flags; only this flag is re-evaluated.
+     * This client ignores entries of the flag a shared cache received until now, as well as
+     * bulk results there, until they are overwritten or expire.
+     *
+     * @param flagKey the flag key
+     */
+    public void invalidateFlag(String flagKey) {
+        LocalCache<EvaluationResult> flagCache = flagCaches.get(flagKey);
+        if (flagCache != null) {
+            flagCache.clear();
+        }
+        missingFlags.invalidate(flagKey);
+        bulkCache.replaceAll(bulk -> bulk.withStale(flagKey));
+        if (sharedTier != null) {
+            sharedTier.invalidateFlag(flagKey);
+        }
+        logger.debug("Invalidated cache for flag: {}", flagKey);
+    }
+
+    /**
+     * Clears all cached flags. This client ignores entries a shared cache received until now,
+     * until they are overwritten or expire.
+     */
     public void clearCache() {
-        cache.clear();
+        flagCaches.values().forEach(LocalCache::clear);
+        bulkCache.clear();
+        missingFlags.clear();
+        if (sharedTier != null) {
+            sharedTier.clear();
+        }
         logger.debug("Cleared all cached flags");
     }
 
     /**
      * Closes the client and releases all resources.
-     * Should be called when the client is no longer needed.
+     * Should be called when the client is no longer needed. A shared cache passed to the
+     * builder is not closed, since other clients may still use it.
      */
     @Override
     public void close() {
         try {
-            cache.shutdown();
-            httpClient.close();
+            if (management != null) {
+                management.unregister();
+            }
+            if (pollTask != null) {
+                pollTask.cancel(false);
+            }
+            sweepTask.cancel(false);
+            flagCaches.values().forEach(LocalCache::shutdown);
+            bulkCache.shutdown();
+            missingFlags.shutdown();
+            if (cacheBudget != null) {
+                cacheBudget.close();
+            }
+            if (ownsScheduler) {
+                cleanupScheduler.shutdownNow();
+            }
+            transport.close();
+            if (exposures != null) {
+                exposures.close();
+            }
             logger.info("FeatureFlagClient closed");
         } catch (Exception e) {
             logger.error("Error closing FeatureFlagClient", e);
         }
     }
 
-    private EvaluationResult evaluateFlag(String flagKey, String userId) {
-        String cacheKey = buildCacheKey(flagKey, userId);
+    /**
+     * Returns the cache holding one flag's results, keyed by user, for a handle to hold on to.
+     * The caches of flags with handles live as long as the client.
+     */
+    LocalCache<EvaluationResult> handleCache(String flagKey) {
+        flagCachesLock.readLock().lock();
+        try {
+            handleFlags.add(flagKey);
+            return flagCache(flagKey);
+        } finally {
+            flagCachesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Caches a flag's result for a user, creating the flag's cache if needed.
+     */
+    private void cacheFlag(String flagKey, String userKey, EvaluationResult result, long timestamp) {
+        flagCachesLock.readLock().lock();
+        try {
+            flagCache(flagKey).put(userKey, result, timestamp);
+        } finally {
+            flagCachesLock.readLock().unlock();
+        }
+    }
+
+    private LocalCache<EvaluationResult> flagCache(String flagKey) {
+        return flagCaches.computeIfAbsent(flagKey, k -> new LocalCache<>(cacheTtlMillis, TimeUnit.MILLISECONDS, cacheBudget, flagCacheMetrics));
+    }
+
+    /**
+     * Removes expired entries from all local caches, then drops the caches of flags that have
+     * no handle and no unexpired result, such as flags that were deleted or looked up once.
+     */
+    void sweepCaches() {
+        bulkCache.cleanUp();
+        missingFlags.cleanUp();
+        flagCaches.values().forEach(LocalCache::cleanUp);
+        if (sharedTier != null) {
+            sharedTier.sweep();
+        }
+
+        flagCachesLock.writeLock().lock();
+        try {
+            flagCaches.entrySet().removeIf(entry -> entry.getValue().size() == 0 && !handleFlags.contains(entry.getKey()));
+        } finally {
+            flagCachesLock.writeLock().unlock();
+        }
+    }
+
+    private CacheMetrics cacheMetrics(String cacheName) {
+        CacheMetrics cacheMetrics = metrics.cache(cacheName);
+        return management != null ? management.counting(cacheMetrics) : cacheMetrics;
+    }
+
+    /**
+     * @return the number of entries in the flag, bulk and not-found caches
+     */
+    long getCacheSize() {
+        long size = bulkCache.size() + missingFlags.size();
+        for (LocalCache<EvaluationResult> flagCache : flagCaches.values()) {
+            size += flagCache.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return when the oldest entry in the flag and bulk caches was cached, or 0 if they are empty
+     */
+    long getOldestEntryTimestamp() {
+        long oldest = bulkCache.getOldestEntryTimestamp();
+        for (LocalCache<EvaluationResult> flagCache : flagCaches.values()) {
+            long timestamp = flagCache.getOldestEntryTimestamp();
+            if (timestamp != 0 && (oldest == 0 || timestamp < oldest)) {
+                oldest = timestamp;
+            }
+        }
+        return oldest;
+    }
+
+    int getInFlightRequests() {
+        return limiter.getInFlight();
+    }
+
+    int getConcurrencyLimit() {
+        return limiter.getLimit();
+    }
+
+    /**
+     * @return when a request to the evaluation API last succeeded in epoch milliseconds, or 0 if none has
+     */
+    long getLastRefreshMillis() {
+        return lastRefreshMillis;
+    }
+
+    long getCacheTtlMillis() {
+        return cacheTtlMillis;
+    }
+
+    /**
+     * Changes the TTL of the local caches, including entries already cached. The shared cache
+     * tier keeps the TTL the client was built with.
+     */
+    void setCacheTTL(long ttl, TimeUnit unit) {
+        cacheTtlMillis = unit.toMillis(ttl);
+        bulkCache.setTtl(ttl, unit);
+        missingFlags.setTtl(ttl, unit);
+        flagCaches.values().forEach(flagCache -> flagCache.setTtl(ttl, unit));
+        logger.info("Cache TTL changed to {} {}", ttl, unit);
+    }
+
+    void setTimeouts(long connectionTimeout, long socketTimeout, TimeUnit unit) {
+        transport.setTimeouts(connectionTimeout, socketTimeout, unit);
+    }
+
+    /**
+     * Evaluates a flag and checks its type, handling errors the way the typed getters document.
+     * The evaluation's latency is recorded if metrics are configured, and as a Flight Recorder
+     * event if it exceeds the event's threshold.
+     *
+     * @param flagCache the flag's cache, or null if none has been created yet
+     * @return the result, or null if the caller should return its default value
+     * @throws AuthenticationException if authentication fails
+     */
+    EvaluationResult resolve(LocalCache<EvaluationResult> flagCache, String flagKey, String userId, FlagType expectedType) {
+        boolean timed = metrics != FeatureFlagMetrics.NOOP;
+        long start = timed ? System.nanoTime() : 0;
+        FlagEvaluationEvent event = new FlagEvaluationEvent();
+        event.begin();
+
+        EvaluationResult result = lookup(flagCache, flagKey, userId);
+        result = result != null ? expose(checkType(result, expectedType), userId) : null;
+
+        event.complete(flagKey, result != null);
+        if (timed) {
+            metrics.evaluation(System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Records that the user is served the result, if exposure recording is enabled.
+     *
+     * @param result the result, or null if the default value is served
+     * @param userId the user ID
+     * @return the result
+     */
+    EvaluationResult expose(EvaluationResult result, String userId) {
+        if (exposures != null && result != null) {
+            exposures.record(result.getFlagKey(), result.getVariantId(), userId);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates a flag, turning every failure except authentication into a null result.
+     * Missing flags and rejected requests are plain return values on this path; only transport
+     * failures still arrive as exceptions, and their logging is rate-limited per flag.
+     *
+     * @param flagCache the flag's cache, or null if none has been created yet
+     * @return the result, or null if the caller should return its default value
+     * @throws AuthenticationException if authentication fails
+     */
+    EvaluationResult lookup(LocalCache<EvaluationResult> flagCache, String flagKey, String userId) {
+        EvaluationResult result;
+        try {
+            result = evaluateFlag(flagCache, flagKey, userId);
+        } catch (AuthenticationException e) {
+            throw e;
+        } catch (Exception e) {
+            long suppressed = errorLogs.tryAcquire(flagKey);
+            if (suppressed == 0) {
+                logger.error("Error evaluating flag '{}', returning default", flagKey, e);
+            } else if (suppressed > 0) {
+                logger.error("Error evaluating flag '{}', returning default ({} similar errors suppressed)", flagKey, suppressed, e);
+            }
+            fallback(flagKey, FallbackReason.ERROR);
+            return null;
+        }
+
+        if (result == NOT_FOUND) {
+            logger.debug("Flag '{}' not found, returning default", flagKey);
+            fallback(flagKey, FallbackReason.NOT_FOUND);
+            return null;
+        }
+        if (result == REJECTED) {
+            logger.debug("Flag '{}' rejected by concurrency limiter, returning default", flagKey);
+            fallback(flagKey, FallbackReason.REJECTED);
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * @return the result if it has the expected type, otherwise null
+     */
+    EvaluationResult checkType(EvaluationResult result, FlagType expectedType) {
+        if (result.getType() != expectedType) {
+            long suppressed = typeMismatchLogs.tryAcquire(result.getFlagKey());
+            if (suppressed == 0) {
+                logger.warn("Flag '{}' type mismatch: expected {}, got {}", result.getFlagKey(), expectedType, result.getType());
+            } else if (suppressed > 0) {
+                logger.warn("Flag '{}' type mismatch: expected {}, got {} ({} similar warnings suppressed)",
+                        result.getFlagKey(), expectedType, result.getType(), suppressed);
+            }
+            fallback(result.getFlagKey(), FallbackReason.TYPE_MISMATCH);
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * @return the result, {@link #NOT_FOUND} if the flag doesn't exist, or {@link #REJECTED} if
+     *         the concurrency limiter shed the request
+     */
+    private EvaluationResult evaluateFlag(LocalCache<EvaluationResult> flagCache, String flagKey, String userId) {
+        String userKey = buildUserKey(userId);
         
-        EvaluationResult cached = cache.get(cacheKey);
-        if (cached != null) {
-            logger.trace("Cache hit for flag: {}, user: {}", flagKey, userId);
-            return cached;
+        if (flagCache != null) {
+            CacheLookupEvent lookup = new CacheLookupEvent();
+            lookup.begin();
+            EvaluationResult cached = flagCache.get(userKey);
+            lookup.complete("flags", flagKey, cached != null);
+            if (cached != null) {
+                logger.trace("Cache hit for flag: {}, user: {}", flagKey, userId);
+                return cached;
+            }
+        }
+        boolean knownMissing = missingFlags.get(flagKey) != null;
+        if (flagCache == null) {
+            // No cache for this flag, which the cache itself can't count
+            if (knownMissing) {
+                flagCacheMetrics.hit();
+            } else {
+                flagCacheMetrics.miss();
+            }
+        }
+        if (knownMissing) {
+            logger.trace("Flag {} is known not to exist", flagKey);
+            return NOT_FOUND;
         }
         
         logger.trace("Cache miss for flag: {}, user: {}", flagKey, userId);
-        EvaluationResult result = httpClient.evaluateFlag(flagKey, userId);
+        return traced(EVALUATE_SPAN, flagKey, span -> fetchFlag(flagKey, userId, userKey, span));
+    }
+
+    /**
+     * Looks up a flag missing from the local cache in the shared tier, then the API, and caches it.
+     */
+    private EvaluationResult fetchFlag(String flagKey, String userId, String userKey, FlagSpan span) {
+        if (sharedTier != null) {
+            SharedCacheTier.Hit<EvaluationResult> shared = sharedTier.getFlag(flagKey, userKey);
+            if (shared != null) {
+                logger.trace("Shared cache hit for flag: {}, user: {}", flagKey, userId);
+                span.setAttribute(FlagTracer.CACHE_STATUS, "shared_hit");
+                // Expires with the shared entry rather than a full TTL from now
+                cacheFlag(flagKey, userKey, shared.value(), shared.writtenAtMillis());
+                return shared.value();
+            }
+        }
+
+        span.setAttribute(FlagTracer.CACHE_STATUS, "miss");
+        EvaluationResult result = limited(() -> {
+            EvaluationResult found = transport.findFlag(flagKey, userId);
+            return found != null ? found : NOT_FOUND;
+        }, REJECTED);
         
-        cache.put(cacheKey, result);
+        if (result == NOT_FOUND) {
+            // Remembered for the flag rather than the user, without creating a cache for a flag
+            // that doesn't exist. Misses stay local; a shared miss is cheap to repeat
+            missingFlags.put(flagKey, Boolean.TRUE);
+        } else if (result != REJECTED) {
+            cacheFlag(flagKey, userKey, result, System.currentTimeMillis());
+            if (sharedTier != null) {
+                sharedTier.putFlag(flagKey, userKey, result);
+            }
+        }
         
         return result;
     }
 
-    private String buildCacheKey(String flagKey, String userId) {
-        return flagKey + ":" + (userId != null ? userId : "null");
+    private BulkEvaluation evaluateAllFlags(String userId) {
+        String userKey = buildUserKey(userId);
+
+        CacheLookupEvent lookup = new CacheLookupEvent();
+        lookup.begin();
+        BulkEvaluation cached = bulkCache.get(userKey);
+        lookup.complete("bulk", null, cached != null);
+        if (cached != null && cached.isComplete()) {
+            logger.trace("Bulk cache hit for user: {}", userId);
+            return cached;
+        }
+
+        if (cached != null) {
+            Map<String, EvaluationResult> refreshed = new HashMap<>();
+            for (String flagKey : cached.getStaleKeys()) {
+                EvaluationResult result = evaluateFlag(flagCaches.get(flagKey), flagKey, userId);
+                if (result == REJECTED) {
+                    throw new ConcurrencyLimitExceededException("Too many concurrent evaluation requests");
+                }
+                if (result == NOT_FOUND) {
+                    logger.debug("Flag '{}' no longer exists, dropping it from bulk result", flagKey);
+                } else {
+                    refreshed.put(flagKey, result);
+                }
+            }
+            BulkEvaluation updated = cached.withRefreshed(refreshed);
+            bulkCache.replace(userKey, current -> current == cached ? updated : current);
+            changeNotifier.onRefresh(userKey, updated.getSnapshot());
+            logger.debug("Re-evaluated {} stale flags for user: {}", refreshed.size(), userId);
+            return updated;
+        }
+
+        logger.trace("Bulk cache miss for user: {}", userId);
+        return traced(EVALUATE_ALL_SPAN, null, span -> {
+            if (sharedTier != null) {
+                SharedCacheTier.Hit<Map<String, EvaluationResult>> shared = sharedTier.getAll(userKey);
+                if (shared != null) {
+                    logger.trace("Shared bulk cache hit for user: {}", userId);
+                    span.setAttribute(FlagTracer.CACHE_STATUS, "shared_hit");
+                    return cacheAllFlags(userId, userKey, shared.value(), shared.writtenAtMillis());
+                }
+            }
+            span.setAttribute(FlagTracer.CACHE_STATUS, "miss");
+            return fetchAllFlags(userId, userKey);
+        });
+    }
+
+    /**
+     * Fetches all flags of a user from the API, bypassing both cache tiers, and caches the result.
+     */
+    private BulkEvaluation fetchAllFlags(String userId, String userKey) {
+        Map<String, EvaluationResult> results = limited(() -> transport.evaluateAllFlags(userId), null);
+        if (results == null) {
+            throw new ConcurrencyLimitExceededException("Too many concurrent evaluation requests");
+        }
+        if (sharedTier != null) {
+            sharedTier.putAll(userKey, results.values());
+        }
+        return cacheAllFlags(userId, userKey, results, System.currentTimeMillis());
+    }
+
+    private BulkEvaluation cacheAllFlags(String userId, String userKey, Map<String, EvaluationResult> results, long timestamp) {
+        boolean anyMissing = missingFlags.size() > 0;
+        for (EvaluationResult result : results.values()) {
+            cacheFlag(result.getFlagKey(), userKey, result, timestamp);
+            if (anyMissing) {
+                // The flag was created since it was last looked up
+                missingFlags.invalidate(result.getFlagKey());
+            }
+        }
+
+        BulkEvaluation bulk = new BulkEvaluation(results);
+        bulkCache.put(userKey, bulk, timestamp);
+        changeNotifier.onRefresh(userKey, bulk.getSnapshot());
+
+        logger.debug("Evaluated {} flags for user: {}", results.size(), userId);
+        return bulk;
+    }
+
+    /**
+     * Refetches the flags of every watched user, bypassing the cache, so listeners see changes
+     * within one poll interval. Skipped while no listener is registered.
+     */
+    private void pollWatchedUsers() {
+        if (!changeNotifier.hasListeners()) {
+            return;
+        }
+        for (String userId : changeNotifier.watchedUserIds()) {
+            try {
+                traced(EVALUATE_ALL_SPAN, null, span -> {
+                    span.setAttribute(FlagTracer.CACHE_STATUS, "poll");
+                    return fetchAllFlags(userId, buildUserKey(userId));
+                });
+            } catch (Exception e) {
+                logger.warn("Failed to poll flags for user: {}", userId, e);
+            }
+        }
+    }
+
+    /**
+     * Runs a network call under the concurrency limiter, feeding its round trip back into the limit.
+     * 404 and 401 responses are answers from a healthy API, so they don't count as drops.
+     *
+     * @param rejected the value to return if the limiter has no permit available
+     * @return the call's result, or {@code rejected}
+     */
+    private <T> T limited(Supplier<T> call, T rejected) {
+        if (!limiter.acquire()) {
+            return rejected;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            T result = call.get();
+            dropped = false;
+            lastRefreshMillis = System.currentTimeMillis();
+            return result;
+        } catch (FlagNotFoundException | AuthenticationException e) {
+            dropped = false;
+            throw e;
+        } finally {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    /**
+     * Runs a cache miss in a span that is current while it runs, so the transport's request span
+     * becomes its child.
+     *
+     * @param flagKey the flag key, or null for bulk evaluations
+     */
+    private <T> T traced(String spanName, String flagKey, Function<FlagSpan, T> body) {
+        FlagSpan span = tracer.startSpan(spanName);
+        if (flagKey != null) {
+            span.setAttribute(FlagTracer.FLAG_KEY, flagKey);
+        }
+        FlagSpan.Scope scope = span.makeCurrent();
+        try {
+            return body.apply(span);
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            scope.close();
+            span.end();
+        }
+    }
+
+    private void fallback(String flagKey, FallbackReason reason) {
+        metrics.fallback(flagKey, reason);
+        FallbackEvent.emit(flagKey, reason);
+    }
+
+    private String buildUserKey(String userId) {
+        return userId != null ? userId : "null";
     }
 }
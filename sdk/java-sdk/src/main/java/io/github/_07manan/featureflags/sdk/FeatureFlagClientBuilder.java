@@ -1,5 +1,18 @@
 package io.github._07manan.featureflags.sdk;
 
+import io.github._07manan.featureflags.sdk.cache.SharedCache;
+import io.github._07manan.featureflags.sdk.exposure.ExposureRecorder;
+import io.github._07manan.featureflags.sdk.http.AdaptiveConcurrencyLimiter;
+import io.github._07manan.featureflags.sdk.http.ConnectionPoolConfig;
+import io.github._07manan.featureflags.sdk.http.HttpClient;
+import io.github._07manan.featureflags.sdk.http.JdkHttpTransport;
+import io.github._07manan.featureflags.sdk.metrics.FeatureFlagMetrics;
+import io.github._07manan.featureflags.sdk.tracing.FlagTracer;
+import io.github._07manan.featureflags.sdk.snapshot.SnapshotTransport;
+import io.github._07manan.featureflags.sdk.transport.EvaluationTransport;
+
+import java.net.URI;
+import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -18,6 +31,12 @@ public class FeatureFlagClientBuilder {
     private static final long DEFAULT_CONNECTION_TIMEOUT = 5;
     private static final long DEFAULT_SOCKET_TIMEOUT = 10;
     private static final TimeUnit DEFAULT_HTTP_TIMEOUT_UNIT = TimeUnit.SECONDS;
+    private static final int DEFAULT_INITIAL_CONCURRENCY_LIMIT = 20;
+    private static final int DEFAULT_MAX_CONCURRENCY_LIMIT = 200;
+    private static final long DEFAULT_CONCURRENCY_QUEUE_TIMEOUT = 50;
+    private static final TimeUnit DEFAULT_CONCURRENCY_QUEUE_TIMEOUT_UNIT = TimeUnit.MILLISECONDS;
+    private static final int DEFAULT_EXPOSURE_BUFFER_SIZE = 65_536;
+    private static final long DEFAULT_EXPOSURE_FLUSH_INTERVAL = 10;
     private static final String SYSTEM_PROPERTY_BASE_URL = "featureflags.baseUrl";
     
     private String apiKey;
@@ -27,6 +46,31 @@ public class FeatureFlagClientBuilder {
     private long connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
     private long socketTimeout = DEFAULT_SOCKET_TIMEOUT;
     private TimeUnit httpTimeoutUnit = DEFAULT_HTTP_TIMEOUT_UNIT;
+    private int initialConcurrencyLimit = DEFAULT_INITIAL_CONCURRENCY_LIMIT;
+    private int maxConcurrencyLimit = DEFAULT_MAX_CONCURRENCY_LIMIT;
+    private long concurrencyQueueTimeout = DEFAULT_CONCURRENCY_QUEUE_TIMEOUT;
+    private TimeUnit concurrencyQueueTimeoutUnit = DEFAULT_CONCURRENCY_QUEUE_TIMEOUT_UNIT;
+    private int maxConnections = ConnectionPoolConfig.DEFAULT_MAX_CONNECTIONS;
+    private int maxConnectionsPerRoute = ConnectionPoolConfig.DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+    private long keepAliveMillis = ConnectionPoolConfig.DEFAULT_KEEP_ALIVE_MILLIS;
+    private long idleEvictionMillis = ConnectionPoolConfig.DEFAULT_IDLE_EVICTION_MILLIS;
+    private long validateAfterInactivityMillis = ConnectionPoolConfig.DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS;
+    private int warmUpConnections;
+    private boolean http2;
+    private EvaluationTransport transport;
+    private long pollInterval;
+    private TimeUnit pollIntervalUnit = TimeUnit.SECONDS;
+    private FeatureFlagRuntime runtime;
+    private SharedCache sharedCache;
+    private Path snapshotFile;
+    private String exposureUrl;
+    private int exposureBufferSize = DEFAULT_EXPOSURE_BUFFER_SIZE;
+    private long exposureFlushInterval = DEFAULT_EXPOSURE_FLUSH_INTERVAL;
+    private TimeUnit exposureFlushIntervalUnit = TimeUnit.SECONDS;
+    private FeatureFlagMetrics metrics = FeatureFlagMetrics.NOOP;
+    private FlagTracer tracer = FlagTracer.NOOP;
+    private String name;
+    private boolean registerMBean = true;
 
     FeatureFlagClientBuilder() {
     }
@@ -84,25 +128,377 @@ public class FeatureFlagClientBuilder {
         return this;
     }
 
+    /**
+     * Sets the bounds of the adaptive concurrency limit for API requests (optional).
+     * The limit starts at the initial value and adapts to observed round-trip times,
+     * never exceeding the maximum. Default is 20 initial, 200 maximum.
+     *
+     * @param initialLimit the starting number of concurrent requests
+     * @param maxLimit the maximum number of concurrent requests
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder concurrencyLimit(int initialLimit, int maxLimit) {
+        this.initialConcurrencyLimit = initialLimit;
+        this.maxConcurrencyLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * Sets how long a request may wait for a free slot when the concurrency limit is
+     * saturated (optional). Requests still waiting after this time return the default value.
+     * A timeout of 0 fails fast. Default is 50 milliseconds.
+     *
+     * @param timeout the maximum queueing time
+     * @param unit the time unit
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder concurrencyQueueTimeout(long timeout, TimeUnit unit) {
+        this.concurrencyQueueTimeout = timeout;
+        this.concurrencyQueueTimeoutUnit = unit;
+        return this;
+    }
+
+    /**
+     * Sets the HTTP connection pool size (optional).
+     * Default is 200 total connections and 200 per route.
+     *
+     * @param maxTotal maximum connections across all routes
+     * @param maxPerRoute maximum connections to the evaluation API host
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder connectionPool(int maxTotal, int maxPerRoute) {
+        this.maxConnections = maxTotal;
+        this.maxConnectionsPerRoute = maxPerRoute;
+        return this;
+    }
+
+    /**
+     * Sets how long idle connections are kept alive for reuse (optional).
+     * Default is 60 seconds.
+     *
+     * @param duration the keep-alive duration
+     * @param unit the time unit
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder keepAlive(long duration, TimeUnit unit) {
+        this.keepAliveMillis = unit.toMillis(duration);
+        return this;
+    }
+
+    /**
+     * Sets the idle time after which a background task closes pooled connections (optional).
+     * Default is 30 seconds.
+     *
+     * @param idleTime the maximum idle time
+     * @param unit the time unit
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder evictIdleConnections(long idleTime, TimeUnit unit) {
+        this.idleEvictionMillis = unit.toMillis(idleTime);
+        return this;
+    }
+
+    /**
+     * Sets the idle time after which a pooled connection is checked for staleness before reuse
+     * (optional). Default is 2 seconds.
+     *
+     * @param inactivity the inactivity period
+     * @param unit the time unit
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder validateAfterInactivity(long inactivity, TimeUnit unit) {
+        this.validateAfterInactivityMillis = unit.toMillis(inactivity);
+        return this;
+    }
+
+    /**
+     * Opens the given number of connections to the evaluation API while building the client
+     * (optional), so the first requests don't pay TCP and TLS setup. Default is 0 (disabled).
+     *
+     * @param connections the number of connections to open at startup
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder warmUpConnections(int connections) {
+        this.warmUpConnections = connections;
+        return this;
+    }
+
+    /**
+     * Uses the {@code java.net.http} transport, which multiplexes concurrent requests over a
+     * single HTTP/2 connection instead of a pool of HTTP/1.1 connections (optional).
+     * Connection pool settings do not apply to this transport. Default is false.
+     *
+     * @param enabled whether to use the HTTP/2 transport
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder http2(boolean enabled) {
+        this.http2 = enabled;
+        return this;
+    }
+
+    /**
+     * Uses a custom transport instead of the built-in HTTP transports (optional), for example
+     * an {@link io.github._07manan.featureflags.sdk.transport.InMemoryTransport} in tests.
+     * The client takes ownership of the transport and closes it when the client is closed.
+     * HTTP timeout and connection pool settings are ignored.
+     *
+     * @param transport the transport to use
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder transport(EvaluationTransport transport) {
+        this.transport = transport;
+        return this;
+    }
+
+    /**
+     * Builds the client against a shared runtime (optional), so it uses the runtime's connection
+     * pool, scheduler thread and cache budget instead of creating its own. The runtime's HTTP
+     * settings apply; this builder's HTTP timeout, connection pool and http2 settings are ignored.
+     * The runtime must outlive the client. Default is none.
+     *
+     * @param runtime the shared runtime
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder runtime(FeatureFlagRuntime runtime) {
+        this.runtime = runtime;
+        return this;
+    }
+
+    /**
+     * Adds a second cache tier shared with other clients and processes on the host (optional),
+     * for example a {@link io.github._07manan.featureflags.sdk.cache.MappedFileSharedCache} or a
+     * {@link io.github._07manan.featureflags.sdk.cache.RedisSharedCache}. It is consulted when the
+     * local cache misses and before calling the API, and stores results with the cache TTL.
+     * The client does not close it. Default is none.
+     *
+     * @param sharedCache the shared cache
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder sharedCache(SharedCache sharedCache) {
+        this.sharedCache = sharedCache;
+        return this;
+    }
+
+    /**
+     * Evaluates flags from a snapshot file that a sidecar on the same host keeps up to date
+     * (optional). Users missing from the snapshot, and all requests while it is missing or more
+     * than 5 minutes old, go to the evaluation API as usual. See
+     * {@link io.github._07manan.featureflags.sdk.snapshot.SnapshotTransport}. Default is none.
+     *
+     * @param snapshotFile the snapshot file
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder snapshotFile(Path snapshotFile) {
+        this.snapshotFile = snapshotFile;
+        return this;
+    }
+
+    /**
+     * Records which variant each user is served by the typed getters, flag handles and
+     * evaluation contexts, and reports aggregated counts to the admin API (optional). Recording
+     * never blocks evaluation; exposures that don't fit in the buffer are dropped.
+     * See {@link ExposureRecorder}. Default is none (disabled).
+     *
+     * @param adminUrl the base URL of the admin API
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder recordExposures(String adminUrl) {
+        this.exposureUrl = adminUrl;
+        return this;
+    }
+
+    /**
+     * Sets how many exposures are buffered between drains of the background thread (optional).
+     * Default is 65,536.
+     *
+     * @param size the buffer size, a power of two
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder exposureBufferSize(int size) {
+        this.exposureBufferSize = size;
+        return this;
+    }
+
+    /**
+     * Sets how often aggregated exposure counts are sent to the admin API (optional).
+     * Default is 10 seconds.
+     *
+     * @param interval the flush interval
+     * @param unit the time unit
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder exposureFlushInterval(long interval, TimeUnit unit) {
+        this.exposureFlushInterval = interval;
+        this.exposureFlushIntervalUnit = unit;
+        return this;
+    }
+
+    /**
+     * Sets how often the flags of watched users are refetched in the background to detect
+     * changes for flag change listeners (optional). Polling only happens while at least one
+     * listener is registered. Default is 0 (disabled); changes are then only detected when
+     * {@code getAllFlags} or {@code getSnapshot} refetch an expired result.
+     *
+     * @param interval the poll interval
+     * @param unit the time unit
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder pollInterval(long interval, TimeUnit unit) {
+        this.pollInterval = interval;
+        this.pollIntervalUnit = unit;
+        return this;
+    }
+
+    /**
+     * Sets where the client reports cache activity, HTTP requests, evaluation latency and
+     * default-value fallbacks (optional). Requests of a custom {@link #transport} are not
+     * reported. Default is none.
+     *
+     * @param metrics the metrics recorder, e.g. an {@link io.github._07manan.featureflags.sdk.metrics.InMemoryMetrics}
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder metrics(FeatureFlagMetrics metrics) {
+        this.metrics = metrics != null ? metrics : FeatureFlagMetrics.NOOP;
+        return this;
+    }
+
+    /**
+     * Sets the tracer that creates spans around flag fetches and their HTTP requests, which carry
+     * the W3C {@code traceparent} header to the evaluation API (optional). Requests of a custom
+     * {@link #transport} are not traced. Default is none.
+     *
+     * @param tracer the tracer, e.g. an adapter to OpenTelemetry
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder tracer(FlagTracer tracer) {
+        this.tracer = tracer != null ? tracer : FlagTracer.NOOP;
+        return this;
+    }
+
+    /**
+     * Sets the client name under which its {@link FeatureFlagClientMXBean} is registered
+     * (optional). Names must be unique within the JVM. Default is {@code client-<n>}.
+     *
+     * @param name the client name, e.g. the environment it evaluates flags for
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder name(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Sets whether the client registers a {@link FeatureFlagClientMXBean} with the platform
+     * MBean server, for inspecting and tuning it at runtime over JMX (optional). The bean is
+     * unregistered when the client is closed. Default is true.
+     *
+     * @param registerMBean whether to register the MBean
+     * @return this builder
+     */
+    public FeatureFlagClientBuilder registerMBean(boolean registerMBean) {
+        this.registerMBean = registerMBean;
+        return this;
+    }
+
     /**
      * Builds the {@link FeatureFlagClient} instance.
      *
      * @return a new FeatureFlagClient
-     * @throws IllegalArgumentException if the API key is not set or invalid
+     * @throws IllegalArgumentException if the API key is not set or invalid, or the concurrency, pool, polling or exposure settings are invalid
      */
     public FeatureFlagClient build() {
         validateApiKey();
         resolveBaseUrl();
+        if (pollInterval < 0) {
+            throw new IllegalArgumentException("Poll interval must not be negative");
+        }
         
-        return new FeatureFlagClient(
-                apiKey,
-                baseUrl,
-                cacheTTL,
-                cacheTTLUnit,
-                connectionTimeout,
-                socketTimeout,
-                httpTimeoutUnit
+        // Validated regardless of the selected transport
+        ConnectionPoolConfig poolConfig = new ConnectionPoolConfig(
+                maxConnections,
+                maxConnectionsPerRoute,
+                keepAliveMillis,
+                idleEvictionMillis,
+                validateAfterInactivityMillis,
+                warmUpConnections
+        );
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                initialConcurrencyLimit,
+                maxConcurrencyLimit,
+                concurrencyQueueTimeout,
+                concurrencyQueueTimeoutUnit
         );
+        if (exposureUrl != null) {
+            validateExposures();
+        }
+        EvaluationTransport evaluationTransport = createTransport(poolConfig);
+
+        // Both start threads, which are stopped again if the client can't be built
+        ExposureRecorder exposures = null;
+        try {
+            if (exposureUrl != null) {
+                exposures = new ExposureRecorder(exposureUrl, apiKey, exposureBufferSize, exposureFlushInterval, exposureFlushIntervalUnit);
+            }
+            return new FeatureFlagClient(
+                    apiKey,
+                    baseUrl,
+                    cacheTTL,
+                    cacheTTLUnit,
+                    evaluationTransport,
+                    warmUpConnections,
+                    limiter,
+                    pollInterval,
+                    pollIntervalUnit,
+                    runtime,
+                    sharedCache,
+                    exposures,
+                    metrics,
+                    tracer,
+                    registerMBean ? (name != null ? name : FeatureFlagClientManagement.defaultName()) : null
+            );
+        } catch (RuntimeException e) {
+            if (exposures != null) {
+                exposures.close();
+            }
+            evaluationTransport.close();
+            throw e;
+        }
+    }
+
+    private void validateExposures() {
+        if (exposureBufferSize < 2 || Integer.bitCount(exposureBufferSize) != 1) {
+            throw new IllegalArgumentException("exposureBufferSize must be a power of two and at least 2");
+        }
+        if (exposureFlushInterval <= 0) {
+            throw new IllegalArgumentException("Exposure flush interval must be positive");
+        }
+        URI uri;
+        try {
+            uri = URI.create(exposureUrl);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid exposure URL: " + exposureUrl, e);
+        }
+        if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) {
+            throw new IllegalArgumentException("Exposure URL must be an http or https URL: " + exposureUrl);
+        }
+    }
+
+    private EvaluationTransport createTransport(ConnectionPoolConfig poolConfig) {
+        EvaluationTransport network = createNetworkTransport(poolConfig);
+        return snapshotFile != null ? new SnapshotTransport(snapshotFile, network) : network;
+    }
+
+    private EvaluationTransport createNetworkTransport(ConnectionPoolConfig poolConfig) {
+        if (transport != null) {
+            return transport;
+        }
+        if (runtime != null) {
+            return runtime.newTransport(baseUrl, apiKey, metrics, tracer);
+        }
+        if (http2) {
+            return new JdkHttpTransport(baseUrl, apiKey, connectionTimeout, socketTimeout, httpTimeoutUnit, metrics, tracer);
+        }
+        return new HttpClient(baseUrl, apiKey, connectionTimeout, socketTimeout, httpTimeoutUnit, poolConfig, metrics, tracer);
     }
 
     private void validateApiKey() {
@@ -0,0 +1,84 @@
+package io.github._07manan.featureflags.sdk;
+
+import java.util.Date;
+
+/**
+ * Management interface of a {@link FeatureFlagClient}, registered with the platform MBean server
+ * as {@code io.github._07manan.featureflags:type=FeatureFlagClient,name=<client name>}.
+ * <p>
+ * Lets operators inspect the client's cache and request state and tune it in a running JVM,
+ * e.g. with JConsole or a JMX exporter. Changes made through it last until the client is closed.
+ */
+public interface FeatureFlagClientMXBean {
+
+    /**
+     * @return the number of entries in the client's flag and bulk caches
+     */
+    long getCacheSize();
+
+    long getCacheHits();
+
+    long getCacheMisses();
+
+    /**
+     * @return hits divided by lookups since the client was created, or 0 before the first lookup
+     */
+    double getCacheHitRatio();
+
+    /**
+     * @return how long ago the oldest cached entry was fetched, or 0 if the cache is empty
+     */
+    long getOldestEntryAgeMillis();
+
+    /**
+     * @return the number of requests to the evaluation API currently in flight
+     */
+    int getInFlightRequests();
+
+    /**
+     * @return the current adaptive concurrency limit
+     */
+    int getConcurrencyLimit();
+
+    /**
+     * @return when a request to the evaluation API last succeeded, or null if none has yet
+     */
+    Date getLastRefreshTime();
+
+    long getCacheTtlMillis();
+
+    /**
+     * Changes the local cache TTL. Existing entries expire based on the new TTL as well.
+     *
+     * @param ttlMillis the new TTL in milliseconds
+     */
+    void setCacheTtlMillis(long ttlMillis);
+
+    /**
+     * Removes all locally cached results and ignores shared cache entries written until now.
+     */
+    void clearCache();
+
+    /**
+     * Removes the cached result of one flag for one user.
+     *
+     * @param flagKey the flag key
+     * @param userId the user ID, or null for the anonymous user
+     */
+    void invalidateCache(String flagKey, String userId);
+
+    /**
+     * Removes the cached results of one flag for all users.
+     *
+     * @param flagKey the flag key
+     */
+    void invalidateFlag(String flagKey);
+
+    /**
+     * Changes the timeouts of subsequent requests to the evaluation API.
+     *
+     * @param connectionTimeoutMillis the connection timeout in milliseconds
+     * @param socketTimeoutMillis the socket/read timeout in milliseconds
+     */
+    void setTimeouts(long connectionTimeoutMillis, long socketTimeoutMillis);
+}
@@ -0,0 +1,193 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.metrics.CacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The {@link FeatureFlagClientMXBean} of one client. Counts the client's cache hits and misses
+ * on top of any configured metrics, and registers itself with the platform MBean server.
+ * Registration failures are logged and never fail the client.
+ */
+final class FeatureFlagClientManagement implements FeatureFlagClientMXBean {
+    private static final Logger logger = LoggerFactory.getLogger(FeatureFlagClientManagement.class);
+    private static final String DOMAIN = "io.github._07manan.featureflags";
+    private static final AtomicInteger CLIENT_IDS = new AtomicInteger();
+
+    private final FeatureFlagClient client;
+    private final ObjectName objectName;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean registered;
+
+    FeatureFlagClientManagement(FeatureFlagClient client, String name) {
+        this.client = client;
+        this.objectName = objectName(name);
+    }
+
+    /**
+     * @return a client name unique within this JVM
+     */
+    static String defaultName() {
+        return "client-" + CLIENT_IDS.incrementAndGet();
+    }
+
+    static ObjectName objectName(String name) {
+        try {
+            return new ObjectName(DOMAIN + ":type=FeatureFlagClient,name=" + ObjectName.quote(name));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Invalid client name: " + name, e);
+        }
+    }
+
+    /**
+     * Wraps a cache's recorder so that its hits and misses also count towards this bean's hit ratio.
+     */
+    CacheMetrics counting(CacheMetrics delegate) {
+        return new CacheMetrics() {
+            @Override
+            public void hit() {
+                hits.increment();
+                delegate.hit();
+            }
+
+            @Override
+            public void miss() {
+                misses.increment();
+                delegate.miss();
+            }
+
+            @Override
+            public void evicted(int count) {
+                delegate.evicted(count);
+            }
+
+            @Override
+            public void rejected() {
+                delegate.rejected();
+            }
+
+            @Override
+            public void expired(int count) {
+                delegate.expired(count);
+            }
+        };
+    }
+
+    void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(new StandardMBean(this, FeatureFlagClientMXBean.class, true), objectName);
+            registered = true;
+            logger.debug("Registered MBean {}", objectName);
+        } catch (InstanceAlreadyExistsException e) {
+            logger.warn("MBean {} is already registered; give each client a unique name", objectName);
+        } catch (JMException e) {
+            logger.warn("Failed to register MBean {}", objectName, e);
+        }
+    }
+
+    void unregister() {
+        if (!registered) {
+            return;
+        }
+        registered = false;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            logger.warn("Failed to unregister MBean {}", objectName, e);
+        }
+    }
+
+    @Override
+    public long getCacheSize() {
+        return client.getCacheSize();
+    }
+
+    @Override
+    public long getCacheHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getCacheHitRatio() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    @Override
+    public long getOldestEntryAgeMillis() {
+        long oldest = client.getOldestEntryTimestamp();
+        return oldest != 0 ? Math.max(0, System.currentTimeMillis() - oldest) : 0;
+    }
+
+    @Override
+    public int getInFlightRequests() {
+        return client.getInFlightRequests();
+    }
+
+    @Override
+    public int getConcurrencyLimit() {
+        return client.getConcurrencyLimit();
+    }
+
+    @Override
+    public Date getLastRefreshTime() {
+        long lastRefresh = client.getLastRefreshMillis();
+        return lastRefresh != 0 ? new Date(lastRefresh) : null;
+    }
+
+    @Override
+    public long getCacheTtlMillis() {
+        return client.getCacheTtlMillis();
+    }
+
+    @Override
+    public void setCacheTtlMillis(long ttlMillis) {
+        if (ttlMillis < 0) {
+            throw new IllegalArgumentException("Cache TTL must not be negative");
+        }
+        client.setCacheTTL(ttlMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void clearCache() {
+        client.clearCache();
+    }
+
+    @Override
+    public void invalidateCache(String flagKey, String userId) {
+        client.invalidateCache(flagKey, userId);
+    }
+
+    @Override
+    public void invalidateFlag(String flagKey) {
+        client.invalidateFlag(flagKey);
+    }
+
+    @Override
+    public void setTimeouts(long connectionTimeoutMillis, long socketTimeoutMillis) {
+        if (connectionTimeoutMillis <= 0 || socketTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Timeouts must be positive");
+        }
+        client.setTimeouts(connectionTimeoutMillis, socketTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+}
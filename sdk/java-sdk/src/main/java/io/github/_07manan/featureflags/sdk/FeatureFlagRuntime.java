@@ -0,0 +1,120 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.cache.CacheBudget;
+import io.github._07manan.featureflags.sdk.cache.LocalCache;
+import io.github._07manan.featureflags.sdk.http.HttpClient;
+import io.github._07manan.featureflags.sdk.http.HttpConnectionPool;
+import io.github._07manan.featureflags.sdk.http.JdkHttpTransport;
+import io.github._07manan.featureflags.sdk.metrics.FeatureFlagMetrics;
+import io.github._07manan.featureflags.sdk.tracing.FlagTracer;
+import io.github._07manan.featureflags.sdk.transport.EvaluationTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resources shared by any number of {@link FeatureFlagClient}s, typically one per environment
+ * (API key) in a multi-tenant service.
+ * <p>
+ * Clients built against a runtime send their requests through its single connection pool (or
+ * single HTTP/2 client), run cache expiry and polling on its single scheduler thread, and cache
+ * within its entry budget, which is split evenly between the open clients. Each client keeps its
+ * own caches, so environments never see each other's results, but adding an environment costs no
+ * extra threads or sockets.
+ * <pre>
+ * FeatureFlagRuntime runtime = FeatureFlagRuntime.builder()
+ *     .maxCacheEntries(200_000)
+ *     .build();
+ *
+ * FeatureFlagClient production = FeatureFlagClient.builder().apiKey("ff_production_xxxxx").runtime(runtime).build();
+ * FeatureFlagClient staging = FeatureFlagClient.builder().apiKey("ff_staging_xxxxx").runtime(runtime).build();
+ *
+ * // Close the clients first, then the runtime
+ * </pre>
+ */
+public class FeatureFlagRuntime implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(FeatureFlagRuntime.class);
+
+    private final HttpConnectionPool connectionPool;
+    private final java.net.http.HttpClient http2Client;
+    private final long socketTimeout;
+    private final TimeUnit httpTimeoutUnit;
+    private final ScheduledExecutorService scheduler;
+    private final CacheBudget cacheBudget;
+
+    FeatureFlagRuntime(
+            HttpConnectionPool connectionPool,
+            java.net.http.HttpClient http2Client,
+            long socketTimeout,
+            TimeUnit httpTimeoutUnit,
+            CacheBudget cacheBudget) {
+        this.connectionPool = connectionPool;
+        this.http2Client = http2Client;
+        this.socketTimeout = socketTimeout;
+        this.httpTimeoutUnit = httpTimeoutUnit;
+        this.scheduler = LocalCache.newCleanupScheduler();
+        this.cacheBudget = cacheBudget;
+
+        logger.info("FeatureFlagRuntime initialized with max cache entries: {}", cacheBudget.getMaxEntries());
+    }
+
+    /**
+     * Creates a new builder for constructing a {@link FeatureFlagRuntime}.
+     *
+     * @return a new builder instance
+     */
+    public static FeatureFlagRuntimeBuilder builder() {
+        return new FeatureFlagRuntimeBuilder();
+    }
+
+    /**
+     * Creates a transport for one environment on the shared connections. The transport does not
+     * own them, so closing it leaves the runtime usable.
+     */
+    EvaluationTransport newTransport(String baseUrl, String apiKey, FeatureFlagMetrics metrics, FlagTracer tracer) {
+        if (http2Client != null) {
+            return new JdkHttpTransport(baseUrl, apiKey, http2Client, socketTimeout, httpTimeoutUnit, metrics, tracer);
+        }
+        return new HttpClient(baseUrl, apiKey, connectionPool, metrics, tracer);
+    }
+
+    ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * @return the budget that clients partition between them
+     */
+    CacheBudget cacheBudget() {
+        return cacheBudget;
+    }
+
+    /**
+     * @return the number of entries cached across all clients built against this runtime
+     */
+    public long getCachedEntries() {
+        return cacheBudget.getUsedEntries();
+    }
+
+    public long getMaxCacheEntries() {
+        return cacheBudget.getMaxEntries();
+    }
+
+    /**
+     * Releases the shared connections and scheduler. Clients built against the runtime should be
+     * closed first; they can't evaluate flags afterwards.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
+        if (http2Client != null) {
+            http2Client.shutdownNow();
+        }
+        logger.info("FeatureFlagRuntime closed");
+    }
+}
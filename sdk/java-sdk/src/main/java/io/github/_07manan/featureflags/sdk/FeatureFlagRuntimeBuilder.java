@@ -0,0 +1,170 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.cache.CacheBudget;
+import io.github._07manan.featureflags.sdk.http.ConnectionPoolConfig;
+import io.github._07manan.featureflags.sdk.http.HttpConnectionPool;
+import io.github._07manan.featureflags.sdk.http.JdkHttpTransport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for creating {@link FeatureFlagRuntime} instances.
+ * Example usage:
+ * <pre>
+ * FeatureFlagRuntime runtime = FeatureFlagRuntime.builder()
+ *     .connectionPool(400, 400)
+ *     .maxCacheEntries(200_000)
+ *     .build();
+ * </pre>
+ */
+public class FeatureFlagRuntimeBuilder {
+    private static final long DEFAULT_MAX_CACHE_ENTRIES = 100_000;
+    private static final long DEFAULT_CONNECTION_TIMEOUT = 5;
+    private static final long DEFAULT_SOCKET_TIMEOUT = 10;
+    private static final TimeUnit DEFAULT_HTTP_TIMEOUT_UNIT = TimeUnit.SECONDS;
+
+    private long connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
+    private long socketTimeout = DEFAULT_SOCKET_TIMEOUT;
+    private TimeUnit httpTimeoutUnit = DEFAULT_HTTP_TIMEOUT_UNIT;
+    private int maxConnections = ConnectionPoolConfig.DEFAULT_MAX_CONNECTIONS;
+    private int maxConnectionsPerRoute = ConnectionPoolConfig.DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+    private long keepAliveMillis = ConnectionPoolConfig.DEFAULT_KEEP_ALIVE_MILLIS;
+    private long idleEvictionMillis = ConnectionPoolConfig.DEFAULT_IDLE_EVICTION_MILLIS;
+    private long validateAfterInactivityMillis = ConnectionPoolConfig.DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS;
+    private boolean http2;
+    private long maxCacheEntries = DEFAULT_MAX_CACHE_ENTRIES;
+
+    FeatureFlagRuntimeBuilder() {
+    }
+
+    /**
+     * Sets HTTP timeouts for API requests of all clients (optional).
+     * Default is 5s connection timeout, 10s socket timeout.
+     *
+     * @param connectionTimeout connection timeout value
+     * @param socketTimeout socket/read timeout value
+     * @param unit the time unit for both timeouts
+     * @return this builder
+     */
+    public FeatureFlagRuntimeBuilder httpTimeout(long connectionTimeout, long socketTimeout, TimeUnit unit) {
+        this.connectionTimeout = connectionTimeout;
+        this.socketTimeout = socketTimeout;
+        this.httpTimeoutUnit = unit;
+        return this;
+    }
+
+    /**
+     * Sets the size of the shared HTTP connection pool (optional). The per-route limit applies to
+     * all clients together, since they talk to the same evaluation API host.
+     * Default is 200 total connections and 200 per route.
+     *
+     * @param maxTotal maximum connections across all routes
+     * @param maxPerRoute maximum connections to the evaluation API host
+     * @return this builder
+     */
+    public FeatureFlagRuntimeBuilder connectionPool(int maxTotal, int maxPerRoute) {
+        this.maxConnections = maxTotal;
+        this.maxConnectionsPerRoute = maxPerRoute;
+        return this;
+    }
+
+    /**
+     * Sets how long idle connections are kept alive for reuse (optional).
+     * Default is 60 seconds.
+     *
+     * @param duration the keep-alive duration
+     * @param unit the time unit
+     * @return this builder
+     */
+    public FeatureFlagRuntimeBuilder keepAlive(long duration, TimeUnit unit) {
+        this.keepAliveMillis = unit.toMillis(duration);
+        return this;
+    }
+
+    /**
+     * Sets the idle time after which a background task closes pooled connections (optional).
+     * Default is 30 seconds.
+     *
+     * @param idleTime the maximum idle time
+     * @param unit the time unit
+     * @return this builder
+     */
+    public FeatureFlagRuntimeBuilder evictIdleConnections(long idleTime, TimeUnit unit) {
+        this.idleEvictionMillis = unit.toMillis(idleTime);
+        return this;
+    }
+
+    /**
+     * Sets the idle time after which a pooled connection is checked for staleness before reuse
+     * (optional). Default is 2 seconds.
+     *
+     * @param inactivity the inactivity period
+     * @param unit the time unit
+     * @return this builder
+     */
+    public FeatureFlagRuntimeBuilder validateAfterInactivity(long inactivity, TimeUnit unit) {
+        this.validateAfterInactivityMillis = unit.toMillis(inactivity);
+        return this;
+    }
+
+    /**
+     * Shares one multiplexed HTTP/2 client instead of a pool of HTTP/1.1 connections (optional).
+     * Connection pool settings do not apply. Default is false.
+     *
+     * @param enabled whether to use the HTTP/2 transport
+     * @return this builder
+     */
+    public FeatureFlagRuntimeBuilder http2(boolean enabled) {
+        this.http2 = enabled;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of cache entries across all clients (optional). Each open client
+     * may use an equal share; once a client's share is used up, its new results are served but
+     * not cached until its expired entries are cleaned up. Default is 100,000.
+     *
+     * @param maxEntries the maximum number of cached entries
+     * @return this builder
+     */
+    public FeatureFlagRuntimeBuilder maxCacheEntries(long maxEntries) {
+        this.maxCacheEntries = maxEntries;
+        return this;
+    }
+
+    /**
+     * Builds the {@link FeatureFlagRuntime} instance.
+     *
+     * @return a new FeatureFlagRuntime
+     * @throws IllegalArgumentException if the pool or cache settings are invalid
+     */
+    public FeatureFlagRuntime build() {
+        CacheBudget cacheBudget = new CacheBudget(maxCacheEntries);
+
+        if (http2) {
+            return new FeatureFlagRuntime(
+                    null,
+                    JdkHttpTransport.newHttpClient(connectionTimeout, httpTimeoutUnit),
+                    socketTimeout,
+                    httpTimeoutUnit,
+                    cacheBudget
+            );
+        }
+
+        ConnectionPoolConfig poolConfig = new ConnectionPoolConfig(
+                maxConnections,
+                maxConnectionsPerRoute,
+                keepAliveMillis,
+                idleEvictionMillis,
+                validateAfterInactivityMillis,
+                0
+        );
+        return new FeatureFlagRuntime(
+                new HttpConnectionPool(connectionTimeout, socketTimeout, httpTimeoutUnit, poolConfig),
+                null,
+                socketTimeout,
+                httpTimeoutUnit,
+                cacheBudget
+        );
+    }
+}
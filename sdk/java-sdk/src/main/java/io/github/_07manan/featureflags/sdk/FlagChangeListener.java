@@ -0,0 +1,21 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.model.FlagChange;
+
+/**
+ * Receives flag changes detected by {@link FeatureFlagClient}.
+ * <p>
+ * Listeners run synchronously on the thread that refreshed the flags (the polling thread, or a
+ * caller of {@code getAllFlags}/{@code getSnapshot}), so they should return quickly.
+ */
+@FunctionalInterface
+public interface FlagChangeListener {
+
+    /**
+     * Called once per changed flag.
+     *
+     * @param userId the watched user the flags were evaluated for (null for the anonymous user)
+     * @param change the flag's previous and current result
+     */
+    void onFlagChange(String userId, FlagChange change);
+}
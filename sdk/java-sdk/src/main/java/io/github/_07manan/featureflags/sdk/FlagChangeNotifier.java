@@ -0,0 +1,117 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.model.FlagChange;
+import io.github._07manan.featureflags.sdk.model.FlagSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tracks the last snapshot seen for each watched user and dispatches the differences to
+ * registered {@link FlagChangeListener}s whenever a refreshed snapshot arrives.
+ * <p>
+ * The first snapshot seen for a user only establishes the baseline and fires nothing.
+ */
+final class FlagChangeNotifier {
+    private static final Logger logger = LoggerFactory.getLogger(FlagChangeNotifier.class);
+
+    private final List<FlagChangeListener> anyChangeListeners = new CopyOnWriteArrayList<>();
+    private final ConcurrentHashMap<String, List<FlagChangeListener>> flagListeners = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, WatchedUser> watchedUsers = new ConcurrentHashMap<>();
+
+    void addListener(FlagChangeListener listener) {
+        anyChangeListeners.add(listener);
+    }
+
+    void addListener(String flagKey, FlagChangeListener listener) {
+        flagListeners.computeIfAbsent(flagKey, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    void removeListener(FlagChangeListener listener) {
+        anyChangeListeners.remove(listener);
+        flagListeners.values().forEach(listeners -> listeners.remove(listener));
+    }
+
+    boolean hasListeners() {
+        if (!anyChangeListeners.isEmpty()) {
+            return true;
+        }
+        for (List<FlagChangeListener> listeners : flagListeners.values()) {
+            if (!listeners.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void watch(String userKey, String userId) {
+        watchedUsers.putIfAbsent(userKey, new WatchedUser(userId));
+    }
+
+    void unwatch(String userKey) {
+        watchedUsers.remove(userKey);
+    }
+
+    /**
+     * @return the IDs of all watched users (the anonymous user is returned as null)
+     */
+    List<String> watchedUserIds() {
+        List<String> userIds = new ArrayList<>(watchedUsers.size());
+        for (WatchedUser watched : watchedUsers.values()) {
+            userIds.add(watched.userId);
+        }
+        return userIds;
+    }
+
+    /**
+     * Records a freshly evaluated snapshot for a user and notifies listeners of what changed
+     * since the previous one. Snapshots of users that aren't watched are ignored.
+     */
+    void onRefresh(String userKey, FlagSnapshot snapshot) {
+        WatchedUser watched = watchedUsers.get(userKey);
+        if (watched == null) {
+            return;
+        }
+
+        FlagSnapshot previous = watched.lastSnapshot.getAndSet(snapshot);
+        if (previous == null || previous == snapshot || !hasListeners()) {
+            return;
+        }
+
+        List<FlagChange> changes = snapshot.diff(previous);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        logger.debug("Detected {} flag changes for user: {}", changes.size(), watched.userId);
+        for (FlagChange change : changes) {
+            dispatch(anyChangeListeners, watched.userId, change);
+            dispatch(flagListeners.getOrDefault(change.getFlagKey(), Collections.emptyList()), watched.userId, change);
+        }
+    }
+
+    private void dispatch(List<FlagChangeListener> listeners, String userId, FlagChange change) {
+        for (FlagChangeListener listener : listeners) {
+            try {
+                listener.onFlagChange(userId, change);
+            } catch (Exception e) {
+                logger.error("Flag change listener failed for flag '{}'", change.getFlagKey(), e);
+            }
+        }
+    }
+
+    private static final class WatchedUser {
+        private final String userId;
+        private final AtomicReference<FlagSnapshot> lastSnapshot = new AtomicReference<>();
+
+        private WatchedUser(String userId) {
+            this.userId = userId;
+        }
+    }
+}
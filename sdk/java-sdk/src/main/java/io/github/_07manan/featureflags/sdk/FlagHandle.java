@@ -0,0 +1,49 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.cache.LocalCache;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+
+/**
+ * Base class for pre-resolved flag handles created by {@link FeatureFlagClient}.
+ * <p>
+ * A handle binds a flag key, its expected type and its default value once, and holds a direct
+ * reference to the flag's per-user result cache. Evaluating through a handle therefore skips the
+ * flag key lookup that the {@code getXFlag} methods perform on every call. Handles are immutable,
+ * thread-safe, and intended to be created at startup and kept in a field.
+ */
+public abstract class FlagHandle {
+    private final FeatureFlagClient client;
+    private final String flagKey;
+    private final FlagType type;
+    private final LocalCache<EvaluationResult> cache;
+
+    FlagHandle(FeatureFlagClient client, String flagKey, FlagType type) {
+        if (flagKey == null || flagKey.isEmpty()) {
+            throw new IllegalArgumentException("Flag key is required");
+        }
+        this.client = client;
+        this.flagKey = flagKey.intern();
+        this.type = type;
+        this.cache = client.handleCache(this.flagKey);
+    }
+
+    public String getKey() {
+        return flagKey;
+    }
+
+    public FlagType getType() {
+        return type;
+    }
+
+    LocalCache<EvaluationResult> cache() {
+        return cache;
+    }
+
+    /**
+     * @return the result, or null if the handle should return its default value
+     */
+    EvaluationResult resolve(String userId) {
+        return client.resolve(cache, flagKey, userId, type);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+
+/**
+ * Pre-resolved handle for an integer flag. Create once via
+ * {@link FeatureFlagClient#intFlag(String, int)} and reuse.
+ */
+public final class IntFlag extends FlagHandle {
+    private final int defaultValue;
+
+    IntFlag(FeatureFlagClient client, String flagKey, int defaultValue) {
+        super(client, flagKey, FlagType.NUMBER);
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Evaluates the flag for a user.
+     *
+     * @param userId the user ID (can be null for non-percentage rollouts)
+     * @return the evaluated value, or the handle's default if not found or on error
+     */
+    public int getValue(String userId) {
+        EvaluationResult result = resolve(userId);
+        return result != null && result.getValue() instanceof Number value ? value.intValue() : defaultValue;
+    }
+
+    public int getDefaultValue() {
+        return defaultValue;
+    }
+}
@@ -0,0 +1,81 @@
+package io.github._07manan.featureflags.sdk;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how often a recurring message is logged per key, so a misconfigured flag evaluated at
+ * high QPS is logged once per interval instead of on every call.
+ * <p>
+ * At most {@value #DEFAULT_MAX_KEYS} keys are tracked; idle keys are dropped once the limit is
+ * reached, and keys that still don't fit share one window, so callers passing arbitrary keys
+ * can't grow it without bound.
+ */
+final class LogThrottle {
+    static final int DEFAULT_MAX_KEYS = 1_000;
+
+    private final long intervalNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final Window overflow = new Window();
+    private final AtomicLong nextPruneNanos = new AtomicLong(System.nanoTime());
+
+    LogThrottle(long interval, TimeUnit unit) {
+        this(interval, unit, DEFAULT_MAX_KEYS);
+    }
+
+    LogThrottle(long interval, TimeUnit unit, int maxKeys) {
+        this.intervalNanos = unit.toNanos(interval);
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Records an occurrence of the message identified by the key.
+     *
+     * @param key the message key, typically the flag key
+     * @return the number of occurrences suppressed since the message was last logged,
+     *         or -1 if this occurrence should not be logged
+     */
+    long tryAcquire(String key) {
+        Window window = windows.get(key);
+        if (window == null) {
+            window = newWindow(key);
+        }
+
+        long now = System.nanoTime();
+        long next = window.nextLogNanos.get();
+        if (now - next < 0 || !window.nextLogNanos.compareAndSet(next, now + intervalNanos)) {
+            window.suppressed.increment();
+            return -1;
+        }
+        return window.suppressed.sumThenReset();
+    }
+
+    private Window newWindow(String key) {
+        if (windows.size() >= maxKeys) {
+            prune(System.nanoTime());
+            if (windows.size() >= maxKeys) {
+                return overflow;
+            }
+        }
+        return windows.computeIfAbsent(key, k -> new Window());
+    }
+
+    /**
+     * Drops windows that could log right away and have nothing suppressed, at most once per interval.
+     */
+    private void prune(long now) {
+        long next = nextPruneNanos.get();
+        if (now - next < 0 || !nextPruneNanos.compareAndSet(next, now + intervalNanos)) {
+            return;
+        }
+        windows.values().removeIf(window -> now - window.nextLogNanos.get() >= 0 && window.suppressed.sum() == 0);
+    }
+
+    private static final class Window {
+        private final AtomicLong nextLogNanos = new AtomicLong(System.nanoTime());
+        private final LongAdder suppressed = new LongAdder();
+    }
+}
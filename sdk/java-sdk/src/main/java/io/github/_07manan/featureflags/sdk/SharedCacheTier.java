@@ -0,0 +1,180 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.cache.SharedCache;
+import io.github._07manan.featureflags.sdk.json.EvaluationCodec;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapts a {@link SharedCache} to evaluation results. Keys are namespaced by a digest of the API
+ * key, so clients of different environments can share one cache without ever seeing each other's
+ * results, and the API key itself never leaves the process. Failures of the shared cache are
+ * logged at a limited rate and treated as misses, so the client falls through to the API.
+ * <p>
+ * Hits carry the time the entry was written, derived from its expiry and this tier's TTL, so
+ * clients sharing a cache should use the same TTL. Entries can't be enumerated, so flag-wide
+ * invalidation instead records when it happened and ignores entries written before then until
+ * they are overwritten by a fresh result or expire.
+ */
+final class SharedCacheTier {
+    private static final Logger logger = LoggerFactory.getLogger(SharedCacheTier.class);
+
+    private final SharedCache cache;
+    private final String prefix;
+    private final long ttlMillis;
+    private final LogThrottle errorLogs = new LogThrottle(60, TimeUnit.SECONDS);
+    private final Map<String, Long> flagInvalidations = new ConcurrentHashMap<>();
+    private final AtomicLong clearedAt = new AtomicLong();
+    private final AtomicLong lastInvalidatedAt = new AtomicLong();
+
+    SharedCacheTier(SharedCache cache, String apiKey, long ttl, TimeUnit ttlUnit) {
+        this.cache = cache;
+        this.prefix = "ff:" + environmentId(apiKey) + ":";
+        this.ttlMillis = ttlUnit.toMillis(ttl);
+    }
+
+    /**
+     * @return the cached result, or null on a miss, an error or an entry written before the flag
+     *         was last invalidated
+     */
+    Hit<EvaluationResult> getFlag(String flagKey, String userKey) {
+        try {
+            SharedCache.Entry entry = cache.get(flagEntry(flagKey, userKey));
+            if (entry == null) {
+                return null;
+            }
+            long writtenAt = entry.expiresAtMillis() - ttlMillis;
+            Long invalidatedAt = flagInvalidations.get(flagKey);
+            if (writtenAt <= clearedAt.get() || (invalidatedAt != null && writtenAt <= invalidatedAt)) {
+                return null;
+            }
+            return new Hit<>(EvaluationCodec.decodeResult(entry.value()), writtenAt);
+        } catch (Exception e) {
+            logError("read", e);
+            return null;
+        }
+    }
+
+    void putFlag(String flagKey, String userKey, EvaluationResult result) {
+        try {
+            cache.put(flagEntry(flagKey, userKey), bytes(EvaluationCodec.encodeResult(result)), ttlMillis);
+        } catch (Exception e) {
+            logError("write", e);
+        }
+    }
+
+    /**
+     * @return the cached bulk result, or null on a miss, an error or an entry written before any
+     *         of its flags was last invalidated
+     */
+    Hit<Map<String, EvaluationResult>> getAll(String userKey) {
+        try {
+            SharedCache.Entry entry = cache.get(bulkEntry(userKey));
+            if (entry == null) {
+                return null;
+            }
+            long writtenAt = entry.expiresAtMillis() - ttlMillis;
+            if (writtenAt <= lastInvalidatedAt.get()) {
+                return null;
+            }
+            return new Hit<>(EvaluationCodec.decodeFlags(entry.value()), writtenAt);
+        } catch (Exception e) {
+            logError("read", e);
+            return null;
+        }
+    }
+
+    void putAll(String userKey, Collection<EvaluationResult> results) {
+        try {
+            cache.put(bulkEntry(userKey), bytes(EvaluationCodec.encodeFlags(results)), ttlMillis);
+        } catch (Exception e) {
+            logError("write", e);
+        }
+    }
+
+    /**
+     * Removes one flag and the bulk result of one user, which may contain a stale copy of the flag.
+     */
+    void invalidate(String flagKey, String userKey) {
+        try {
+            cache.invalidate(flagEntry(flagKey, userKey));
+            cache.invalidate(bulkEntry(userKey));
+        } catch (Exception e) {
+            logError("invalidate", e);
+        }
+    }
+
+    /**
+     * Stops serving entries of a flag written until now, for all users.
+     */
+    void invalidateFlag(String flagKey) {
+        long now = System.currentTimeMillis();
+        flagInvalidations.merge(flagKey, now, Math::max);
+        lastInvalidatedAt.accumulateAndGet(now, Math::max);
+    }
+
+    /**
+     * Stops serving any entry written until now.
+     */
+    void clear() {
+        long now = System.currentTimeMillis();
+        clearedAt.accumulateAndGet(now, Math::max);
+        lastInvalidatedAt.accumulateAndGet(now, Math::max);
+    }
+
+    /**
+     * Forgets invalidations older than the TTL, since every entry they hide has expired.
+     */
+    void sweep() {
+        long expiredBefore = System.currentTimeMillis() - ttlMillis;
+        flagInvalidations.values().removeIf(invalidatedAt -> invalidatedAt < expiredBefore);
+    }
+
+    // Flag keys can't contain ':', so the user key is always the unambiguous remainder
+    private String flagEntry(String flagKey, String userKey) {
+        return prefix + "f:" + flagKey + ":" + userKey;
+    }
+
+    private String bulkEntry(String userKey) {
+        return prefix + "a:" + userKey;
+    }
+
+    private void logError(String operation, Exception e) {
+        long suppressed = errorLogs.tryAcquire(operation);
+        if (suppressed == 0) {
+            logger.warn("Shared cache {} failed, falling back to the API", operation, e);
+        } else if (suppressed > 0) {
+            logger.warn("Shared cache {} failed, falling back to the API ({} similar warnings suppressed)", operation, suppressed, e);
+        }
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A shared entry and the time it was written, in epoch milliseconds.
+     */
+    record Hit<T>(T value, long writtenAtMillis) {
+    }
+
+    private static String environmentId(String apiKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes(apiKey));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+
+/**
+ * Pre-resolved handle for a string flag. Create once via
+ * {@link FeatureFlagClient#stringFlag(String, String)} and reuse.
+ */
+public final class StringFlag extends FlagHandle {
+    private final String defaultValue;
+
+    StringFlag(FeatureFlagClient client, String flagKey, String defaultValue) {
+        super(client, flagKey, FlagType.STRING);
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * Evaluates the flag for a user.
+     *
+     * @param userId the user ID (can be null for non-percentage rollouts)
+     * @return the evaluated value, or the handle's default if not found or on error
+     */
+    public String getValue(String userId) {
+        EvaluationResult result = resolve(userId);
+        return result != null ? result.getStringValue() : defaultValue;
+    }
+
+    public String getDefaultValue() {
+        return defaultValue;
+    }
+}
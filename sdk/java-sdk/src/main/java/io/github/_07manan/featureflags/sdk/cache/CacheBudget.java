@@ -0,0 +1,110 @@
+package io.github._07manan.featureflags.sdk.cache;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entry limit shared by any number of {@link LocalCache}s, bounding their combined footprint.
+ * <p>
+ * A cache charges one unit per key it holds. When the budget is exhausted, new keys are not
+ * cached until expired or invalidated entries free up room; values are still returned to the
+ * caller, just fetched again next time.
+ * <p>
+ * A budget can be split into {@link #partition() partitions}, one per tenant, that each get an
+ * equal share of it. A busy tenant then runs out of its own share instead of the whole budget,
+ * and the others keep caching new keys. Shares are recomputed as partitions come and go; a
+ * partition over its new share stops caching new keys until its entries expire.
+ */
+public class CacheBudget implements AutoCloseable {
+    private final long maxEntries;
+    private final CacheBudget parent;
+    private final AtomicLong used = new AtomicLong();
+    private final AtomicInteger partitions = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Creates a new budget.
+     *
+     * @param maxEntries the maximum number of entries across all caches sharing the budget
+     */
+    public CacheBudget(long maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache budget must allow at least one entry");
+        }
+        this.maxEntries = maxEntries;
+        this.parent = null;
+    }
+
+    private CacheBudget(CacheBudget parent) {
+        this.maxEntries = parent.maxEntries;
+        this.parent = parent;
+    }
+
+    /**
+     * Creates a partition of this budget holding an equal share of it. Entries cached in the
+     * partition count against both. Close the partition once its caches are empty to hand its
+     * share back to the other partitions.
+     *
+     * @return a new partition
+     */
+    public CacheBudget partition() {
+        partitions.incrementAndGet();
+        return new CacheBudget(this);
+    }
+
+    /**
+     * Reserves room for one entry.
+     *
+     * @return true if the entry may be cached
+     */
+    boolean tryAcquire() {
+        long limit = getMaxEntries();
+        long current;
+        do {
+            current = used.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!used.compareAndSet(current, current + 1));
+
+        if (parent != null && !parent.tryAcquire()) {
+            // Shares briefly overlap while partitions come and go
+            used.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    void release(int entries) {
+        used.addAndGet(-entries);
+        if (parent != null) {
+            parent.release(entries);
+        }
+    }
+
+    /**
+     * @return the maximum number of entries, or this partition's current share of its budget
+     */
+    public long getMaxEntries() {
+        if (parent == null) {
+            return maxEntries;
+        }
+        return Math.max(1, maxEntries / Math.max(1, parent.partitions.get()));
+    }
+
+    public long getUsedEntries() {
+        return used.get();
+    }
+
+    /**
+     * Hands a partition's share back to the other partitions. Does nothing for a budget that
+     * is not a partition.
+     */
+    @Override
+    public void close() {
+        if (parent != null && closed.compareAndSet(false, true)) {
+            parent.partitions.decrementAndGet();
+        }
+    }
+}
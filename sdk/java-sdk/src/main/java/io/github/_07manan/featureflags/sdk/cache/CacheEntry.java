@@ -5,8 +5,12 @@ class CacheEntry<T> {
     private final long timestamp;
 
     public CacheEntry(T value) {
+        this(value, System.currentTimeMillis());
+    }
+
+    CacheEntry(T value, long timestamp) {
         this.value = value;
-        this.timestamp = System.currentTimeMillis();
+        this.timestamp = timestamp;
     }
 
     public T getValue() {
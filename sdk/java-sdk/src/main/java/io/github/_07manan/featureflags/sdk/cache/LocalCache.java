@@ -1,46 +1,130 @@
 package io.github._07manan.featureflags.sdk.cache;
 
+import io.github._07manan.featureflags.sdk.metrics.CacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
-public class LocalCache<T> {
+public final class LocalCache<T> {
     private static final Logger logger = LoggerFactory.getLogger(LocalCache.class);
     
     private final ConcurrentHashMap<String, CacheEntry<T>> cache;
-    private final long ttlMillis;
+    private volatile long ttlMillis;
     private final ScheduledExecutorService cleanupScheduler;
+    private final boolean ownsScheduler;
+    private final ScheduledFuture<?> cleanupTask;
+    private final CacheBudget budget;
+    private final CacheMetrics metrics;
 
     /**
-     * Creates a new cache with the specified TTL.
+     * Creates a new cache with the specified TTL and its own cleanup thread.
      *
      * @param ttl the time-to-live value
      * @param unit the time unit for the TTL
      */
     public LocalCache(long ttl, TimeUnit unit) {
+        this(ttl, unit, newCleanupScheduler(), true, null, CacheMetrics.NOOP);
+    }
+
+    /**
+     * Creates a new cache with the specified TTL whose cleanup runs on a shared scheduler.
+     * The scheduler is not shut down by {@link #shutdown()}; only this cache's task is cancelled.
+     *
+     * @param ttl the time-to-live value
+     * @param unit the time unit for the TTL
+     * @param cleanupScheduler the scheduler to run periodic cleanup on
+     */
+    public LocalCache(long ttl, TimeUnit unit, ScheduledExecutorService cleanupScheduler) {
+        this(ttl, unit, cleanupScheduler, false, null, CacheMetrics.NOOP);
+    }
+
+    /**
+     * Creates a new cache with the specified TTL on a shared scheduler, whose entries count against
+     * a shared budget. Once the budget is exhausted, puts of new keys are dropped.
+     *
+     * @param ttl the time-to-live value
+     * @param unit the time unit for the TTL
+     * @param cleanupScheduler the scheduler to run periodic cleanup on
+     * @param budget the entry budget shared with other caches, or null for no limit
+     */
+    public LocalCache(long ttl, TimeUnit unit, ScheduledExecutorService cleanupScheduler, CacheBudget budget) {
+        this(ttl, unit, cleanupScheduler, false, budget, CacheMetrics.NOOP);
+    }
+
+    /**
+     * Creates a new cache without a cleanup task of its own, for owners that sweep many caches
+     * from one task by calling {@link #cleanUp()}. Expired entries are still never returned.
+     *
+     * @param ttl the time-to-live value
+     * @param unit the time unit for the TTL
+     * @param budget the entry budget shared with other caches, or null for no limit
+     * @param metrics the recorder for this cache's activity
+     */
+    public LocalCache(long ttl, TimeUnit unit, CacheBudget budget, CacheMetrics metrics) {
+        this(ttl, unit, null, false, budget, metrics);
+    }
+
+    /**
+     * Creates a new cache on a shared scheduler and budget that reports its hits, misses,
+     * evictions and expirations.
+     *
+     * @param ttl the time-to-live value
+     * @param unit the time unit for the TTL
+     * @param cleanupScheduler the scheduler to run periodic cleanup on
+     * @param budget the entry budget shared with other caches, or null for no limit
+     * @param metrics the recorder for this cache's activity
+     */
+    public LocalCache(
+            long ttl,
+            TimeUnit unit,
+            ScheduledExecutorService cleanupScheduler,
+            CacheBudget budget,
+            CacheMetrics metrics) {
+        this(ttl, unit, cleanupScheduler, false, budget, metrics);
+    }
+
+    private LocalCache(
+            long ttl,
+            TimeUnit unit,
+            ScheduledExecutorService cleanupScheduler,
+            boolean ownsScheduler,
+            CacheBudget budget,
+            CacheMetrics metrics) {
         this.cache = new ConcurrentHashMap<>();
         this.ttlMillis = unit.toMillis(ttl);
-        this.cleanupScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread thread = new Thread(r, "cache-cleanup");
-            thread.setDaemon(true);
-            return thread;
-        });
+        this.cleanupScheduler = cleanupScheduler;
+        this.ownsScheduler = ownsScheduler;
+        this.budget = budget;
+        this.metrics = metrics;
         
         // Schedule cleanup task to run periodically (every 30 seconds)
-        this.cleanupScheduler.scheduleAtFixedRate(
-                this::cleanupExpiredEntries,
-                30,
-                30,
-                TimeUnit.SECONDS
-        );
+        this.cleanupTask = cleanupScheduler != null
+                ? cleanupScheduler.scheduleAtFixedRate(this::cleanUp, 30, 30, TimeUnit.SECONDS)
+                : null;
         
         logger.debug("LocalCache initialized with TTL: {}ms", ttlMillis);
     }
 
+    /**
+     * Creates a single daemon thread scheduler suitable for running cache cleanup.
+     *
+     * @return a new scheduler owned by the caller
+     */
+    public static ScheduledExecutorService newCleanupScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cache-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * Retrieves a value from the cache if it exists and has not expired.
      *
@@ -52,31 +136,128 @@ public class LocalCache<T> {
         
         if (entry == null) {
             logger.trace("Cache miss for key: {}", key);
+            metrics.miss();
             return null;
         }
         
         if (entry.isExpired(ttlMillis)) {
             logger.trace("Cache entry expired for key: {}", key);
-            cache.remove(key);
+            if (cache.remove(key, entry)) {
+                released(1);
+                metrics.expired(1);
+            }
+            metrics.miss();
             return null;
         }
         
         logger.trace("Cache hit for key: {}", key);
+        metrics.hit();
+        return entry.getValue();
+    }
+
+    /**
+     * Like {@link #get(String)}, but only hits are counted and expired entries are left for
+     * cleanup, for callers that fall back to a lookup that counts the miss itself.
+     *
+     * @param key the cache key
+     * @return the cached value, or null if not found or expired
+     */
+    public T peek(String key) {
+        CacheEntry<T> entry = cache.get(key);
+        if (entry == null || entry.isExpired(ttlMillis)) {
+            return null;
+        }
+        metrics.hit();
         return entry.getValue();
     }
 
     public void put(String key, T value) {
-        cache.put(key, new CacheEntry<>(value));
+        put(key, value, System.currentTimeMillis());
+    }
+
+    /**
+     * Caches a value as if it had been cached at the given time, so a copy of a value cached
+     * elsewhere expires along with the original.
+     *
+     * @param key the cache key
+     * @param value the value
+     * @param timestamp when the value was originally cached, in epoch milliseconds
+     */
+    public void put(String key, T value, long timestamp) {
+        if (budget == null) {
+            cache.put(key, new CacheEntry<>(value, timestamp));
+        } else {
+            cache.compute(key, (k, current) -> {
+                if (current == null && !budget.tryAcquire()) {
+                    logger.trace("Cache budget exhausted, not caching key: {}", key);
+                    metrics.rejected();
+                    return null;
+                }
+                return new CacheEntry<>(value, timestamp);
+            });
+        }
         logger.trace("Cached value for key: {}", key);
     }
 
     public void invalidate(String key) {
-        cache.remove(key);
+        if (cache.remove(key) != null) {
+            released(1);
+            metrics.evicted(1);
+        }
         logger.trace("Invalidated cache entry for key: {}", key);
     }
 
+    /**
+     * Atomically replaces the value of an unexpired entry, keeping its original expiry time.
+     * Returning null from the function removes the entry.
+     *
+     * @param key the cache key
+     * @param remapping function computing the new value from the current one
+     */
+    public void replace(String key, UnaryOperator<T> remapping) {
+        cache.computeIfPresent(key, (k, entry) -> {
+            boolean expired = entry.isExpired(ttlMillis);
+            T updated = expired ? null : remapping.apply(entry.getValue());
+            if (updated == null) {
+                released(1);
+                if (expired) {
+                    metrics.expired(1);
+                } else {
+                    metrics.evicted(1);
+                }
+                return null;
+            }
+            return new CacheEntry<>(updated, entry.getTimestamp());
+        });
+    }
+
+    /**
+     * Applies {@link #replace(String, UnaryOperator)} to every entry in the cache.
+     *
+     * @param remapping function computing the new value from the current one
+     */
+    public void replaceAll(UnaryOperator<T> remapping) {
+        for (String key : cache.keySet()) {
+            replace(key, remapping);
+        }
+    }
+
+    /**
+     * Removes all entries whose key matches the predicate.
+     *
+     * @param keyPredicate predicate selecting the keys to remove
+     */
+    public void invalidateIf(Predicate<String> keyPredicate) {
+        for (String key : cache.keySet()) {
+            if (keyPredicate.test(key)) {
+                invalidate(key);
+            }
+        }
+        logger.trace("Invalidated matching cache entries");
+    }
+
     public void clear() {
-        cache.clear();
+        metrics.evicted(removeAll());
         logger.debug("Cache cleared");
     }
 
@@ -84,7 +265,41 @@ public class LocalCache<T> {
         return cache.size();
     }
 
-    private void cleanupExpiredEntries() {
+    /**
+     * Changes the TTL. Applies to existing entries as well, which expire based on the time they
+     * were cached.
+     *
+     * @param ttl the time-to-live value
+     * @param unit the time unit for the TTL
+     */
+    public void setTtl(long ttl, TimeUnit unit) {
+        this.ttlMillis = unit.toMillis(ttl);
+        logger.debug("LocalCache TTL changed to: {}ms", ttlMillis);
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    /**
+     * Returns when the oldest entry was cached. Scans all entries, so meant for diagnostics
+     * rather than the request path.
+     *
+     * @return the oldest entry's timestamp in epoch milliseconds, or 0 if the cache is empty
+     */
+    public long getOldestEntryTimestamp() {
+        long oldest = Long.MAX_VALUE;
+        for (CacheEntry<T> entry : cache.values()) {
+            oldest = Math.min(oldest, entry.getTimestamp());
+        }
+        return oldest != Long.MAX_VALUE ? oldest : 0;
+    }
+
+    /**
+     * Removes all expired entries. Runs periodically unless the cache was created without a
+     * scheduler.
+     */
+    public void cleanUp() {
         int removed = 0;
         for (var iterator = cache.entrySet().iterator(); iterator.hasNext(); ) {
             var mapEntry = iterator.next();
@@ -104,23 +319,55 @@ public class LocalCache<T> {
                 }
             }
         }
+        released(removed);
         
         if (removed > 0) {
+            metrics.expired(removed);
             logger.debug("Cleaned up {} expired cache entries", removed);
         }
     }
 
     public void shutdown() {
-        cleanupScheduler.shutdown();
-        try {
-            if (!cleanupScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+        if (cleanupTask != null) {
+            cleanupTask.cancel(false);
+        }
+        if (ownsScheduler) {
+            cleanupScheduler.shutdown();
+            try {
+                if (!cleanupScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                    cleanupScheduler.shutdownNow();
+                }
+            } catch (InterruptedException e) {
                 cleanupScheduler.shutdownNow();
+                Thread.currentThread().interrupt();
             }
-        } catch (InterruptedException e) {
-            cleanupScheduler.shutdownNow();
-            Thread.currentThread().interrupt();
         }
-        cache.clear();
+        removeAll();
         logger.debug("LocalCache shut down");
     }
+
+    /**
+     * @return the number of entries removed
+     */
+    private int removeAll() {
+        if (budget == null) {
+            int removed = cache.size();
+            cache.clear();
+            return removed;
+        }
+        int removed = 0;
+        for (String key : cache.keySet()) {
+            if (cache.remove(key) != null) {
+                removed++;
+            }
+        }
+        released(removed);
+        return removed;
+    }
+
+    private void released(int entries) {
+        if (budget != null && entries > 0) {
+            budget.release(entries);
+        }
+    }
 }
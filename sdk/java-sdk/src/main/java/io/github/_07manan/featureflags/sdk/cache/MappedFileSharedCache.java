@@ -0,0 +1,290 @@
+package io.github._07manan.featureflags.sdk.cache;
+
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * {@link SharedCache} backed by a memory-mapped file, shared by every JVM on the host that maps
+ * the same path. No server process is involved; a lookup is a few memory reads.
+ * <p>
+ * The file is a fixed-size open-addressing hash table. Each slot is guarded by a sequence lock:
+ * a writer moves the slot's sequence number from even to odd with a compare-and-set, writes the
+ * entry and publishes it by bumping the sequence to the next even value. Readers never block;
+ * they retry if the sequence changed while they were copying. A key may live in any of the
+ * {@value #PROBE_LENGTH} slots following its hash, and when all of them are taken the entry
+ * expiring soonest is evicted. Entries larger than a slot are not cached.
+ * <p>
+ * All processes must open the file with the same geometry; a mismatch is rejected at construction.
+ */
+public class MappedFileSharedCache implements SharedCache {
+    private static final Logger logger = LoggerFactory.getLogger(MappedFileSharedCache.class);
+
+    static final int PROBE_LENGTH = 8;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long MAGIC = 0x3153454843414646L; // "FFCACHE1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SEQ = 0;
+    private static final int EXPIRES_AT = 8;
+    private static final int KEY_HASH = 16;
+    private static final int KEY_LENGTH = 24;
+    private static final int VALUE_LENGTH = 28;
+    private static final int DATA = 32;
+    private static final int MAX_READ_ATTEMPTS = 4;
+
+    private final MappedByteBuffer buffer;
+    private final int slots;
+    private final int slotSize;
+    private volatile boolean closed;
+
+    /**
+     * Opens or creates a cache file with 16384 slots of 512 bytes (8 MiB).
+     *
+     * @param file the file to map
+     */
+    public MappedFileSharedCache(Path file) {
+        this(file, 16384, 512);
+    }
+
+    /**
+     * Opens or creates a cache file.
+     *
+     * @param file the file to map
+     * @param slots the number of slots, a power of two
+     * @param slotSize the size of each slot in bytes, a multiple of 8; bounds the size of a
+     *                 key plus its encoded value
+     * @throws FeatureFlagException if the file cannot be mapped or was created with a different geometry
+     */
+    public MappedFileSharedCache(Path file, int slots, int slotSize) {
+        if (slots < PROBE_LENGTH || Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("Slots must be a power of two and at least " + PROBE_LENGTH);
+        }
+        if (slotSize < 64 || slotSize % 8 != 0) {
+            throw new IllegalArgumentException("Slot size must be a multiple of 8 and at least 64");
+        }
+        this.slots = slots;
+        this.slotSize = slotSize;
+
+        long size = HEADER_SIZE + (long) slots * slotSize;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Shared cache file must be smaller than 2 GiB");
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Held while the header is checked or written, so two processes can't both initialize it
+            FileLock lock = channel.lock();
+            try {
+                boolean created = channel.size() == 0;
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                if (created) {
+                    buffer.putInt(8, VERSION);
+                    buffer.putInt(12, slots);
+                    buffer.putInt(16, slotSize);
+                    buffer.putLong(0, MAGIC);
+                    buffer.force();
+                } else if (buffer.getLong(0) != MAGIC || buffer.getInt(8) != VERSION
+                        || buffer.getInt(12) != slots || buffer.getInt(16) != slotSize) {
+                    throw new FeatureFlagException("Shared cache file " + file + " has an incompatible layout");
+                }
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            throw new FeatureFlagException("Failed to map shared cache file " + file, e);
+        }
+
+        logger.debug("MappedFileSharedCache mapped {} with {} slots of {} bytes", file, slots, slotSize);
+    }
+
+    @Override
+    public Entry get(String key) {
+        checkOpen();
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(keyBytes);
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < PROBE_LENGTH; i++) {
+            int slot = slotOffset(hash, i);
+            for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+                long seq = (long) LONGS.getAcquire(buffer, slot + SEQ);
+                if ((seq & 1) != 0) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                Entry entry = readIfMatches(slot, hash, keyBytes, now);
+                VarHandle.loadLoadFence();
+                if ((long) LONGS.getOpaque(buffer, slot + SEQ) == seq) {
+                    if (entry != null) {
+                        return entry;
+                    }
+                    break;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(String key, byte[] value, long ttlMillis) {
+        checkOpen();
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (DATA + keyBytes.length + value.length > slotSize) {
+            return;
+        }
+        long hash = hash(keyBytes);
+        long now = System.currentTimeMillis();
+
+        int slot = chooseSlot(hash, keyBytes.length, now);
+        long seq = (long) LONGS.getAcquire(buffer, slot + SEQ);
+        if ((seq & 1) != 0 || !LONGS.compareAndSet(buffer, slot + SEQ, seq, seq + 1)) {
+            // Another process is writing this slot; dropping the write is fine for a cache
+            return;
+        }
+        try {
+            buffer.putLong(slot + KEY_HASH, hash);
+            buffer.putInt(slot + KEY_LENGTH, keyBytes.length);
+            buffer.putInt(slot + VALUE_LENGTH, value.length);
+            buffer.put(slot + DATA, keyBytes);
+            buffer.put(slot + DATA + keyBytes.length, value);
+            buffer.putLong(slot + EXPIRES_AT, now + Math.max(1, ttlMillis));
+        } finally {
+            LONGS.setRelease(buffer, slot + SEQ, seq + 2);
+        }
+    }
+
+    @Override
+    public void invalidate(String key) {
+        checkOpen();
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(keyBytes);
+
+        for (int i = 0; i < PROBE_LENGTH; i++) {
+            int slot = slotOffset(hash, i);
+            if (buffer.getLong(slot + KEY_HASH) != hash || buffer.getLong(slot + EXPIRES_AT) == 0) {
+                continue;
+            }
+            long seq = lockSlot(slot);
+            if (seq < 0) {
+                // A writer died mid-write; readers skip locked slots, so nothing is visible to clear
+                continue;
+            }
+            try {
+                if (keyEquals(slot, hash, keyBytes)) {
+                    buffer.putLong(slot + EXPIRES_AT, 0);
+                }
+            } finally {
+                LONGS.setRelease(buffer, slot + SEQ, seq + 2);
+            }
+        }
+    }
+
+    /**
+     * Spins until the slot's sequence can be moved from even to odd.
+     *
+     * @return the even sequence that was locked, or -1 if the slot stayed locked
+     */
+    private long lockSlot(int slot) {
+        for (int attempt = 0; attempt < 1000; attempt++) {
+            long seq = (long) LONGS.getAcquire(buffer, slot + SEQ);
+            if ((seq & 1) == 0 && LONGS.compareAndSet(buffer, slot + SEQ, seq, seq + 1)) {
+                return seq;
+            }
+            Thread.onSpinWait();
+        }
+        return -1;
+    }
+
+    /**
+     * Unmapping is left to the garbage collector; the file stays on disk for other processes.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        logger.debug("MappedFileSharedCache closed");
+    }
+
+    /**
+     * Prefers the slot already holding the key, then a free or expired slot, and otherwise the
+     * slot whose entry expires soonest. Reads are racy but only steer placement.
+     */
+    private int chooseSlot(long hash, int keyLength, long now) {
+        int victim = -1;
+        long victimExpiresAt = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_LENGTH; i++) {
+            int slot = slotOffset(hash, i);
+            long expiresAt = buffer.getLong(slot + EXPIRES_AT);
+            if (expiresAt != 0 && buffer.getLong(slot + KEY_HASH) == hash
+                    && buffer.getInt(slot + KEY_LENGTH) == keyLength) {
+                return slot;
+            }
+            long rank = expiresAt <= now ? Long.MIN_VALUE : expiresAt;
+            if (rank < victimExpiresAt) {
+                victim = slot;
+                victimExpiresAt = rank;
+            }
+        }
+        return victim;
+    }
+
+    private Entry readIfMatches(int slot, long hash, byte[] keyBytes, long now) {
+        long expiresAt = buffer.getLong(slot + EXPIRES_AT);
+        if (expiresAt <= now || !keyEquals(slot, hash, keyBytes)) {
+            return null;
+        }
+        int valueLength = buffer.getInt(slot + VALUE_LENGTH);
+        if (valueLength < 0 || DATA + keyBytes.length + valueLength > slotSize) {
+            // Torn read; the sequence check will reject it
+            return null;
+        }
+        byte[] value = new byte[valueLength];
+        buffer.get(slot + DATA + keyBytes.length, value);
+        return new Entry(value, expiresAt);
+    }
+
+    private boolean keyEquals(int slot, long hash, byte[] keyBytes) {
+        if (buffer.getLong(slot + KEY_HASH) != hash || buffer.getInt(slot + KEY_LENGTH) != keyBytes.length) {
+            return false;
+        }
+        byte[] stored = new byte[keyBytes.length];
+        buffer.get(slot + DATA, stored);
+        return Arrays.equals(stored, keyBytes);
+    }
+
+    private int slotOffset(long hash, int probe) {
+        int index = (int) ((hash + probe) & (slots - 1));
+        return HEADER_SIZE + index * slotSize;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new FeatureFlagException("Shared cache is closed");
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a, which is stable across JVMs and processes unlike identity-based hashes.
+     */
+    private static long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
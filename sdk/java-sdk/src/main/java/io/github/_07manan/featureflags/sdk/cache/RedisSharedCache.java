@@ -0,0 +1,313 @@
+package io.github._07manan.featureflags.sdk.cache;
+
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SharedCache} backed by a server speaking the Redis protocol (RESP), such as Redis,
+ * Valkey or KeyDB, typically running on the same host as the JVMs sharing it.
+ * <p>
+ * Only {@code GET}, {@code PTTL}, {@code SET ... PX} and {@code DEL} are used; a lookup pipelines
+ * {@code GET} and {@code PTTL} in one round trip. Connections are pooled; when all
+ * of them are busy for longer than the timeout, the lookup is treated as a miss rather than
+ * holding up flag evaluation.
+ */
+public class RedisSharedCache implements SharedCache {
+    private static final Logger logger = LoggerFactory.getLogger(RedisSharedCache.class);
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final String host;
+    private final int port;
+    private final String password;
+    private final int database;
+    private final int timeoutMillis;
+    private final Semaphore permits;
+    private final BlockingQueue<Connection> idle;
+    private volatile boolean closed;
+
+    /**
+     * Creates a cache talking to a server without authentication, using database 0,
+     * up to 8 connections and a 100 ms timeout.
+     *
+     * @param host the server host
+     * @param port the server port
+     */
+    public RedisSharedCache(String host, int port) {
+        this(host, port, null, 0, 8, 100, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param host the server host
+     * @param port the server port
+     * @param password the password sent with {@code AUTH}, or null
+     * @param database the database selected with {@code SELECT}
+     * @param maxConnections the maximum number of pooled connections
+     * @param timeout connect, read and connection wait timeout
+     * @param unit the time unit for the timeout
+     */
+    public RedisSharedCache(String host, int port, String password, int database, int maxConnections, long timeout, TimeUnit unit) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("At least one connection is required");
+        }
+        this.host = host;
+        this.port = port;
+        this.password = password;
+        this.database = database;
+        this.timeoutMillis = (int) unit.toMillis(timeout);
+        this.permits = new Semaphore(maxConnections);
+        this.idle = new ArrayBlockingQueue<>(maxConnections);
+
+        logger.debug("RedisSharedCache initialized for {}:{}", host, port);
+    }
+
+    @Override
+    public Entry get(String key) {
+        return execute("GET", connection -> {
+            connection.send("GET", bytes(key));
+            connection.send("PTTL", bytes(key));
+            byte[] value = connection.flushAndRead();
+            long remainingMillis = connection.readInteger();
+            // -2 if the key expired in between, -1 if someone stored it without a TTL
+            return value != null && remainingMillis > 0
+                    ? new Entry(value, System.currentTimeMillis() + remainingMillis)
+                    : null;
+        });
+    }
+
+    @Override
+    public void put(String key, byte[] value, long ttlMillis) {
+        execute("SET", bytes(key), value, bytes("PX"), bytes(Long.toString(Math.max(1, ttlMillis))));
+    }
+
+    @Override
+    public void invalidate(String key) {
+        execute("DEL", bytes(key));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            connection.close();
+        }
+        logger.debug("RedisSharedCache closed");
+    }
+
+    private byte[] execute(String command, byte[]... args) {
+        return execute(command, connection -> connection.call(command, args));
+    }
+
+    private <T> T execute(String command, Call<T> call) {
+        if (closed) {
+            throw new FeatureFlagException("Shared cache is closed");
+        }
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new FeatureFlagException("No Redis connection available");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FeatureFlagException("Interrupted waiting for a Redis connection", e);
+        }
+
+        Connection connection = idle.poll();
+        try {
+            if (connection == null) {
+                connection = connect();
+            }
+            T reply = call.apply(connection);
+            if (closed || !idle.offer(connection)) {
+                connection.close();
+            }
+            return reply;
+        } catch (IOException e) {
+            if (connection != null) {
+                connection.close();
+            }
+            throw new FeatureFlagException("Redis " + command + " failed", e);
+        } catch (RuntimeException e) {
+            // The reply may be half-read, so the connection can't be reused
+            if (connection != null) {
+                connection.close();
+            }
+            throw e;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Connection connect() throws IOException {
+        Connection connection = new Connection(host, port, timeoutMillis);
+        try {
+            if (password != null) {
+                connection.call("AUTH", bytes(password));
+            }
+            if (database != 0) {
+                connection.call("SELECT", bytes(Integer.toString(database)));
+            }
+        } catch (IOException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+        T apply(Connection connection) throws IOException;
+    }
+
+    private static final class Connection {
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        Connection(String host, int port, int timeoutMillis) throws IOException {
+            this.socket = new Socket();
+            try {
+                socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+                socket.setSoTimeout(timeoutMillis);
+                socket.setTcpNoDelay(true);
+                this.in = new BufferedInputStream(socket.getInputStream());
+                this.out = new BufferedOutputStream(socket.getOutputStream());
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+        }
+
+        byte[] call(String command, byte[]... args) throws IOException {
+            send(command, args);
+            return flushAndRead();
+        }
+
+        /**
+         * Buffers a command without waiting for its reply, to pipeline it with the next ones.
+         */
+        void send(String command, byte[]... args) throws IOException {
+            writeArrayHeader(1 + args.length);
+            writeBulk(bytes(command));
+            for (byte[] arg : args) {
+                writeBulk(arg);
+            }
+        }
+
+        /**
+         * Sends buffered commands and reads the first reply; read the others with {@link #readReply()}.
+         */
+        byte[] flushAndRead() throws IOException {
+            out.flush();
+            return readReply();
+        }
+
+        private void writeArrayHeader(int length) throws IOException {
+            out.write('*');
+            out.write(bytes(Integer.toString(length)));
+            out.write(CRLF);
+        }
+
+        private void writeBulk(byte[] value) throws IOException {
+            out.write('$');
+            out.write(bytes(Integer.toString(value.length)));
+            out.write(CRLF);
+            out.write(value);
+            out.write(CRLF);
+        }
+
+        /**
+         * Reads one reply. Bulk strings are returned as-is, simple strings and integers as their
+         * text, and null replies as null. Arrays are not used by this client.
+         */
+        byte[] readReply() throws IOException {
+            int type = in.read();
+            String line = readLine();
+            switch (type) {
+                case '$': {
+                    int length = (int) parseInteger(line);
+                    if (length < 0) {
+                        return null;
+                    }
+                    byte[] value = in.readNBytes(length);
+                    if (value.length < length) {
+                        throw new EOFException("Truncated Redis reply");
+                    }
+                    readLine();
+                    return value;
+                }
+                case '+':
+                case ':':
+                    return bytes(line);
+                case '-':
+                    throw new IOException("Redis error: " + line);
+                case -1:
+                    throw new EOFException("Redis connection closed");
+                default:
+                    throw new IOException("Unsupported Redis reply type: " + (char) type);
+            }
+        }
+
+        /**
+         * Reads an integer reply.
+         */
+        long readInteger() throws IOException {
+            byte[] reply = readReply();
+            if (reply == null) {
+                throw new IOException("Expected an integer Redis reply, got null");
+            }
+            return parseInteger(new String(reply, StandardCharsets.US_ASCII));
+        }
+
+        private static long parseInteger(String line) throws IOException {
+            try {
+                return Long.parseLong(line);
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed Redis reply: " + line, e);
+            }
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder sb = new StringBuilder();
+            int c;
+            while ((c = in.read()) != '\r') {
+                if (c == -1) {
+                    throw new EOFException("Redis connection closed");
+                }
+                sb.append((char) c);
+            }
+            if (in.read() != '\n') {
+                throw new IOException("Malformed Redis reply");
+            }
+            return sb.toString();
+        }
+
+        void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                logger.debug("Error closing Redis connection", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.github._07manan.featureflags.sdk.cache;
+
+/**
+ * Second-level cache shared between JVMs, consulted by
+ * {@link io.github._07manan.featureflags.sdk.FeatureFlagClient} when its local cache misses and
+ * before it calls the evaluation API.
+ * <p>
+ * Values are opaque bytes and keys already carry the environment, flag and user, so one shared
+ * cache can serve any number of clients and processes. Implementations must be thread-safe and
+ * should answer quickly; the client treats any exception as a miss.
+ */
+public interface SharedCache extends AutoCloseable {
+
+    /**
+     * Looks up a value.
+     *
+     * @param key the cache key
+     * @return the value and its expiry time, or null if absent or expired
+     */
+    Entry get(String key);
+
+    /**
+     * Stores a value. Implementations may silently drop values they can't hold.
+     *
+     * @param key the cache key
+     * @param value the value
+     * @param ttlMillis how long the value stays valid, in milliseconds
+     */
+    void put(String key, byte[] value, long ttlMillis);
+
+    /**
+     * Removes a value.
+     *
+     * @param key the cache key
+     */
+    void invalidate(String key);
+
+    /**
+     * Releases any resources held by the cache.
+     */
+    @Override
+    void close();
+
+    /**
+     * A value read from the cache. The expiry time lets readers expire their own copies along
+     * with the shared one instead of restarting the TTL.
+     *
+     * @param value the value
+     * @param expiresAtMillis when the value expires, in epoch milliseconds
+     */
+    record Entry(byte[] value, long expiresAtMillis) {
+    }
+}
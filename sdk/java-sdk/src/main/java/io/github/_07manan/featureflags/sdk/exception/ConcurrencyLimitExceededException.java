@@ -0,0 +1,8 @@
+package io.github._07manan.featureflags.sdk.exception;
+
+public class ConcurrencyLimitExceededException extends FeatureFlagException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message, false);
+    }
+}
@@ -13,4 +13,16 @@ public class FeatureFlagException extends RuntimeException {
     public FeatureFlagException(Throwable cause) {
         super(cause);
     }
+
+    /**
+     * Creates an exception that optionally skips capturing a stack trace. Exceptions that signal
+     * expected outcomes, such as a missing flag, are created without one since filling it in
+     * dominates their cost.
+     *
+     * @param message the detail message
+     * @param writableStackTrace whether the stack trace should be captured
+     */
+    protected FeatureFlagException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -5,12 +5,12 @@ public class FlagNotFoundException extends FeatureFlagException {
     private final String flagKey;
 
     public FlagNotFoundException(String flagKey) {
-        super("Flag not found: " + flagKey);
+        super("Flag not found: " + flagKey, false);
         this.flagKey = flagKey;
     }
 
     public FlagNotFoundException(String flagKey, String message) {
-        super(message);
+        super(message, false);
         this.flagKey = flagKey;
     }
 
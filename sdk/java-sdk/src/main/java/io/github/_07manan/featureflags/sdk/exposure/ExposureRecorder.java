@@ -0,0 +1,311 @@
+package io.github._07manan.featureflags.sdk.exposure;
+
+import io.github._07manan.featureflags.sdk.json.EvaluationCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records which variant of a flag each user was served and reports aggregated counts to the
+ * admin API.
+ * <p>
+ * {@link #record} only appends to a lock-free ring buffer, so it costs a compare-and-set and a few
+ * writes on the evaluation path and never blocks; when the buffer is full the exposure is dropped
+ * and counted. A background thread drains the buffer every {@value #DRAIN_INTERVAL_MILLIS} ms
+ * into counts per flag, variant and minute, in which repeated exposures of one user to the same
+ * variant count once. At the end of each flush window, the users newly counted since the last
+ * flush are sent as one batch to {@code POST /exposures}, authenticated with the environment's
+ * API key, and the admin API adds them up. Users seen in the current minute are remembered across
+ * flushes, so each recorder reports a user at most once per flag, variant and minute; only when
+ * more than 100,000 users are seen in one minute does counting start over.
+ * Batches that fail to send are logged and discarded.
+ */
+public class ExposureRecorder implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ExposureRecorder.class);
+
+    static final long DRAIN_INTERVAL_MILLIS = 100;
+    private static final int MAX_WINDOW_ENTRIES = 100_000;
+    private static final int MAX_BATCH_ROWS = 1_000;
+    private static final long BUCKET_MILLIS = 60_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ExposureRingBuffer buffer;
+    private final URI endpoint;
+    private final String apiKey;
+    private final long flushIntervalMillis;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Rollup, Users> window = new HashMap<>();
+    private int windowEntries;
+    private long windowStart = System.currentTimeMillis();
+    private volatile boolean closed;
+
+    /**
+     * Creates a recorder with a buffer of 65536 exposures that reports every 10 seconds.
+     *
+     * @param adminUrl the base URL of the admin API
+     * @param apiKey the environment's API key
+     */
+    public ExposureRecorder(String adminUrl, String apiKey) {
+        this(adminUrl, apiKey, 65_536, 10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Creates a recorder and starts its background thread.
+     *
+     * @param adminUrl the base URL of the admin API
+     * @param apiKey the environment's API key
+     * @param bufferSize the number of exposures buffered between drains, a power of two
+     * @param flushInterval how often aggregated counts are sent
+     * @param unit the time unit for the flush interval
+     */
+    public ExposureRecorder(String adminUrl, String apiKey, int bufferSize, long flushInterval, TimeUnit unit) {
+        this.buffer = new ExposureRingBuffer(bufferSize);
+        this.endpoint = URI.create(adminUrl.replaceAll("/+$", "") + "/exposures");
+        this.apiKey = apiKey;
+        this.flushIntervalMillis = unit.toMillis(flushInterval);
+        this.httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "featureflags-exposures");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::drain, DRAIN_INTERVAL_MILLIS, DRAIN_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+        logger.debug("ExposureRecorder initialized for {}", endpoint);
+    }
+
+    /**
+     * Records that a user was served a variant of a flag. Never blocks.
+     *
+     * @param flagKey the flag key
+     * @param variantId the variant served, or null for flags without variants
+     * @param userId the user ID (can be null)
+     */
+    public void record(String flagKey, String variantId, String userId) {
+        if (!closed) {
+            buffer.offer(flagKey, variantId, userId);
+        }
+    }
+
+    /**
+     * Returns the number of exposures dropped because the buffer was full.
+     *
+     * @return the dropped exposure count
+     */
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
+
+    /**
+     * Sends all buffered exposures now instead of at the end of the current window.
+     *
+     * @return the number of count rows sent
+     */
+    public synchronized int flush() {
+        drainBuffer();
+        return sendWindow();
+    }
+
+    /**
+     * Stops the background thread and sends the exposures buffered so far.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        httpClient.close();
+        logger.debug("ExposureRecorder closed, {} exposures dropped", getDroppedCount());
+    }
+
+    private synchronized void drain() {
+        try {
+            drainBuffer();
+            long now = System.currentTimeMillis();
+            if (now - windowStart >= flushIntervalMillis || windowEntries >= MAX_WINDOW_ENTRIES) {
+                sendWindow();
+            }
+        } catch (RuntimeException e) {
+            // An exception would cancel the scheduled task and silently stop reporting
+            logger.warn("Failed to process exposures", e);
+        }
+    }
+
+    private void drainBuffer() {
+        long bucket = bucket(System.currentTimeMillis());
+        int drained;
+        do {
+            drained = buffer.drain((flagKey, variantId, userId) -> {
+                if (window.computeIfAbsent(new Rollup(bucket, flagKey, variantId), k -> new Users()).add(userId)) {
+                    windowEntries++;
+                }
+            }, buffer.capacity());
+        } while (drained > 0 && windowEntries < MAX_WINDOW_ENTRIES);
+    }
+
+    /**
+     * @return the number of count rows sent
+     */
+    private int sendWindow() {
+        long now = System.currentTimeMillis();
+        windowStart = now;
+        List<Map.Entry<Rollup, Integer>> rows = new ArrayList<>();
+        for (Map.Entry<Rollup, Users> entry : window.entrySet()) {
+            int unsent = entry.getValue().takeUnsent();
+            if (unsent > 0) {
+                rows.add(Map.entry(entry.getKey(), unsent));
+            }
+        }
+        // Users of past minutes can't be counted again, and past a full minute counting starts over
+        long bucket = bucket(now);
+        window.keySet().removeIf(rollup -> rollup.bucket < bucket);
+        windowEntries = 0;
+        for (Users users : window.values()) {
+            windowEntries += users.size();
+        }
+        if (windowEntries >= MAX_WINDOW_ENTRIES) {
+            window.clear();
+            windowEntries = 0;
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        int sent = 0;
+        for (int from = 0; from < rows.size(); from += MAX_BATCH_ROWS) {
+            List<Map.Entry<Rollup, Integer>> batch = rows.subList(from, Math.min(rows.size(), from + MAX_BATCH_ROWS));
+            if (send(encode(batch))) {
+                sent += batch.size();
+            }
+        }
+        logger.debug("Sent {} exposure counts", sent);
+        return sent;
+    }
+
+    private boolean send(String body) {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("X-API-Key", apiKey)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 == 2) {
+                return true;
+            }
+            if (response.statusCode() == 401) {
+                logger.error("Exposures rejected: invalid API key");
+            } else {
+                logger.warn("Exposures rejected with status {}", response.statusCode());
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to send exposures to {}", endpoint, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted sending exposures to {}", endpoint);
+        }
+        return false;
+    }
+
+    /**
+     * Encodes count rows as {@code {"exposures":[{"flagKey":...,"variantId":...,"bucket":...,"count":...}]}},
+     * where the bucket is the start of the minute in epoch milliseconds.
+     */
+    private static String encode(List<Map.Entry<Rollup, Integer>> rows) {
+        StringBuilder sb = new StringBuilder(16 + rows.size() * 96);
+        sb.append("{\"exposures\":[");
+        for (int i = 0; i < rows.size(); i++) {
+            Rollup rollup = rows.get(i).getKey();
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"flagKey\":");
+            EvaluationCodec.writeString(sb, rollup.flagKey);
+            sb.append(",\"variantId\":");
+            EvaluationCodec.writeString(sb, rollup.variantId);
+            sb.append(",\"bucket\":").append(rollup.bucket);
+            sb.append(",\"count\":").append(rows.get(i).getValue());
+            sb.append('}');
+        }
+        return sb.append("]}").toString();
+    }
+
+    private static long bucket(long epochMillis) {
+        return epochMillis / BUCKET_MILLIS * BUCKET_MILLIS;
+    }
+
+    /**
+     * The users counted for one rollup, and how many of them haven't been sent yet.
+     */
+    private static final class Users {
+        private final Set<String> seen = new HashSet<>();
+        private int unsent;
+
+        boolean add(String userId) {
+            if (!seen.add(userId)) {
+                return false;
+            }
+            unsent++;
+            return true;
+        }
+
+        int takeUnsent() {
+            int taken = unsent;
+            unsent = 0;
+            return taken;
+        }
+
+        int size() {
+            return seen.size();
+        }
+    }
+
+    private static final class Rollup {
+        final long bucket;
+        final String flagKey;
+        final String variantId;
+
+        Rollup(long bucket, String flagKey, String variantId) {
+            this.bucket = bucket;
+            this.flagKey = flagKey;
+            this.variantId = variantId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Rollup)) {
+                return false;
+            }
+            Rollup other = (Rollup) o;
+            return bucket == other.bucket && flagKey.equals(other.flagKey) && Objects.equals(variantId, other.variantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bucket, flagKey, variantId);
+        }
+    }
+}
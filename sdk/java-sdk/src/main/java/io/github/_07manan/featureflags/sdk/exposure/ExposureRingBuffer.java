@@ -0,0 +1,109 @@
+package io.github._07manan.featureflags.sdk.exposure;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded lock-free buffer of exposures with many producers and a single consumer.
+ * <p>
+ * Each slot carries a sequence number telling producers and the consumer whose turn it is.
+ * A producer claims the next position with one compare-and-set, writes the slot and publishes
+ * it by advancing the slot's sequence; the consumer frees the slot the same way. When the buffer
+ * is full, {@link #offer} gives up immediately and counts the exposure as dropped.
+ */
+final class ExposureRingBuffer {
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final String[] flagKeys;
+    private final String[] variantIds;
+    private final String[] userIds;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private long head;
+
+    /**
+     * @param capacity the number of slots, a power of two
+     */
+    ExposureRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two and at least 2");
+        }
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.flagKeys = new String[capacity];
+        this.variantIds = new String[capacity];
+        this.userIds = new String[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Appends an exposure. Safe to call from any thread; never blocks.
+     *
+     * @return false if the buffer was full and the exposure was dropped
+     */
+    boolean offer(String flagKey, String variantId, String userId) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long sequence = sequences.getAcquire(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    flagKeys[index] = flagKey;
+                    variantIds[index] = variantId;
+                    userIds[index] = userId;
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (sequence < position) {
+                // The consumer hasn't freed this slot from the previous lap yet
+                dropped.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes all published exposures, up to {@code limit}. Must only be called by one thread at a time.
+     *
+     * @return the number of exposures removed
+     */
+    int drain(ExposureConsumer consumer, int limit) {
+        int count = 0;
+        while (count < limit) {
+            int index = (int) head & mask;
+            if (sequences.getAcquire(index) != head + 1) {
+                break;
+            }
+            String flagKey = flagKeys[index];
+            String variantId = variantIds[index];
+            String userId = userIds[index];
+            flagKeys[index] = null;
+            variantIds[index] = null;
+            userIds[index] = null;
+            sequences.setRelease(index, head + mask + 1);
+            head++;
+            count++;
+            consumer.accept(flagKey, variantId, userId);
+        }
+        return count;
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    @FunctionalInterface
+    interface ExposureConsumer {
+        void accept(String flagKey, String variantId, String userId);
+    }
+}
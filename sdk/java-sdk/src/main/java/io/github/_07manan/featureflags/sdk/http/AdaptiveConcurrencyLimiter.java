@@ -0,0 +1,174 @@
+package io.github._07manan.featureflags.sdk.http;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD concurrency limiter for outbound evaluation requests.
+ * <p>
+ * The limit grows by one while round-trip times stay close to the best RTT observed so far
+ * and the limit is actually being used, and shrinks multiplicatively when requests fail or
+ * RTT degrades past the tolerance. Like TCP congestion control, it grows at most once per
+ * baseline RTT and backs off at most once per round trip: a failure only backs off if its
+ * request was sent after the previous backoff, so a burst of requests failing together counts
+ * as one congestion signal. Callers that find the limit saturated wait in a short,
+ * bounded queue; if no permit frees up in time they are rejected so they can fall back to
+ * their default value instead of piling more load onto a slow evaluation API.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    private static final int MIN_LIMIT = 1;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double RTT_TOLERANCE = 2.0;
+    // Let the baseline RTT drift upwards slowly so a single lucky sample can't pin it forever
+    private static final double BASELINE_DECAY = 0.01;
+
+    private final int maxLimit;
+    private final long maxWaitNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private double baselineRttNanos = Double.NaN;
+    private boolean backedOff;
+    private long lastBackoffNanos;
+    private long lastIncreaseNanos = System.nanoTime();
+
+    /**
+     * Creates a new limiter.
+     *
+     * @param initialLimit the starting concurrency limit
+     * @param maxLimit the upper bound the limit can grow to
+     * @param maxWait how long a caller may queue for a permit (0 fails fast)
+     * @param unit the time unit for maxWait
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit, long maxWait, TimeUnit unit) {
+        if (initialLimit < MIN_LIMIT || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= initialLimit <= maxLimit");
+        }
+        if (maxWait < 0) {
+            throw new IllegalArgumentException("Queue wait must not be negative");
+        }
+        this.limit = initialLimit;
+        this.maxLimit = maxLimit;
+        this.maxWaitNanos = unit.toNanos(maxWait);
+
+        logger.debug("AdaptiveConcurrencyLimiter initialized with limit: {}, max: {}", initialLimit, maxLimit);
+    }
+
+    /**
+     * Acquires a permit, waiting up to the configured queue timeout if the limit is saturated.
+     * Every successful acquire must be paired with exactly one {@link #release(long, boolean)}.
+     *
+     * @return true if a permit was acquired, false if the request should be rejected
+     */
+    public boolean acquire() {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+
+            // Bound the queue to the current limit so waiters can't outnumber what can run
+            if (maxWaitNanos == 0 || waiting >= (int) limit) {
+                return false;
+            }
+
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = permitReleased.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a permit and feeds the observed round trip into the limit.
+     *
+     * @param rttNanos the round-trip time of the request in nanoseconds
+     * @param dropped true if the request failed or timed out, which always backs off the limit
+     */
+    public void release(long rttNanos, boolean dropped) {
+        lock.lock();
+        try {
+            inFlight--;
+            long now = System.nanoTime();
+
+            if (dropped) {
+                backOff(now, rttNanos);
+            } else {
+                if (Double.isNaN(baselineRttNanos) || rttNanos < baselineRttNanos) {
+                    baselineRttNanos = rttNanos;
+                } else {
+                    baselineRttNanos += (rttNanos - baselineRttNanos) * BASELINE_DECAY;
+                }
+
+                if (rttNanos > baselineRttNanos * RTT_TOLERANCE) {
+                    backOff(now, rttNanos);
+                } else if (inFlight * 2 >= (int) limit && now - lastIncreaseNanos >= baselineRttNanos) {
+                    // Only grow when the limit is actually the constraint
+                    limit = Math.min(maxLimit, limit + 1);
+                    lastIncreaseNanos = now;
+                }
+            }
+
+            permitReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Shrinks the limit unless the request was already in flight when it last shrank, in which
+     * case its failure reflects the old limit. Must be called with the lock held.
+     */
+    private void backOff(long now, long rttNanos) {
+        long sentAt = now - rttNanos;
+        if (backedOff && sentAt - lastBackoffNanos < 0) {
+            return;
+        }
+        limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+        backedOff = true;
+        lastBackoffNanos = now;
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
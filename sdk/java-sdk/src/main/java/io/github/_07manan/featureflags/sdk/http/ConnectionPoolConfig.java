@@ -0,0 +1,92 @@
+package io.github._07manan.featureflags.sdk.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection pool settings for {@link HttpClient}.
+ * <p>
+ * Durations are stored in milliseconds. A warm-up count of 0 disables pre-warming.
+ */
+public class ConnectionPoolConfig {
+    public static final int DEFAULT_MAX_CONNECTIONS = 200;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 200;
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = TimeUnit.SECONDS.toMillis(60);
+    public static final long DEFAULT_IDLE_EVICTION_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    public static final long DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS = TimeUnit.SECONDS.toMillis(2);
+
+    private final int maxConnections;
+    private final int maxConnectionsPerRoute;
+    private final long keepAliveMillis;
+    private final long idleEvictionMillis;
+    private final long validateAfterInactivityMillis;
+    private final int warmUpConnections;
+
+    /**
+     * Creates a new pool configuration.
+     *
+     * @param maxConnections maximum connections across all routes
+     * @param maxConnectionsPerRoute maximum connections to the evaluation API host
+     * @param keepAliveMillis how long an idle connection may be kept for reuse
+     * @param idleEvictionMillis idle time after which the background evictor closes a connection
+     * @param validateAfterInactivityMillis idle time after which a connection is checked before reuse
+     * @param warmUpConnections number of connections to open at startup
+     */
+    public ConnectionPoolConfig(
+            int maxConnections,
+            int maxConnectionsPerRoute,
+            long keepAliveMillis,
+            long idleEvictionMillis,
+            long validateAfterInactivityMillis,
+            int warmUpConnections) {
+        if (maxConnections < 1 || maxConnectionsPerRoute < 1) {
+            throw new IllegalArgumentException("Connection pool sizes must be positive");
+        }
+        if (maxConnectionsPerRoute > maxConnections) {
+            throw new IllegalArgumentException("Per-route connection limit cannot exceed the total limit");
+        }
+        if (warmUpConnections < 0 || warmUpConnections > maxConnectionsPerRoute) {
+            throw new IllegalArgumentException("Warm-up connections must be between 0 and the per-route limit");
+        }
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.keepAliveMillis = keepAliveMillis;
+        this.idleEvictionMillis = idleEvictionMillis;
+        this.validateAfterInactivityMillis = validateAfterInactivityMillis;
+        this.warmUpConnections = warmUpConnections;
+    }
+
+    public static ConnectionPoolConfig defaults() {
+        return new ConnectionPoolConfig(
+                DEFAULT_MAX_CONNECTIONS,
+                DEFAULT_MAX_CONNECTIONS_PER_ROUTE,
+                DEFAULT_KEEP_ALIVE_MILLIS,
+                DEFAULT_IDLE_EVICTION_MILLIS,
+                DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS,
+                0
+        );
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    public long getIdleEvictionMillis() {
+        return idleEvictionMillis;
+    }
+
+    public long getValidateAfterInactivityMillis() {
+        return validateAfterInactivityMillis;
+    }
+
+    public int getWarmUpConnections() {
+        return warmUpConnections;
+    }
+}
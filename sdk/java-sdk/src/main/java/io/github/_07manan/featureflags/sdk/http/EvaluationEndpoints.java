@@ -0,0 +1,51 @@
+package io.github._07manan.featureflags.sdk.http;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds request URLs for the evaluation API contract shared by all HTTP transports.
+ */
+final class EvaluationEndpoints {
+    static final String API_KEY_HEADER = "X-API-Key";
+    static final String TRACEPARENT_HEADER = "traceparent";
+    // URL templates identifying each endpoint in metrics, without the per-request key and user
+    static final String FLAG_TEMPLATE = "/evaluate/{flagKey}";
+    static final String ALL_FLAGS_TEMPLATE = "/evaluate";
+
+    private EvaluationEndpoints() {
+    }
+
+    static String normalizeBaseUrl(String baseUrl) {
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    static String flagUrl(String baseUrl, String flagKey, String userId) {
+        String encodedFlagKey = URLEncoder.encode(flagKey, StandardCharsets.UTF_8);
+        StringBuilder urlBuilder = new StringBuilder()
+                .append(baseUrl)
+                .append("/evaluate/")
+                .append(encodedFlagKey);
+        appendUser(urlBuilder, userId);
+        return urlBuilder.toString();
+    }
+
+    static String allFlagsUrl(String baseUrl, String userId) {
+        StringBuilder urlBuilder = new StringBuilder()
+                .append(baseUrl)
+                .append("/evaluate");
+        appendUser(urlBuilder, userId);
+        return urlBuilder.toString();
+    }
+
+    static String healthUrl(String baseUrl) {
+        return baseUrl + "/health";
+    }
+
+    private static void appendUser(StringBuilder urlBuilder, String userId) {
+        if (userId != null && !userId.isEmpty()) {
+            String encodedUserId = URLEncoder.encode(userId, StandardCharsets.UTF_8);
+            urlBuilder.append("?user=").append(encodedUserId);
+        }
+    }
+}
@@ -1,40 +1,49 @@
 package io.github._07manan.featureflags.sdk.http;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
 import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
 import io.github._07manan.featureflags.sdk.exception.FlagNotFoundException;
+import io.github._07manan.featureflags.sdk.jfr.HttpRequestEvent;
+import io.github._07manan.featureflags.sdk.metrics.FeatureFlagMetrics;
 import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.tracing.FlagSpan;
+import io.github._07manan.featureflags.sdk.tracing.FlagTracer;
+import io.github._07manan.featureflags.sdk.transport.EvaluationTransport;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.core5.http.ClassicHttpResponse;
-import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.pool.PoolStats;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
-public class HttpClient implements AutoCloseable {
+/**
+ * Default {@link EvaluationTransport} backed by a pooled Apache HttpClient (HTTP/1.1).
+ */
+public class HttpClient implements EvaluationTransport {
     private static final Logger logger = LoggerFactory.getLogger(HttpClient.class);
-    private static final String API_KEY_HEADER = "X-API-Key";
     
     private final String baseUrl;
     private final String apiKey;
+    private final HttpConnectionPool pool;
+    private final boolean ownsPool;
     private final CloseableHttpClient httpClient;
-    private final ObjectMapper objectMapper;
+    private final ResponseDecoder decoder;
+    private final FeatureFlagMetrics metrics;
+    private final FlagTracer tracer;
+    private final EvaluationResponseHandler evaluationHandler = new EvaluationResponseHandler();
+    // Overrides the pool's timeouts for this client's requests once set at runtime
+    private volatile RequestConfig requestConfig;
 
     /**
-     * Creates a new HTTP client with specified configuration.
+     * Creates a new HTTP client with specified configuration and default connection pooling.
      *
      * @param baseUrl the base URL of the evaluation API
      * @param apiKey the API key for authentication
@@ -43,22 +52,109 @@ public class HttpClient implements AutoCloseable {
      * @param timeUnit time unit for timeouts
      */
     public HttpClient(String baseUrl, String apiKey, long connectionTimeout, long socketTimeout, TimeUnit timeUnit) {
-        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this(baseUrl, apiKey, connectionTimeout, socketTimeout, timeUnit, ConnectionPoolConfig.defaults());
+    }
+
+    /**
+     * Creates a new HTTP client with specified configuration.
+     *
+     * @param baseUrl the base URL of the evaluation API
+     * @param apiKey the API key for authentication
+     * @param connectionTimeout connection timeout
+     * @param socketTimeout socket/read timeout
+     * @param timeUnit time unit for timeouts
+     * @param poolConfig connection pool sizing, keep-alive and eviction settings
+     */
+    public HttpClient(
+            String baseUrl,
+            String apiKey,
+            long connectionTimeout,
+            long socketTimeout,
+            TimeUnit timeUnit,
+            ConnectionPoolConfig poolConfig) {
+        this(baseUrl, apiKey, connectionTimeout, socketTimeout, timeUnit, poolConfig, FeatureFlagMetrics.NOOP, FlagTracer.NOOP);
+    }
+
+    /**
+     * Creates a new HTTP client that reports its requests to a metrics recorder and traces them.
+     *
+     * @param baseUrl the base URL of the evaluation API
+     * @param apiKey the API key for authentication
+     * @param connectionTimeout connection timeout
+     * @param socketTimeout socket/read timeout
+     * @param timeUnit time unit for timeouts
+     * @param poolConfig connection pool sizing, keep-alive and eviction settings
+     * @param metrics the recorder for request counts, status codes and latencies
+     * @param tracer the tracer creating a span per request
+     */
+    public HttpClient(
+            String baseUrl,
+            String apiKey,
+            long connectionTimeout,
+            long socketTimeout,
+            TimeUnit timeUnit,
+            ConnectionPoolConfig poolConfig,
+            FeatureFlagMetrics metrics,
+            FlagTracer tracer) {
+        this(baseUrl, apiKey, new HttpConnectionPool(connectionTimeout, socketTimeout, timeUnit, poolConfig), true, metrics, tracer);
+    }
+
+    /**
+     * Creates a new HTTP client on a shared connection pool. Closing the client leaves the pool open.
+     *
+     * @param baseUrl the base URL of the evaluation API
+     * @param apiKey the API key for authentication
+     * @param pool the shared connection pool
+     */
+    public HttpClient(String baseUrl, String apiKey, HttpConnectionPool pool) {
+        this(baseUrl, apiKey, pool, false, FeatureFlagMetrics.NOOP, FlagTracer.NOOP);
+    }
+
+    /**
+     * Creates a new HTTP client on a shared connection pool that reports its requests to a
+     * metrics recorder and traces them. Closing the client leaves the pool open.
+     *
+     * @param baseUrl the base URL of the evaluation API
+     * @param apiKey the API key for authentication
+     * @param pool the shared connection pool
+     * @param metrics the recorder for request counts, status codes and latencies
+     * @param tracer the tracer creating a span per request
+     */
+    public HttpClient(String baseUrl, String apiKey, HttpConnectionPool pool, FeatureFlagMetrics metrics, FlagTracer tracer) {
+        this(baseUrl, apiKey, pool, false, metrics, tracer);
+    }
+
+    private HttpClient(
+            String baseUrl,
+            String apiKey,
+            HttpConnectionPool pool,
+            boolean ownsPool,
+            FeatureFlagMetrics metrics,
+            FlagTracer tracer) {
+        this.baseUrl = EvaluationEndpoints.normalizeBaseUrl(baseUrl);
         this.apiKey = apiKey;
-        this.objectMapper = new ObjectMapper();
-        
-        RequestConfig requestConfig = RequestConfig.custom()
-                .setConnectionRequestTimeout(Timeout.of(connectionTimeout, timeUnit))
-                .setResponseTimeout(Timeout.of(socketTimeout, timeUnit))
-                .build();
-        
-        this.httpClient = HttpClients.custom()
-                .setDefaultRequestConfig(requestConfig)
-                .build();
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.httpClient = pool.httpClient();
+        this.decoder = new ResponseDecoder();
+        this.metrics = metrics;
+        this.tracer = tracer;
         
         logger.debug("HttpClient initialized with baseUrl: {}", baseUrl);
     }
 
+    /**
+     * Opens connections to the evaluation API ahead of the first request.
+     * See {@link HttpConnectionPool#warmUp(String, int)}.
+     *
+     * @param connections the number of connections to open
+     * @return the number of connections that were successfully opened
+     */
+    @Override
+    public int warmUp(int connections) {
+        return pool.warmUp(baseUrl, connections);
+    }
+
     /**
      * Evaluates a single flag for a specific user.
      *
@@ -69,26 +165,34 @@ public class HttpClient implements AutoCloseable {
      * @throws FlagNotFoundException if the flag is not found (404)
      * @throws FeatureFlagException for other errors
      */
+    @Override
     public EvaluationResult evaluateFlag(String flagKey, String userId) {
-        String encodedFlagKey = URLEncoder.encode(flagKey, StandardCharsets.UTF_8);
-        StringBuilder urlBuilder = new StringBuilder()
-                .append(baseUrl)
-                .append("/evaluate/")
-                .append(encodedFlagKey);
-        
-        if (userId != null && !userId.isEmpty()) {
-            String encodedUserId = URLEncoder.encode(userId, StandardCharsets.UTF_8);
-            urlBuilder.append("?user=").append(encodedUserId);
+        EvaluationResult result = findFlag(flagKey, userId);
+        if (result == null) {
+            throw new FlagNotFoundException(flagKey);
         }
-        
-        String url = urlBuilder.toString();
+        return result;
+    }
+
+    /**
+     * Evaluates a single flag for a specific user, returning null if the flag is not found (404).
+     *
+     * @param flagKey the flag key to evaluate
+     * @param userId the user ID (can be null)
+     * @return the evaluation result, or null if the flag is not found
+     * @throws AuthenticationException if authentication fails (401)
+     * @throws FeatureFlagException for other errors
+     */
+    @Override
+    public EvaluationResult findFlag(String flagKey, String userId) {
+        String url = EvaluationEndpoints.flagUrl(baseUrl, flagKey, userId);
         logger.debug("Evaluating flag: {} for user: {}", flagKey, userId);
         
         HttpGet request = new HttpGet(url);
-        request.setHeader(API_KEY_HEADER, apiKey);
+        request.setHeader(EvaluationEndpoints.API_KEY_HEADER, apiKey);
         
         try {
-            return httpClient.execute(request, new EvaluationResponseHandler(flagKey));
+            return execute(request, EvaluationEndpoints.FLAG_TEMPLATE, flagKey, evaluationHandler);
         } catch (IOException e) {
             throw new FeatureFlagException("Failed to evaluate flag: " + flagKey, e);
         }
@@ -102,62 +206,117 @@ public class HttpClient implements AutoCloseable {
      * @throws AuthenticationException if authentication fails (401)
      * @throws FeatureFlagException for other errors
      */
+    @Override
     public Map<String, EvaluationResult> evaluateAllFlags(String userId) {
-        StringBuilder urlBuilder = new StringBuilder()
-                .append(baseUrl)
-                .append("/evaluate");
-        
-        if (userId != null && !userId.isEmpty()) {
-            String encodedUserId = URLEncoder.encode(userId, StandardCharsets.UTF_8);
-            urlBuilder.append("?user=").append(encodedUserId);
-        }
-        
-        String url = urlBuilder.toString();
+        String url = EvaluationEndpoints.allFlagsUrl(baseUrl, userId);
         logger.debug("Evaluating all flags for user: {}", userId);
         
         HttpGet request = new HttpGet(url);
-        request.setHeader(API_KEY_HEADER, apiKey);
+        request.setHeader(EvaluationEndpoints.API_KEY_HEADER, apiKey);
         
         try {
-            return httpClient.execute(request, new BulkEvaluationResponseHandler());
+            return execute(request, EvaluationEndpoints.ALL_FLAGS_TEMPLATE, null, new BulkEvaluationResponseHandler());
         } catch (IOException e) {
             throw new FeatureFlagException("Failed to evaluate all flags", e);
         }
     }
 
+    /**
+     * Overrides the pool's timeouts for this client's requests. Other clients sharing the pool
+     * keep their timeouts.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void setTimeouts(long connectionTimeout, long socketTimeout, TimeUnit unit) {
+        this.requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(connectionTimeout, unit))
+                // Deprecated in favour of the pool-wide ConnectionConfig, but still applied per request
+                .setConnectTimeout(Timeout.of(connectionTimeout, unit))
+                .setResponseTimeout(Timeout.of(socketTimeout, unit))
+                .build();
+        logger.info("HttpClient timeouts changed to connect: {} {}, socket: {} {}", connectionTimeout, unit, socketTimeout, unit);
+    }
+
     @Override
     public void close() {
+        if (ownsPool) {
+            pool.close();
+        }
+        logger.debug("HttpClient closed");
+    }
+
+    /**
+     * Executes a request in a span, recording its status code and latency, or an error if it got
+     * no response.
+     *
+     * @param flagKey the flag key, or null for bulk requests
+     */
+    private <T> T execute(HttpGet request, String endpoint, String flagKey, HttpClientResponseHandler<T> handler) throws IOException {
+        RequestConfig config = requestConfig;
+        if (config != null) {
+            request.setConfig(config);
+        }
+        FlagSpan span = startSpan(request, endpoint, flagKey);
+        HttpRequestEvent event = new HttpRequestEvent();
+        event.begin();
+        long start = System.nanoTime();
         try {
-            httpClient.close();
-            logger.debug("HttpClient closed");
+            return httpClient.execute(request, response -> {
+                span.addEvent(FlagTracer.RESPONSE_RECEIVED_EVENT);
+                span.setAttribute(FlagTracer.HTTP_STATUS_CODE, response.getCode());
+                if (response.getEntity() != null && response.getEntity().getContentLength() >= 0) {
+                    span.setAttribute(FlagTracer.RESPONSE_SIZE, response.getEntity().getContentLength());
+                }
+                try {
+                    return handler.handleResponse(response);
+                } finally {
+                    metrics.httpRequest(endpoint, response.getCode(), System.nanoTime() - start);
+                    event.complete(endpoint, response.getCode());
+                }
+            });
         } catch (IOException e) {
-            logger.warn("Error closing HttpClient", e);
+            metrics.httpError(endpoint, System.nanoTime() - start);
+            event.fail(endpoint, e);
+            span.recordException(e);
+            throw e;
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
         }
     }
 
-    private class EvaluationResponseHandler implements HttpClientResponseHandler<EvaluationResult> {
-        private final String flagKey;
+    /**
+     * Starts the request's span and adds its {@code traceparent} header. The pool counts show
+     * whether time before the response went to waiting for a connection.
+     */
+    private FlagSpan startSpan(HttpGet request, String endpoint, String flagKey) {
+        if (tracer == FlagTracer.NOOP) {
+            return FlagSpan.NOOP;
+        }
+        FlagSpan span = tracer.startSpan("GET " + endpoint);
+        span.setAttribute(FlagTracer.HTTP_METHOD, "GET");
+        span.setAttribute(FlagTracer.URL_TEMPLATE, endpoint);
+        if (flagKey != null) {
+            span.setAttribute(FlagTracer.FLAG_KEY, flagKey);
+        }
+        PoolStats stats = pool.stats();
+        span.setAttribute(FlagTracer.POOL_LEASED, stats.getLeased());
+        span.setAttribute(FlagTracer.POOL_PENDING, stats.getPending());
 
-        EvaluationResponseHandler(String flagKey) {
-            this.flagKey = flagKey;
+        String traceparent = span.traceparent();
+        if (traceparent != null) {
+            request.setHeader(EvaluationEndpoints.TRACEPARENT_HEADER, traceparent);
         }
+        return span;
+    }
 
+    private class EvaluationResponseHandler implements HttpClientResponseHandler<EvaluationResult> {
         @Override
         public EvaluationResult handleResponse(ClassicHttpResponse response) throws IOException {
-            int statusCode = response.getCode();
-            
-            if (statusCode == HttpStatus.SC_OK) {
-                try (InputStream content = response.getEntity().getContent()) {
-                    return objectMapper.readValue(content, EvaluationResult.class);
-                }
-            } else if (statusCode == HttpStatus.SC_UNAUTHORIZED) {
-                throw new AuthenticationException("Invalid or missing API key");
-            } else if (statusCode == HttpStatus.SC_NOT_FOUND) {
-                throw new FlagNotFoundException(flagKey);
-            } else {
-                String errorMsg = String.format("API request failed with status code: %d", statusCode);
-                logger.error(errorMsg);
-                throw new FeatureFlagException(errorMsg);
+            try (InputStream content = response.getEntity() != null ? response.getEntity().getContent() : null) {
+                return decoder.decodeEvaluation(response.getCode(), content);
             }
         }
     }
@@ -165,26 +324,8 @@ public class HttpClient implements AutoCloseable {
     private class BulkEvaluationResponseHandler implements HttpClientResponseHandler<Map<String, EvaluationResult>> {
         @Override
         public Map<String, EvaluationResult> handleResponse(ClassicHttpResponse response) throws IOException {
-            int statusCode = response.getCode();
-            
-            if (statusCode == HttpStatus.SC_OK) {
-                try (InputStream content = response.getEntity().getContent()) {
-
-                    Map<String, Object> wrapper = objectMapper.readValue(content, new TypeReference<>() {});
-                    Object flagsObj = wrapper.get("flags");
-                    
-                    if (flagsObj == null) {
-                        throw new FeatureFlagException("Invalid API response: missing 'flags' field");
-                    }
-                    
-                    return objectMapper.convertValue(flagsObj, new TypeReference<>() {});
-                }
-            } else if (statusCode == HttpStatus.SC_UNAUTHORIZED) {
-                throw new AuthenticationException("Invalid or missing API key");
-            } else {
-                String errorMsg = String.format("API request failed with status code: %d", statusCode);
-                logger.error(errorMsg);
-                throw new FeatureFlagException(errorMsg);
+            try (InputStream content = response.getEntity() != null ? response.getEntity().getContent() : null) {
+                return decoder.decodeBulkEvaluation(response.getCode(), content);
             }
         }
     }
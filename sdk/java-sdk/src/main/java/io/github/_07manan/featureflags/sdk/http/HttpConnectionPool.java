@@ -0,0 +1,161 @@
+package io.github._07manan.featureflags.sdk.http;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pooled Apache HttpClient that any number of {@link HttpClient} transports can share.
+ * <p>
+ * Transports created with {@link HttpClient#HttpClient(String, String, HttpConnectionPool)} use
+ * the pool without owning it, so many environments talking to the same evaluation API reuse one
+ * set of connections and one idle-eviction thread. Close the pool after its transports.
+ */
+public class HttpConnectionPool implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(HttpConnectionPool.class);
+
+    private final CloseableHttpClient httpClient;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final Timeout connectionTimeout;
+    private final TimeValue keepAlive;
+
+    /**
+     * Creates a new connection pool.
+     *
+     * @param connectionTimeout connection timeout
+     * @param socketTimeout socket/read timeout
+     * @param timeUnit time unit for timeouts
+     * @param poolConfig connection pool sizing, keep-alive and eviction settings
+     */
+    public HttpConnectionPool(long connectionTimeout, long socketTimeout, TimeUnit timeUnit, ConnectionPoolConfig poolConfig) {
+        this.connectionTimeout = Timeout.of(connectionTimeout, timeUnit);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(this.connectionTimeout)
+                .setResponseTimeout(Timeout.of(socketTimeout, timeUnit))
+                .build();
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(this.connectionTimeout)
+                .setSocketTimeout(Timeout.of(socketTimeout, timeUnit))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(poolConfig.getValidateAfterInactivityMillis()))
+                .build();
+
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(poolConfig.getMaxConnections())
+                .setMaxConnPerRoute(poolConfig.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        this.keepAlive = TimeValue.ofMilliseconds(poolConfig.getKeepAliveMillis());
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(poolConfig.getIdleEvictionMillis()))
+                .build();
+
+        logger.debug("HttpConnectionPool initialized with max connections: {}", poolConfig.getMaxConnections());
+    }
+
+    CloseableHttpClient httpClient() {
+        return httpClient;
+    }
+
+    /**
+     * @return the pool's current leased, pending and available connection counts
+     */
+    PoolStats stats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Opens connections to a host ahead of the first request so that TCP and TLS setup is not
+     * paid on the request path. All connections are leased before any is released, so the pool
+     * ends up holding that many distinct, ready-to-use connections.
+     *
+     * @param baseUrl the URL whose host to connect to
+     * @param connections the number of connections to open
+     * @return the number of connections that were successfully opened
+     */
+    public int warmUp(String baseUrl, int connections) {
+        if (connections <= 0) {
+            return 0;
+        }
+
+        URI uri = URI.create(baseUrl);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+        // Must match the route the request executor plans, including the resolved default port
+        HttpRoute route = new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+
+        List<ConnectionEndpoint> endpoints = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                ConnectionEndpoint endpoint = connectionManager
+                        .lease("warm-up-" + i, route, connectionTimeout, null)
+                        .get(connectionTimeout);
+                try {
+                    if (!endpoint.isConnected()) {
+                        connectionManager.connect(endpoint, connectionTimeout, HttpClientContext.create());
+                    }
+                } catch (IOException e) {
+                    // Discard the half-opened endpoint instead of returning it to the pool
+                    connectionManager.release(endpoint, null, TimeValue.ZERO_MILLISECONDS);
+                    throw e;
+                }
+                endpoints.add(endpoint);
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.warn("Connection warm-up stopped after {} of {} connections", endpoints.size(), connections, e);
+        }
+
+        for (ConnectionEndpoint endpoint : endpoints) {
+            connectionManager.release(endpoint, null, keepAlive);
+        }
+        int opened = endpoints.size();
+
+        logger.debug("Warmed up {} connections to {}", opened, baseUrl);
+        return opened;
+    }
+
+    /**
+     * @return the number of connections currently leased or idle in the pool
+     */
+    public int getOpenConnections() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return stats.getLeased() + stats.getAvailable();
+    }
+
+    @Override
+    public void close() {
+        try {
+            httpClient.close();
+            logger.debug("HttpConnectionPool closed");
+        } catch (IOException e) {
+            logger.warn("Error closing HttpConnectionPool", e);
+        }
+    }
+}
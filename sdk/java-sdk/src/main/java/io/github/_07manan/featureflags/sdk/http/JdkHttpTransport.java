@@ -0,0 +1,299 @@
+package io.github._07manan.featureflags.sdk.http;
+
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import io.github._07manan.featureflags.sdk.exception.FlagNotFoundException;
+import io.github._07manan.featureflags.sdk.jfr.HttpRequestEvent;
+import io.github._07manan.featureflags.sdk.metrics.FeatureFlagMetrics;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.tracing.FlagSpan;
+import io.github._07manan.featureflags.sdk.tracing.FlagTracer;
+import io.github._07manan.featureflags.sdk.transport.EvaluationTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EvaluationTransport} backed by {@code java.net.http.HttpClient} negotiating HTTP/2.
+ * <p>
+ * Concurrent evaluations are multiplexed as streams over a single connection per host instead
+ * of each holding a pooled HTTP/1.1 socket, which keeps the socket count flat and avoids
+ * head-of-line blocking between requests. Against plain-HTTP endpoints that don't support
+ * h2c the JDK client falls back to HTTP/1.1.
+ */
+public class JdkHttpTransport implements EvaluationTransport {
+    private static final Logger logger = LoggerFactory.getLogger(JdkHttpTransport.class);
+
+    private final String baseUrl;
+    private final String apiKey;
+    private volatile Duration requestTimeout;
+    private final java.net.http.HttpClient httpClient;
+    private final boolean ownsClient;
+    private final ResponseDecoder decoder;
+    private final FeatureFlagMetrics metrics;
+    private final FlagTracer tracer;
+
+    /**
+     * Creates a new HTTP/2 transport.
+     *
+     * @param baseUrl the base URL of the evaluation API
+     * @param apiKey the API key for authentication
+     * @param connectionTimeout connection timeout
+     * @param socketTimeout per-request response timeout
+     * @param timeUnit time unit for timeouts
+     */
+    public JdkHttpTransport(String baseUrl, String apiKey, long connectionTimeout, long socketTimeout, TimeUnit timeUnit) {
+        this(baseUrl, apiKey, connectionTimeout, socketTimeout, timeUnit, FeatureFlagMetrics.NOOP, FlagTracer.NOOP);
+    }
+
+    /**
+     * Creates a new HTTP/2 transport that reports its requests to a metrics recorder.
+     *
+     * @param baseUrl the base URL of the evaluation API
+     * @param apiKey the API key for authentication
+     * @param connectionTimeout connection timeout
+     * @param socketTimeout per-request response timeout
+     * @param timeUnit time unit for timeouts
+     * @param metrics the recorder for request counts, status codes and latencies
+     * @param tracer the tracer creating a span per request
+     */
+    public JdkHttpTransport(
+            String baseUrl,
+            String apiKey,
+            long connectionTimeout,
+            long socketTimeout,
+            TimeUnit timeUnit,
+            FeatureFlagMetrics metrics,
+            FlagTracer tracer) {
+        this(baseUrl, apiKey, newHttpClient(connectionTimeout, timeUnit), true, socketTimeout, timeUnit, metrics, tracer);
+    }
+
+    /**
+     * Creates a new HTTP/2 transport on a shared {@code java.net.http.HttpClient}, for example one
+     * created with {@link #newHttpClient(long, TimeUnit)}. Closing the transport leaves the client open.
+     *
+     * @param baseUrl the base URL of the evaluation API
+     * @param apiKey the API key for authentication
+     * @param httpClient the shared client
+     * @param socketTimeout per-request response timeout
+     * @param timeUnit time unit for the timeout
+     */
+    public JdkHttpTransport(String baseUrl, String apiKey, java.net.http.HttpClient httpClient, long socketTimeout, TimeUnit timeUnit) {
+        this(baseUrl, apiKey, httpClient, false, socketTimeout, timeUnit, FeatureFlagMetrics.NOOP, FlagTracer.NOOP);
+    }
+
+    /**
+     * Creates a new HTTP/2 transport on a shared {@code java.net.http.HttpClient} that reports its
+     * requests to a metrics recorder. Closing the transport leaves the client open.
+     *
+     * @param baseUrl the base URL of the evaluation API
+     * @param apiKey the API key for authentication
+     * @param httpClient the shared client
+     * @param socketTimeout per-request response timeout
+     * @param timeUnit time unit for the timeout
+     * @param metrics the recorder for request counts, status codes and latencies
+     * @param tracer the tracer creating a span per request
+     */
+    public JdkHttpTransport(
+            String baseUrl,
+            String apiKey,
+            java.net.http.HttpClient httpClient,
+            long socketTimeout,
+            TimeUnit timeUnit,
+            FeatureFlagMetrics metrics,
+            FlagTracer tracer) {
+        this(baseUrl, apiKey, httpClient, false, socketTimeout, timeUnit, metrics, tracer);
+    }
+
+    private JdkHttpTransport(
+            String baseUrl,
+            String apiKey,
+            java.net.http.HttpClient httpClient,
+            boolean ownsClient,
+            long socketTimeout,
+            TimeUnit timeUnit,
+            FeatureFlagMetrics metrics,
+            FlagTracer tracer) {
+        this.baseUrl = EvaluationEndpoints.normalizeBaseUrl(baseUrl);
+        this.apiKey = apiKey;
+        this.requestTimeout = Duration.ofNanos(timeUnit.toNanos(socketTimeout));
+        this.decoder = new ResponseDecoder();
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.httpClient = httpClient;
+        this.ownsClient = ownsClient;
+
+        logger.debug("JdkHttpTransport initialized with baseUrl: {}", baseUrl);
+    }
+
+    /**
+     * Creates a {@code java.net.http.HttpClient} that negotiates HTTP/2.
+     *
+     * @param connectionTimeout connection timeout
+     * @param timeUnit time unit for the timeout
+     * @return a new client owned by the caller
+     */
+    public static java.net.http.HttpClient newHttpClient(long connectionTimeout, TimeUnit timeUnit) {
+        return java.net.http.HttpClient.newBuilder()
+                .version(java.net.http.HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofNanos(timeUnit.toNanos(connectionTimeout)))
+                .build();
+    }
+
+    @Override
+    public EvaluationResult evaluateFlag(String flagKey, String userId) {
+        EvaluationResult result = findFlag(flagKey, userId);
+        if (result == null) {
+            throw new FlagNotFoundException(flagKey);
+        }
+        return result;
+    }
+
+    @Override
+    public EvaluationResult findFlag(String flagKey, String userId) {
+        logger.debug("Evaluating flag: {} for user: {}", flagKey, userId);
+
+        return exchange(EvaluationEndpoints.flagUrl(baseUrl, flagKey, userId), EvaluationEndpoints.FLAG_TEMPLATE,
+                flagKey, "Failed to evaluate flag: " + flagKey, decoder::decodeEvaluation);
+    }
+
+    @Override
+    public Map<String, EvaluationResult> evaluateAllFlags(String userId) {
+        logger.debug("Evaluating all flags for user: {}", userId);
+
+        return exchange(EvaluationEndpoints.allFlagsUrl(baseUrl, userId), EvaluationEndpoints.ALL_FLAGS_TEMPLATE,
+                null, "Failed to evaluate all flags", decoder::decodeBulkEvaluation);
+    }
+
+    /**
+     * Establishes the shared connection with a health check. Since all requests are
+     * multiplexed over it, a single connection is opened regardless of the requested count.
+     */
+    @Override
+    public int warmUp(int connections) {
+        if (connections <= 0) {
+            return 0;
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(EvaluationEndpoints.healthUrl(baseUrl)))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .timeout(requestTimeout)
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            logger.debug("Warmed up {} connection to {}", response.version(), baseUrl);
+            return 1;
+        } catch (IOException e) {
+            logger.warn("Connection warm-up to {} failed", baseUrl, e);
+            return 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    /**
+     * Changes the response timeout of subsequent requests. The connection timeout is fixed when
+     * the {@code java.net.http.HttpClient} is built and stays unchanged.
+     */
+    @Override
+    public void setTimeouts(long connectionTimeout, long socketTimeout, TimeUnit unit) {
+        this.requestTimeout = Duration.ofNanos(unit.toNanos(socketTimeout));
+        logger.info("JdkHttpTransport response timeout changed to {} {}", socketTimeout, unit);
+    }
+
+    @Override
+    public void close() {
+        if (ownsClient) {
+            httpClient.shutdownNow();
+        }
+        logger.debug("JdkHttpTransport closed");
+    }
+
+    /**
+     * Sends a request and decodes its body in a span that ends once the body is decoded.
+     *
+     * @param flagKey the flag key, or null for bulk requests
+     */
+    private <T> T exchange(String url, String endpoint, String flagKey, String errorMessage, BodyDecoder<T> bodyDecoder) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header(EvaluationEndpoints.API_KEY_HEADER, apiKey)
+                .timeout(requestTimeout)
+                .GET();
+        FlagSpan span = startSpan(request, endpoint, flagKey);
+        try {
+            HttpResponse<InputStream> response = send(request.build(), endpoint, errorMessage);
+            span.addEvent(FlagTracer.RESPONSE_RECEIVED_EVENT);
+            span.setAttribute(FlagTracer.HTTP_STATUS_CODE, response.statusCode());
+            response.headers().firstValueAsLong("content-length")
+                    .ifPresent(size -> span.setAttribute(FlagTracer.RESPONSE_SIZE, size));
+            try (InputStream content = response.body()) {
+                return bodyDecoder.decode(response.statusCode(), content);
+            } catch (IOException e) {
+                throw new FeatureFlagException(errorMessage, e);
+            }
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Starts the request's span and adds its {@code traceparent} header.
+     */
+    private FlagSpan startSpan(HttpRequest.Builder request, String endpoint, String flagKey) {
+        if (tracer == FlagTracer.NOOP) {
+            return FlagSpan.NOOP;
+        }
+        FlagSpan span = tracer.startSpan("GET " + endpoint);
+        span.setAttribute(FlagTracer.HTTP_METHOD, "GET");
+        span.setAttribute(FlagTracer.URL_TEMPLATE, endpoint);
+        if (flagKey != null) {
+            span.setAttribute(FlagTracer.FLAG_KEY, flagKey);
+        }
+        String traceparent = span.traceparent();
+        if (traceparent != null) {
+            request.header(EvaluationEndpoints.TRACEPARENT_HEADER, traceparent);
+        }
+        return span;
+    }
+
+    /**
+     * Sends a request, recording its status code and the latency until the response headers
+     * arrived, or an error if it got no response.
+     */
+    private HttpResponse<InputStream> send(HttpRequest request, String endpoint, String errorMessage) {
+        HttpRequestEvent event = new HttpRequestEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            metrics.httpRequest(endpoint, response.statusCode(), System.nanoTime() - start);
+            event.complete(endpoint, response.statusCode());
+            return response;
+        } catch (IOException e) {
+            metrics.httpError(endpoint, System.nanoTime() - start);
+            event.fail(endpoint, e);
+            throw new FeatureFlagException(errorMessage, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metrics.httpError(endpoint, System.nanoTime() - start);
+            event.fail(endpoint, e);
+            throw new FeatureFlagException(errorMessage, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyDecoder<T> {
+        T decode(int statusCode, InputStream content) throws IOException;
+    }
+}
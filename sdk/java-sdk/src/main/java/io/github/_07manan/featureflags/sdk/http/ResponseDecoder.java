@@ -0,0 +1,63 @@
+package io.github._07manan.featureflags.sdk.http;
+
+import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import io.github._07manan.featureflags.sdk.jfr.ResponseParseEvent;
+import io.github._07manan.featureflags.sdk.json.EvaluationCodec;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * Maps evaluation API responses to results or exceptions, independent of the HTTP library.
+ */
+class ResponseDecoder {
+    private static final Logger logger = LoggerFactory.getLogger(ResponseDecoder.class);
+    private static final int SC_OK = 200;
+    private static final int SC_UNAUTHORIZED = 401;
+    private static final int SC_NOT_FOUND = 404;
+
+    /**
+     * @return the decoded result, or null if the flag was not found (404)
+     */
+    EvaluationResult decodeEvaluation(int statusCode, InputStream content) throws IOException {
+        if (statusCode == SC_OK) {
+            ResponseParseEvent event = new ResponseParseEvent();
+            event.begin();
+            EvaluationResult result = EvaluationCodec.decodeResult(content);
+            event.complete(EvaluationEndpoints.FLAG_TEMPLATE, 1);
+            return result;
+        } else if (statusCode == SC_UNAUTHORIZED) {
+            throw new AuthenticationException("Invalid or missing API key");
+        } else if (statusCode == SC_NOT_FOUND) {
+            return null;
+        } else {
+            throw requestFailed(statusCode);
+        }
+    }
+
+    Map<String, EvaluationResult> decodeBulkEvaluation(int statusCode, InputStream content) throws IOException {
+        if (statusCode == SC_OK) {
+            ResponseParseEvent event = new ResponseParseEvent();
+            event.begin();
+            Map<String, EvaluationResult> results = EvaluationCodec.decodeFlags(content);
+            event.complete(EvaluationEndpoints.ALL_FLAGS_TEMPLATE, results.size());
+            return results;
+        } else if (statusCode == SC_UNAUTHORIZED) {
+            throw new AuthenticationException("Invalid or missing API key");
+        } else {
+            throw requestFailed(statusCode);
+        }
+    }
+
+    private FeatureFlagException requestFailed(int statusCode) {
+        String errorMsg = String.format("API request failed with status code: %d", statusCode);
+        // Logged once more by the client, which rate-limits its error logging
+        logger.debug(errorMsg);
+        return new FeatureFlagException(errorMsg);
+    }
+}
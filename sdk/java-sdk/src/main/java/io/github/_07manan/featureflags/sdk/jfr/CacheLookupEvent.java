@@ -0,0 +1,47 @@
+package io.github._07manan.featureflags.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a lookup in one of the client's local caches.
+ */
+@Name("io.github._07manan.featureflags.CacheLookup")
+@Label("Flag Cache Lookup")
+@Category("Feature Flags")
+@Description("Lookup of a flag result or a user's bulk result in the local cache")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class CacheLookupEvent extends Event {
+
+    @Label("Cache")
+    @Description("flags for single-flag results, bulk for all-flags results")
+    private String cache;
+
+    @Label("Flag Key")
+    private String flagKey;
+
+    @Label("Hit")
+    private boolean hit;
+
+    /**
+     * Ends the event and commits it if it is enabled and exceeded its threshold.
+     *
+     * @param cache the cache name
+     * @param flagKey the flag key, or null for bulk lookups
+     * @param hit whether an unexpired entry was found
+     */
+    public void complete(String cache, String flagKey, boolean hit) {
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.flagKey = flagKey;
+            this.hit = hit;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github._07manan.featureflags.sdk.jfr;
+
+import io.github._07manan.featureflags.sdk.metrics.FallbackReason;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for an evaluation that returned the caller's default value.
+ */
+@Name("io.github._07manan.featureflags.Fallback")
+@Label("Flag Default Value Fallback")
+@Category("Feature Flags")
+@Description("Evaluation that returned the caller's default value")
+@StackTrace(false)
+public final class FallbackEvent extends Event {
+
+    @Label("Flag Key")
+    private String flagKey;
+
+    @Label("Reason")
+    private String reason;
+
+    /**
+     * Commits a fallback event if the event is enabled.
+     *
+     * @param flagKey the flag key
+     * @param reason why no evaluated value was served
+     */
+    public static void emit(String flagKey, FallbackReason reason) {
+        FallbackEvent event = new FallbackEvent();
+        if (event.isEnabled()) {
+            event.flagKey = flagKey;
+            event.reason = reason.name();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github._07manan.featureflags.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for one flag evaluation through a typed getter or flag handle, covering
+ * cache lookups and any API call it made.
+ * <p>
+ * Like all SDK events, it only fills in its fields after {@link #shouldCommit()} or
+ * {@link #isEnabled()}, so with recording off it costs an allocation the JIT eliminates and a
+ * flag check. Events with a duration default to a threshold, so continuous recordings only
+ * capture slow operations; lower it in a custom {@code .jfc} file or with
+ * {@code Recording.enable(name).withThreshold(...)} to see all of them.
+ */
+@Name("io.github._07manan.featureflags.FlagEvaluation")
+@Label("Flag Evaluation")
+@Category("Feature Flags")
+@Description("Evaluation of one feature flag, including cache lookups and API calls")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class FlagEvaluationEvent extends Event {
+
+    @Label("Flag Key")
+    private String flagKey;
+
+    @Label("Served")
+    @Description("Whether an evaluated value was served rather than the default value")
+    private boolean served;
+
+    /**
+     * Ends the event and commits it if it is enabled and exceeded its threshold.
+     *
+     * @param flagKey the flag key
+     * @param served whether an evaluated value was served rather than the default value
+     */
+    public void complete(String flagKey, boolean served) {
+        if (shouldCommit()) {
+            this.flagKey = flagKey;
+            this.served = served;
+            commit();
+        }
+    }
+}
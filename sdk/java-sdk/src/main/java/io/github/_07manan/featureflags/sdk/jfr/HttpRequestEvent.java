@@ -0,0 +1,62 @@
+package io.github._07manan.featureflags.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a request to the evaluation API, from sending it (including any wait
+ * for a pooled connection) to handling its response.
+ */
+@Name("io.github._07manan.featureflags.HttpRequest")
+@Label("Flag API Request")
+@Category("Feature Flags")
+@Description("Request to the feature flag evaluation API")
+@StackTrace(false)
+@Threshold("0 ms")
+public final class HttpRequestEvent extends Event {
+
+    @Label("Endpoint")
+    @Description("URL template of the request")
+    private String endpoint;
+
+    @Label("Status Code")
+    @Description("HTTP status code, or 0 if no response was received")
+    private int statusCode;
+
+    @Label("Error")
+    @Description("Exception type if no response was received")
+    private String error;
+
+    /**
+     * Ends the event for a request that received a response and commits it if enabled.
+     *
+     * @param endpoint the URL template of the request
+     * @param statusCode the HTTP status code
+     */
+    public void complete(String endpoint, int statusCode) {
+        if (shouldCommit()) {
+            this.endpoint = endpoint;
+            this.statusCode = statusCode;
+            commit();
+        }
+    }
+
+    /**
+     * Ends the event for a request that failed without a response and commits it if enabled.
+     *
+     * @param endpoint the URL template of the request
+     * @param error the failure
+     */
+    public void fail(String endpoint, Throwable error) {
+        if (shouldCommit()) {
+            this.endpoint = endpoint;
+            this.error = error.getClass().getName();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github._07manan.featureflags.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for decoding an evaluation API response. The body is decoded as it is
+ * read, so the duration includes reading the parts of the body not yet received.
+ */
+@Name("io.github._07manan.featureflags.ResponseParse")
+@Label("Flag Response Parse")
+@Category("Feature Flags")
+@Description("Decoding of an evaluation API response body")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class ResponseParseEvent extends Event {
+
+    @Label("Endpoint")
+    @Description("URL template of the request")
+    private String endpoint;
+
+    @Label("Flag Count")
+    @Description("Number of flag results decoded")
+    private int flagCount;
+
+    /**
+     * Ends the event and commits it if it is enabled and exceeded its threshold.
+     *
+     * @param endpoint the URL template of the request
+     * @param flagCount the number of flag results decoded
+     */
+    public void complete(String endpoint, int flagCount) {
+        if (shouldCommit()) {
+            this.endpoint = endpoint;
+            this.flagCount = flagCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package io.github._07manan.featureflags.sdk.json;
+
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-written JSON codec for the evaluation API's response schema.
+ * <p>
+ * Decoding walks the document once and fills {@link EvaluationResult}s field by field, with no
+ * reflection, data binding or intermediate maps, so it works unchanged in GraalVM native images
+ * and loads only a handful of classes at startup. Unknown fields are skipped.
+ * <pre>
+ * {"flagKey":"dark-mode","value":true,"type":"BOOLEAN","isDefault":false,"variantId":"v-1"}
+ * {"flags":{"dark-mode":{...},"rate-limit":{...}}}
+ * </pre>
+ */
+public final class EvaluationCodec {
+
+    private EvaluationCodec() {
+    }
+
+    /**
+     * Decodes a single evaluation result.
+     *
+     * @param content the response body
+     * @return the decoded result
+     * @throws IOException if the body cannot be read
+     * @throws FeatureFlagException if the body is not a valid evaluation result
+     */
+    public static EvaluationResult decodeResult(InputStream content) throws IOException {
+        return decodeResult(readBody(content));
+    }
+
+    /**
+     * Decodes a single evaluation result.
+     *
+     * @param json the UTF-8 encoded JSON document
+     * @return the decoded result
+     * @throws FeatureFlagException if the document is not a valid evaluation result
+     */
+    public static EvaluationResult decodeResult(byte[] json) {
+        JsonParser parser = new JsonParser(json);
+        EvaluationResult result = readResult(parser);
+        if (result == null) {
+            throw parser.error("expected evaluation result");
+        }
+        parser.expectEnd();
+        return result;
+    }
+
+    /**
+     * Decodes a bulk evaluation response of the form {@code {"flags": {...}}}.
+     *
+     * @param content the response body
+     * @return the results keyed by flag key
+     * @throws IOException if the body cannot be read
+     * @throws FeatureFlagException if the body is not a valid bulk response
+     */
+    public static Map<String, EvaluationResult> decodeFlags(InputStream content) throws IOException {
+        return decodeFlags(readBody(content));
+    }
+
+    /**
+     * Decodes a bulk evaluation response of the form {@code {"flags": {...}}}.
+     *
+     * @param json the UTF-8 encoded JSON document
+     * @return the results keyed by flag key
+     * @throws FeatureFlagException if the document is not a valid bulk response
+     */
+    public static Map<String, EvaluationResult> decodeFlags(byte[] json) {
+        JsonParser parser = new JsonParser(json);
+        Map<String, EvaluationResult> flags = null;
+
+        if (!parser.beginObject()) {
+            throw parser.error("expected object");
+        }
+        for (boolean first = true; parser.nextKey(first); first = false) {
+            if (parser.matchKey("flags")) {
+                flags = readFlags(parser);
+            } else {
+                parser.readKey();
+                parser.skipValue();
+            }
+        }
+        parser.expectEnd();
+
+        if (flags == null) {
+            throw new FeatureFlagException("Invalid API response: missing 'flags' field");
+        }
+        return flags;
+    }
+
+    /**
+     * Encodes a single evaluation result.
+     *
+     * @param result the result
+     * @return the JSON document
+     */
+    public static String encodeResult(EvaluationResult result) {
+        StringBuilder sb = new StringBuilder(128);
+        writeResult(sb, result);
+        return sb.toString();
+    }
+
+    /**
+     * Encodes results as a bulk evaluation response of the form {@code {"flags": {...}}}.
+     *
+     * @param results the results
+     * @return the JSON document
+     */
+    public static String encodeFlags(Collection<EvaluationResult> results) {
+        StringBuilder sb = new StringBuilder(32 + results.size() * 128);
+        sb.append("{\"flags\":{");
+        boolean first = true;
+        for (EvaluationResult result : results) {
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            writeString(sb, result.getFlagKey());
+            sb.append(':');
+            writeResult(sb, result);
+        }
+        return sb.append("}}").toString();
+    }
+
+    private static Map<String, EvaluationResult> readFlags(JsonParser parser) {
+        if (!parser.beginObject()) {
+            return null;
+        }
+        Map<String, EvaluationResult> flags = new HashMap<>();
+        for (boolean first = true; parser.nextKey(first); first = false) {
+            String flagKey = parser.readKey();
+            EvaluationResult result = readResult(parser);
+            if (result == null) {
+                continue;
+            }
+            if (result.getFlagKey() == null) {
+                result = new EvaluationResult(flagKey, result.getValue(), result.getType(), result.isDefault(), result.getVariantId());
+            }
+            flags.put(flagKey, result);
+        }
+        return flags;
+    }
+
+    private static EvaluationResult readResult(JsonParser parser) {
+        if (!parser.beginObject()) {
+            return null;
+        }
+
+        String flagKey = null;
+        Object value = null;
+        FlagType type = null;
+        boolean isDefault = false;
+        String variantId = null;
+
+        for (boolean first = true; parser.nextKey(first); first = false) {
+            if (parser.matchKey("flagKey")) {
+                flagKey = parser.readStringOrNull();
+            } else if (parser.matchKey("value")) {
+                value = parser.readValue();
+            } else if (parser.matchKey("type")) {
+                type = readType(parser);
+            } else if (parser.matchKey("isDefault")) {
+                isDefault = parser.readBoolean();
+            } else if (parser.matchKey("variantId")) {
+                variantId = parser.readStringOrNull();
+            } else {
+                parser.readKey();
+                parser.skipValue();
+            }
+        }
+        return new EvaluationResult(flagKey, value, type, isDefault, variantId);
+    }
+
+    private static FlagType readType(JsonParser parser) {
+        String name = parser.readStringOrNull();
+        if (name == null) {
+            return null;
+        }
+        switch (name) {
+            case "BOOLEAN":
+                return FlagType.BOOLEAN;
+            case "STRING":
+                return FlagType.STRING;
+            case "NUMBER":
+                return FlagType.NUMBER;
+            default:
+                throw parser.error("unknown flag type '" + name + "'");
+        }
+    }
+
+    private static byte[] readBody(InputStream content) throws IOException {
+        if (content == null) {
+            throw new FeatureFlagException("Invalid API response: empty body");
+        }
+        return content.readAllBytes();
+    }
+
+    private static void writeResult(StringBuilder sb, EvaluationResult result) {
+        sb.append("{\"flagKey\":");
+        writeString(sb, result.getFlagKey());
+        sb.append(",\"value\":");
+        writeValue(sb, result.getValue());
+        sb.append(",\"type\":");
+        writeString(sb, result.getType() != null ? result.getType().name() : null);
+        sb.append(",\"isDefault\":").append(result.isDefault());
+        sb.append(",\"variantId\":");
+        writeString(sb, result.getVariantId());
+        sb.append('}');
+    }
+
+    private static void writeValue(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof String) {
+            writeString(sb, (String) value);
+        } else if (value instanceof Boolean) {
+            sb.append(((Boolean) value).booleanValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                sb.append("null");
+            } else {
+                sb.append(value);
+            }
+        } else if (value instanceof Number) {
+            sb.append(value);
+        } else if (value instanceof Map) {
+            sb.append('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                writeString(sb, String.valueOf(entry.getKey()));
+                sb.append(':');
+                writeValue(sb, entry.getValue());
+            }
+            sb.append('}');
+        } else if (value instanceof List) {
+            sb.append('[');
+            boolean first = true;
+            for (Object element : (List<?>) value) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                writeValue(sb, element);
+            }
+            sb.append(']');
+        } else {
+            writeString(sb, value.toString());
+        }
+    }
+
+    /**
+     * Appends a value as a JSON string, or {@code null} if it is null.
+     *
+     * @param sb the builder to append to
+     * @param value the value
+     */
+    public static void writeString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,344 @@
+package io.github._07manan.featureflags.sdk.json;
+
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal pull parser over a UTF-8 encoded JSON document held in memory.
+ * <p>
+ * Object keys can be matched against known ASCII names in place, without allocating a string,
+ * which is what keeps decoding of the fixed evaluation schema cheap.
+ */
+final class JsonParser {
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final byte[] buf;
+    private final int limit;
+    private int pos;
+
+    JsonParser(byte[] buf) {
+        this.buf = buf;
+        this.limit = buf.length;
+    }
+
+    /**
+     * Skips whitespace and returns the next byte without consuming it, or -1 at the end of input.
+     */
+    int peek() {
+        while (pos < limit) {
+            byte b = buf[pos];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                return b;
+            }
+            pos++;
+        }
+        return -1;
+    }
+
+    void expect(char c) {
+        if (peek() != c) {
+            throw error("expected '" + c + "'");
+        }
+        pos++;
+    }
+
+    /**
+     * Consumes the given byte if it is next.
+     */
+    boolean consume(char c) {
+        if (peek() == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Starts an object. Returns false for a JSON null instead.
+     */
+    boolean beginObject() {
+        if (consumeNull()) {
+            return false;
+        }
+        expect('{');
+        return true;
+    }
+
+    /**
+     * Advances to the next key of the current object.
+     *
+     * @return true if a key follows, false if the object ended
+     */
+    boolean nextKey(boolean first) {
+        if (consume('}')) {
+            return false;
+        }
+        if (!first) {
+            expect(',');
+        }
+        if (peek() != '"') {
+            throw error("expected object key");
+        }
+        return true;
+    }
+
+    /**
+     * Consumes an object key if it equals the given ASCII name, including the following colon.
+     * Leaves the position unchanged otherwise.
+     */
+    boolean matchKey(String name) {
+        int start = pos + 1;
+        int end = start + name.length();
+        if (end >= limit || buf[end] != '"') {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (buf[start + i] != name.charAt(i)) {
+                return false;
+            }
+        }
+        pos = end + 1;
+        expect(':');
+        return true;
+    }
+
+    /**
+     * Reads an object key and the following colon.
+     */
+    String readKey() {
+        String key = readString();
+        expect(':');
+        return key;
+    }
+
+    String readStringOrNull() {
+        return consumeNull() ? null : readString();
+    }
+
+    String readString() {
+        expect('"');
+        int start = pos;
+        while (pos < limit) {
+            byte b = buf[pos];
+            if (b == '"') {
+                String value = new String(buf, start, pos - start, StandardCharsets.UTF_8);
+                pos++;
+                return value;
+            }
+            if (b == '\\') {
+                return readEscapedString(start);
+            }
+            pos++;
+        }
+        throw error("unterminated string");
+    }
+
+    boolean readBoolean() {
+        int c = peek();
+        if (c == 't' && literal("true")) {
+            return true;
+        }
+        if (c == 'f' && literal("false")) {
+            return false;
+        }
+        throw error("expected boolean");
+    }
+
+    /**
+     * Reads any JSON value: strings, numbers, booleans and null map to their Java counterparts,
+     * objects to a {@link LinkedHashMap} and arrays to an {@link ArrayList}. Integral numbers
+     * become an Integer when they fit, then a Long, then a BigInteger; others become a Double.
+     */
+    Object readValue() {
+        int c = peek();
+        switch (c) {
+            case '"':
+                return readString();
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case 't':
+            case 'f':
+                return readBoolean();
+            case 'n':
+                if (literal("null")) {
+                    return null;
+                }
+                throw error("unexpected token");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber();
+                }
+                throw error(c < 0 ? "unexpected end of input" : "unexpected token");
+        }
+    }
+
+    void skipValue() {
+        readValue();
+    }
+
+    /**
+     * Fails unless only whitespace remains.
+     */
+    void expectEnd() {
+        if (peek() != -1) {
+            throw error("unexpected trailing content");
+        }
+    }
+
+    FeatureFlagException error(String message) {
+        return new FeatureFlagException("Invalid API response: " + message + " at offset " + pos);
+    }
+
+    private boolean consumeNull() {
+        if (peek() == 'n') {
+            if (literal("null")) {
+                return true;
+            }
+            throw error("unexpected token");
+        }
+        return false;
+    }
+
+    private Map<String, Object> readObject() {
+        expect('{');
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (boolean first = true; nextKey(first); first = false) {
+            String key = readKey();
+            map.put(key, readValue());
+        }
+        return map;
+    }
+
+    private List<Object> readArray() {
+        expect('[');
+        List<Object> list = new ArrayList<>();
+        if (consume(']')) {
+            return list;
+        }
+        do {
+            list.add(readValue());
+        } while (consume(','));
+        expect(']');
+        return list;
+    }
+
+    private Number readNumber() {
+        int start = pos;
+        boolean integral = true;
+        if (buf[pos] == '-') {
+            pos++;
+        }
+        while (pos < limit) {
+            byte b = buf[pos];
+            if (b >= '0' && b <= '9') {
+                pos++;
+            } else if (b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-') {
+                integral = false;
+                pos++;
+            } else {
+                break;
+            }
+        }
+
+        int length = pos - start;
+        boolean negative = buf[start] == '-';
+        int digits = negative ? length - 1 : length;
+        if (digits == 0) {
+            throw error("invalid number");
+        }
+
+        if (integral && digits <= MAX_LONG_DIGITS) {
+            long value = 0;
+            for (int i = negative ? start + 1 : start; i < pos; i++) {
+                value = value * 10 + (buf[i] - '0');
+            }
+            value = negative ? -value : value;
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            return value;
+        }
+
+        String text = new String(buf, start, length, StandardCharsets.ISO_8859_1);
+        try {
+            if (integral) {
+                BigInteger value = new BigInteger(text);
+                return value.bitLength() < Long.SIZE ? (Number) value.longValue() : value;
+            }
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw error("invalid number '" + text + "'");
+        }
+    }
+
+    private String readEscapedString(int start) {
+        StringBuilder sb = new StringBuilder(pos - start + 16);
+        int runStart = start;
+        while (pos < limit) {
+            byte b = buf[pos];
+            if (b == '"') {
+                sb.append(new String(buf, runStart, pos - runStart, StandardCharsets.UTF_8));
+                pos++;
+                return sb.toString();
+            }
+            if (b != '\\') {
+                pos++;
+                continue;
+            }
+
+            sb.append(new String(buf, runStart, pos - runStart, StandardCharsets.UTF_8));
+            if (pos + 1 >= limit) {
+                break;
+            }
+            byte escape = buf[pos + 1];
+            pos += 2;
+            switch (escape) {
+                case '"': sb.append('"'); break;
+                case '\\': sb.append('\\'); break;
+                case '/': sb.append('/'); break;
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    if (pos + 4 > limit) {
+                        throw error("truncated unicode escape");
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(new String(buf, pos, 4, StandardCharsets.ISO_8859_1), 16));
+                    } catch (NumberFormatException e) {
+                        throw error("invalid unicode escape");
+                    }
+                    pos += 4;
+                    break;
+                default:
+                    throw error("invalid escape");
+            }
+            runStart = pos;
+        }
+        throw error("unterminated string");
+    }
+
+    private boolean literal(String text) {
+        int end = pos + text.length();
+        if (end > limit) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (buf[pos + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+        pos = end;
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github._07manan.featureflags.sdk.metrics;
+
+/**
+ * Records the activity of one local cache. Obtained from {@link FeatureFlagMetrics#cache(String)}.
+ */
+public interface CacheMetrics {
+
+    /**
+     * Discards all cache metrics.
+     */
+    CacheMetrics NOOP = new CacheMetrics() {
+    };
+
+    /**
+     * Records a lookup that found an unexpired entry.
+     */
+    default void hit() {
+    }
+
+    /**
+     * Records a lookup that found no entry or an expired one.
+     */
+    default void miss() {
+    }
+
+    /**
+     * Records entries removed before they expired, by invalidation or clearing.
+     *
+     * @param count the number of entries
+     */
+    default void evicted(int count) {
+    }
+
+    /**
+     * Records a new entry that was not cached because the cache's entry budget was exhausted.
+     */
+    default void rejected() {
+    }
+
+    /**
+     * Records entries removed because their TTL had passed.
+     *
+     * @param count the number of entries
+     */
+    default void expired(int count) {
+    }
+}
@@ -0,0 +1,15 @@
+package io.github._07manan.featureflags.sdk.metrics;
+
+/**
+ * Why an evaluation returned the caller's default value instead of an evaluated one.
+ */
+public enum FallbackReason {
+    /** The flag doesn't exist or isn't active in the environment. */
+    NOT_FOUND,
+    /** The flag's type doesn't match the getter or handle used to evaluate it. */
+    TYPE_MISMATCH,
+    /** The concurrency limiter shed the request to the evaluation API. */
+    REJECTED,
+    /** The evaluation API could not be reached or returned an error. */
+    ERROR
+}
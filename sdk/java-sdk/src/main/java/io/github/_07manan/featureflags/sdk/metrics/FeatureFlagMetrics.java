@@ -0,0 +1,70 @@
+package io.github._07manan.featureflags.sdk.metrics;
+
+/**
+ * Receives the SDK's operational metrics: local cache activity, HTTP requests to the evaluation
+ * API, evaluation latency and evaluations that fell back to the caller's default value.
+ * <p>
+ * Implement this interface to export the metrics to a monitoring system and pass it to
+ * {@code FeatureFlagClientBuilder.metrics(...)}. Every method has an empty default, so an adapter
+ * only overrides what it exports. Methods are called on the evaluation path from many threads at
+ * once; implementations must be thread-safe, must not block, and should resolve their meters up
+ * front rather than per call. {@link InMemoryMetrics} keeps everything in memory for tests and
+ * diagnostics.
+ */
+public interface FeatureFlagMetrics {
+
+    /**
+     * Discards all metrics. Used when no metrics are configured.
+     */
+    FeatureFlagMetrics NOOP = new FeatureFlagMetrics() {
+    };
+
+    /**
+     * Returns the recorder for one of the client's caches. Called once per cache when it is
+     * created, so the returned recorder is what the cache calls on every lookup.
+     *
+     * @param name the cache name, {@code "flags"} for single-flag results or {@code "bulk"} for
+     *             all-flags results
+     * @return the cache's recorder
+     */
+    default CacheMetrics cache(String name) {
+        return CacheMetrics.NOOP;
+    }
+
+    /**
+     * Records a request that received a response, whatever its status code.
+     *
+     * @param endpoint the URL template of the request, e.g. {@code /evaluate/{flagKey}}
+     * @param statusCode the HTTP status code
+     * @param durationNanos the time from sending the request to handling its response
+     */
+    default void httpRequest(String endpoint, int statusCode, long durationNanos) {
+    }
+
+    /**
+     * Records a request that failed without a usable response, e.g. on a connection error or timeout.
+     *
+     * @param endpoint the URL template of the request
+     * @param durationNanos the time from sending the request to the failure
+     */
+    default void httpError(String endpoint, long durationNanos) {
+    }
+
+    /**
+     * Records the latency of one flag evaluation through a typed getter or a flag handle,
+     * including cache lookups and any API call it made.
+     *
+     * @param durationNanos the evaluation time
+     */
+    default void evaluation(long durationNanos) {
+    }
+
+    /**
+     * Records an evaluation that returned the caller's default value.
+     *
+     * @param flagKey the flag key
+     * @param reason why no evaluated value was served
+     */
+    default void fallback(String flagKey, FallbackReason reason) {
+    }
+}
@@ -0,0 +1,172 @@
+package io.github._07manan.featureflags.sdk.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link FeatureFlagMetrics} that keeps counters and latency histograms in memory, for tests,
+ * diagnostics endpoints or exporting on a schedule.
+ * <p>
+ * Counters are {@link LongAdder}s and latencies are recorded into {@link LatencyHistogram}s, so
+ * recording never locks. Counters only grow; read them twice and subtract for a rate.
+ * <pre>
+ * InMemoryMetrics metrics = new InMemoryMetrics();
+ * FeatureFlagClient client = FeatureFlagClient.builder()
+ *     .apiKey("ff_env_xxxxx")
+ *     .metrics(metrics)
+ *     .build();
+ *
+ * long p99 = metrics.getEvaluationLatency().getValueAtPercentile(99);
+ * </pre>
+ */
+public class InMemoryMetrics implements FeatureFlagMetrics {
+    private final Map<String, Counters> caches = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+    private final LongAdder httpErrors = new LongAdder();
+    private final LatencyHistogram httpLatency = new LatencyHistogram();
+    private final LatencyHistogram evaluationLatency = new LatencyHistogram();
+    private final Map<FallbackReason, LongAdder> fallbacks = new EnumMap<>(FallbackReason.class);
+
+    public InMemoryMetrics() {
+        // Filled up front and never modified, so reads need no synchronization
+        for (FallbackReason reason : FallbackReason.values()) {
+            fallbacks.put(reason, new LongAdder());
+        }
+    }
+
+    @Override
+    public CacheMetrics cache(String name) {
+        return caches.computeIfAbsent(name, k -> new Counters());
+    }
+
+    @Override
+    public void httpRequest(String endpoint, int statusCode, long durationNanos) {
+        statusCodes.computeIfAbsent(statusCode, k -> new LongAdder()).increment();
+        httpLatency.record(durationNanos);
+    }
+
+    @Override
+    public void httpError(String endpoint, long durationNanos) {
+        httpErrors.increment();
+        httpLatency.record(durationNanos);
+    }
+
+    @Override
+    public void evaluation(long durationNanos) {
+        evaluationLatency.record(durationNanos);
+    }
+
+    @Override
+    public void fallback(String flagKey, FallbackReason reason) {
+        fallbacks.get(reason).increment();
+    }
+
+    public long getCacheHits(String cache) {
+        Counters counters = caches.get(cache);
+        return counters != null ? counters.hits.sum() : 0;
+    }
+
+    public long getCacheMisses(String cache) {
+        Counters counters = caches.get(cache);
+        return counters != null ? counters.misses.sum() : 0;
+    }
+
+    public long getCacheEvictions(String cache) {
+        Counters counters = caches.get(cache);
+        return counters != null ? counters.evictions.sum() : 0;
+    }
+
+    /**
+     * @param cache the cache name
+     * @return the number of new entries not cached because the entry budget was exhausted
+     */
+    public long getCacheRejections(String cache) {
+        Counters counters = caches.get(cache);
+        return counters != null ? counters.rejections.sum() : 0;
+    }
+
+    public long getCacheExpirations(String cache) {
+        Counters counters = caches.get(cache);
+        return counters != null ? counters.expirations.sum() : 0;
+    }
+
+    /**
+     * @return the number of HTTP requests that received a response
+     */
+    public long getHttpRequests() {
+        return statusCodes.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * @param statusCode the HTTP status code
+     * @return the number of responses with the status code
+     */
+    public long getHttpRequests(int statusCode) {
+        LongAdder adder = statusCodes.get(statusCode);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * @return the number of HTTP requests that failed without a usable response
+     */
+    public long getHttpErrors() {
+        return httpErrors.sum();
+    }
+
+    /**
+     * @return the latency of all HTTP requests, successful or not
+     */
+    public LatencyHistogram getHttpLatency() {
+        return httpLatency;
+    }
+
+    public LatencyHistogram getEvaluationLatency() {
+        return evaluationLatency;
+    }
+
+    public long getFallbacks(FallbackReason reason) {
+        return fallbacks.get(reason).sum();
+    }
+
+    /**
+     * @return the number of evaluations that returned the default value, for any reason
+     */
+    public long getFallbacks() {
+        return fallbacks.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private static final class Counters implements CacheMetrics {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+        final LongAdder expirations = new LongAdder();
+        final LongAdder rejections = new LongAdder();
+
+        @Override
+        public void hit() {
+            hits.increment();
+        }
+
+        @Override
+        public void miss() {
+            misses.increment();
+        }
+
+        @Override
+        public void evicted(int count) {
+            evictions.add(count);
+        }
+
+        @Override
+        public void rejected() {
+            rejections.increment();
+        }
+
+        @Override
+        public void expired(int count) {
+            expirations.add(count);
+        }
+    }
+}
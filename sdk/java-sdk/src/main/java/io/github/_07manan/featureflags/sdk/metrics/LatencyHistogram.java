@@ -0,0 +1,121 @@
+package io.github._07manan.featureflags.sdk.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds, with the same log-linear bucketing as
+ * HdrHistogram.
+ * <p>
+ * Values below 128 get one bucket each; above that, every power of two is split into 64 equal
+ * buckets, so a value is reported with a relative error of at most 1/64 (about 1.6%) across the
+ * whole range of a long. Recording is one atomic increment of a fixed bucket plus two
+ * {@link LongAdder} updates, never allocates and never blocks, so it is safe on the evaluation
+ * path. Reads run concurrently with writes and see a consistent-enough snapshot for monitoring.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    // Shifts run from 1 (values 128..255) to 56 (values up to Long.MAX_VALUE)
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (64 - SUB_BUCKET_BITS - 1) * HALF_SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records one duration. Negative values are recorded as zero.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.getAndIncrement(indexOf(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return the mean of the recorded values, or 0 if none were recorded
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Returns the value below which the given percentage of recorded values fall, rounded up to
+     * the upper bound of its bucket and capped at the maximum.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the percentile, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Discards all recorded values. Values recorded concurrently may be partly kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int mantissa = (int) (value >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (mantissa - HALF_SUB_BUCKETS);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int offset = index - SUB_BUCKETS;
+        int shift = offset / HALF_SUB_BUCKETS + 1;
+        long mantissa = offset % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        // Overflows to Long.MIN_VALUE for the top bucket, so subtracting one yields Long.MAX_VALUE
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github._07manan.featureflags.sdk.model;
+
+/**
+ * One flag evaluated for one user, as produced by a
+ * {@link io.github._07manan.featureflags.sdk.BatchEvaluator}.
+ */
+public final class EvaluationRecord {
+    private final String userId;
+    private final EvaluationResult result;
+
+    public EvaluationRecord(String userId, EvaluationResult result) {
+        this.userId = userId;
+        this.result = result;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getFlagKey() {
+        return result.getFlagKey();
+    }
+
+    public String getVariantId() {
+        return result.getVariantId();
+    }
+
+    public Object getValue() {
+        return result.getValue();
+    }
+
+    /**
+     * Returns the full evaluation result, including the flag type and whether the value is the
+     * flag's default.
+     *
+     * @return the evaluation result
+     */
+    public EvaluationResult getResult() {
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationRecord{userId='" + userId + "', flagKey='" + getFlagKey()
+                + "', variantId='" + getVariantId() + "', value=" + getValue() + "}";
+    }
+}
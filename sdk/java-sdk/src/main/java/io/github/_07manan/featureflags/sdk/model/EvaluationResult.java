@@ -1,8 +1,5 @@
 package io.github._07manan.featureflags.sdk.model;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
-
 public class EvaluationResult {
     private final String flagKey;
     private final Object value;
@@ -10,13 +7,12 @@ public class EvaluationResult {
     private final boolean isDefault;
     private final String variantId;
 
-    @JsonCreator
     public EvaluationResult(
-            @JsonProperty("flagKey") String flagKey,
-            @JsonProperty("value") Object value,
-            @JsonProperty("type") FlagType type,
-            @JsonProperty("isDefault") boolean isDefault,
-            @JsonProperty("variantId") String variantId) {
+            String flagKey,
+            Object value,
+            FlagType type,
+            boolean isDefault,
+            String variantId) {
         this.flagKey = flagKey;
         this.value = value;
         this.type = type;
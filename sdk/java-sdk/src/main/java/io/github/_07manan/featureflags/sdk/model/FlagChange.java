@@ -0,0 +1,51 @@
+package io.github._07manan.featureflags.sdk.model;
+
+/**
+ * A difference in one flag between two {@link FlagSnapshot}s.
+ */
+public final class FlagChange {
+    private final String flagKey;
+    private final EvaluationResult previous;
+    private final EvaluationResult current;
+
+    public FlagChange(String flagKey, EvaluationResult previous, EvaluationResult current) {
+        this.flagKey = flagKey;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public String getFlagKey() {
+        return flagKey;
+    }
+
+    /**
+     * @return the previous result, or null if the flag was added
+     */
+    public EvaluationResult getPrevious() {
+        return previous;
+    }
+
+    /**
+     * @return the current result, or null if the flag was removed
+     */
+    public EvaluationResult getCurrent() {
+        return current;
+    }
+
+    public boolean isAdded() {
+        return previous == null;
+    }
+
+    public boolean isRemoved() {
+        return current == null;
+    }
+
+    @Override
+    public String toString() {
+        return "FlagChange{" +
+                "flagKey='" + flagKey + '\'' +
+                ", previous=" + (previous != null ? previous.getValue() : null) +
+                ", current=" + (current != null ? current.getValue() : null) +
+                '}';
+    }
+}
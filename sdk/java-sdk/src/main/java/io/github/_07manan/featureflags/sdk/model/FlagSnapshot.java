@@ -0,0 +1,296 @@
+package io.github._07manan.featureflags.sdk.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable, thread-safe view of all flags evaluated for one user.
+ * <p>
+ * Flag keys are held in a sorted array and looked up by binary search, and boolean and numeric
+ * values are stored in primitive arrays, so typed reads neither hash nor box. A snapshot can be
+ * obtained once per request and shared freely between threads.
+ * <pre>
+ * FlagSnapshot flags = client.getSnapshot("user-123");
+ * if (flags.getBoolean("new-checkout", false)) { ... }
+ * int limit = flags.getInt("rate-limit", 100);
+ * </pre>
+ * Typed accessors return the default value when the flag is absent or has a different type.
+ */
+public final class FlagSnapshot {
+    private static final FlagSnapshot EMPTY = new FlagSnapshot(Collections.emptyList());
+
+    private final String[] keys;
+    private final FlagType[] types;
+    private final boolean[] booleans;
+    private final int[] ints;
+    private final double[] numbers;
+    private final Object[] values;
+    private final boolean[] defaults;
+    private final String[] variantIds;
+
+    private FlagSnapshot(Collection<EvaluationResult> results) {
+        EvaluationResult[] sorted = results.toArray(new EvaluationResult[0]);
+        Arrays.sort(sorted, (a, b) -> a.getFlagKey().compareTo(b.getFlagKey()));
+
+        int size = sorted.length;
+        this.keys = new String[size];
+        this.types = new FlagType[size];
+        this.booleans = new boolean[size];
+        this.ints = new int[size];
+        this.numbers = new double[size];
+        this.values = new Object[size];
+        this.defaults = new boolean[size];
+        this.variantIds = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            EvaluationResult result = sorted[i];
+            Object value = result.getValue();
+            keys[i] = result.getFlagKey();
+            types[i] = result.getType();
+            values[i] = value;
+            defaults[i] = result.isDefault();
+            variantIds[i] = result.getVariantId();
+            if (value instanceof Boolean) {
+                booleans[i] = (Boolean) value;
+            } else if (value instanceof Number number) {
+                // Converted like FeatureFlagClient.getIntFlag, so both return the same value
+                ints[i] = number.intValue();
+                numbers[i] = number.doubleValue();
+            }
+        }
+    }
+
+    /**
+     * Creates a snapshot from evaluation results.
+     *
+     * @param results the evaluation results, keyed by flag key
+     * @return a new snapshot
+     */
+    public static FlagSnapshot of(Map<String, EvaluationResult> results) {
+        return results.isEmpty() ? EMPTY : new FlagSnapshot(results.values());
+    }
+
+    /**
+     * Returns an empty snapshot.
+     *
+     * @return the empty snapshot
+     */
+    public static FlagSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the boolean value of a flag.
+     *
+     * @param flagKey the flag key
+     * @param defaultValue returned if the flag is absent or not a BOOLEAN flag
+     * @return the flag value or the default
+     */
+    public boolean getBoolean(String flagKey, boolean defaultValue) {
+        int index = indexOf(flagKey);
+        if (index < 0 || types[index] != FlagType.BOOLEAN || !(values[index] instanceof Boolean)) {
+            return defaultValue;
+        }
+        return booleans[index];
+    }
+
+    /**
+     * Returns the string value of a flag.
+     *
+     * @param flagKey the flag key
+     * @param defaultValue returned if the flag is absent or not a STRING flag
+     * @return the flag value or the default
+     */
+    public String getString(String flagKey, String defaultValue) {
+        int index = indexOf(flagKey);
+        if (index < 0 || types[index] != FlagType.STRING) {
+            return defaultValue;
+        }
+        Object value = values[index];
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Returns the integer value of a flag.
+     *
+     * @param flagKey the flag key
+     * @param defaultValue returned if the flag is absent or not a NUMBER flag
+     * @return the flag value or the default
+     */
+    public int getInt(String flagKey, int defaultValue) {
+        int index = indexOf(flagKey);
+        if (index < 0 || types[index] != FlagType.NUMBER || !(values[index] instanceof Number)) {
+            return defaultValue;
+        }
+        return ints[index];
+    }
+
+    /**
+     * Returns the double value of a flag.
+     *
+     * @param flagKey the flag key
+     * @param defaultValue returned if the flag is absent or not a NUMBER flag
+     * @return the flag value or the default
+     */
+    public double getDouble(String flagKey, double defaultValue) {
+        int index = indexOf(flagKey);
+        if (index < 0 || types[index] != FlagType.NUMBER || !(values[index] instanceof Number)) {
+            return defaultValue;
+        }
+        return numbers[index];
+    }
+
+    /**
+     * Returns the raw value of a flag (Boolean, String, or Number).
+     *
+     * @param flagKey the flag key
+     * @return the value, or null if the flag is absent
+     */
+    public Object getValue(String flagKey) {
+        int index = indexOf(flagKey);
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * Returns the type of a flag.
+     *
+     * @param flagKey the flag key
+     * @return the type, or null if the flag is absent
+     */
+    public FlagType getType(String flagKey) {
+        int index = indexOf(flagKey);
+        return index >= 0 ? types[index] : null;
+    }
+
+    /**
+     * Returns the ID of the variant the user was assigned for a flag.
+     *
+     * @param flagKey the flag key
+     * @return the variant ID, or null if the flag is absent or served its default value
+     */
+    public String getVariantId(String flagKey) {
+        int index = indexOf(flagKey);
+        return index >= 0 ? variantIds[index] : null;
+    }
+
+    /**
+     * Returns whether a flag served its default value rather than a variant.
+     *
+     * @param flagKey the flag key
+     * @return true if the flag is present and served its default value
+     */
+    public boolean isDefault(String flagKey) {
+        int index = indexOf(flagKey);
+        return index >= 0 && defaults[index];
+    }
+
+    public boolean contains(String flagKey) {
+        return indexOf(flagKey) >= 0;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the flag keys in sorted order.
+     *
+     * @return an unmodifiable list of flag keys
+     */
+    public List<String> keys() {
+        return Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    /**
+     * Returns the evaluation result of a flag.
+     *
+     * @param flagKey the flag key
+     * @return the result, or null if the flag is absent
+     */
+    public EvaluationResult getResult(String flagKey) {
+        int index = indexOf(flagKey);
+        return index >= 0 ? resultAt(index) : null;
+    }
+
+    /**
+     * Copies the snapshot into a mutable map of flag keys to raw values.
+     *
+     * @return a new map
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], values[i]);
+        }
+        return map;
+    }
+
+    /**
+     * Computes the flags that differ between a previous snapshot and this one.
+     * Both key arrays are sorted, so this is a single linear merge over the two snapshots.
+     * A flag counts as changed when its value, type, variant or default status differs.
+     *
+     * @param previous the older snapshot
+     * @return the added, removed and changed flags in key order; empty if identical
+     */
+    public List<FlagChange> diff(FlagSnapshot previous) {
+        if (previous == this) {
+            return Collections.emptyList();
+        }
+
+        List<FlagChange> changes = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < previous.keys.length || j < keys.length) {
+            int cmp;
+            if (i == previous.keys.length) {
+                cmp = 1;
+            } else if (j == keys.length) {
+                cmp = -1;
+            } else {
+                cmp = previous.keys[i].compareTo(keys[j]);
+            }
+
+            if (cmp < 0) {
+                changes.add(new FlagChange(previous.keys[i], previous.resultAt(i), null));
+                i++;
+            } else if (cmp > 0) {
+                changes.add(new FlagChange(keys[j], null, resultAt(j)));
+                j++;
+            } else {
+                if (!sameAt(j, previous, i)) {
+                    changes.add(new FlagChange(keys[j], previous.resultAt(i), resultAt(j)));
+                }
+                i++;
+                j++;
+            }
+        }
+        return changes;
+    }
+
+    private boolean sameAt(int index, FlagSnapshot other, int otherIndex) {
+        return types[index] == other.types[otherIndex]
+                && defaults[index] == other.defaults[otherIndex]
+                && Objects.equals(values[index], other.values[otherIndex])
+                && Objects.equals(variantIds[index], other.variantIds[otherIndex]);
+    }
+
+    private EvaluationResult resultAt(int index) {
+        return new EvaluationResult(keys[index], values[index], types[index], defaults[index], variantIds[index]);
+    }
+
+    private int indexOf(String flagKey) {
+        return flagKey != null ? Arrays.binarySearch(keys, flagKey) : -1;
+    }
+
+    @Override
+    public String toString() {
+        return "FlagSnapshot{" + toMap() + '}';
+    }
+}
@@ -0,0 +1,52 @@
+package io.github._07manan.featureflags.sdk.snapshot;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Layout of a snapshot file, shared by {@link SnapshotFileWriter} and {@link SnapshotFileReader}.
+ * <pre>
+ * header (64 bytes): magic | version | regionSize | sequence
+ * region 0, region 1 (regionSize bytes each):
+ *   writtenAtMillis | entryCount | dataLength | entries[entryCount] | data
+ *   entry: keyOffset | keyLength | recordOffset | recordLength   (offsets relative to the region)
+ * </pre>
+ * Two regions are double-buffered under one sequence number. While the sequence is even it is
+ * stable and region {@code (sequence / 2) % 2} is current. The writer makes the sequence odd,
+ * fills the other region, then bumps the sequence to the next even value to publish it. A
+ * reader that started at sequence {@code s} read consistent data if the sequence is still at
+ * most {@code (s & ~1) + 2} afterwards, since the writer only starts overwriting the region
+ * the reader used after that.
+ * <p>
+ * Entries are sorted by key. A key is the UTF-8 user ID (empty for the anonymous user), a 0 byte
+ * and the flag key. Each user also has an entry with an empty flag key, so a user with no flags
+ * is distinguishable from a user missing from the snapshot. Records are single evaluation results
+ * encoded as JSON.
+ */
+final class SnapshotFileLayout {
+    static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    static final long MAGIC = 0x31504E5346464646L; // "FFFFSNP1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 8;
+    static final int REGION_SIZE_OFFSET = 12;
+    static final int SEQUENCE_OFFSET = 16;
+
+    static final int WRITTEN_AT = 0;
+    static final int ENTRY_COUNT = 8;
+    static final int DATA_LENGTH = 12;
+    static final int ENTRIES = 16;
+    static final int ENTRY_SIZE = 16;
+
+    static final byte SEPARATOR = 0;
+
+    private SnapshotFileLayout() {
+    }
+
+    static int regionOffset(long sequence, int regionSize) {
+        return HEADER_SIZE + (int) ((sequence >>> 1) & 1) * regionSize;
+    }
+}
@@ -0,0 +1,205 @@
+package io.github._07manan.featureflags.sdk.snapshot;
+
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.github._07manan.featureflags.sdk.snapshot.SnapshotFileLayout.*;
+
+/**
+ * Read-only view of a snapshot file. Lookups binary-search the mapped entry table and copy out
+ * only the records they need; nothing else is read onto the heap. Reads never block the writer
+ * and retry if a new snapshot was published while they were copying.
+ */
+final class SnapshotFileReader {
+    /**
+     * Returned by {@link #find} when the user is in the snapshot but the flag is not.
+     */
+    static final byte[] MISSING = new byte[0];
+
+    private static final int MAX_READ_ATTEMPTS = 8;
+
+    private final MappedByteBuffer buffer;
+    private final int regionSize;
+    private final long maxAgeMillis;
+
+    private SnapshotFileReader(MappedByteBuffer buffer, int regionSize, long maxAgeMillis) {
+        this.buffer = buffer;
+        this.regionSize = regionSize;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * Maps a snapshot file read-only.
+     *
+     * @param maxAgeMillis how old a snapshot may be before it is ignored
+     * @throws IOException if the file cannot be opened
+     * @throws FeatureFlagException if the file is not a snapshot file
+     */
+    static SnapshotFileReader open(Path file, long maxAgeMillis) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new FeatureFlagException("Snapshot file " + file + " is not initialized");
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getLong(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new FeatureFlagException("Snapshot file " + file + " has an incompatible layout");
+            }
+            int regionSize = header.getInt(REGION_SIZE_OFFSET);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE + 2L * regionSize);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return new SnapshotFileReader(buffer, regionSize, maxAgeMillis);
+        }
+    }
+
+    /**
+     * Looks up one flag of a user.
+     *
+     * @return the encoded result, {@link #MISSING} if the user is in the snapshot without this
+     *         flag, or null if the user is not in a current snapshot
+     */
+    byte[] find(String userId, String flagKey) {
+        byte[] userKey = SnapshotFileWriter.utf8(userId != null ? userId : "");
+        byte[] marker = SnapshotFileWriter.key(userKey, "");
+        byte[] key = SnapshotFileWriter.key(userKey, flagKey);
+        return read(region -> {
+            int count = entryCount(region);
+            int index = lowerBound(region, count, marker);
+            if (index == count || compare(region, index, marker) != 0) {
+                return null;
+            }
+            index = lowerBound(region, count, key);
+            if (index == count || compare(region, index, key) != 0) {
+                return MISSING;
+            }
+            return record(region, index);
+        });
+    }
+
+    /**
+     * Looks up all flags of a user.
+     *
+     * @return the encoded results, or null if the user is not in a current snapshot
+     */
+    List<byte[]> findAll(String userId) {
+        byte[] marker = SnapshotFileWriter.key(SnapshotFileWriter.utf8(userId != null ? userId : ""), "");
+        return read(region -> {
+            int count = entryCount(region);
+            int index = lowerBound(region, count, marker);
+            if (index == count || compare(region, index, marker) != 0) {
+                return null;
+            }
+            List<byte[]> records = new ArrayList<>();
+            for (index++; index < count && startsWith(region, index, marker); index++) {
+                records.add(record(region, index));
+            }
+            return records;
+        });
+    }
+
+    private interface RegionRead<T> {
+        T apply(int region);
+    }
+
+    private <T> T read(RegionRead<T> lookup) {
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            long sequence = (long) LONGS.getAcquire(buffer, SEQUENCE_OFFSET);
+            if (sequence < 2) {
+                // Nothing has been published yet
+                return null;
+            }
+            int region = regionOffset(sequence, regionSize);
+            T value;
+            boolean torn = false;
+            try {
+                value = System.currentTimeMillis() - buffer.getLong(region + WRITTEN_AT) <= maxAgeMillis
+                        ? lookup.apply(region)
+                        : null;
+            } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+                // Offsets read while the region was being overwritten
+                value = null;
+                torn = true;
+            }
+            VarHandle.loadLoadFence();
+            if ((long) LONGS.getOpaque(buffer, SEQUENCE_OFFSET) <= (sequence & ~1L) + 2) {
+                // A torn read under a stable sequence means the file is corrupt; let the caller fall back
+                return torn ? null : value;
+            }
+            Thread.onSpinWait();
+        }
+        return null;
+    }
+
+    private int entryCount(int region) {
+        int count = buffer.getInt(region + ENTRY_COUNT);
+        if (count < 0 || count > regionSize / ENTRY_SIZE) {
+            throw new IndexOutOfBoundsException(count);
+        }
+        return count;
+    }
+
+    private int lowerBound(int region, int count, byte[] key) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(region, mid, key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares the key of an entry with a key, as unsigned bytes.
+     */
+    private int compare(int region, int index, byte[] key) {
+        int entry = region + ENTRIES + index * ENTRY_SIZE;
+        int offset = region + buffer.getInt(entry);
+        int length = buffer.getInt(entry + 4);
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int diff = (buffer.get(offset + i) & 0xff) - (key[i] & 0xff);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - key.length;
+    }
+
+    private boolean startsWith(int region, int index, byte[] prefix) {
+        int entry = region + ENTRIES + index * ENTRY_SIZE;
+        int offset = region + buffer.getInt(entry);
+        if (buffer.getInt(entry + 4) < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(offset + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] record(int region, int index) {
+        int entry = region + ENTRIES + index * ENTRY_SIZE;
+        int length = buffer.getInt(entry + 12);
+        if (length < 0 || length > regionSize) {
+            throw new IndexOutOfBoundsException(length);
+        }
+        byte[] record = new byte[length];
+        buffer.get(region + buffer.getInt(entry + 8), record);
+        return record;
+    }
+}
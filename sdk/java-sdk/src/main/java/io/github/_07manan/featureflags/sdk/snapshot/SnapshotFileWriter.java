@@ -0,0 +1,189 @@
+package io.github._07manan.featureflags.sdk.snapshot;
+
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import io.github._07manan.featureflags.sdk.json.EvaluationCodec;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static io.github._07manan.featureflags.sdk.snapshot.SnapshotFileLayout.*;
+
+/**
+ * Publishes flag snapshots to a memory-mapped file that {@link SnapshotTransport}s in any number
+ * of processes on the host read from. Each {@link #write(Map)} replaces the whole snapshot
+ * atomically; readers see either the previous or the new snapshot, never a mix.
+ * <p>
+ * Only one writer may have a file open at a time; this is enforced with a file lock.
+ * See {@link SnapshotFileLayout} for the file format.
+ */
+public class SnapshotFileWriter implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotFileWriter.class);
+
+    /**
+     * Default size of each of the two snapshot regions, 4 MiB.
+     */
+    public static final int DEFAULT_REGION_SIZE = 4 << 20;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final MappedByteBuffer buffer;
+    private final int regionSize;
+
+    /**
+     * Opens or creates a snapshot file with the default region size.
+     *
+     * @param file the file to write
+     */
+    public SnapshotFileWriter(Path file) {
+        this(file, DEFAULT_REGION_SIZE);
+    }
+
+    /**
+     * Opens or creates a snapshot file.
+     *
+     * @param file the file to write
+     * @param regionSize the size of each of the two snapshot regions in bytes; bounds the size of a snapshot
+     * @throws FeatureFlagException if the file cannot be mapped, is locked by another writer, or
+     *                              was created with a different region size
+     */
+    public SnapshotFileWriter(Path file, int regionSize) {
+        if (regionSize < 64 || regionSize % 8 != 0 || regionSize > (Integer.MAX_VALUE - HEADER_SIZE) / 2) {
+            throw new IllegalArgumentException("Region size must be a multiple of 8 between 64 bytes and 1 GiB");
+        }
+        this.file = file;
+        this.regionSize = regionSize;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new FeatureFlagException("Failed to open snapshot file " + file, e);
+        }
+        try {
+            this.lock = channel.tryLock();
+            if (lock == null) {
+                throw new FeatureFlagException("Snapshot file " + file + " is already open by another writer");
+            }
+            boolean created = channel.size() == 0;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + 2L * regionSize);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (created) {
+                buffer.putInt(VERSION_OFFSET, VERSION);
+                buffer.putInt(REGION_SIZE_OFFSET, regionSize);
+                buffer.putLong(MAGIC_OFFSET, MAGIC);
+            } else if (buffer.getLong(MAGIC_OFFSET) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION
+                    || buffer.getInt(REGION_SIZE_OFFSET) != regionSize) {
+                throw new FeatureFlagException("Snapshot file " + file + " has an incompatible layout");
+            }
+        } catch (IOException | RuntimeException e) {
+            closeQuietly();
+            if (e instanceof FeatureFlagException fe) {
+                throw fe;
+            }
+            throw new FeatureFlagException("Failed to map snapshot file " + file, e);
+        }
+
+        logger.debug("SnapshotFileWriter opened {} with regions of {} bytes", file, regionSize);
+    }
+
+    /**
+     * Replaces the snapshot with the given results.
+     *
+     * @param flagsByUser each user's evaluated flags, keyed by user ID (null for the anonymous user)
+     *                    and then by flag key
+     * @throws FeatureFlagException if the snapshot does not fit in a region
+     */
+    public synchronized void write(Map<String, ? extends Map<String, EvaluationResult>> flagsByUser) {
+        List<byte[][]> entries = new ArrayList<>();
+        for (Map.Entry<String, ? extends Map<String, EvaluationResult>> user : flagsByUser.entrySet()) {
+            byte[] userKey = utf8(user.getKey() != null ? user.getKey() : "");
+            entries.add(new byte[][]{key(userKey, ""), new byte[0]});
+            for (EvaluationResult result : user.getValue().values()) {
+                entries.add(new byte[][]{key(userKey, result.getFlagKey()), utf8(EvaluationCodec.encodeResult(result))});
+            }
+        }
+        entries.sort((a, b) -> Arrays.compareUnsigned(a[0], b[0]));
+
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        int dataStart = ENTRIES + entries.size() * ENTRY_SIZE;
+        int[] offsets = new int[entries.size() * 2];
+        for (int i = 0; i < entries.size(); i++) {
+            offsets[2 * i] = dataStart + data.size();
+            data.writeBytes(entries.get(i)[0]);
+            offsets[2 * i + 1] = dataStart + data.size();
+            data.writeBytes(entries.get(i)[1]);
+        }
+        long size = (long) dataStart + data.size();
+        if (size > regionSize) {
+            throw new FeatureFlagException("Snapshot of " + size + " bytes exceeds the region size of " + regionSize + " bytes");
+        }
+
+        long sequence = ((long) LONGS.getAcquire(buffer, SEQUENCE_OFFSET)) & ~1L;
+        LONGS.setRelease(buffer, SEQUENCE_OFFSET, sequence + 1);
+        // A release store only orders earlier accesses; keep the region writes below from becoming
+        // visible before the odd sequence, or a reader could accept a torn region
+        VarHandle.storeStoreFence();
+        // The region that becomes current once the sequence reaches sequence + 2
+        int region = regionOffset(sequence + 2, regionSize);
+        try {
+            buffer.putLong(region + WRITTEN_AT, System.currentTimeMillis());
+            buffer.putInt(region + ENTRY_COUNT, entries.size());
+            buffer.putInt(region + DATA_LENGTH, data.size());
+            for (int i = 0; i < entries.size(); i++) {
+                int entry = region + ENTRIES + i * ENTRY_SIZE;
+                buffer.putInt(entry, offsets[2 * i]);
+                buffer.putInt(entry + 4, entries.get(i)[0].length);
+                buffer.putInt(entry + 8, offsets[2 * i + 1]);
+                buffer.putInt(entry + 12, entries.get(i)[1].length);
+            }
+            buffer.put(region + dataStart, data.toByteArray());
+        } finally {
+            LONGS.setRelease(buffer, SEQUENCE_OFFSET, sequence + 2);
+        }
+
+        logger.debug("Published snapshot of {} users, {} bytes, to {}", flagsByUser.size(), size, file);
+    }
+
+    @Override
+    public void close() {
+        closeQuietly();
+        logger.debug("SnapshotFileWriter closed");
+    }
+
+    private void closeQuietly() {
+        try {
+            if (lock != null) {
+                lock.release();
+            }
+            channel.close();
+        } catch (IOException e) {
+            logger.warn("Error closing snapshot file {}", file, e);
+        }
+    }
+
+    static byte[] key(byte[] userKey, String flagKey) {
+        byte[] flag = utf8(flagKey);
+        byte[] key = Arrays.copyOf(userKey, userKey.length + 1 + flag.length);
+        key[userKey.length] = SEPARATOR;
+        System.arraycopy(flag, 0, key, userKey.length + 1, flag.length);
+        return key;
+    }
+
+    static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
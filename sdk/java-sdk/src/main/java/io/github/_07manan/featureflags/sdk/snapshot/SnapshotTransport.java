@@ -0,0 +1,140 @@
+package io.github._07manan.featureflags.sdk.snapshot;
+
+import io.github._07manan.featureflags.sdk.exception.FlagNotFoundException;
+import io.github._07manan.featureflags.sdk.json.EvaluationCodec;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.transport.EvaluationTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transport that evaluates flags from a snapshot file published on the host by a sidecar
+ * through {@link SnapshotFileWriter}. Every process on the host maps the same file, so there is
+ * one copy of the flags and one update stream per host instead of one per JVM.
+ * <p>
+ * Users that are not in the snapshot, and all requests while the snapshot is missing or older
+ * than the maximum age (for example because the sidecar stopped), go to the fallback transport.
+ * <pre>
+ * FeatureFlagClient client = FeatureFlagClient.builder()
+ *     .apiKey("ff_production_xxxxx")
+ *     .snapshotFile(Path.of("/dev/shm/featureflags/production.snapshot"))
+ *     .build();
+ * </pre>
+ */
+public class SnapshotTransport implements EvaluationTransport {
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotTransport.class);
+    private static final long DEFAULT_MAX_AGE_MINUTES = 5;
+    private static final long REOPEN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Path file;
+    private final EvaluationTransport fallback;
+    private final long maxAgeMillis;
+    private final AtomicLong nextOpenNanos = new AtomicLong(System.nanoTime());
+    private volatile SnapshotFileReader reader;
+
+    /**
+     * Creates a transport that ignores snapshots older than 5 minutes.
+     *
+     * @param file the snapshot file
+     * @param fallback the transport used when the snapshot can't answer; closed with this transport
+     */
+    public SnapshotTransport(Path file, EvaluationTransport fallback) {
+        this(file, fallback, DEFAULT_MAX_AGE_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Creates a transport.
+     *
+     * @param file the snapshot file
+     * @param fallback the transport used when the snapshot can't answer; closed with this transport
+     * @param maxAge how old a snapshot may be before requests fall back
+     * @param unit the time unit for the maximum age
+     */
+    public SnapshotTransport(Path file, EvaluationTransport fallback, long maxAge, TimeUnit unit) {
+        this.file = file;
+        this.fallback = fallback;
+        this.maxAgeMillis = unit.toMillis(maxAge);
+    }
+
+    @Override
+    public EvaluationResult evaluateFlag(String flagKey, String userId) {
+        EvaluationResult result = findFlag(flagKey, userId);
+        if (result == null) {
+            throw new FlagNotFoundException(flagKey);
+        }
+        return result;
+    }
+
+    @Override
+    public EvaluationResult findFlag(String flagKey, String userId) {
+        SnapshotFileReader snapshot = reader();
+        byte[] record = snapshot != null ? snapshot.find(userId, flagKey) : null;
+        if (record == SnapshotFileReader.MISSING) {
+            return null;
+        }
+        if (record != null) {
+            return EvaluationCodec.decodeResult(record);
+        }
+        return fallback.findFlag(flagKey, userId);
+    }
+
+    @Override
+    public Map<String, EvaluationResult> evaluateAllFlags(String userId) {
+        SnapshotFileReader snapshot = reader();
+        List<byte[]> records = snapshot != null ? snapshot.findAll(userId) : null;
+        if (records == null) {
+            return fallback.evaluateAllFlags(userId);
+        }
+        Map<String, EvaluationResult> results = new HashMap<>(records.size() * 2);
+        for (byte[] record : records) {
+            EvaluationResult result = EvaluationCodec.decodeResult(record);
+            results.put(result.getFlagKey(), result);
+        }
+        return results;
+    }
+
+    @Override
+    public int warmUp(int connections) {
+        return fallback.warmUp(connections);
+    }
+
+    @Override
+    public void setTimeouts(long connectionTimeout, long socketTimeout, TimeUnit unit) {
+        fallback.setTimeouts(connectionTimeout, socketTimeout, unit);
+    }
+
+    @Override
+    public void close() {
+        fallback.close();
+    }
+
+    /**
+     * Maps the file on first use. While it doesn't exist yet, opening is retried at most once a second.
+     */
+    private SnapshotFileReader reader() {
+        SnapshotFileReader current = reader;
+        if (current != null) {
+            return current;
+        }
+        long next = nextOpenNanos.get();
+        if (System.nanoTime() - next < 0 || !nextOpenNanos.compareAndSet(next, System.nanoTime() + REOPEN_INTERVAL_NANOS)) {
+            return null;
+        }
+        try {
+            current = SnapshotFileReader.open(file, maxAgeMillis);
+            reader = current;
+            logger.debug("Mapped snapshot file {}", file);
+            return current;
+        } catch (Exception e) {
+            logger.debug("Snapshot file {} not available, using fallback transport", file, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github._07manan.featureflags.sdk.tracing;
+
+/**
+ * A span started by a {@link FlagTracer}. All methods default to no-ops.
+ */
+public interface FlagSpan {
+
+    /**
+     * Records nothing.
+     */
+    FlagSpan NOOP = new FlagSpan() {
+    };
+
+    default void setAttribute(String key, String value) {
+    }
+
+    default void setAttribute(String key, long value) {
+    }
+
+    /**
+     * Records a point in time within the span.
+     *
+     * @param name the event name
+     */
+    default void addEvent(String name) {
+    }
+
+    /**
+     * Marks the span as failed.
+     *
+     * @param error the failure
+     */
+    default void recordException(Throwable error) {
+    }
+
+    /**
+     * Returns this span's W3C trace context, sent as the {@code traceparent} header of HTTP
+     * requests made within the span.
+     *
+     * @return a header value like {@code 00-<trace id>-<span id>-01}, or null to send no header
+     */
+    default String traceparent() {
+        return null;
+    }
+
+    /**
+     * Makes this span the calling thread's current span, so that spans started before the scope
+     * is closed become its children.
+     *
+     * @return the scope to close on the same thread
+     */
+    default Scope makeCurrent() {
+        return Scope.NOOP;
+    }
+
+    default void end() {
+    }
+
+    /**
+     * Restores the previous current span when closed.
+     */
+    interface Scope extends AutoCloseable {
+        Scope NOOP = () -> {
+        };
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,43 @@
+package io.github._07manan.featureflags.sdk.tracing;
+
+/**
+ * Creates spans for the SDK's slow paths, so time spent fetching flags shows up in distributed
+ * traces instead of as unexplained gaps.
+ * <p>
+ * The client starts a {@code featureflags.evaluate} span when a flag misses the local cache,
+ * covering the shared cache tier, the concurrency limiter and the API call, and the HTTP
+ * transports start a child span per request that carries the W3C {@code traceparent} header to
+ * the evaluation API. Cache hits create no spans. Implement this interface to bridge to a tracing
+ * system such as OpenTelemetry and pass it to {@code FeatureFlagClientBuilder.tracer(...)}.
+ */
+public interface FlagTracer {
+
+    /**
+     * Creates no spans. Used when no tracer is configured.
+     */
+    FlagTracer NOOP = name -> FlagSpan.NOOP;
+
+    /** Flag key of the evaluation or request. */
+    String FLAG_KEY = "feature_flag.key";
+    /** Where the result came from: {@code miss}, {@code shared_hit} or {@code poll}. */
+    String CACHE_STATUS = "feature_flag.cache_status";
+    String HTTP_METHOD = "http.request.method";
+    String URL_TEMPLATE = "url.template";
+    String HTTP_STATUS_CODE = "http.response.status_code";
+    /** Response body size in bytes, when the response declares it. */
+    String RESPONSE_SIZE = "http.response.body.size";
+    /** Pooled connections in use when the request started. */
+    String POOL_LEASED = "featureflags.pool.leased";
+    /** Requests already waiting for a pooled connection when the request started. */
+    String POOL_PENDING = "featureflags.pool.pending";
+    /** Event marking when the response headers arrived; the rest of the span is reading and decoding the body. */
+    String RESPONSE_RECEIVED_EVENT = "response.received";
+
+    /**
+     * Starts a span as a child of the calling thread's current span, if the tracing system has one.
+     *
+     * @param name the span name
+     * @return the started span, which the caller must end
+     */
+    FlagSpan startSpan(String name);
+}
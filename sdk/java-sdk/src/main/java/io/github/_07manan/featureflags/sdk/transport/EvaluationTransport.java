@@ -0,0 +1,89 @@
+package io.github._07manan.featureflags.sdk.transport;
+
+import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import io.github._07manan.featureflags.sdk.exception.FlagNotFoundException;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transport used by {@link io.github._07manan.featureflags.sdk.FeatureFlagClient} to reach the
+ * evaluation API.
+ * <p>
+ * Implementations must be thread-safe. The SDK ships with an Apache HttpClient based transport
+ * (pooled HTTP/1.1, the default), a {@code java.net.http} based transport that multiplexes
+ * requests over a single HTTP/2 connection, and an {@link InMemoryTransport} for tests and
+ * benchmarks.
+ */
+public interface EvaluationTransport extends AutoCloseable {
+
+    /**
+     * Evaluates a single flag for a specific user.
+     *
+     * @param flagKey the flag key to evaluate
+     * @param userId the user ID (can be null)
+     * @return the evaluation result
+     * @throws AuthenticationException if authentication fails
+     * @throws FlagNotFoundException if the flag is not found
+     * @throws FeatureFlagException for other errors
+     */
+    EvaluationResult evaluateFlag(String flagKey, String userId);
+
+    /**
+     * Evaluates a single flag, signalling a missing flag with null instead of an exception.
+     * This is what {@link io.github._07manan.featureflags.sdk.FeatureFlagClient} calls, so unknown
+     * flags cost no exception on the evaluation path. Implementations should override the default,
+     * which falls back to {@link #evaluateFlag(String, String)}.
+     *
+     * @param flagKey the flag key to evaluate
+     * @param userId the user ID (can be null)
+     * @return the evaluation result, or null if the flag is not found
+     * @throws AuthenticationException if authentication fails
+     * @throws FeatureFlagException for other errors
+     */
+    default EvaluationResult findFlag(String flagKey, String userId) {
+        try {
+            return evaluateFlag(flagKey, userId);
+        } catch (FlagNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Evaluates all active flags for a specific user.
+     *
+     * @param userId the user ID (can be null)
+     * @return a map of flag keys to their evaluation results
+     * @throws AuthenticationException if authentication fails
+     * @throws FeatureFlagException for other errors
+     */
+    Map<String, EvaluationResult> evaluateAllFlags(String userId);
+
+    /**
+     * Opens connections ahead of the first request. Transports without connections ignore this.
+     *
+     * @param connections the number of connections to open
+     * @return the number of connections that were opened
+     */
+    default int warmUp(int connections) {
+        return 0;
+    }
+
+    /**
+     * Changes the timeouts of subsequent requests. Transports without timeouts ignore this.
+     *
+     * @param connectionTimeout connection timeout
+     * @param socketTimeout socket/read timeout
+     * @param unit time unit for timeouts
+     */
+    default void setTimeouts(long connectionTimeout, long socketTimeout, TimeUnit unit) {
+    }
+
+    /**
+     * Releases any resources held by the transport.
+     */
+    @Override
+    void close();
+}
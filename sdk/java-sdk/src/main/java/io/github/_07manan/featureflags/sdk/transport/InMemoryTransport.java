@@ -0,0 +1,132 @@
+package io.github._07manan.featureflags.sdk.transport;
+
+import io.github._07manan.featureflags.sdk.exception.FlagNotFoundException;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Transport that serves evaluation results from memory instead of the network.
+ * <p>
+ * Results can be registered for every user or for a specific user; user-specific results take
+ * precedence. An optional artificial latency makes it usable as a stand-in for the evaluation
+ * API in benchmarks.
+ * <pre>
+ * InMemoryTransport transport = new InMemoryTransport()
+ *     .put(new EvaluationResult("new-feature", true, FlagType.BOOLEAN, false, null));
+ *
+ * FeatureFlagClient client = FeatureFlagClient.builder()
+ *     .apiKey("ff_test_xxxxx")
+ *     .transport(transport)
+ *     .build();
+ * </pre>
+ */
+public class InMemoryTransport implements EvaluationTransport {
+    private final Map<String, EvaluationResult> defaults = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, EvaluationResult>> perUser = new ConcurrentHashMap<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private volatile long latencyNanos;
+
+    /**
+     * Registers a result returned for every user without a user-specific result.
+     *
+     * @param result the evaluation result, keyed by its flag key
+     * @return this transport
+     */
+    public InMemoryTransport put(EvaluationResult result) {
+        defaults.put(result.getFlagKey(), result);
+        return this;
+    }
+
+    /**
+     * Registers a result returned only for the given user.
+     *
+     * @param userId the user ID
+     * @param result the evaluation result, keyed by its flag key
+     * @return this transport
+     */
+    public InMemoryTransport put(String userId, EvaluationResult result) {
+        perUser.computeIfAbsent(userId, k -> new ConcurrentHashMap<>()).put(result.getFlagKey(), result);
+        return this;
+    }
+
+    /**
+     * Removes a flag for every user.
+     *
+     * @param flagKey the flag key
+     * @return this transport
+     */
+    public InMemoryTransport remove(String flagKey) {
+        defaults.remove(flagKey);
+        perUser.values().forEach(results -> results.remove(flagKey));
+        return this;
+    }
+
+    /**
+     * Sets an artificial delay applied to every request.
+     *
+     * @param latency the delay
+     * @param unit the time unit
+     * @return this transport
+     */
+    public InMemoryTransport latency(long latency, TimeUnit unit) {
+        this.latencyNanos = unit.toNanos(latency);
+        return this;
+    }
+
+    /**
+     * Returns the number of requests served so far.
+     *
+     * @return the request count
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public EvaluationResult evaluateFlag(String flagKey, String userId) {
+        EvaluationResult result = findFlag(flagKey, userId);
+        if (result == null) {
+            throw new FlagNotFoundException(flagKey);
+        }
+        return result;
+    }
+
+    @Override
+    public EvaluationResult findFlag(String flagKey, String userId) {
+        simulateRequest();
+
+        Map<String, EvaluationResult> userResults = userId != null ? perUser.get(userId) : null;
+        EvaluationResult result = userResults != null ? userResults.get(flagKey) : null;
+        return result != null ? result : defaults.get(flagKey);
+    }
+
+    @Override
+    public Map<String, EvaluationResult> evaluateAllFlags(String userId) {
+        simulateRequest();
+
+        Map<String, EvaluationResult> results = new HashMap<>(defaults);
+        Map<String, EvaluationResult> userResults = userId != null ? perUser.get(userId) : null;
+        if (userResults != null) {
+            results.putAll(userResults);
+        }
+        return results;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void simulateRequest() {
+        requestCount.incrementAndGet();
+        long latency = latencyNanos;
+        if (latency > 0) {
+            LockSupport.parkNanos(latency);
+        }
+    }
+}
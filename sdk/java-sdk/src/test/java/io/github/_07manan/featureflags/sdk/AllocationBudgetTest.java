@@ -0,0 +1,100 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.cache.LocalCache;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Fails the build when a change makes the cache-hit path allocate. A single object per call is
+ * at least 16 bytes, so the budget only absorbs rare one-off allocations averaged over a round.
+ */
+class AllocationBudgetTest {
+    private static final double NO_ALLOCATION = 0.5;
+
+    private FeatureFlagClient client;
+    private volatile Object sink;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(AllocationMeter.isSupported(), "Per-thread allocation counting is not available");
+        client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key")
+                .transport(new InMemoryTransport()
+                        .put(new EvaluationResult("dark-mode", true, FlagType.BOOLEAN, false, "on"))
+                        .put(new EvaluationResult("max-items", 25, FlagType.NUMBER, false, "high"))
+                        .put(new EvaluationResult("ratio", 0.75, FlagType.NUMBER, false, "high")))
+                .cacheTTL(1, TimeUnit.HOURS)
+                .registerMBean(false)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    void testGetBooleanFlag_CacheHit() {
+        assertTrue(client.getBooleanFlag("dark-mode", "user-1", false));
+
+        assertWithinBudget(() -> client.getBooleanFlag("dark-mode", "user-1", false));
+    }
+
+    @Test
+    void testGetIntFlag_CacheHit() {
+        assertEquals(25, client.getIntFlag("max-items", "user-1", 0));
+
+        assertWithinBudget(() -> client.getIntFlag("max-items", "user-1", 0));
+    }
+
+    @Test
+    void testGetDoubleFlag_CacheHit() {
+        assertEquals(0.75, client.getDoubleFlag("ratio", "user-1", 0.0));
+
+        assertWithinBudget(() -> client.getDoubleFlag("ratio", "user-1", 0.0));
+    }
+
+    @Test
+    void testEvaluationContext_MemoizedRead() {
+        EvaluationContext context = client.forUser("user-1");
+        assertTrue(context.getBooleanFlag("dark-mode", false));
+
+        assertWithinBudget(() -> context.getBooleanFlag("dark-mode", false));
+    }
+
+    @Test
+    void testLocalCacheGet() {
+        LocalCache<String> cache = new LocalCache<>(1, TimeUnit.HOURS);
+        try {
+            cache.put("user-1", "on");
+
+            assertWithinBudget(() -> cache.get("user-1"));
+        } finally {
+            cache.shutdown();
+        }
+    }
+
+    @Test
+    void testMeterDetectsAllocations() {
+        // Guards the guard: a path that does allocate must fail the budget
+        double bytes = AllocationMeter.bytesPerCall(() -> sink = new long[2]);
+
+        assertTrue(bytes >= 16, "Expected an allocation per call, measured " + bytes + " bytes");
+    }
+
+    private static void assertWithinBudget(Runnable operation) {
+        double bytes = AllocationMeter.bytesPerCall(operation);
+        assertTrue(bytes <= NO_ALLOCATION, String.format("Allocated %.1f bytes per call, budget is 0", bytes));
+    }
+}
@@ -0,0 +1,50 @@
+package io.github._07manan.featureflags.sdk;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the heap bytes the calling thread allocates per invocation of an operation, using
+ * HotSpot's per-thread allocation counter.
+ * <p>
+ * Hot paths rely on the JIT's escape analysis to keep short-lived objects off the heap, so the
+ * operation is measured the way it runs in production: warmed up, then in several rounds of
+ * which the lowest counts, since compilation finishes in the background at its own pace.
+ */
+final class AllocationMeter {
+    private static final int WARM_UP_ITERATIONS = 100_000;
+    private static final int ROUND_ITERATIONS = 100_000;
+    private static final int ROUNDS = 10;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * @return whether the JVM can count allocated bytes per thread
+     */
+    static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * @param operation the operation to measure, created once outside the measured loop
+     * @return the average number of bytes allocated per invocation in the best round
+     */
+    static double bytesPerCall(Runnable operation) {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            operation.run();
+        }
+
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS && lowest > 0; round++) {
+            long before = THREADS.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < ROUND_ITERATIONS; i++) {
+                operation.run();
+            }
+            lowest = Math.min(lowest, THREADS.getCurrentThreadAllocatedBytes() - before);
+        }
+        return (double) lowest / ROUND_ITERATIONS;
+    }
+}
@@ -0,0 +1,155 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import io.github._07manan.featureflags.sdk.model.EvaluationRecord;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchEvaluatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEvaluatesEveryUserOnCallingThread() {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("checkout", "control", FlagType.STRING, false, "v-control"))
+                .put(new EvaluationResult("banner", true, FlagType.BOOLEAN, false, null))
+                .latency(1, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 500; i += 2) {
+            transport.put("user-" + i, new EvaluationResult("checkout", "treatment", FlagType.STRING, false, "v-treatment"));
+        }
+
+        try (FeatureFlagClient client = FeatureFlagClient.builder().apiKey("ff_test_key").transport(transport).build();
+             BatchEvaluator evaluator = client.batchEvaluator().flags("checkout").parallelism(8).maxInFlight(16).build()) {
+            Thread caller = Thread.currentThread();
+            Map<String, String> variants = new HashMap<>();
+            long users = evaluator.evaluate(IntStream.range(0, 500).mapToObj(i -> "user-" + i), record -> {
+                assertSame(caller, Thread.currentThread());
+                assertEquals("checkout", record.getFlagKey());
+                assertNull(variants.put(record.getUserId(), record.getVariantId()));
+            });
+
+            assertEquals(500, users);
+            assertEquals(500, variants.size());
+            assertEquals("v-treatment", variants.get("user-0"));
+            assertEquals("v-control", variants.get("user-1"));
+            assertEquals(500, transport.getRequestCount());
+        }
+    }
+
+    @Test
+    void testReadsUsersFromFile() throws IOException {
+        Path file = Files.write(tempDir.resolve("users.txt"), List.of("alice", "", "  bob  ", "carol"));
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("limit", 10, FlagType.NUMBER, false, null))
+                .put(new EvaluationResult("theme", "dark", FlagType.STRING, false, null));
+
+        try (FeatureFlagClient client = FeatureFlagClient.builder().apiKey("ff_test_key").transport(transport).build();
+             BatchEvaluator evaluator = client.batchEvaluator().build()) {
+            List<EvaluationRecord> records = new ArrayList<>();
+            assertEquals(3, evaluator.evaluate(file, records::add));
+            assertEquals(6, records.size());
+            assertTrue(records.stream().anyMatch(r -> r.getUserId().equals("bob") && r.getValue().equals(10)));
+
+            assertThrows(FeatureFlagException.class, () -> evaluator.evaluate(tempDir.resolve("missing.txt"), records::add));
+        }
+    }
+
+    @Test
+    void testRetriesFailedUsersThenAborts() {
+        AtomicInteger failures = new AtomicInteger();
+        InMemoryTransport transport = new InMemoryTransport() {
+            @Override
+            public Map<String, EvaluationResult> evaluateAllFlags(String userId) {
+                if ("flaky".equals(userId) && failures.incrementAndGet() == 1) {
+                    throw new FeatureFlagException("Connection reset");
+                }
+                if ("broken".equals(userId)) {
+                    throw new FeatureFlagException("Connection reset");
+                }
+                return super.evaluateAllFlags(userId);
+            }
+        }.put(new EvaluationResult("banner", true, FlagType.BOOLEAN, false, null));
+
+        try (FeatureFlagClient client = FeatureFlagClient.builder().apiKey("ff_test_key").transport(transport).build();
+             BatchEvaluator evaluator = client.batchEvaluator().parallelism(2).retries(1).build()) {
+            assertEquals(2, evaluator.evaluate(List.of("flaky", "stable").iterator(), record -> { }));
+
+            FeatureFlagException e = assertThrows(FeatureFlagException.class,
+                    () -> evaluator.evaluate(List.of("broken").iterator(), record -> { }));
+            assertTrue(e.getMessage().contains("broken"));
+        }
+    }
+
+    @Test
+    void testAbortStopsUsersInFlight() throws InterruptedException {
+        AtomicInteger requests = new AtomicInteger();
+        InMemoryTransport transport = new InMemoryTransport() {
+            @Override
+            public Map<String, EvaluationResult> evaluateAllFlags(String userId) {
+                requests.incrementAndGet();
+                if ("broken".equals(userId)) {
+                    throw new FeatureFlagException("Connection reset");
+                }
+                return super.evaluateAllFlags(userId);
+            }
+        }.put(new EvaluationResult("banner", true, FlagType.BOOLEAN, false, null)).latency(50, TimeUnit.MILLISECONDS);
+
+        try (FeatureFlagClient client = FeatureFlagClient.builder().apiKey("ff_test_key").transport(transport).build();
+             BatchEvaluator evaluator = client.batchEvaluator().parallelism(2).maxInFlight(16).retries(0).build()) {
+            List<String> users = new ArrayList<>(List.of("broken"));
+            IntStream.range(0, 15).forEach(i -> users.add("user-" + i));
+
+            assertThrows(FeatureFlagException.class, () -> evaluator.evaluate(users.iterator(), record -> { }));
+            Thread.sleep(300);
+
+            // Only the requests already running when the run aborted were sent
+            assertTrue(requests.get() <= 4, "Requests after abort: " + requests.get());
+        }
+    }
+
+    @Test
+    void testErrorsReachTheCaller() {
+        InMemoryTransport transport = new InMemoryTransport() {
+            @Override
+            public Map<String, EvaluationResult> evaluateAllFlags(String userId) {
+                throw new StackOverflowError();
+            }
+        };
+
+        try (FeatureFlagClient client = FeatureFlagClient.builder().apiKey("ff_test_key").transport(transport).build();
+             BatchEvaluator evaluator = client.batchEvaluator().build()) {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThrows(StackOverflowError.class,
+                    () -> evaluator.evaluate(List.of("user-1").iterator(), record -> { })));
+        }
+    }
+
+    @Test
+    void testInvalidSettingsRejected() {
+        try (FeatureFlagClient client = FeatureFlagClient.builder().apiKey("ff_test_key").transport(new InMemoryTransport()).build()) {
+            assertThrows(IllegalArgumentException.class, () -> client.batchEvaluator().parallelism(0).build());
+            assertThrows(IllegalArgumentException.class, () -> client.batchEvaluator().maxInFlight(0).build());
+            assertThrows(IllegalArgumentException.class, () -> client.batchEvaluator().maxInFlight(-1).build());
+            assertThrows(IllegalArgumentException.class, () -> client.batchEvaluator().parallelism(8).maxInFlight(4).build());
+            assertThrows(IllegalArgumentException.class, () -> client.batchEvaluator().retries(-1).build());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.github._07manan.featureflags.sdk;
+
+import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvaluationContextTest {
+
+    private InMemoryTransport transport;
+    private FeatureFlagClient client;
+
+    @BeforeEach
+    void setUp() {
+        transport = new InMemoryTransport()
+                .put(new EvaluationResult("dark-mode", true, FlagType.BOOLEAN, false, null))
+                .put(new EvaluationResult("theme", "blue", FlagType.STRING, false, null))
+                .put(new EvaluationResult("rate-limit", 250, FlagType.NUMBER, false, null));
+        client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(transport)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void testLazyResolutionIsMemoized() {
+        EvaluationContext context = client.forUser("user-1");
+
+        assertTrue(context.getBooleanFlag("dark-mode", false));
+        assertEquals(1, transport.getRequestCount());
+
+        // Even after the shared cache is cleared, the context keeps its value
+        client.clearCache();
+        transport.put(new EvaluationResult("dark-mode", false, FlagType.BOOLEAN, false, null));
+
+        assertTrue(context.getBooleanFlag("dark-mode", false));
+        assertEquals(1, transport.getRequestCount());
+        assertFalse(client.forUser("user-1").getBooleanFlag("dark-mode", true));
+    }
+
+    @Test
+    void testPrefetchUsesSingleBulkRequest() {
+        EvaluationContext context = client.forUser("user-1").prefetch();
+
+        assertTrue(context.getBooleanFlag("dark-mode", false));
+        assertEquals("blue", context.getStringFlag("theme", "red"));
+        assertEquals(250, context.getIntFlag("rate-limit", 0));
+        assertEquals(250.0, context.getDoubleFlag("rate-limit", 0.0), 0.001);
+        assertEquals(1, transport.getRequestCount());
+    }
+
+    @Test
+    void testPrefetchAsyncOverlapsWithCaller() {
+        transport.latency(50, TimeUnit.MILLISECONDS);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            long start = System.nanoTime();
+            EvaluationContext context = client.forUser("user-1").prefetchAsync(executor);
+            assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(50), "Should not wait for the bulk evaluation");
+
+            assertTrue(context.getBooleanFlag("dark-mode", false));
+            assertEquals("blue", context.getStringFlag("theme", "red"));
+            assertEquals(1, transport.getRequestCount());
+            // The bulk result also warmed the client's cache
+            assertEquals(250, client.getIntFlag("rate-limit", "user-1", 0));
+            assertEquals(1, transport.getRequestCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailedPrefetchAsyncFallsBackToSingleFlags() {
+        InMemoryTransport failingBulk = new InMemoryTransport() {
+            @Override
+            public Map<String, EvaluationResult> evaluateAllFlags(String userId) {
+                throw new FeatureFlagException("Bulk evaluation unavailable");
+            }
+        }.put(new EvaluationResult("dark-mode", true, FlagType.BOOLEAN, false, null));
+
+        try (FeatureFlagClient failingClient = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(failingBulk)
+                .build()) {
+            EvaluationContext context = failingClient.forUser("user-1").prefetchAsync(Runnable::run);
+
+            assertTrue(context.getBooleanFlag("dark-mode", false));
+            assertEquals("red", context.getStringFlag("theme", "red"));
+        }
+    }
+
+    @Test
+    void testFailedPrefetchAsyncRethrowsAuthenticationErrors() {
+        InMemoryTransport rejectingBulk = new InMemoryTransport() {
+            @Override
+            public Map<String, EvaluationResult> evaluateAllFlags(String userId) {
+                throw new AuthenticationException("Invalid API key");
+            }
+        }.put(new EvaluationResult("dark-mode", true, FlagType.BOOLEAN, false, null));
+
+        try (FeatureFlagClient rejectingClient = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(rejectingBulk)
+                .build()) {
+            EvaluationContext context = rejectingClient.forUser("user-1").prefetchAsync(Runnable::run);
+
+            assertThrows(AuthenticationException.class, () -> context.getBooleanFlag("dark-mode", false));
+        }
+    }
+
+    @Test
+    void testMissingAndMismatchedFlagsReturnDefaults() {
+        EvaluationContext context = client.forUser("user-1");
+
+        assertTrue(context.getBooleanFlag("missing", true));
+        assertTrue(context.getBooleanFlag("missing", true));
+        assertEquals(1, transport.getRequestCount(), "Not-found results are memoized too");
+        assertEquals(9, context.getIntFlag("theme", 9));
+        assertEquals("blue", context.getStringFlag("theme", "red"));
+        assertEquals(9, context.getIntFlag("theme", 9));
+    }
+
+    @Test
+    void testHandles() {
+        BooleanFlag darkMode = client.booleanFlag("dark-mode", false);
+        StringFlag theme = client.stringFlag("theme", "red");
+        IntFlag rateLimit = client.intFlag("rate-limit", 0);
+        DoubleFlag missing = client.doubleFlag("missing", 1.5);
+
+        EvaluationContext context = client.forUser("user-1");
+
+        assertTrue(context.isEnabled(darkMode));
+        assertEquals("blue", context.getValue(theme));
+        assertEquals(250, context.getValue(rateLimit));
+        assertEquals(1.5, context.getValue(missing), 0.001);
+        assertEquals("user-1", context.getUserId());
+    }
+}
@@ -1,20 +1,33 @@
 package io.github._07manan.featureflags.sdk;
 
+import io.github._07manan.featureflags.sdk.cache.MappedFileSharedCache;
 import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.exception.ConcurrencyLimitExceededException;
 import io.github._07manan.featureflags.sdk.exception.FlagNotFoundException;
-import io.github._07manan.featureflags.sdk.http.HttpClient;
 import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagChange;
+import io.github._07manan.featureflags.sdk.model.FlagSnapshot;
 import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.transport.EvaluationTransport;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.lang.reflect.Field;
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,22 +39,17 @@ import static org.mockito.Mockito.*;
 class FeatureFlagClientTest {
 
     @Mock
-    private HttpClient mockHttpClient;
+    private EvaluationTransport mockTransport;
 
     private FeatureFlagClient client;
 
     @BeforeEach
-    void setUp() throws Exception {
-        // Create a real client
+    void setUp() {
         client = FeatureFlagClient.builder()
                 .apiKey("ff_test_key123")
                 .baseUrl("http://localhost:8081")
+                .transport(mockTransport)
                 .build();
-        
-        // Replace the httpClient with our mock using reflection
-        Field httpClientField = FeatureFlagClient.class.getDeclaredField("httpClient");
-        httpClientField.setAccessible(true);
-        httpClientField.set(client, mockHttpClient);
     }
 
     @AfterEach
@@ -52,18 +60,18 @@ class FeatureFlagClientTest {
     @Test
     void testGetBooleanFlag_Success() {
         EvaluationResult result = new EvaluationResult("test-flag", true, FlagType.BOOLEAN, false, null);
-        when(mockHttpClient.evaluateFlag("test-flag", "user-123")).thenReturn(result);
+        when(mockTransport.findFlag("test-flag", "user-123")).thenReturn(result);
 
         boolean value = client.getBooleanFlag("test-flag", "user-123", false);
 
         assertTrue(value);
-        verify(mockHttpClient).evaluateFlag("test-flag", "user-123");
+        verify(mockTransport).findFlag("test-flag", "user-123");
     }
 
     @Test
     void testGetBooleanFlag_TypeMismatch() {
         EvaluationResult result = new EvaluationResult("test-flag", "string-value", FlagType.STRING, false, null);
-        when(mockHttpClient.evaluateFlag("test-flag", "user-123")).thenReturn(result);
+        when(mockTransport.findFlag("test-flag", "user-123")).thenReturn(result);
 
         boolean value = client.getBooleanFlag("test-flag", "user-123", false);
 
@@ -73,8 +81,8 @@ class FeatureFlagClientTest {
 
     @Test
     void testGetBooleanFlag_NotFound() {
-        when(mockHttpClient.evaluateFlag("test-flag", "user-123"))
-                .thenThrow(new FlagNotFoundException("test-flag"));
+        when(mockTransport.findFlag("test-flag", "user-123"))
+                .thenReturn(null);
 
         boolean value = client.getBooleanFlag("test-flag", "user-123", true);
 
@@ -82,9 +90,43 @@ class FeatureFlagClientTest {
         assertTrue(value);
     }
 
+    @Test
+    void testGetBooleanFlag_NotFoundIsCached() {
+        when(mockTransport.findFlag("missing-flag", "user-123")).thenReturn(null);
+
+        assertTrue(client.getBooleanFlag("missing-flag", "user-123", true));
+        assertEquals(7, client.getIntFlag("missing-flag", "user-123", 7));
+        verify(mockTransport, times(1)).findFlag("missing-flag", "user-123");
+
+        client.invalidateFlag("missing-flag");
+        assertTrue(client.getBooleanFlag("missing-flag", "user-123", true));
+        verify(mockTransport, times(2)).findFlag("missing-flag", "user-123");
+    }
+
+    @Test
+    void testGetBooleanFlag_NotFoundCreatesNoFlagCache() {
+        when(mockTransport.findFlag(anyString(), anyString())).thenReturn(null);
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(client.getBooleanFlag("typo-" + i, "user-" + i, false));
+        }
+        assertFalse(client.getBooleanFlag("typo-0", "user-other", false));
+
+        // Remembered per flag, so another user doesn't refetch it either
+        verify(mockTransport, times(100)).findFlag(anyString(), anyString());
+        assertNull(client.existingFlagCache("typo-0"));
+        assertEquals(100, client.getCacheSize());
+    }
+
+    @Test
+    void testExpectedExceptionsAreStackless() {
+        assertEquals(0, new FlagNotFoundException("missing-flag").getStackTrace().length);
+        assertEquals(0, new ConcurrencyLimitExceededException("shed").getStackTrace().length);
+    }
+
     @Test
     void testGetBooleanFlag_AuthenticationError() {
-        when(mockHttpClient.evaluateFlag("test-flag", "user-123"))
+        when(mockTransport.findFlag("test-flag", "user-123"))
                 .thenThrow(new AuthenticationException("Invalid API key"));
 
         // Should bubble up authentication exception
@@ -96,18 +138,18 @@ class FeatureFlagClientTest {
     @Test
     void testGetStringFlag_Success() {
         EvaluationResult result = new EvaluationResult("color-flag", "blue", FlagType.STRING, false, null);
-        when(mockHttpClient.evaluateFlag("color-flag", "user-123")).thenReturn(result);
+        when(mockTransport.findFlag("color-flag", "user-123")).thenReturn(result);
 
         String value = client.getStringFlag("color-flag", "user-123", "red");
 
         assertEquals("blue", value);
-        verify(mockHttpClient).evaluateFlag("color-flag", "user-123");
+        verify(mockTransport).findFlag("color-flag", "user-123");
     }
 
     @Test
     void testGetIntFlag_Success() {
         EvaluationResult result = new EvaluationResult("limit-flag", 100, FlagType.NUMBER, false, null);
-        when(mockHttpClient.evaluateFlag("limit-flag", "user-123")).thenReturn(result);
+        when(mockTransport.findFlag("limit-flag", "user-123")).thenReturn(result);
 
         int value = client.getIntFlag("limit-flag", "user-123", 50);
 
@@ -117,7 +159,7 @@ class FeatureFlagClientTest {
     @Test
     void testGetDoubleFlag_Success() {
         EvaluationResult result = new EvaluationResult("rate-flag", 0.15, FlagType.NUMBER, false, null);
-        when(mockHttpClient.evaluateFlag("rate-flag", "user-123")).thenReturn(result);
+        when(mockTransport.findFlag("rate-flag", "user-123")).thenReturn(result);
 
         double value = client.getDoubleFlag("rate-flag", "user-123", 0.1);
 
@@ -131,7 +173,7 @@ class FeatureFlagClientTest {
         apiResults.put("flag2", new EvaluationResult("flag2", "value", FlagType.STRING, false, null));
         apiResults.put("flag3", new EvaluationResult("flag3", 42, FlagType.NUMBER, false, null));
 
-        when(mockHttpClient.evaluateAllFlags("user-123")).thenReturn(apiResults);
+        when(mockTransport.evaluateAllFlags("user-123")).thenReturn(apiResults);
 
         Map<String, Object> flags = client.getAllFlags("user-123");
 
@@ -141,10 +183,81 @@ class FeatureFlagClientTest {
         assertEquals(42, flags.get("flag3"));
     }
 
+    @Test
+    void testGetAllFlags_RepeatCallServedFromCache() {
+        Map<String, EvaluationResult> apiResults = new HashMap<>();
+        apiResults.put("flag1", new EvaluationResult("flag1", true, FlagType.BOOLEAN, false, null));
+        when(mockTransport.evaluateAllFlags("user-123")).thenReturn(apiResults);
+
+        Map<String, Object> first = client.getAllFlags("user-123");
+        first.put("flag1", false); // callers may mutate the returned map
+        Map<String, Object> second = client.getAllFlags("user-123");
+
+        assertEquals(true, second.get("flag1"));
+        verify(mockTransport, times(1)).evaluateAllFlags("user-123");
+    }
+
+    @Test
+    void testGetSnapshot_SharedWhileCached() {
+        Map<String, EvaluationResult> apiResults = new HashMap<>();
+        apiResults.put("flag1", new EvaluationResult("flag1", true, FlagType.BOOLEAN, false, null));
+        apiResults.put("flag3", new EvaluationResult("flag3", 42, FlagType.NUMBER, false, null));
+        when(mockTransport.evaluateAllFlags("user-123")).thenReturn(apiResults);
+
+        FlagSnapshot snapshot = client.getSnapshot("user-123");
+
+        assertTrue(snapshot.getBoolean("flag1", false));
+        assertEquals(42, snapshot.getInt("flag3", 0));
+        assertSame(snapshot, client.getSnapshot("user-123"));
+        verify(mockTransport, times(1)).evaluateAllFlags("user-123");
+    }
+
+    @Test
+    void testGetAllFlags_InvalidateCacheRefreshesOnlyThatFlag() {
+        Map<String, EvaluationResult> apiResults = new HashMap<>();
+        apiResults.put("flag1", new EvaluationResult("flag1", true, FlagType.BOOLEAN, false, null));
+        apiResults.put("flag2", new EvaluationResult("flag2", "value", FlagType.STRING, false, null));
+        when(mockTransport.evaluateAllFlags("user-123")).thenReturn(apiResults);
+        when(mockTransport.findFlag("flag1", "user-123"))
+                .thenReturn(new EvaluationResult("flag1", false, FlagType.BOOLEAN, false, null));
+
+        client.getAllFlags("user-123");
+        client.invalidateCache("flag1", "user-123");
+        Map<String, Object> flags = client.getAllFlags("user-123");
+        client.getAllFlags("user-123");
+
+        assertEquals(false, flags.get("flag1"));
+        assertEquals("value", flags.get("flag2"));
+        verify(mockTransport, times(1)).evaluateAllFlags("user-123");
+        verify(mockTransport, times(1)).findFlag("flag1", "user-123");
+    }
+
+    @Test
+    void testInvalidateFlag_AppliesToAllUsers() {
+        when(mockTransport.evaluateAllFlags(anyString())).thenAnswer(invocation -> {
+            Map<String, EvaluationResult> results = new HashMap<>();
+            results.put("flag1", new EvaluationResult("flag1", true, FlagType.BOOLEAN, false, null));
+            return results;
+        });
+        when(mockTransport.findFlag(eq("flag1"), anyString()))
+                .thenReturn(null);
+
+        client.getAllFlags("user-1");
+        client.getAllFlags("user-2");
+        client.invalidateFlag("flag1");
+
+        // The flag was deleted upstream, so it drops out of both cached bulk results
+        assertTrue(client.getAllFlags("user-1").isEmpty());
+        assertTrue(client.getAllFlags("user-2").isEmpty());
+        assertFalse(client.getBooleanFlag("flag1", "user-1", false));
+        verify(mockTransport, times(1)).evaluateAllFlags("user-1");
+        verify(mockTransport, times(1)).evaluateAllFlags("user-2");
+    }
+
     @Test
     void testCaching_SameRequestUsesCache() {
         EvaluationResult result = new EvaluationResult("test-flag", true, FlagType.BOOLEAN, false, null);
-        when(mockHttpClient.evaluateFlag("test-flag", "user-123")).thenReturn(result);
+        when(mockTransport.findFlag("test-flag", "user-123")).thenReturn(result);
 
         // First call - should hit API
         boolean value1 = client.getBooleanFlag("test-flag", "user-123", false);
@@ -155,7 +268,7 @@ class FeatureFlagClientTest {
         assertTrue(value2);
 
         // Verify API was called only once
-        verify(mockHttpClient, times(1)).evaluateFlag("test-flag", "user-123");
+        verify(mockTransport, times(1)).findFlag("test-flag", "user-123");
     }
 
     @Test
@@ -163,8 +276,8 @@ class FeatureFlagClientTest {
         EvaluationResult result1 = new EvaluationResult("test-flag", true, FlagType.BOOLEAN, false, null);
         EvaluationResult result2 = new EvaluationResult("test-flag", false, FlagType.BOOLEAN, false, null);
         
-        when(mockHttpClient.evaluateFlag("test-flag", "user-1")).thenReturn(result1);
-        when(mockHttpClient.evaluateFlag("test-flag", "user-2")).thenReturn(result2);
+        when(mockTransport.findFlag("test-flag", "user-1")).thenReturn(result1);
+        when(mockTransport.findFlag("test-flag", "user-2")).thenReturn(result2);
 
         boolean value1 = client.getBooleanFlag("test-flag", "user-1", false);
         boolean value2 = client.getBooleanFlag("test-flag", "user-2", false);
@@ -173,8 +286,8 @@ class FeatureFlagClientTest {
         assertFalse(value2);
 
         // Both users should hit the API
-        verify(mockHttpClient).evaluateFlag("test-flag", "user-1");
-        verify(mockHttpClient).evaluateFlag("test-flag", "user-2");
+        verify(mockTransport).findFlag("test-flag", "user-1");
+        verify(mockTransport).findFlag("test-flag", "user-2");
     }
 
     @Test
@@ -182,7 +295,7 @@ class FeatureFlagClientTest {
         EvaluationResult result1 = new EvaluationResult("test-flag", true, FlagType.BOOLEAN, false, null);
         EvaluationResult result2 = new EvaluationResult("test-flag", false, FlagType.BOOLEAN, false, null);
         
-        when(mockHttpClient.evaluateFlag("test-flag", "user-123"))
+        when(mockTransport.findFlag("test-flag", "user-123"))
                 .thenReturn(result1)
                 .thenReturn(result2);
 
@@ -198,13 +311,13 @@ class FeatureFlagClientTest {
         assertFalse(value2);
 
         // Verify API was called twice
-        verify(mockHttpClient, times(2)).evaluateFlag("test-flag", "user-123");
+        verify(mockTransport, times(2)).findFlag("test-flag", "user-123");
     }
 
     @Test
     void testClearCache() {
         EvaluationResult result = new EvaluationResult("test-flag", true, FlagType.BOOLEAN, false, null);
-        when(mockHttpClient.evaluateFlag(anyString(), anyString())).thenReturn(result);
+        when(mockTransport.findFlag(anyString(), anyString())).thenReturn(result);
 
         // Make some cached calls
         client.getBooleanFlag("flag1", "user-1", false);
@@ -218,8 +331,305 @@ class FeatureFlagClientTest {
         client.getBooleanFlag("flag2", "user-2", false);
 
         // Verify each flag was called twice (once before clear, once after)
-        verify(mockHttpClient, times(2)).evaluateFlag("flag1", "user-1");
-        verify(mockHttpClient, times(2)).evaluateFlag("flag2", "user-2");
+        verify(mockTransport, times(2)).findFlag("flag1", "user-1");
+        verify(mockTransport, times(2)).findFlag("flag2", "user-2");
+    }
+
+    @Test
+    void testConcurrencyLimit_RejectedRequestReturnsDefault() throws InterruptedException {
+        FeatureFlagClient limitedClient = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .baseUrl("http://localhost:8081")
+                .concurrencyLimit(1, 1)
+                .concurrencyQueueTimeout(0, TimeUnit.MILLISECONDS)
+                .transport(mockTransport)
+                .build();
+
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(mockTransport.findFlag("slow-flag", "user-1")).thenAnswer(invocation -> {
+            inFlight.countDown();
+            release.await();
+            return new EvaluationResult("slow-flag", true, FlagType.BOOLEAN, false, null);
+        });
+
+        Thread slowCaller = new Thread(() -> limitedClient.getBooleanFlag("slow-flag", "user-1", false));
+        slowCaller.start();
+        inFlight.await();
+
+        try {
+            // The only permit is held by the slow call, so this one is shed to its default
+            assertTrue(limitedClient.getBooleanFlag("other-flag", "user-1", true));
+            verify(mockTransport, never()).findFlag("other-flag", "user-1");
+        } finally {
+            release.countDown();
+            slowCaller.join();
+            limitedClient.close();
+        }
+    }
+
+    @Test
+    void testFlagHandles() {
+        when(mockTransport.findFlag("bool-flag", "user-1"))
+                .thenReturn(new EvaluationResult("bool-flag", true, FlagType.BOOLEAN, false, null));
+        when(mockTransport.findFlag("string-flag", "user-1"))
+                .thenReturn(new EvaluationResult("string-flag", "green", FlagType.STRING, false, null));
+        when(mockTransport.findFlag("number-flag", "user-1"))
+                .thenReturn(new EvaluationResult("number-flag", 2.5, FlagType.NUMBER, false, null));
+        when(mockTransport.findFlag("missing-flag", "user-1"))
+                .thenReturn(null);
+
+        BooleanFlag boolFlag = client.booleanFlag("bool-flag", false);
+        StringFlag stringFlag = client.stringFlag("string-flag", "red");
+        IntFlag intFlag = client.intFlag("number-flag", 0);
+        DoubleFlag doubleFlag = client.doubleFlag("number-flag", 0.0);
+        BooleanFlag missingFlag = client.booleanFlag("missing-flag", true);
+        IntFlag mismatchedFlag = client.intFlag("bool-flag", 7);
+
+        assertTrue(boolFlag.isEnabled("user-1"));
+        assertEquals("green", stringFlag.getValue("user-1"));
+        assertEquals(2, intFlag.getValue("user-1"));
+        assertEquals(2.5, doubleFlag.getValue("user-1"), 0.001);
+        assertTrue(missingFlag.isEnabled("user-1"));
+        assertEquals(7, mismatchedFlag.getValue("user-1"));
+        assertEquals("bool-flag", boolFlag.getKey());
+    }
+
+    @Test
+    void testFlagHandles_ShareCacheWithClient() {
+        when(mockTransport.findFlag("test-flag", "user-123"))
+                .thenReturn(new EvaluationResult("test-flag", true, FlagType.BOOLEAN, false, null))
+                .thenReturn(new EvaluationResult("test-flag", false, FlagType.BOOLEAN, false, null));
+
+        BooleanFlag handle = client.booleanFlag("test-flag", false);
+
+        assertTrue(client.getBooleanFlag("test-flag", "user-123", false));
+        assertTrue(handle.isEnabled("user-123"));
+        verify(mockTransport, times(1)).findFlag("test-flag", "user-123");
+
+        client.invalidateCache("test-flag", "user-123");
+
+        assertFalse(handle.isEnabled("user-123"));
+        verify(mockTransport, times(2)).findFlag("test-flag", "user-123");
+    }
+
+    @Test
+    void testSweepDropsIdleFlagCaches() throws InterruptedException {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, null))
+                .put(new EvaluationResult("checkout", true, FlagType.BOOLEAN, false, null));
+
+        try (FeatureFlagClient shortTtlClient = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(transport)
+                .cacheTTL(20, TimeUnit.MILLISECONDS)
+                .build()) {
+            BooleanFlag checkout = shortTtlClient.booleanFlag("checkout", false);
+            assertTrue(checkout.isEnabled("user-1"));
+            assertEquals("blue", shortTtlClient.getStringFlag("banner", "user-1", "none"));
+
+            Thread.sleep(50);
+            shortTtlClient.sweepCaches();
+
+            assertNull(shortTtlClient.existingFlagCache("banner"), "Expired flag without a handle should be dropped");
+            assertSame(checkout.cache(), shortTtlClient.existingFlagCache("checkout"));
+            assertEquals(0, shortTtlClient.getCacheSize());
+
+            // A dropped flag is cached again on its next lookup
+            assertEquals("blue", shortTtlClient.getStringFlag("banner", "user-1", "none"));
+            assertEquals("blue", shortTtlClient.getStringFlag("banner", "user-1", "none"));
+            assertEquals(3, transport.getRequestCount());
+        }
+    }
+
+    @Test
+    void testInMemoryTransport() {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, null))
+                .put("user-vip", new EvaluationResult("banner", "gold", FlagType.STRING, false, null));
+
+        try (FeatureFlagClient inMemoryClient = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(transport)
+                .build()) {
+
+            assertEquals("blue", inMemoryClient.getStringFlag("banner", "user-1", "none"));
+            assertEquals("gold", inMemoryClient.getStringFlag("banner", "user-vip", "none"));
+            assertEquals("none", inMemoryClient.getStringFlag("missing", "user-1", "none"));
+            assertEquals("gold", inMemoryClient.getAllFlags("user-vip").get("banner"));
+            assertEquals(4, transport.getRequestCount());
+        }
+    }
+
+    @Test
+    void testFlagChangeListeners_FireOnRefreshedBulkResult() {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, null))
+                .put(new EvaluationResult("dark-mode", true, FlagType.BOOLEAN, false, null));
+
+        try (FeatureFlagClient listenerClient = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(transport)
+                .build()) {
+
+            List<FlagChange> anyChanges = new ArrayList<>();
+            List<FlagChange> bannerChanges = new ArrayList<>();
+            listenerClient.onAnyChange((userId, change) -> anyChanges.add(change));
+            listenerClient.onFlagChange("banner", (userId, change) -> bannerChanges.add(change));
+            listenerClient.watchUser("user-1");
+
+            // First fetch only establishes the baseline
+            listenerClient.getAllFlags("user-1");
+            assertTrue(anyChanges.isEmpty());
+
+            transport.put(new EvaluationResult("dark-mode", false, FlagType.BOOLEAN, false, null));
+            listenerClient.clearCache();
+            listenerClient.getAllFlags("user-1");
+
+            assertEquals(1, anyChanges.size());
+            assertEquals("dark-mode", anyChanges.get(0).getFlagKey());
+            assertTrue(bannerChanges.isEmpty());
+
+            transport.put(new EvaluationResult("banner", "gold", FlagType.STRING, false, null));
+            listenerClient.clearCache();
+            listenerClient.getAllFlags("user-2"); // not watched
+            listenerClient.getAllFlags("user-1");
+
+            assertEquals(2, anyChanges.size());
+            assertEquals(1, bannerChanges.size());
+            assertEquals("gold", bannerChanges.get(0).getCurrent().getValue());
+        }
+    }
+
+    @Test
+    void testFlagChangeListeners_Polling() throws InterruptedException {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, null));
+
+        try (FeatureFlagClient pollingClient = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(transport)
+                .pollInterval(20, TimeUnit.MILLISECONDS)
+                .build()) {
+
+            CountDownLatch changed = new CountDownLatch(1);
+            pollingClient.onFlagChange("banner", (userId, change) -> {
+                if (userId == null && "gold".equals(change.getCurrent().getValue())) {
+                    changed.countDown();
+                }
+            });
+
+            // The anonymous user is watched by default; this fetch establishes its baseline
+            pollingClient.getSnapshot(null);
+            transport.put(new EvaluationResult("banner", "gold", FlagType.STRING, false, null));
+
+            assertTrue(changed.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testSharedCache_ServesOtherClients(@TempDir Path dir) {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, null));
+
+        try (MappedFileSharedCache shared = new MappedFileSharedCache(dir.resolve("flags.cache"), 64, 256);
+             FeatureFlagClient first = FeatureFlagClient.builder()
+                     .apiKey("ff_test_key123").transport(transport).sharedCache(shared).build();
+             FeatureFlagClient second = FeatureFlagClient.builder()
+                     .apiKey("ff_test_key123").transport(transport).sharedCache(shared).build();
+             FeatureFlagClient otherEnvironment = FeatureFlagClient.builder()
+                     .apiKey("ff_other_key").transport(transport).sharedCache(shared).build()) {
+
+            assertEquals("blue", first.getStringFlag("banner", "user-1", "none"));
+            assertEquals("blue", first.getAllFlags("user-1").get("banner"));
+            assertEquals(2, transport.getRequestCount());
+
+            // Both results come from the shared tier
+            assertEquals("blue", second.getStringFlag("banner", "user-1", "none"));
+            assertEquals("blue", second.getAllFlags("user-1").get("banner"));
+            assertEquals(2, transport.getRequestCount());
+
+            // Environments never share entries
+            assertEquals("blue", otherEnvironment.getStringFlag("banner", "user-1", "none"));
+            assertEquals(3, transport.getRequestCount());
+
+            transport.put(new EvaluationResult("banner", "gold", FlagType.STRING, false, null));
+            first.invalidateCache("banner", "user-1");
+            second.clearCache();
+            assertEquals("gold", second.getStringFlag("banner", "user-1", "none"));
+            assertEquals(4, transport.getRequestCount());
+        }
+    }
+
+    @Test
+    void testGetCachedSnapshot_NeverFetches() {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, null));
+
+        try (FeatureFlagClient client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123").transport(transport).build()) {
+            assertNull(client.getCachedSnapshot("user-1"));
+            assertEquals(0, transport.getRequestCount());
+
+            FlagSnapshot snapshot = client.getSnapshot("user-1");
+            assertSame(snapshot, client.getCachedSnapshot("user-1"));
+
+            // A snapshot with a stale flag needs a refresh the caller has to ask for
+            client.invalidateFlag("banner");
+            assertNull(client.getCachedSnapshot("user-1"));
+            assertEquals(1, transport.getRequestCount());
+        }
+    }
+
+    @Test
+    void testSharedCache_HitExpiresWithSharedEntry(@TempDir Path dir) throws InterruptedException {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, null));
+
+        try (MappedFileSharedCache shared = new MappedFileSharedCache(dir.resolve("flags.cache"), 64, 256);
+             FeatureFlagClient first = FeatureFlagClient.builder().apiKey("ff_test_key123")
+                     .cacheTTL(300, TimeUnit.MILLISECONDS).transport(transport).sharedCache(shared).build();
+             FeatureFlagClient second = FeatureFlagClient.builder().apiKey("ff_test_key123")
+                     .cacheTTL(300, TimeUnit.MILLISECONDS).transport(transport).sharedCache(shared).build()) {
+
+            assertEquals("blue", first.getStringFlag("banner", "user-1", "none"));
+            Thread.sleep(200);
+            assertEquals("blue", second.getStringFlag("banner", "user-1", "none"));
+            assertEquals(1, transport.getRequestCount());
+
+            // The local copy expires with the shared entry, not a full TTL after it was read
+            Thread.sleep(200);
+            assertEquals("blue", second.getStringFlag("banner", "user-1", "none"));
+            assertEquals(2, transport.getRequestCount());
+        }
+    }
+
+    @Test
+    void testSharedCache_FlagInvalidationSkipsOlderEntries(@TempDir Path dir) {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, null));
+
+        try (MappedFileSharedCache shared = new MappedFileSharedCache(dir.resolve("flags.cache"), 64, 256);
+             FeatureFlagClient first = FeatureFlagClient.builder()
+                     .apiKey("ff_test_key123").transport(transport).sharedCache(shared).build();
+             FeatureFlagClient second = FeatureFlagClient.builder()
+                     .apiKey("ff_test_key123").transport(transport).sharedCache(shared).build()) {
+
+            assertEquals("blue", first.getStringFlag("banner", "user-1", "none"));
+            assertEquals("blue", first.getAllFlags("user-1").get("banner"));
+            assertEquals(2, transport.getRequestCount());
+
+            transport.put(new EvaluationResult("banner", "gold", FlagType.STRING, false, null));
+            second.invalidateFlag("banner");
+            assertEquals("gold", second.getStringFlag("banner", "user-1", "none"));
+            assertEquals("gold", second.getAllFlags("user-1").get("banner"));
+            assertEquals(4, transport.getRequestCount());
+
+            transport.put(new EvaluationResult("banner", "red", FlagType.STRING, false, null));
+            first.clearCache();
+            assertEquals("red", first.getStringFlag("banner", "user-1", "none"));
+            assertEquals(5, transport.getRequestCount());
+        }
     }
 
     @Test
@@ -229,6 +639,42 @@ class FeatureFlagClientTest {
         });
     }
 
+    @Test
+    void testMBean_InspectsAndTunesClient() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("io.github._07manan.featureflags:type=FeatureFlagClient,name=\"production\"");
+        EvaluationResult result = new EvaluationResult("test-flag", true, FlagType.BOOLEAN, false, null);
+        when(mockTransport.findFlag("test-flag", "user-123")).thenReturn(result);
+
+        try (FeatureFlagClient named = FeatureFlagClient.builder()
+                .apiKey("ff_test_key123")
+                .transport(mockTransport)
+                .name("production")
+                .build()) {
+            assertNull(server.getAttribute(name, "LastRefreshTime"));
+            named.getBooleanFlag("test-flag", "user-123", false);
+            named.getBooleanFlag("test-flag", "user-123", false);
+            named.getBooleanFlag("test-flag", "user-123", false);
+
+            assertEquals(1L, server.getAttribute(name, "CacheSize"));
+            assertEquals(2.0 / 3, (Double) server.getAttribute(name, "CacheHitRatio"), 1e-9);
+            assertNotNull(server.getAttribute(name, "LastRefreshTime"));
+            assertEquals(0, server.getAttribute(name, "InFlightRequests"));
+
+            server.setAttribute(name, new Attribute("CacheTtlMillis", 0L));
+            Thread.sleep(5);
+            named.getBooleanFlag("test-flag", "user-123", false);
+            verify(mockTransport, times(2)).findFlag("test-flag", "user-123");
+
+            server.invoke(name, "setTimeouts", new Object[]{1000L, 2000L}, new String[]{"long", "long"});
+            verify(mockTransport).setTimeouts(1000, 2000, TimeUnit.MILLISECONDS);
+            server.invoke(name, "clearCache", new Object[0], new String[0]);
+            assertEquals(0L, server.getAttribute(name, "CacheSize"));
+        }
+
+        assertFalse(server.isRegistered(name));
+    }
+
     @Test
     void testBuilder_ValidatesApiKeyFormat() {
         assertThrows(IllegalArgumentException.class, () -> {
@@ -245,9 +691,25 @@ class FeatureFlagClientTest {
                 .baseUrl("http://custom-url:8081")
                 .cacheTTL(60, TimeUnit.SECONDS)
                 .httpTimeout(10, 20, TimeUnit.SECONDS)
+                .concurrencyLimit(10, 100)
+                .concurrencyQueueTimeout(100, TimeUnit.MILLISECONDS)
+                .connectionPool(50, 50)
+                .keepAlive(30, TimeUnit.SECONDS)
+                .evictIdleConnections(10, TimeUnit.SECONDS)
+                .validateAfterInactivity(1, TimeUnit.SECONDS)
+                .pollInterval(30, TimeUnit.SECONDS)
                 .build();
 
         assertNotNull(customClient);
         customClient.close();
+
+        FeatureFlagClient http2Client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key")
+                .baseUrl("http://custom-url:8081")
+                .http2(true)
+                .build();
+
+        assertNotNull(http2Client);
+        http2Client.close();
     }
 }
@@ -0,0 +1,127 @@
+package io.github._07manan.featureflags.sdk;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github._07manan.featureflags.sdk.metrics.InMemoryMetrics;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeatureFlagRuntimeTest {
+
+    @Test
+    void testClientsShareCacheBudget() {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, null));
+
+        try (FeatureFlagRuntime runtime = FeatureFlagRuntime.builder().maxCacheEntries(2).build()) {
+            FeatureFlagClient production = FeatureFlagClient.builder()
+                    .apiKey("ff_production_key")
+                    .runtime(runtime)
+                    .transport(transport)
+                    .build();
+            FeatureFlagClient staging = FeatureFlagClient.builder()
+                    .apiKey("ff_staging_key")
+                    .runtime(runtime)
+                    .transport(transport)
+                    .build();
+
+            assertEquals("blue", production.getStringFlag("banner", "user-1", "none"));
+            assertEquals("blue", staging.getStringFlag("banner", "user-1", "none"));
+            assertEquals(2, runtime.getCachedEntries());
+
+            // The budget is exhausted, so a third result is served but not cached
+            assertEquals("blue", staging.getStringFlag("banner", "user-2", "none"));
+            assertEquals("blue", staging.getStringFlag("banner", "user-2", "none"));
+            assertEquals(4, transport.getRequestCount());
+
+            // Closing one client frees its entries and leaves the runtime usable for the other
+            production.close();
+            assertEquals(1, runtime.getCachedEntries());
+            assertEquals("blue", staging.getStringFlag("banner", "user-2", "none"));
+            assertEquals("blue", staging.getStringFlag("banner", "user-2", "none"));
+            assertEquals(5, transport.getRequestCount());
+            staging.close();
+        }
+    }
+
+    @Test
+    void testBusyClientCannotCrowdOutOthers() {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, null));
+        InMemoryMetrics stagingMetrics = new InMemoryMetrics();
+
+        try (FeatureFlagRuntime runtime = FeatureFlagRuntime.builder().maxCacheEntries(4).build();
+             FeatureFlagClient production = FeatureFlagClient.builder()
+                     .apiKey("ff_production_key")
+                     .runtime(runtime)
+                     .transport(transport)
+                     .build();
+             FeatureFlagClient staging = FeatureFlagClient.builder()
+                     .apiKey("ff_staging_key")
+                     .runtime(runtime)
+                     .transport(transport)
+                     .metrics(stagingMetrics)
+                     .build()) {
+            for (int i = 0; i < 10; i++) {
+                assertEquals("blue", staging.getStringFlag("banner", "user-" + i, "none"));
+            }
+            assertEquals(2, runtime.getCachedEntries(), "Staging is limited to its half of the budget");
+            assertEquals(8, stagingMetrics.getCacheRejections("flags"));
+            assertEquals(0, stagingMetrics.getCacheEvictions("flags"));
+
+            assertEquals("blue", production.getStringFlag("banner", "user-1", "none"));
+            assertEquals("blue", production.getStringFlag("banner", "user-2", "none"));
+            assertEquals("blue", production.getStringFlag("banner", "user-1", "none"));
+            assertEquals("blue", production.getStringFlag("banner", "user-2", "none"));
+            assertEquals(4, runtime.getCachedEntries());
+            assertEquals(12, transport.getRequestCount());
+        }
+    }
+
+    @Test
+    void testClientsShareConnectionPool() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/evaluate/banner", exchange -> {
+            String apiKey = exchange.getRequestHeaders().getFirst("X-API-Key");
+            byte[] body = ("{\"flagKey\":\"banner\",\"value\":\"" + apiKey + "\",\"type\":\"STRING\",\"isDefault\":false}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        try (FeatureFlagRuntime runtime = FeatureFlagRuntime.builder().build()) {
+            FeatureFlagClient production = FeatureFlagClient.builder()
+                    .apiKey("ff_production_key")
+                    .baseUrl(baseUrl)
+                    .runtime(runtime)
+                    .build();
+            FeatureFlagClient staging = FeatureFlagClient.builder()
+                    .apiKey("ff_staging_key")
+                    .baseUrl(baseUrl)
+                    .runtime(runtime)
+                    .build();
+
+            assertEquals("ff_production_key", production.getStringFlag("banner", "user-1", "none"));
+            assertEquals("ff_staging_key", staging.getStringFlag("banner", "user-1", "none"));
+
+            production.close();
+            staging.invalidateCache("banner", "user-1");
+            assertEquals("ff_staging_key", staging.getStringFlag("banner", "user-1", "none"));
+            staging.close();
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github._07manan.featureflags.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogThrottleTest {
+
+    @Test
+    void testSuppressesWithinInterval() {
+        LogThrottle throttle = new LogThrottle(1, TimeUnit.HOURS);
+
+        assertEquals(0, throttle.tryAcquire("flag-a"));
+        assertEquals(-1, throttle.tryAcquire("flag-a"));
+        assertEquals(-1, throttle.tryAcquire("flag-a"));
+
+        // Keys are throttled independently
+        assertEquals(0, throttle.tryAcquire("flag-b"));
+    }
+
+    @Test
+    void testReportsSuppressedCountOnceIntervalElapses() throws InterruptedException {
+        LogThrottle throttle = new LogThrottle(20, TimeUnit.MILLISECONDS);
+
+        assertEquals(0, throttle.tryAcquire("flag-a"));
+        assertEquals(-1, throttle.tryAcquire("flag-a"));
+        assertEquals(-1, throttle.tryAcquire("flag-a"));
+
+        Thread.sleep(50);
+        assertEquals(2, throttle.tryAcquire("flag-a"));
+    }
+
+    @Test
+    void testKeysBeyondLimitShareOneWindow() throws InterruptedException {
+        LogThrottle throttle = new LogThrottle(20, TimeUnit.MILLISECONDS, 2);
+
+        assertEquals(0, throttle.tryAcquire("flag-a"));
+        assertEquals(0, throttle.tryAcquire("flag-b"));
+        assertEquals(0, throttle.tryAcquire("flag-c"));
+        assertEquals(-1, throttle.tryAcquire("flag-d"), "Shares flag-c's window");
+
+        // Idle windows are dropped to make room again
+        Thread.sleep(50);
+        assertEquals(0, throttle.tryAcquire("flag-e"), "Gets a window of its own rather than the shared one");
+        assertEquals(-1, throttle.tryAcquire("flag-e"));
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -53,6 +54,42 @@ class LocalCacheTest {
         assertNull(cache.get("key1"));
     }
 
+    @Test
+    void testReplaceKeepsExpiry() throws InterruptedException {
+        cache.put("key1", "value1");
+        Thread.sleep(60);
+
+        cache.replace("key1", value -> value + "-updated");
+        assertEquals("value1-updated", cache.get("key1"));
+
+        // Still expires 100ms after the original put, not after the replace
+        Thread.sleep(60);
+        assertNull(cache.get("key1"));
+    }
+
+    @Test
+    void testReplaceWithNullRemoves() {
+        cache.put("key1", "value1");
+        cache.replace("key1", value -> null);
+        cache.replace("missing", value -> "never-inserted");
+
+        assertNull(cache.get("key1"));
+        assertNull(cache.get("missing"));
+    }
+
+    @Test
+    void testInvalidateIf() {
+        cache.put("flag-a:user-1", "value1");
+        cache.put("flag-a:user-2", "value2");
+        cache.put("flag-b:user-1", "value3");
+
+        cache.invalidateIf(key -> key.startsWith("flag-a:"));
+
+        assertNull(cache.get("flag-a:user-1"));
+        assertNull(cache.get("flag-a:user-2"));
+        assertEquals("value3", cache.get("flag-b:user-1"));
+    }
+
     @Test
     void testClear() {
         cache.put("key1", "value1");
@@ -116,4 +153,37 @@ class LocalCacheTest {
         
         shortTTLCache.shutdown();
     }
+
+    @Test
+    void testSharedBudgetBoundsEntries() {
+        CacheBudget budget = new CacheBudget(3);
+        ScheduledExecutorService scheduler = LocalCache.newCleanupScheduler();
+        LocalCache<String> first = new LocalCache<>(1, TimeUnit.MINUTES, scheduler, budget);
+        LocalCache<String> second = new LocalCache<>(1, TimeUnit.MINUTES, scheduler, budget);
+        try {
+            first.put("a", "1");
+            first.put("b", "2");
+            second.put("a", "3");
+            second.put("b", "4"); // over budget, not cached
+
+            assertEquals(3, budget.getUsedEntries());
+            assertNull(second.get("b"));
+
+            // Overwriting an existing key needs no extra room
+            first.put("a", "5");
+            assertEquals("5", first.get("a"));
+
+            first.invalidate("a");
+            second.put("b", "4");
+            assertEquals("4", second.get("b"));
+
+            first.clear();
+            assertEquals(2, budget.getUsedEntries());
+            second.shutdown();
+            assertEquals(0, budget.getUsedEntries());
+        } finally {
+            first.shutdown();
+            scheduler.shutdownNow();
+        }
+    }
 }
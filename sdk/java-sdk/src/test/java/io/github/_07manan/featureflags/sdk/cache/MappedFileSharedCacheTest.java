@@ -0,0 +1,131 @@
+package io.github._07manan.featureflags.sdk.cache;
+
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileSharedCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testInstancesShareFile() {
+        Path file = dir.resolve("flags.cache");
+        try (MappedFileSharedCache writer = new MappedFileSharedCache(file, 64, 128);
+             MappedFileSharedCache reader = new MappedFileSharedCache(file, 64, 128)) {
+
+            long before = System.currentTimeMillis();
+            writer.put("ff:env:f:banner:user-1", bytes("blue"), 10_000);
+            SharedCache.Entry entry = reader.get("ff:env:f:banner:user-1");
+            assertArrayEquals(bytes("blue"), entry.value());
+            assertTrue(entry.expiresAtMillis() >= before + 10_000);
+            assertTrue(entry.expiresAtMillis() <= System.currentTimeMillis() + 10_000);
+
+            writer.put("ff:env:f:banner:user-1", bytes("gold"), 10_000);
+            assertArrayEquals(bytes("gold"), reader.get("ff:env:f:banner:user-1").value());
+
+            reader.invalidate("ff:env:f:banner:user-1");
+            assertNull(writer.get("ff:env:f:banner:user-1"));
+            assertNull(writer.get("ff:env:f:missing:user-1"));
+        }
+    }
+
+    @Test
+    void testExpiration() throws InterruptedException {
+        try (MappedFileSharedCache cache = new MappedFileSharedCache(dir.resolve("flags.cache"), 64, 128)) {
+            cache.put("key", bytes("value"), 50);
+            assertNotNull(cache.get("key"));
+
+            Thread.sleep(100);
+            assertNull(cache.get("key"));
+        }
+    }
+
+    @Test
+    void testOversizedEntriesAreSkipped() {
+        try (MappedFileSharedCache cache = new MappedFileSharedCache(dir.resolve("flags.cache"), 64, 64)) {
+            cache.put("key", new byte[64], 10_000);
+            assertNull(cache.get("key"));
+        }
+    }
+
+    @Test
+    void testFullProbeWindowEvictsOldestEntry() {
+        try (MappedFileSharedCache cache = new MappedFileSharedCache(dir.resolve("flags.cache"), 8, 64)) {
+            // With 8 slots every key shares the same probe window
+            for (int i = 0; i < 8; i++) {
+                cache.put("key-" + i, bytes("v" + i), 10_000 + i);
+            }
+            cache.put("key-8", bytes("v8"), 20_000);
+
+            assertNull(cache.get("key-0"));
+            for (int i = 1; i <= 8; i++) {
+                assertArrayEquals(bytes("v" + i), cache.get("key-" + i).value());
+            }
+        }
+    }
+
+    @Test
+    void testRejectsIncompatibleLayout() {
+        Path file = dir.resolve("flags.cache");
+        new MappedFileSharedCache(file, 64, 128).close();
+
+        assertThrows(FeatureFlagException.class, () -> new MappedFileSharedCache(file, 128, 128));
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileSharedCache(dir.resolve("other"), 100, 128));
+    }
+
+    @Test
+    void testReadersNeverSeeTornValues() throws Exception {
+        Path file = dir.resolve("flags.cache");
+        byte[] a = new byte[200];
+        byte[] b = new byte[200];
+        Arrays.fill(a, (byte) 'a');
+        Arrays.fill(b, (byte) 'b');
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try (MappedFileSharedCache writer = new MappedFileSharedCache(file, 64, 256);
+             MappedFileSharedCache reader = new MappedFileSharedCache(file, 64, 256)) {
+            writer.put("key", a, 10_000);
+
+            Future<?> writes = executor.submit(() -> {
+                for (int i = 0; running.get(); i++) {
+                    writer.put("key", i % 2 == 0 ? b : a, 10_000);
+                }
+            });
+            Future<?> reads = executor.submit(() -> {
+                for (int i = 0; i < 200_000; i++) {
+                    SharedCache.Entry entry = reader.get("key");
+                    if (entry != null) {
+                        byte[] value = entry.value();
+                        for (byte c : value) {
+                            assertEquals(value[0], c, "Torn read");
+                        }
+                    }
+                }
+            });
+
+            reads.get(30, TimeUnit.SECONDS);
+            running.set(false);
+            writes.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.github._07manan.featureflags.sdk.cache;
+
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisSharedCacheTest {
+
+    private FakeRedisServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new FakeRedisServer("secret");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testGetPutInvalidate() {
+        try (RedisSharedCache cache = new RedisSharedCache("localhost", server.port(), "secret", 0, 2, 1, TimeUnit.SECONDS)) {
+            assertNull(cache.get("ff:env:f:banner:user-1"));
+
+            long before = System.currentTimeMillis();
+            cache.put("ff:env:f:banner:user-1", bytes("{\"value\":\"blue\"}"), 30_000);
+            SharedCache.Entry entry = cache.get("ff:env:f:banner:user-1");
+            assertArrayEquals(bytes("{\"value\":\"blue\"}"), entry.value());
+            assertEquals(30_000L, server.ttls.get("ff:env:f:banner:user-1"));
+            // The fake reports the full TTL as remaining
+            assertTrue(entry.expiresAtMillis() >= before + 30_000);
+            assertTrue(entry.expiresAtMillis() <= System.currentTimeMillis() + 30_000);
+
+            cache.invalidate("ff:env:f:banner:user-1");
+            assertNull(cache.get("ff:env:f:banner:user-1"));
+
+            // All commands went over the one pooled connection
+            assertEquals(1, server.connections.get());
+        }
+    }
+
+    @Test
+    void testErrorsSurfaceAsExceptions() {
+        try (RedisSharedCache cache = new RedisSharedCache("localhost", server.port(), "wrong", 0, 2, 1, TimeUnit.SECONDS)) {
+            assertThrows(FeatureFlagException.class, () -> cache.get("key"));
+        }
+        try (RedisSharedCache cache = new RedisSharedCache("localhost", 1, null, 0, 2, 200, TimeUnit.MILLISECONDS)) {
+            assertThrows(FeatureFlagException.class, () -> cache.get("key"));
+        }
+    }
+
+    @Test
+    void testMalformedReplyDiscardsConnection() {
+        try (RedisSharedCache cache = new RedisSharedCache("localhost", server.port(), "secret", 0, 2, 1, TimeUnit.SECONDS)) {
+            cache.put("key", bytes("value"), 30_000);
+            server.malformedReplies = true;
+            assertThrows(FeatureFlagException.class, () -> cache.get("key"));
+
+            // The half-read connection was closed rather than returned to the pool
+            server.malformedReplies = false;
+            assertArrayEquals(bytes("value"), cache.get("key").value());
+            assertEquals(2, server.connections.get());
+        }
+    }
+
+    /**
+     * Speaks just enough RESP to stand in for a Redis server: AUTH, GET, PTTL, SET with PX, and DEL.
+     * PTTL reports the TTL the key was set with, as if no time had passed, or garbage while
+     * {@link #malformedReplies} is set.
+     */
+    private static final class FakeRedisServer implements AutoCloseable {
+        final Map<String, byte[]> values = new ConcurrentHashMap<>();
+        final Map<String, Long> ttls = new ConcurrentHashMap<>();
+        final AtomicInteger connections = new AtomicInteger();
+        volatile boolean malformedReplies;
+        private final String password;
+        private final ServerSocket socket;
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+
+        FakeRedisServer(String password) throws IOException {
+            this.password = password;
+            this.socket = new ServerSocket(0);
+            executor.submit(this::accept);
+        }
+
+        int port() {
+            return socket.getLocalPort();
+        }
+
+        private void accept() {
+            try {
+                while (true) {
+                    Socket client = socket.accept();
+                    connections.incrementAndGet();
+                    executor.submit(() -> serve(client));
+                }
+            } catch (IOException e) {
+                // Closed
+            }
+        }
+
+        private void serve(Socket client) {
+            try (client) {
+                InputStream in = new BufferedInputStream(client.getInputStream());
+                OutputStream out = client.getOutputStream();
+                boolean authenticated = password == null;
+                List<byte[]> command;
+                while ((command = readCommand(in)) != null) {
+                    String name = new String(command.get(0), StandardCharsets.US_ASCII);
+                    if (name.equals("AUTH")) {
+                        authenticated = password.equals(new String(command.get(1), StandardCharsets.UTF_8));
+                        out.write(bytes(authenticated ? "+OK\r\n" : "-WRONGPASS invalid password\r\n"));
+                    } else if (!authenticated) {
+                        out.write(bytes("-NOAUTH Authentication required.\r\n"));
+                    } else if (name.equals("GET")) {
+                        byte[] value = values.get(key(command));
+                        if (value == null) {
+                            out.write(bytes("$-1\r\n"));
+                        } else {
+                            out.write(bytes("$" + value.length + "\r\n"));
+                            out.write(value);
+                            out.write(bytes("\r\n"));
+                        }
+                    } else if (name.equals("PTTL")) {
+                        Long ttl = values.containsKey(key(command)) ? ttls.get(key(command)) : null;
+                        out.write(bytes(":" + (malformedReplies ? "soon" : ttl != null ? ttl : -2) + "\r\n"));
+                    } else if (name.equals("SET")) {
+                        values.put(key(command), command.get(2));
+                        ttls.put(key(command), Long.parseLong(new String(command.get(4), StandardCharsets.US_ASCII)));
+                        out.write(bytes("+OK\r\n"));
+                    } else if (name.equals("DEL")) {
+                        out.write(bytes(":" + (values.remove(key(command)) != null ? 1 : 0) + "\r\n"));
+                    } else {
+                        out.write(bytes("-ERR unknown command\r\n"));
+                    }
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // Client went away
+            }
+        }
+
+        private static String key(List<byte[]> command) {
+            return new String(command.get(1), StandardCharsets.UTF_8);
+        }
+
+        private static List<byte[]> readCommand(InputStream in) throws IOException {
+            int type = in.read();
+            if (type == -1) {
+                return null;
+            }
+            int count = Integer.parseInt(readLine(in));
+            List<byte[]> args = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                in.read(); // '$'
+                byte[] arg = in.readNBytes(Integer.parseInt(readLine(in)));
+                readLine(in);
+                args.add(arg);
+            }
+            return args;
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            StringBuilder sb = new StringBuilder();
+            int c;
+            while ((c = in.read()) != '\r') {
+                sb.append((char) c);
+            }
+            in.read();
+            return sb.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+            executor.shutdownNow();
+        }
+    }
+}
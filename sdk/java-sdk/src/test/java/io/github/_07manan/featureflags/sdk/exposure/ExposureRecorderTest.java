@@ -0,0 +1,203 @@
+package io.github._07manan.featureflags.sdk.exposure;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.FeatureFlagRuntime;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExposureRecorderTest {
+
+    private HttpServer server;
+    private String adminUrl;
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private final List<String> apiKeys = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/exposures", exchange -> {
+            apiKeys.add(exchange.getRequestHeaders().getFirst("X-API-Key"));
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(202, -1);
+            exchange.close();
+        });
+        server.start();
+        adminUrl = "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testAggregatesDuplicatesWithinWindow() {
+        try (ExposureRecorder recorder = new ExposureRecorder(adminUrl, "ff_test_key", 1024, 1, TimeUnit.HOURS)) {
+            recorder.record("checkout", "v-treatment", "user-1");
+            recorder.record("checkout", "v-treatment", "user-1");
+            recorder.record("checkout", "v-treatment", "user-2");
+            recorder.record("checkout", "v-control", "user-3");
+
+            assertEquals(2, recorder.flush());
+            assertEquals(0, recorder.flush());
+        }
+
+        assertEquals(1, bodies.size());
+        assertEquals(List.of("ff_test_key"), apiKeys);
+        String body = bodies.get(0);
+        assertTrue(body.startsWith("{\"exposures\":["));
+        assertTrue(body.matches(".*\\{\"flagKey\":\"checkout\",\"variantId\":\"v-treatment\",\"bucket\":\\d+000,\"count\":2}.*"), body);
+        assertTrue(body.contains("\"variantId\":\"v-control\""));
+    }
+
+    @Test
+    void testCountsUserOncePerMinuteAcrossFlushes() throws InterruptedException {
+        // Stay clear of a minute boundary, where a user is rightly counted again
+        while (System.currentTimeMillis() % 60_000 > 55_000) {
+            Thread.sleep(100);
+        }
+        try (ExposureRecorder recorder = new ExposureRecorder(adminUrl, "ff_test_key", 1024, 1, TimeUnit.HOURS)) {
+            recorder.record("checkout", "v-treatment", "user-1");
+            assertEquals(1, recorder.flush());
+
+            recorder.record("checkout", "v-treatment", "user-1");
+            assertEquals(0, recorder.flush());
+
+            recorder.record("checkout", "v-treatment", "user-1");
+            recorder.record("checkout", "v-treatment", "user-2");
+            assertEquals(1, recorder.flush());
+        }
+
+        assertEquals(2, bodies.size());
+        assertTrue(bodies.get(0).contains("\"count\":1}"));
+        assertTrue(bodies.get(1).contains("\"count\":1}"));
+    }
+
+    @Test
+    void testRingBufferDropsWhenFull() throws InterruptedException {
+        ExposureRingBuffer buffer = new ExposureRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer("flag", "v", "user-" + i));
+        }
+        assertFalse(buffer.offer("flag", "v", "user-4"));
+        assertEquals(1, buffer.getDroppedCount());
+
+        List<String> users = new ArrayList<>();
+        assertEquals(4, buffer.drain((flagKey, variantId, userId) -> users.add(userId), 10));
+        assertEquals(List.of("user-0", "user-1", "user-2", "user-3"), users);
+        assertTrue(buffer.offer("flag", "v", "user-5"));
+
+        // Concurrent producers never lose or duplicate a published exposure
+        ExposureRingBuffer shared = new ExposureRingBuffer(1 << 16);
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            String producer = "producer-" + t;
+            producers[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    shared.offer("flag", producer, Integer.toString(i));
+                }
+            });
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        AtomicInteger drained = new AtomicInteger();
+        shared.drain((flagKey, variantId, userId) -> drained.incrementAndGet(), Integer.MAX_VALUE);
+        assertEquals(40_000, drained.get());
+        assertEquals(0, shared.getDroppedCount());
+    }
+
+    @Test
+    void testClientRecordsServedVariants() {
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "blue", FlagType.STRING, false, "v-blue"));
+
+        try (FeatureFlagClient client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key")
+                .transport(transport)
+                .recordExposures(adminUrl)
+                .build()) {
+            assertEquals("blue", client.getStringFlag("banner", "user-1", "none"));
+            assertEquals("blue", client.stringFlag("banner", "none").getValue("user-1"));
+            // Type mismatches serve the default value, which is not an exposure
+            assertFalse(client.getBooleanFlag("banner", "user-2", false));
+        }
+
+        assertEquals(1, bodies.size());
+        assertTrue(bodies.get(0).contains("\"flagKey\":\"banner\",\"variantId\":\"v-blue\""));
+        assertTrue(bodies.get(0).contains("\"count\":1}"));
+    }
+
+    @Test
+    void testRecorderStoppedWhenClientCannotBeBuilt() {
+        FeatureFlagRuntime runtime = FeatureFlagRuntime.builder().build();
+        runtime.close();
+
+        AtomicInteger transportCloses = new AtomicInteger();
+        InMemoryTransport transport = new InMemoryTransport() {
+            @Override
+            public void close() {
+                transportCloses.incrementAndGet();
+            }
+        };
+
+        // The closed runtime's scheduler rejects the client's tasks
+        assertThrows(RuntimeException.class, () -> FeatureFlagClient.builder()
+                .apiKey("ff_test_key")
+                .transport(transport)
+                .runtime(runtime)
+                .recordExposures(adminUrl)
+                .build());
+
+        assertTrue(Thread.getAllStackTraces().keySet().stream()
+                .noneMatch(thread -> thread.getName().equals("featureflags-exposures")));
+        assertEquals(1, transportCloses.get());
+    }
+
+    @Test
+    void testInvalidExposureSettingsRejectedBeforeTransportIsCreated() {
+        long evictors = countThreads("idle-connection-evictor");
+
+        for (int i = 0; i < 5; i++) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> FeatureFlagClient.builder()
+                    .apiKey("ff_test_key")
+                    .recordExposures(adminUrl)
+                    .exposureBufferSize(1000)
+                    .build());
+            assertTrue(e.getMessage().contains("exposureBufferSize"));
+        }
+        assertThrows(IllegalArgumentException.class, () -> FeatureFlagClient.builder()
+                .apiKey("ff_test_key")
+                .recordExposures("admin api")
+                .build());
+        assertThrows(IllegalArgumentException.class, () -> FeatureFlagClient.builder()
+                .apiKey("ff_test_key")
+                .recordExposures("ftp://admin")
+                .build());
+
+        assertEquals(evictors, countThreads("idle-connection-evictor"));
+    }
+
+    private static long countThreads(String name) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().contains(name))
+                .count();
+    }
+}
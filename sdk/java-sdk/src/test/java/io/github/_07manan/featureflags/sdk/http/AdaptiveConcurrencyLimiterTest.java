@@ -0,0 +1,124 @@
+package io.github._07manan.featureflags.sdk.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void testRejectsBeyondLimitWhenFailingFast() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 10, 0, TimeUnit.MILLISECONDS);
+
+        assertTrue(limiter.acquire());
+        assertTrue(limiter.acquire());
+        assertFalse(limiter.acquire(), "Third request should be rejected at limit 2");
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void testQueuedRequestGetsReleasedPermit() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, TimeUnit.SECONDS);
+        assertTrue(limiter.acquire());
+
+        boolean[] acquired = {false};
+        Thread waiter = new Thread(() -> acquired[0] = limiter.acquire());
+        waiter.start();
+
+        Thread.sleep(50);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false);
+        waiter.join();
+
+        assertTrue(acquired[0], "Waiting request should get the released permit");
+    }
+
+    @Test
+    void testQueueTimesOut() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 20, TimeUnit.MILLISECONDS);
+        assertTrue(limiter.acquire());
+
+        long start = System.nanoTime();
+        assertFalse(limiter.acquire());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void testLimitGrowsWhileSaturatedWithHealthyRtt() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 4, 0, TimeUnit.MILLISECONDS);
+
+        for (int round = 0; round < 10; round++) {
+            int permits = limiter.getLimit();
+            for (int i = 0; i < permits; i++) {
+                assertTrue(limiter.acquire());
+            }
+            for (int i = 0; i < permits; i++) {
+                limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false);
+            }
+            // The limit grows at most once per baseline RTT
+            Thread.sleep(10);
+        }
+
+        assertEquals(4, limiter.getLimit(), "Limit should grow up to the maximum");
+    }
+
+    @Test
+    void testLimitBacksOffOnDropsAndSlowResponses() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 0, TimeUnit.MILLISECONDS);
+
+        assertTrue(limiter.acquire());
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false);
+        assertEquals(10, limiter.getLimit());
+
+        assertTrue(limiter.acquire());
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(50), false);
+        assertEquals(9, limiter.getLimit(), "RTT far above baseline should back off");
+
+        // Send the next request after the backoff took effect
+        Thread.sleep(10);
+        assertTrue(limiter.acquire());
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), true);
+        assertEquals(8, limiter.getLimit(), "Dropped request should back off");
+    }
+
+    @Test
+    void testBurstOfDropsBacksOffOnce() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(30, 30, 0, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 30; i++) {
+            assertTrue(limiter.acquire());
+        }
+        for (int i = 0; i < 30; i++) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(100), true);
+        }
+        assertEquals(27, limiter.getLimit(), "Requests failing together should back off once");
+
+        Thread.sleep(10);
+        assertTrue(limiter.acquire());
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(1), true);
+        assertEquals(24, limiter.getLimit(), "A request sent after the backoff should back off again");
+    }
+
+    @Test
+    void testLimitGrowsOncePerRtt() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 100, 0, TimeUnit.MILLISECONDS);
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(limiter.acquire());
+            }
+            for (int i = 0; i < 4; i++) {
+                limiter.release(TimeUnit.SECONDS.toNanos(1), false);
+            }
+        }
+
+        assertTrue(limiter.getLimit() <= 5, "Releases within one RTT should grow the limit at most once");
+    }
+
+    @Test
+    void testRejectsInvalidLimits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter(0, 10, 0, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter(10, 5, 0, TimeUnit.MILLISECONDS));
+    }
+}
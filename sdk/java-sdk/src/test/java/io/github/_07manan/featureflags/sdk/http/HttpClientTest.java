@@ -0,0 +1,83 @@
+package io.github._07manan.featureflags.sdk.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientTest {
+
+    private ServerSocket serverSocket;
+    private final List<Socket> accepted = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverSocket = new ServerSocket(0);
+        Thread acceptor = new Thread(() -> {
+            try {
+                while (!serverSocket.isClosed()) {
+                    accepted.add(serverSocket.accept());
+                }
+            } catch (IOException ignored) {
+                // server closed
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        serverSocket.close();
+        for (Socket socket : accepted) {
+            socket.close();
+        }
+    }
+
+    @Test
+    void testWarmUpOpensDistinctConnections() throws InterruptedException {
+        ConnectionPoolConfig poolConfig = new ConnectionPoolConfig(10, 10, 60_000, 30_000, 2_000, 3);
+        try (HttpClient client = new HttpClient(
+                "http://localhost:" + serverSocket.getLocalPort(), "ff_test", 1, 1, TimeUnit.SECONDS, poolConfig)) {
+
+            assertEquals(3, client.warmUp(3));
+
+            long deadline = System.currentTimeMillis() + 1000;
+            while (accepted.size() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(3, accepted.size());
+        }
+    }
+
+    @Test
+    void testWarmUpToUnreachableHostOpensNothing() throws IOException {
+        int closedPort;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            closedPort = probe.getLocalPort();
+        }
+
+        try (HttpClient client = new HttpClient(
+                "http://localhost:" + closedPort, "ff_test", 200, 200, TimeUnit.MILLISECONDS)) {
+            assertEquals(0, client.warmUp(2));
+        }
+    }
+
+    @Test
+    void testPoolConfigRejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConnectionPoolConfig(0, 0, 1000, 1000, 1000, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConnectionPoolConfig(10, 20, 1000, 1000, 1000, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ConnectionPoolConfig(10, 10, 1000, 1000, 1000, 11));
+    }
+}
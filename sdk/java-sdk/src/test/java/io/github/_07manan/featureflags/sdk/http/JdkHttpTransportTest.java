@@ -0,0 +1,101 @@
+package io.github._07manan.featureflags.sdk.http;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.exception.FlagNotFoundException;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdkHttpTransportTest {
+
+    private HttpServer server;
+    private JdkHttpTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/evaluate", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String body;
+            int status;
+            if (!"ff_test_key".equals(exchange.getRequestHeaders().getFirst("X-API-Key"))) {
+                status = 401;
+                body = "{\"error\":\"unauthorized\"}";
+            } else if (path.equals("/evaluate")) {
+                status = 200;
+                body = "{\"flags\":{\"dark-mode\":{\"flagKey\":\"dark-mode\",\"value\":true,"
+                        + "\"type\":\"BOOLEAN\",\"isDefault\":false}}}";
+            } else if (path.equals("/evaluate/dark-mode")) {
+                status = 200;
+                body = "{\"flagKey\":\"dark-mode\",\"value\":true,\"type\":\"BOOLEAN\",\"isDefault\":false,"
+                        + "\"variantId\":\"" + exchange.getRequestURI().getQuery() + "\"}";
+            } else {
+                status = 404;
+                body = "{\"error\":\"not_found\"}";
+            }
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.createContext("/health", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        transport = new JdkHttpTransport(
+                "http://localhost:" + server.getAddress().getPort() + "/", "ff_test_key", 1, 1, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.close();
+        server.stop(0);
+    }
+
+    @Test
+    void testEvaluateFlag() {
+        EvaluationResult result = transport.evaluateFlag("dark-mode", "user-1");
+
+        assertEquals(FlagType.BOOLEAN, result.getType());
+        assertTrue(result.getBooleanValue());
+        assertEquals("user=user-1", result.getVariantId());
+    }
+
+    @Test
+    void testEvaluateAllFlags() {
+        Map<String, EvaluationResult> results = transport.evaluateAllFlags(null);
+
+        assertEquals(1, results.size());
+        assertTrue(results.get("dark-mode").getBooleanValue());
+    }
+
+    @Test
+    void testStatusCodesMapToExceptions() {
+        assertThrows(FlagNotFoundException.class, () -> transport.evaluateFlag("missing", "user-1"));
+
+        try (JdkHttpTransport badKey = new JdkHttpTransport(
+                "http://localhost:" + server.getAddress().getPort(), "ff_wrong", 1, 1, TimeUnit.SECONDS)) {
+            assertThrows(AuthenticationException.class, () -> badKey.evaluateFlag("dark-mode", "user-1"));
+        }
+    }
+
+    @Test
+    void testWarmUp() {
+        assertEquals(1, transport.warmUp(4));
+    }
+}
@@ -0,0 +1,86 @@
+package io.github._07manan.featureflags.sdk.jfr;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderEventsTest {
+
+    private static final String PREFIX = "io.github._07manan.featureflags.";
+
+    @Test
+    void testEvaluationPathEmitsEvents(@TempDir Path dir) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/evaluate", exchange -> {
+            boolean found = exchange.getRequestURI().getPath().equals("/evaluate/dark-mode");
+            byte[] body = (found
+                    ? "{\"flagKey\":\"dark-mode\",\"value\":true,\"type\":\"BOOLEAN\",\"isDefault\":false}"
+                    : "{\"error\":\"not_found\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(found ? 200 : 404, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        Path file = dir.resolve("flags.jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : List.of("FlagEvaluation", "CacheLookup", "HttpRequest", "ResponseParse")) {
+                recording.enable(PREFIX + event).withThreshold(Duration.ZERO);
+            }
+            recording.enable(PREFIX + "Fallback");
+            recording.start();
+
+            try (FeatureFlagClient client = FeatureFlagClient.builder()
+                    .apiKey("ff_test_key")
+                    .baseUrl("http://localhost:" + server.getAddress().getPort())
+                    .build()) {
+                assertTrue(client.getBooleanFlag("dark-mode", "user-1", false));
+                assertTrue(client.getBooleanFlag("dark-mode", "user-1", false));
+                assertFalse(client.getBooleanFlag("missing", "user-1", false));
+            }
+
+            recording.stop();
+            recording.dump(file);
+        } finally {
+            server.stop(0);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(3, count(events, "FlagEvaluation"));
+        assertEquals(1, count(events, "CacheLookup"));
+        assertEquals(1, count(events, "ResponseParse"));
+
+        List<RecordedEvent> requests = ofType(events, "HttpRequest");
+        assertEquals(2, requests.size());
+        assertTrue(requests.stream().allMatch(e -> "/evaluate/{flagKey}".equals(e.getString("endpoint"))));
+        assertTrue(requests.stream().anyMatch(e -> e.getInt("statusCode") == 404));
+
+        List<RecordedEvent> fallbacks = ofType(events, "Fallback");
+        assertEquals(1, fallbacks.size());
+        assertEquals("missing", fallbacks.get(0).getString("flagKey"));
+        assertEquals("NOT_FOUND", fallbacks.get(0).getString("reason"));
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(PREFIX + name)).toList();
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return ofType(events, name).size();
+    }
+}
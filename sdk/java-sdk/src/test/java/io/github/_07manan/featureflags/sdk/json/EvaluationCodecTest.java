@@ -0,0 +1,107 @@
+package io.github._07manan.featureflags.sdk.json;
+
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvaluationCodecTest {
+
+    private static byte[] json(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testDecodeResult() {
+        EvaluationResult result = EvaluationCodec.decodeResult(json(
+                "{\"flagKey\":\"dark-mode\",\"value\":true,\"type\":\"BOOLEAN\",\"isDefault\":false,\"variantId\":\"v-1\"}"));
+
+        assertEquals("dark-mode", result.getFlagKey());
+        assertEquals(true, result.getValue());
+        assertEquals(FlagType.BOOLEAN, result.getType());
+        assertFalse(result.isDefault());
+        assertEquals("v-1", result.getVariantId());
+    }
+
+    @Test
+    void testDecodeResult_NumbersAndUnknownFields() {
+        EvaluationResult integral = EvaluationCodec.decodeResult(json(
+                " { \"extra\" : {\"nested\":[1,2,{}]}, \"flagKey\":\"limit\", \"value\": 250, \"type\":\"NUMBER\","
+                        + " \"isDefault\": true, \"variantId\": null } "));
+        assertEquals(250, integral.getValue());
+        assertEquals(Integer.class, integral.getValue().getClass());
+        assertTrue(integral.isDefault());
+        assertNull(integral.getVariantId());
+
+        assertEquals(0.15, EvaluationCodec.decodeResult(json("{\"value\":0.15,\"type\":\"NUMBER\"}")).getValue());
+        assertEquals(-1.5e3, EvaluationCodec.decodeResult(json("{\"value\":-1.5E3,\"type\":\"NUMBER\"}")).getValue());
+        assertEquals(10_000_000_000L, EvaluationCodec.decodeResult(json("{\"value\":10000000000,\"type\":\"NUMBER\"}")).getValue());
+    }
+
+    @Test
+    void testDecodeResult_StringEscapesAndUnicode() {
+        EvaluationResult result = EvaluationCodec.decodeResult(json(
+                "{\"flagKey\":\"banner\",\"value\":\"café \\\"quoted\\\"\\n\\u00e9\\/\",\"type\":\"STRING\"}"));
+
+        assertEquals("café \"quoted\"\né/", result.getValue());
+    }
+
+    @Test
+    void testDecodeFlags() throws IOException {
+        Map<String, EvaluationResult> flags = EvaluationCodec.decodeFlags(new ByteArrayInputStream(json(
+                "{\"flags\":{"
+                        + "\"dark-mode\":{\"flagKey\":\"dark-mode\",\"value\":true,\"type\":\"BOOLEAN\",\"isDefault\":false},"
+                        + "\"theme\":{\"flagKey\":\"theme\",\"value\":\"blue\",\"type\":\"STRING\",\"isDefault\":true}"
+                        + "},\"count\":2}")));
+
+        assertEquals(2, flags.size());
+        assertEquals(true, flags.get("dark-mode").getValue());
+        assertEquals("blue", flags.get("theme").getValue());
+        assertTrue(flags.get("theme").isDefault());
+    }
+
+    @Test
+    void testDecodeFlags_MissingFlagsField() {
+        FeatureFlagException e = assertThrows(FeatureFlagException.class,
+                () -> EvaluationCodec.decodeFlags(json("{\"other\":{}}")));
+        assertTrue(e.getMessage().contains("missing 'flags' field"));
+    }
+
+    @Test
+    void testMalformedInputIsRejected() {
+        assertThrows(FeatureFlagException.class, () -> EvaluationCodec.decodeResult(json("{\"value\":tru}")));
+        assertThrows(FeatureFlagException.class, () -> EvaluationCodec.decodeResult(json("{\"value\":\"open")));
+        assertThrows(FeatureFlagException.class, () -> EvaluationCodec.decodeResult(json("{\"type\":\"DATE\"}")));
+        assertThrows(FeatureFlagException.class, () -> EvaluationCodec.decodeResult(json("{} trailing")));
+        assertThrows(FeatureFlagException.class, () -> EvaluationCodec.decodeResult(json("")));
+        assertThrows(FeatureFlagException.class, () -> EvaluationCodec.decodeResult((InputStream) null));
+    }
+
+    @Test
+    void testEncodeRoundTrip() {
+        EvaluationResult original = new EvaluationResult("banner", "say \"hi\"\t\u0001", FlagType.STRING, false, "v-2");
+        EvaluationResult decoded = EvaluationCodec.decodeResult(json(EvaluationCodec.encodeResult(original)));
+
+        assertEquals(original.getFlagKey(), decoded.getFlagKey());
+        assertEquals(original.getValue(), decoded.getValue());
+        assertEquals(original.getType(), decoded.getType());
+        assertEquals(original.getVariantId(), decoded.getVariantId());
+
+        Map<String, EvaluationResult> flags = EvaluationCodec.decodeFlags(json(EvaluationCodec.encodeFlags(List.of(
+                new EvaluationResult("rate-limit", 250, FlagType.NUMBER, false, null),
+                new EvaluationResult("discount", 0.15, FlagType.NUMBER, true, null)))));
+
+        assertEquals(250, flags.get("rate-limit").getValue());
+        assertEquals(0.15, flags.get("discount").getValue());
+        assertTrue(flags.get("discount").isDefault());
+    }
+}
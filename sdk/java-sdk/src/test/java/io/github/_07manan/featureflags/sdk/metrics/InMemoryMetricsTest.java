@@ -0,0 +1,123 @@
+package io.github._07manan.featureflags.sdk.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import io.github._07manan.featureflags.sdk.http.ConnectionPoolConfig;
+import io.github._07manan.featureflags.sdk.http.HttpClient;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.tracing.FlagTracer;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryMetricsTest {
+
+    @Test
+    void testHistogramPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        assertEquals(50_000_500, histogram.getMean(), 1);
+        assertEquals(50_000_000, histogram.getValueAtPercentile(50), 50_000_000 / 64.0);
+        assertEquals(99_000_000, histogram.getValueAtPercentile(99), 99_000_000 / 64.0);
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+
+        // Every bucket's upper bound maps back to the same bucket, up to Long.MAX_VALUE
+        for (long value : new long[]{0, 127, 128, 255, 256, 1_000_003, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertEquals(index, LatencyHistogram.indexOf(LatencyHistogram.highestEquivalentValue(index)));
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+        }
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    void testClientRecordsCacheActivityAndFallbacks() {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        InMemoryTransport transport = new InMemoryTransport()
+                .put(new EvaluationResult("dark-mode", true, FlagType.BOOLEAN, false, null));
+
+        try (FeatureFlagClient client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key")
+                .transport(transport)
+                .metrics(metrics)
+                .build()) {
+            assertTrue(client.getBooleanFlag("dark-mode", "user-1", false));
+            assertTrue(client.getBooleanFlag("dark-mode", "user-1", false));
+            assertEquals("none", client.getStringFlag("dark-mode", "user-1", "none"));
+            assertFalse(client.getBooleanFlag("missing", "user-1", false));
+            assertFalse(client.getBooleanFlag("missing", "user-1", false));
+            client.invalidateCache("dark-mode", "user-1");
+        }
+
+        assertEquals(5, metrics.getEvaluationLatency().getCount());
+        assertEquals(3, metrics.getCacheHits("flags"));
+        assertEquals(2, metrics.getCacheMisses("flags"));
+        assertEquals(1, metrics.getCacheEvictions("flags"));
+        assertEquals(1, metrics.getFallbacks(FallbackReason.TYPE_MISMATCH));
+        assertEquals(2, metrics.getFallbacks(FallbackReason.NOT_FOUND));
+        assertEquals(0, metrics.getFallbacks(FallbackReason.ERROR));
+        assertEquals(3, metrics.getFallbacks());
+    }
+
+    @Test
+    void testHttpClientRecordsStatusCodesAndErrors() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/evaluate", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            int status = path.equals("/evaluate/dark-mode") ? 200 : path.equals("/evaluate/broken") ? 500 : 404;
+            byte[] body = (status == 200
+                    ? "{\"flagKey\":\"dark-mode\",\"value\":true,\"type\":\"BOOLEAN\",\"isDefault\":false}"
+                    : "{\"error\":\"failed\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        try (HttpClient client = new HttpClient("http://localhost:" + server.getAddress().getPort(), "ff_test_key",
+                1, 1, TimeUnit.SECONDS, ConnectionPoolConfig.defaults(), metrics, FlagTracer.NOOP)) {
+            assertNotNull(client.findFlag("dark-mode", "user-1"));
+            assertNull(client.findFlag("missing", "user-1"));
+            assertThrows(FeatureFlagException.class, () -> client.findFlag("broken", "user-1"));
+        } finally {
+            server.stop(0);
+        }
+
+        int closedPort;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            closedPort = probe.getLocalPort();
+        }
+        try (HttpClient client = new HttpClient("http://localhost:" + closedPort, "ff_test_key",
+                200, 200, TimeUnit.MILLISECONDS, ConnectionPoolConfig.defaults(), metrics, FlagTracer.NOOP)) {
+            assertThrows(FeatureFlagException.class, () -> client.findFlag("dark-mode", "user-1"));
+        }
+
+        assertEquals(3, metrics.getHttpRequests());
+        assertEquals(1, metrics.getHttpRequests(200));
+        assertEquals(1, metrics.getHttpRequests(404));
+        assertEquals(1, metrics.getHttpRequests(500));
+        assertEquals(1, metrics.getHttpErrors());
+        assertEquals(4, metrics.getHttpLatency().getCount());
+    }
+}
@@ -0,0 +1,114 @@
+package io.github._07manan.featureflags.sdk.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlagSnapshotTest {
+
+    private static FlagSnapshot snapshot() {
+        Map<String, EvaluationResult> results = new HashMap<>();
+        results.put("dark-mode", new EvaluationResult("dark-mode", true, FlagType.BOOLEAN, false, "v-1"));
+        results.put("theme", new EvaluationResult("theme", "blue", FlagType.STRING, true, null));
+        results.put("rate-limit", new EvaluationResult("rate-limit", 250, FlagType.NUMBER, false, "v-2"));
+        results.put("discount", new EvaluationResult("discount", 0.15, FlagType.NUMBER, false, null));
+        return FlagSnapshot.of(results);
+    }
+
+    @Test
+    void testTypedAccessors() {
+        FlagSnapshot flags = snapshot();
+
+        assertTrue(flags.getBoolean("dark-mode", false));
+        assertEquals("blue", flags.getString("theme", "red"));
+        assertEquals(250, flags.getInt("rate-limit", 0));
+        assertEquals(250.0, flags.getDouble("rate-limit", 0.0), 0.0001);
+        assertEquals(0.15, flags.getDouble("discount", 0.0), 0.0001);
+    }
+
+    @Test
+    void testIntConversionMatchesNumberIntValue() {
+        long large = (1L << 53) + 1;
+        FlagSnapshot flags = FlagSnapshot.of(Map.of(
+                "large", new EvaluationResult("large", large, FlagType.NUMBER, false, null),
+                "fraction", new EvaluationResult("fraction", -2.7, FlagType.NUMBER, false, null)));
+
+        assertEquals(Long.valueOf(large).intValue(), flags.getInt("large", 0));
+        assertEquals(-2, flags.getInt("fraction", 0));
+    }
+
+    @Test
+    void testMissingAndMismatchedFlagsReturnDefault() {
+        FlagSnapshot flags = snapshot();
+
+        assertTrue(flags.getBoolean("missing", true));
+        assertFalse(flags.getBoolean("theme", false));
+        assertEquals(7, flags.getInt("dark-mode", 7));
+        assertEquals("fallback", flags.getString("rate-limit", "fallback"));
+        assertEquals(1.5, flags.getDouble(null, 1.5), 0.0001);
+    }
+
+    @Test
+    void testMetadata() {
+        FlagSnapshot flags = snapshot();
+
+        assertEquals(4, flags.size());
+        assertEquals(List.of("dark-mode", "discount", "rate-limit", "theme"), flags.keys());
+        assertEquals("v-1", flags.getVariantId("dark-mode"));
+        assertTrue(flags.isDefault("theme"));
+        assertFalse(flags.isDefault("missing"));
+        assertEquals(FlagType.NUMBER, flags.getType("discount"));
+        assertEquals("blue", flags.getResult("theme").getValue());
+        assertNull(flags.getResult("missing"));
+    }
+
+    @Test
+    void testToMapIsMutableCopy() {
+        FlagSnapshot flags = snapshot();
+
+        Map<String, Object> map = flags.toMap();
+        map.clear();
+
+        assertEquals(4, flags.size());
+        assertEquals(true, flags.toMap().get("dark-mode"));
+    }
+
+    @Test
+    void testEmpty() {
+        assertSame(FlagSnapshot.empty(), FlagSnapshot.of(Map.of()));
+        assertEquals(0, FlagSnapshot.empty().size());
+        assertFalse(FlagSnapshot.empty().contains("anything"));
+    }
+
+    @Test
+    void testDiff() {
+        FlagSnapshot previous = snapshot();
+        Map<String, EvaluationResult> results = new HashMap<>();
+        results.put("dark-mode", new EvaluationResult("dark-mode", false, FlagType.BOOLEAN, false, "v-3"));
+        results.put("theme", new EvaluationResult("theme", "blue", FlagType.STRING, true, null));
+        results.put("rate-limit", new EvaluationResult("rate-limit", 250, FlagType.NUMBER, false, "v-2"));
+        results.put("banner", new EvaluationResult("banner", "gold", FlagType.STRING, false, null));
+
+        List<FlagChange> changes = FlagSnapshot.of(results).diff(previous);
+
+        assertEquals(3, changes.size());
+        assertEquals("banner", changes.get(0).getFlagKey());
+        assertTrue(changes.get(0).isAdded());
+        assertEquals("gold", changes.get(0).getCurrent().getValue());
+        assertEquals("dark-mode", changes.get(1).getFlagKey());
+        assertEquals(true, changes.get(1).getPrevious().getValue());
+        assertEquals(false, changes.get(1).getCurrent().getValue());
+        assertEquals("discount", changes.get(2).getFlagKey());
+        assertTrue(changes.get(2).isRemoved());
+    }
+
+    @Test
+    void testDiffOfEqualSnapshotsIsEmpty() {
+        assertTrue(snapshot().diff(snapshot()).isEmpty());
+        assertEquals(4, snapshot().diff(FlagSnapshot.empty()).size());
+    }
+}
@@ -0,0 +1,152 @@
+package io.github._07manan.featureflags.sdk.snapshot;
+
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.model.FlagType;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotTransportTest {
+
+    @TempDir
+    Path dir;
+
+    private static Map<String, EvaluationResult> flags(String banner, int limit) {
+        Map<String, EvaluationResult> flags = new HashMap<>();
+        flags.put("banner", new EvaluationResult("banner", banner, FlagType.STRING, false, "v-1"));
+        flags.put("rate-limit", new EvaluationResult("rate-limit", limit, FlagType.NUMBER, true, null));
+        return flags;
+    }
+
+    @Test
+    void testEvaluatesFromSnapshotAndFallsBackForUnknownUsers() {
+        Path file = dir.resolve("production.snapshot");
+        InMemoryTransport fallback = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "from-api", FlagType.STRING, false, null));
+
+        try (SnapshotFileWriter writer = new SnapshotFileWriter(file, 4096);
+             SnapshotTransport transport = new SnapshotTransport(file, fallback)) {
+            Map<String, Map<String, EvaluationResult>> users = new HashMap<>();
+            users.put(null, flags("blue", 100));
+            users.put("user-1", flags("gold", 250));
+            users.put("user-2", Map.of());
+            writer.write(users);
+
+            assertEquals("blue", transport.findFlag("banner", null).getValue());
+            EvaluationResult gold = transport.findFlag("banner", "user-1");
+            assertEquals("gold", gold.getValue());
+            assertEquals("v-1", gold.getVariantId());
+            assertEquals(250, transport.evaluateAllFlags("user-1").get("rate-limit").getValue());
+            assertEquals(2, transport.evaluateAllFlags("user-1").size());
+
+            // Users in the snapshot get authoritative misses
+            assertNull(transport.findFlag("missing", "user-1"));
+            assertTrue(transport.evaluateAllFlags("user-2").isEmpty());
+            assertEquals(0, fallback.getRequestCount());
+
+            // Users missing from the snapshot go to the API
+            assertEquals("from-api", transport.findFlag("banner", "user-3").getValue());
+            assertEquals(1, fallback.getRequestCount());
+
+            writer.write(Map.of("user-1", flags("green", 300)));
+            assertEquals("green", transport.findFlag("banner", "user-1").getValue());
+            assertEquals("from-api", transport.findFlag("banner", null).getValue());
+        }
+    }
+
+    @Test
+    void testStaleOrMissingSnapshotFallsBack() throws InterruptedException {
+        Path file = dir.resolve("production.snapshot");
+        InMemoryTransport fallback = new InMemoryTransport()
+                .put(new EvaluationResult("banner", "from-api", FlagType.STRING, false, null));
+
+        try (SnapshotTransport transport = new SnapshotTransport(file, fallback, 50, TimeUnit.MILLISECONDS)) {
+            assertEquals("from-api", transport.findFlag("banner", null).getValue());
+
+            try (SnapshotFileWriter writer = new SnapshotFileWriter(file, 4096)) {
+                writer.write(Map.of("", flags("blue", 100)));
+                // The transport retries mapping the file at most once a second
+                Thread.sleep(1100);
+                writer.write(Map.of("", flags("blue", 100)));
+                assertEquals("blue", transport.findFlag("banner", null).getValue());
+
+                Thread.sleep(100);
+                assertEquals("from-api", transport.findFlag("banner", null).getValue());
+            }
+        }
+    }
+
+    @Test
+    void testWriterRejectsOversizedSnapshotsAndSecondWriter() {
+        Path file = dir.resolve("production.snapshot");
+        try (SnapshotFileWriter writer = new SnapshotFileWriter(file, 64)) {
+            assertThrows(FeatureFlagException.class, () -> writer.write(Map.of("user-1", flags("blue", 100))));
+            assertThrows(FeatureFlagException.class, () -> new SnapshotFileWriter(file, 64));
+        }
+        assertThrows(FeatureFlagException.class, () -> new SnapshotFileWriter(file, 128));
+    }
+
+    @Test
+    void testReadersSeeWholeSnapshots() throws Exception {
+        Path file = dir.resolve("production.snapshot");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try (SnapshotFileWriter writer = new SnapshotFileWriter(file, 1 << 16);
+             SnapshotTransport transport = new SnapshotTransport(file, new InMemoryTransport())) {
+            writer.write(Map.of("user-1", flags("v0", 0)));
+
+            Future<?> writes = executor.submit(() -> {
+                for (int i = 1; running.get(); i++) {
+                    writer.write(Map.of("user-1", flags("v" + i, i)));
+                }
+            });
+            Future<?> reads = executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    Map<String, EvaluationResult> all = transport.evaluateAllFlags("user-1");
+                    if (all.isEmpty()) {
+                        continue; // fell back after repeated interference
+                    }
+                    assertEquals("v" + all.get("rate-limit").getValue(), all.get("banner").getValue(), "Mixed snapshots");
+                }
+            });
+
+            reads.get(60, TimeUnit.SECONDS);
+            running.set(false);
+            writes.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testClientUsesSnapshotFile() {
+        Path file = dir.resolve("production.snapshot");
+        InMemoryTransport api = new InMemoryTransport();
+        try (SnapshotFileWriter writer = new SnapshotFileWriter(file, 4096)) {
+            writer.write(Map.of("user-1", flags("blue", 100)));
+
+            try (FeatureFlagClient client = FeatureFlagClient.builder()
+                    .apiKey("ff_test_key123")
+                    .transport(api)
+                    .snapshotFile(file)
+                    .build()) {
+                assertEquals("blue", client.getStringFlag("banner", "user-1", "none"));
+                assertEquals(100, client.getIntFlag("rate-limit", "user-1", 0));
+                assertEquals(0, api.getRequestCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package io.github._07manan.featureflags.sdk.tracing;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.exception.FeatureFlagException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlagTracerTest {
+
+    private HttpServer server;
+    private final List<String> traceparents = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/evaluate", exchange -> {
+            traceparents.add(exchange.getRequestHeaders().getFirst("traceparent"));
+            boolean found = exchange.getRequestURI().getPath().equals("/evaluate/dark-mode");
+            byte[] body = (found
+                    ? "{\"flagKey\":\"dark-mode\",\"value\":true,\"type\":\"BOOLEAN\",\"isDefault\":false}"
+                    : "{\"error\":\"not_found\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(found ? 200 : 404, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testCacheMissIsTracedAndPropagated(boolean http2) {
+        RecordingTracer tracer = new RecordingTracer();
+        try (FeatureFlagClient client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key")
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .http2(http2)
+                .tracer(tracer)
+                .registerMBean(false)
+                .build()) {
+            assertTrue(client.getBooleanFlag("dark-mode", "user-1", false));
+            assertTrue(client.getBooleanFlag("dark-mode", "user-1", false));
+        }
+
+        // The cache hit creates no spans
+        assertEquals(2, tracer.spans.size());
+        RecordedSpan evaluate = tracer.spans.get(0);
+        RecordedSpan request = tracer.spans.get(1);
+
+        assertEquals("featureflags.evaluate", evaluate.name);
+        assertNull(evaluate.parent);
+        assertEquals("dark-mode", evaluate.attributes.get(FlagTracer.FLAG_KEY));
+        assertEquals("miss", evaluate.attributes.get(FlagTracer.CACHE_STATUS));
+
+        assertEquals("GET /evaluate/{flagKey}", request.name);
+        assertSame(evaluate, request.parent);
+        assertEquals("/evaluate/{flagKey}", request.attributes.get(FlagTracer.URL_TEMPLATE));
+        assertEquals("dark-mode", request.attributes.get(FlagTracer.FLAG_KEY));
+        assertEquals(200L, request.attributes.get(FlagTracer.HTTP_STATUS_CODE));
+        assertTrue((Long) request.attributes.get(FlagTracer.RESPONSE_SIZE) > 0);
+        assertEquals(List.of(FlagTracer.RESPONSE_RECEIVED_EVENT), request.events);
+
+        assertTrue(evaluate.ended && request.ended);
+        assertEquals(List.of(request.traceparent()), traceparents);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testBulkEvaluationIsTraced(boolean http2) {
+        RecordingTracer tracer = new RecordingTracer();
+        try (FeatureFlagClient client = FeatureFlagClient.builder()
+                .apiKey("ff_test_key")
+                .baseUrl("http://localhost:" + server.getAddress().getPort())
+                .http2(http2)
+                .tracer(tracer)
+                .registerMBean(false)
+                .build()) {
+            // The stub answers the bulk endpoint with 404
+            assertThrows(FeatureFlagException.class, () -> client.getAllFlags("user-1"));
+        }
+
+        assertEquals(2, tracer.spans.size());
+        RecordedSpan evaluate = tracer.spans.get(0);
+        RecordedSpan request = tracer.spans.get(1);
+        assertEquals("featureflags.evaluate_all", evaluate.name);
+        assertEquals("GET /evaluate", request.name);
+        assertSame(evaluate, request.parent);
+        assertFalse(request.attributes.containsKey(FlagTracer.FLAG_KEY));
+        assertEquals(404L, request.attributes.get(FlagTracer.HTTP_STATUS_CODE));
+        assertNotNull(request.error);
+        assertNotNull(evaluate.error);
+        assertTrue(evaluate.ended && request.ended);
+    }
+
+    private static final class RecordingTracer implements FlagTracer {
+        private final List<RecordedSpan> spans = new CopyOnWriteArrayList<>();
+        private final ThreadLocal<RecordedSpan> current = new ThreadLocal<>();
+
+        @Override
+        public FlagSpan startSpan(String name) {
+            RecordedSpan span = new RecordedSpan(this, name, current.get(), spans.size() + 1);
+            spans.add(span);
+            return span;
+        }
+    }
+
+    private static final class RecordedSpan implements FlagSpan {
+        private final RecordingTracer tracer;
+        private final String name;
+        private final RecordedSpan parent;
+        private final int id;
+        private final Map<String, Object> attributes = new HashMap<>();
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private Throwable error;
+        private boolean ended;
+
+        RecordedSpan(RecordingTracer tracer, String name, RecordedSpan parent, int id) {
+            this.tracer = tracer;
+            this.name = name;
+            this.parent = parent;
+            this.id = id;
+        }
+
+        @Override
+        public void setAttribute(String key, String value) {
+            attributes.put(key, value);
+        }
+
+        @Override
+        public void setAttribute(String key, long value) {
+            attributes.put(key, value);
+        }
+
+        @Override
+        public void addEvent(String name) {
+            events.add(name);
+        }
+
+        @Override
+        public void recordException(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public String traceparent() {
+            return String.format("00-%032x-%016x-01", 1, id);
+        }
+
+        @Override
+        public Scope makeCurrent() {
+            RecordedSpan previous = tracer.current.get();
+            tracer.current.set(this);
+            return () -> tracer.current.set(previous);
+        }
+
+        @Override
+        public void end() {
+            ended = true;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.github._07manan.featureflags.sidecar;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a sidecar configured from environment variables:
+ * <ul>
+ *   <li>{@code API_KEYS} - comma-separated {@code name=apiKey} pairs; each environment is
+ *       published to {@code <SNAPSHOT_DIR>/<name>.snapshot} (required)</li>
+ *   <li>{@code SNAPSHOT_DIR} - directory of the snapshot files (default /dev/shm/featureflags)</li>
+ *   <li>{@code USERS} - comma-separated user IDs included besides the anonymous user</li>
+ *   <li>{@code UPSTREAM_URL} - evaluation API base URL (default production)</li>
+ *   <li>{@code REFRESH_SECONDS} - how often snapshots are republished (default 10)</li>
+ * </ul>
+ */
+public final class SidecarMain {
+
+    private SidecarMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String apiKeys = System.getenv("API_KEYS");
+        if (apiKeys == null || apiKeys.isBlank()) {
+            throw new IllegalArgumentException("API_KEYS is required, e.g. production=ff_production_xxxxx");
+        }
+        Path dir = Path.of(System.getenv().getOrDefault("SNAPSHOT_DIR", "/dev/shm/featureflags"));
+        Files.createDirectories(dir);
+
+        SnapshotSidecarBuilder builder = SnapshotSidecar.builder();
+        for (String pair : apiKeys.split(",")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected name=apiKey in API_KEYS, got: " + pair.trim());
+            }
+            builder.environment(pair.substring(eq + 1).trim(), dir.resolve(pair.substring(0, eq).trim() + ".snapshot"));
+        }
+        String users = System.getenv("USERS");
+        if (users != null && !users.isBlank()) {
+            builder.users(Arrays.stream(users.split(",")).map(String::trim).filter(u -> !u.isEmpty()).toList());
+        }
+        String upstreamUrl = System.getenv("UPSTREAM_URL");
+        if (upstreamUrl != null) {
+            builder.upstreamUrl(upstreamUrl);
+        }
+        String refresh = System.getenv("REFRESH_SECONDS");
+        if (refresh != null) {
+            builder.refreshInterval(Long.parseLong(refresh), TimeUnit.SECONDS);
+        }
+
+        SnapshotSidecar sidecar = builder.build();
+        Runtime.getRuntime().addShutdownHook(new Thread(sidecar::close, "sidecar-shutdown"));
+        sidecar.start();
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,131 @@
+package io.github._07manan.featureflags.sidecar;
+
+import io.github._07manan.featureflags.sdk.exception.AuthenticationException;
+import io.github._07manan.featureflags.sdk.http.HttpClient;
+import io.github._07manan.featureflags.sdk.http.HttpConnectionPool;
+import io.github._07manan.featureflags.sdk.model.EvaluationResult;
+import io.github._07manan.featureflags.sdk.snapshot.SnapshotFileWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Host-local process that keeps one flag snapshot file per environment up to date, so every JVM
+ * on the host can evaluate from the same memory-mapped copy through
+ * {@link io.github._07manan.featureflags.sdk.snapshot.SnapshotTransport} instead of each
+ * downloading and caching the flags itself.
+ * <p>
+ * On every refresh the sidecar fetches all flags of each configured user and publishes them
+ * atomically. If any fetch of an environment fails, its previous snapshot is kept; readers fall
+ * back to the evaluation API once it is older than their maximum age.
+ * <p>
+ * Example usage:
+ * <pre>
+ * SnapshotSidecar sidecar = SnapshotSidecar.builder()
+ *     .upstreamUrl("http://evaluation-api:8081")
+ *     .environment("ff_production_xxxxx", Path.of("/dev/shm/featureflags/production.snapshot"))
+ *     .users(List.of("checkout-service", "search-service"))
+ *     .build();
+ * sidecar.start();
+ * </pre>
+ */
+public class SnapshotSidecar implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotSidecar.class);
+
+    private final HttpConnectionPool pool;
+    private final List<Environment> environments;
+    private final List<String> users;
+    private final long refreshInterval;
+    private final TimeUnit refreshIntervalUnit;
+    private final ScheduledExecutorService scheduler;
+
+    SnapshotSidecar(HttpConnectionPool pool, String upstreamUrl, Map<String, Path> files, List<String> users,
+                    int regionSize, long refreshInterval, TimeUnit refreshIntervalUnit) {
+        this.pool = pool;
+        this.users = users;
+        this.refreshInterval = refreshInterval;
+        this.refreshIntervalUnit = refreshIntervalUnit;
+        this.environments = new ArrayList<>(files.size());
+        try {
+            for (Map.Entry<String, Path> file : files.entrySet()) {
+                environments.add(new Environment(
+                        file.getValue(),
+                        new HttpClient(upstreamUrl, file.getKey(), pool),
+                        new SnapshotFileWriter(file.getValue(), regionSize)));
+            }
+        } catch (RuntimeException e) {
+            environments.forEach(Environment::close);
+            throw e;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "featureflags-sidecar");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a new builder for constructing a {@link SnapshotSidecar}.
+     *
+     * @return a new builder instance
+     */
+    public static SnapshotSidecarBuilder builder() {
+        return new SnapshotSidecarBuilder();
+    }
+
+    /**
+     * Publishes the first snapshots and schedules refreshes.
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval, refreshIntervalUnit);
+        logger.info("Sidecar publishing {} environments every {} {}", environments.size(), refreshInterval, refreshIntervalUnit);
+    }
+
+    /**
+     * Fetches and publishes the snapshots of all environments once.
+     *
+     * @return the number of environments published
+     */
+    public int refresh() {
+        int published = 0;
+        for (Environment environment : environments) {
+            try {
+                Map<String, Map<String, EvaluationResult>> snapshot = new HashMap<>();
+                for (String user : users) {
+                    // The empty user is the anonymous user, which the API evaluates without a user ID
+                    snapshot.put(user, environment.upstream.evaluateAllFlags(user.isEmpty() ? null : user));
+                }
+                environment.writer.write(snapshot);
+                published++;
+            } catch (AuthenticationException e) {
+                logger.error("API key for {} was rejected, keeping the previous snapshot", environment.file);
+            } catch (Exception e) {
+                logger.warn("Failed to refresh {}, keeping the previous snapshot", environment.file, e);
+            }
+        }
+        return published;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        environments.forEach(Environment::close);
+        pool.close();
+        logger.info("Sidecar stopped");
+    }
+
+    private record Environment(Path file, HttpClient upstream, SnapshotFileWriter writer) {
+        void close() {
+            writer.close();
+            upstream.close();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.github._07manan.featureflags.sidecar;
+
+import io.github._07manan.featureflags.sdk.http.ConnectionPoolConfig;
+import io.github._07manan.featureflags.sdk.http.HttpConnectionPool;
+import io.github._07manan.featureflags.sdk.snapshot.SnapshotFileWriter;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for creating {@link SnapshotSidecar} instances.
+ * Example usage:
+ * <pre>
+ * SnapshotSidecar sidecar = SnapshotSidecar.builder()
+ *     .environment("ff_production_xxxxx", Path.of("/dev/shm/featureflags/production.snapshot"))
+ *     .build();
+ * </pre>
+ */
+public class SnapshotSidecarBuilder {
+    private static final String DEFAULT_UPSTREAM_URL = "https://feature-flag-evaluation-api.onrender.com/";
+    private static final long DEFAULT_REFRESH_INTERVAL = 10;
+    private static final TimeUnit DEFAULT_REFRESH_INTERVAL_UNIT = TimeUnit.SECONDS;
+    private static final long DEFAULT_CONNECTION_TIMEOUT = 5;
+    private static final long DEFAULT_SOCKET_TIMEOUT = 10;
+
+    private String upstreamUrl = DEFAULT_UPSTREAM_URL;
+    private final Map<String, Path> environments = new LinkedHashMap<>();
+    private final List<String> users = new ArrayList<>(List.of(""));
+    private int regionSize = SnapshotFileWriter.DEFAULT_REGION_SIZE;
+    private long refreshInterval = DEFAULT_REFRESH_INTERVAL;
+    private TimeUnit refreshIntervalUnit = DEFAULT_REFRESH_INTERVAL_UNIT;
+
+    SnapshotSidecarBuilder() {
+    }
+
+    /**
+     * Sets the base URL of the evaluation API (optional). Default is the production URL.
+     *
+     * @param upstreamUrl the upstream base URL (e.g., "http://evaluation-api:8081")
+     * @return this builder
+     */
+    public SnapshotSidecarBuilder upstreamUrl(String upstreamUrl) {
+        this.upstreamUrl = upstreamUrl;
+        return this;
+    }
+
+    /**
+     * Adds an environment whose snapshot is published to a file (at least one is required).
+     *
+     * @param apiKey the environment's API key
+     * @param file the snapshot file that clients of this environment map
+     * @return this builder
+     */
+    public SnapshotSidecarBuilder environment(String apiKey, Path file) {
+        environments.put(apiKey, file);
+        return this;
+    }
+
+    /**
+     * Adds users whose flags are included in every snapshot (optional). Flags can differ per
+     * user with percentage rollouts, so only listed users are served from the snapshot; others
+     * fall back to the evaluation API. The anonymous user is always included.
+     *
+     * @param userIds the user IDs
+     * @return this builder
+     */
+    public SnapshotSidecarBuilder users(List<String> userIds) {
+        for (String userId : userIds) {
+            if (userId != null && !users.contains(userId)) {
+                users.add(userId);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Sets the size of each of the two regions of a snapshot file (optional). A snapshot that
+     * doesn't fit is not published. Default is 4 MiB.
+     *
+     * @param bytes the region size in bytes
+     * @return this builder
+     */
+    public SnapshotSidecarBuilder regionSize(int bytes) {
+        this.regionSize = bytes;
+        return this;
+    }
+
+    /**
+     * Sets how often snapshots are refetched and published (optional). Default is 10 seconds.
+     *
+     * @param interval the refresh interval
+     * @param unit the time unit
+     * @return this builder
+     */
+    public SnapshotSidecarBuilder refreshInterval(long interval, TimeUnit unit) {
+        this.refreshInterval = interval;
+        this.refreshIntervalUnit = unit;
+        return this;
+    }
+
+    /**
+     * Builds the {@link SnapshotSidecar} instance and opens its snapshot files.
+     *
+     * @return a new SnapshotSidecar
+     * @throws IllegalArgumentException if no environment is configured or a setting is invalid
+     */
+    public SnapshotSidecar build() {
+        if (environments.isEmpty()) {
+            throw new IllegalArgumentException("At least one environment is required");
+        }
+        if (refreshInterval <= 0) {
+            throw new IllegalArgumentException("Refresh interval must be positive");
+        }
+
+        HttpConnectionPool pool = new HttpConnectionPool(
+                DEFAULT_CONNECTION_TIMEOUT,
+                DEFAULT_SOCKET_TIMEOUT,
+                TimeUnit.SECONDS,
+                new ConnectionPoolConfig(
+                        environments.size(),
+                        environments.size(),
+                        ConnectionPoolConfig.DEFAULT_KEEP_ALIVE_MILLIS,
+                        ConnectionPoolConfig.DEFAULT_IDLE_EVICTION_MILLIS,
+                        ConnectionPoolConfig.DEFAULT_VALIDATE_AFTER_INACTIVITY_MILLIS,
+                        0));
+        try {
+            return new SnapshotSidecar(pool, upstreamUrl, environments, List.copyOf(users), regionSize,
+                    refreshInterval, refreshIntervalUnit);
+        } catch (RuntimeException e) {
+            pool.close();
+            throw e;
+        }
+    }
+}
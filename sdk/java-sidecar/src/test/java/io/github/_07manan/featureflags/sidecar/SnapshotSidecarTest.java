@@ -0,0 +1,94 @@
+package io.github._07manan.featureflags.sidecar;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github._07manan.featureflags.sdk.FeatureFlagClient;
+import io.github._07manan.featureflags.sdk.transport.InMemoryTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotSidecarTest {
+
+    @TempDir
+    Path dir;
+
+    private HttpServer upstream;
+    private final AtomicInteger upstreamRequests = new AtomicInteger();
+    private volatile String banner = "blue";
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.createContext("/evaluate", this::serveUpstream);
+        upstream.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.stop(0);
+    }
+
+    private void serveUpstream(HttpExchange exchange) throws IOException {
+        upstreamRequests.incrementAndGet();
+        String query = exchange.getRequestURI().getQuery();
+        boolean authorized = "ff_production_key".equals(exchange.getRequestHeaders().getFirst("X-API-Key"));
+        String value = query != null && query.contains("user=vip") ? "gold" : banner;
+        byte[] body = (authorized
+                ? "{\"flags\":{\"banner\":{\"flagKey\":\"banner\",\"value\":\"" + value + "\",\"type\":\"STRING\",\"isDefault\":false}}}"
+                : "{\"error\":\"unauthorized\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(authorized ? 200 : 401, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Test
+    void testClientsEvaluateFromPublishedSnapshot() {
+        Path file = dir.resolve("production.snapshot");
+        InMemoryTransport api = new InMemoryTransport();
+
+        try (SnapshotSidecar sidecar = SnapshotSidecar.builder()
+                .upstreamUrl("http://localhost:" + upstream.getAddress().getPort())
+                .environment("ff_production_key", file)
+                .environment("ff_revoked_key", dir.resolve("revoked.snapshot"))
+                .users(List.of("vip"))
+                .build();
+             FeatureFlagClient client = FeatureFlagClient.builder()
+                     .apiKey("ff_production_key")
+                     .transport(api)
+                     .snapshotFile(file)
+                     .cacheTTL(1, TimeUnit.MILLISECONDS)
+                     .build()) {
+
+            // The revoked environment fails and keeps its previous (empty) snapshot
+            assertEquals(1, sidecar.refresh());
+            assertEquals(3, upstreamRequests.get());
+
+            assertEquals("blue", client.getStringFlag("banner", null, "none"));
+            assertEquals("gold", client.getStringFlag("banner", "vip", "none"));
+            assertEquals(0, api.getRequestCount());
+
+            banner = "green";
+            sidecar.refresh();
+            client.clearCache();
+            assertEquals("green", client.getStringFlag("banner", null, "none"));
+
+            // Users that aren't published go to the API
+            assertEquals("none", client.getStringFlag("banner", "someone-else", "none"));
+            assertEquals(1, api.getRequestCount());
+        }
+    }
+}
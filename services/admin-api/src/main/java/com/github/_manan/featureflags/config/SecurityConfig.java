@@ -4,6 +4,7 @@ import com.github._manan.featureflags.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -47,6 +48,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
+                        // SDKs authenticate with the environment's API key, checked by the controller
+                        .requestMatchers(HttpMethod.POST, "/exposures").permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
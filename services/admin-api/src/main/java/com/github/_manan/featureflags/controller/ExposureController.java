@@ -0,0 +1,43 @@
+package com.github._manan.featureflags.controller;
+
+import com.github._manan.featureflags.dto.ExposureBatchRequest;
+import com.github._manan.featureflags.dto.ExposureSeriesDto;
+import com.github._manan.featureflags.entity.ExposureGranularity;
+import com.github._manan.featureflags.service.ExposureService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/exposures")
+@RequiredArgsConstructor
+public class ExposureController {
+
+    private final ExposureService exposureService;
+
+    @PostMapping
+    public ResponseEntity<Map<String, Integer>> ingest(
+            @RequestHeader(value = "X-API-Key", required = false) String apiKey,
+            @Valid @RequestBody ExposureBatchRequest request) {
+        int accepted = exposureService.ingest(apiKey, request);
+        return ResponseEntity.accepted().body(Map.of("accepted", accepted));
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ExposureSeriesDto> getSeries(
+            @RequestParam UUID environmentId,
+            @RequestParam String flagKey,
+            @RequestParam(defaultValue = "HOUR") ExposureGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        return ResponseEntity.ok(exposureService.getSeries(environmentId, flagKey, granularity, from, to));
+    }
+}
@@ -0,0 +1,23 @@
+package com.github._manan.featureflags.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExposureBatchRequest {
+
+    @NotNull(message = "Exposures are required")
+    @Size(max = 5000, message = "At most 5000 exposure counts per batch")
+    @Valid
+    private List<ExposureCountDto> exposures;
+}
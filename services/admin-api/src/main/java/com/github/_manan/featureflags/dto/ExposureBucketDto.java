@@ -0,0 +1,23 @@
+package com.github._manan.featureflags.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExposureBucketDto {
+
+    private Instant bucket;
+
+    /** Exposures per variant ID; flags without variants are reported under an empty ID. */
+    private Map<String, Long> variants;
+
+    private Long total;
+}
@@ -0,0 +1,29 @@
+package com.github._manan.featureflags.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExposureCountDto {
+
+    @NotBlank(message = "Flag key is required")
+    private String flagKey;
+
+    private String variantId;
+
+    /** Start of the minute the exposures were recorded in, in epoch milliseconds. */
+    @NotNull(message = "Bucket is required")
+    private Long bucket;
+
+    @NotNull(message = "Count is required")
+    @Positive(message = "Count must be positive")
+    private Long count;
+}
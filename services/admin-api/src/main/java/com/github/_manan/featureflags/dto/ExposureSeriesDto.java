@@ -0,0 +1,31 @@
+package com.github._manan.featureflags.dto;
+
+import com.github._manan.featureflags.entity.ExposureGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExposureSeriesDto {
+
+    private String flagKey;
+
+    private UUID environmentId;
+
+    private ExposureGranularity granularity;
+
+    private Instant from;
+
+    private Instant to;
+
+    /** Buckets with at least one exposure, in chronological order. */
+    private List<ExposureBucketDto> buckets;
+}
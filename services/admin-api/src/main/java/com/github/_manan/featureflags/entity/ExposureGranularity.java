@@ -0,0 +1,24 @@
+package com.github._manan.featureflags.entity;
+
+import java.time.temporal.ChronoUnit;
+
+public enum ExposureGranularity {
+    MINUTE("exposure_minute_rollups", ChronoUnit.MINUTES),
+    HOUR("exposure_hour_rollups", ChronoUnit.HOURS);
+
+    private final String tableName;
+    private final ChronoUnit unit;
+
+    ExposureGranularity(String tableName, ChronoUnit unit) {
+        this.tableName = tableName;
+        this.unit = unit;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+}
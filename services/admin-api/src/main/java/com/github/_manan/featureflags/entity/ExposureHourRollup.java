@@ -0,0 +1,14 @@
+package com.github._manan.featureflags.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "exposure_hour_rollups", indexes = {
+        @Index(name = "idx_exposure_hour_env_flag_bucket", columnList = "environment_id, flag_key, bucket_start")
+})
+@NoArgsConstructor
+public class ExposureHourRollup extends ExposureRollup {
+}
@@ -0,0 +1,28 @@
+package com.github._manan.featureflags.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Exposure count of one variant of a flag in one environment during a time bucket: the sum of
+ * the per-minute distinct user counts reported by each SDK instance. A user seen by several
+ * instances, or in several minutes of an hour, is counted more than once.
+ * Rows are written with JDBC batch upserts by {@code ExposureRollupRepository}; the entities only
+ * define the schema.
+ */
+@MappedSuperclass
+@Getter
+@Setter
+@NoArgsConstructor
+public abstract class ExposureRollup {
+
+    @EmbeddedId
+    private ExposureRollupId id;
+
+    @Column(name = "exposure_count", nullable = false)
+    private Long exposureCount;
+}
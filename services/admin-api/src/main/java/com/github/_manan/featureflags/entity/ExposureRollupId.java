@@ -0,0 +1,31 @@
+package com.github._manan.featureflags.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExposureRollupId implements Serializable {
+
+    @Column(name = "environment_id", nullable = false)
+    private UUID environmentId;
+
+    @Column(name = "flag_key", nullable = false)
+    private String flagKey;
+
+    /** Empty for flags evaluated without a variant. */
+    @Column(name = "variant_id", nullable = false)
+    private String variantId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+}
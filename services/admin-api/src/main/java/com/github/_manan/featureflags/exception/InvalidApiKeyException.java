@@ -0,0 +1,8 @@
+package com.github._manan.featureflags.exception;
+
+public class InvalidApiKeyException extends RuntimeException {
+
+    public InvalidApiKeyException() {
+        super("Invalid or missing API key");
+    }
+}
@@ -21,4 +21,6 @@ public interface EnvironmentRepository extends JpaRepository<Environment, UUID>
             String name, String description);
 
     boolean existsByApiKey(String apiKey);
+
+    Optional<Environment> findByApiKeyAndIsActiveTrue(String apiKey);
 }
@@ -0,0 +1,88 @@
+package com.github._manan.featureflags.repository;
+
+import com.github._manan.featureflags.entity.ExposureGranularity;
+import com.github._manan.featureflags.entity.ExposureRollupId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes and reads exposure rollups with plain JDBC, so a batch of counts costs two batched
+ * statements per table instead of an entity load and flush per row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExposureRollupRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds counts to existing rows with one batched update, then inserts the rows that didn't
+     * exist yet with one batched insert. Callers should pass rows in a consistent order so that
+     * concurrent batches lock rows in the same order. If another node inserts one of the rows
+     * between the update and the insert, the insert fails with a duplicate key and the batch
+     * has to be retried in a new transaction.
+     *
+     * @param counts the counts to add, keyed by rollup row
+     */
+    public void upsert(ExposureGranularity granularity, Map<ExposureRollupId, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<ExposureRollupId, Long>> rows = new ArrayList<>(counts.entrySet());
+
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE " + granularity.getTableName() + " SET exposure_count = exposure_count + ?"
+                        + " WHERE environment_id = ? AND flag_key = ? AND variant_id = ? AND bucket_start = ?",
+                rows.stream()
+                        .map(row -> new Object[]{row.getValue(), row.getKey().getEnvironmentId(),
+                                row.getKey().getFlagKey(), row.getKey().getVariantId(), utc(row.getKey().getBucketStart())})
+                        .toList());
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (updated[i] == 0) {
+                ExposureRollupId id = rows.get(i).getKey();
+                inserts.add(new Object[]{id.getEnvironmentId(), id.getFlagKey(), id.getVariantId(),
+                        utc(id.getBucketStart()), rows.get(i).getValue()});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO " + granularity.getTableName()
+                            + " (environment_id, flag_key, variant_id, bucket_start, exposure_count) VALUES (?, ?, ?, ?, ?)",
+                    inserts);
+        }
+    }
+
+    /**
+     * Returns the rows of one flag in one environment with {@code from <= bucket_start < to},
+     * ordered by bucket and variant.
+     */
+    public List<Row> findSeries(ExposureGranularity granularity, UUID environmentId, String flagKey, Instant from, Instant to) {
+        return jdbcTemplate.query(
+                "SELECT bucket_start, variant_id, exposure_count FROM " + granularity.getTableName()
+                        + " WHERE environment_id = ? AND flag_key = ? AND bucket_start >= ? AND bucket_start < ?"
+                        + " ORDER BY bucket_start, variant_id",
+                (rs, rowNum) -> new Row(
+                        rs.getObject("bucket_start", OffsetDateTime.class).toInstant(),
+                        rs.getString("variant_id"),
+                        rs.getLong("exposure_count")),
+                environmentId, flagKey, utc(from), utc(to));
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    public record Row(Instant bucketStart, String variantId, long exposureCount) {
+    }
+}
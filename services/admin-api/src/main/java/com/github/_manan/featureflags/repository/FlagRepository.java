@@ -2,10 +2,14 @@ package com.github._manan.featureflags.repository;
 
 import com.github._manan.featureflags.entity.Flag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -17,6 +21,9 @@ public interface FlagRepository extends JpaRepository<Flag, UUID> {
 
     boolean existsByKeyAndIsActiveTrue(String key);
 
+    @Query("SELECT f.key FROM Flag f WHERE f.isActive = true AND f.key IN :keys")
+    Set<String> findActiveKeys(@Param("keys") Collection<String> keys);
+
     List<Flag> findAllByIsActiveTrueAndKeyContainingIgnoreCaseOrIsActiveTrueAndNameContainingIgnoreCaseOrIsActiveTrueAndDescriptionContainingIgnoreCase(
             String key, String name, String description);
 }
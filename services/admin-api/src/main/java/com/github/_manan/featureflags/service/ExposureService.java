@@ -0,0 +1,152 @@
+package com.github._manan.featureflags.service;
+
+import com.github._manan.featureflags.dto.ExposureBatchRequest;
+import com.github._manan.featureflags.dto.ExposureBucketDto;
+import com.github._manan.featureflags.dto.ExposureCountDto;
+import com.github._manan.featureflags.dto.ExposureSeriesDto;
+import com.github._manan.featureflags.entity.Environment;
+import com.github._manan.featureflags.entity.ExposureGranularity;
+import com.github._manan.featureflags.entity.ExposureRollupId;
+import com.github._manan.featureflags.exception.InvalidApiKeyException;
+import com.github._manan.featureflags.exception.ResourceNotFoundException;
+import com.github._manan.featureflags.repository.EnvironmentRepository;
+import com.github._manan.featureflags.repository.ExposureRollupRepository;
+import com.github._manan.featureflags.repository.FlagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ExposureService {
+
+    private static final int MAX_UPSERT_ATTEMPTS = 3;
+    private static final long MAX_SERIES_BUCKETS = 10_000;
+    // SDKs send counts within seconds; the slack covers retries, long flush intervals and clock skew
+    private static final Duration MAX_BUCKET_AGE = Duration.ofHours(1);
+    private static final Duration MAX_BUCKET_AHEAD = Duration.ofMinutes(5);
+
+    // Sorting rows gives concurrent batches the same lock order, avoiding deadlocks between nodes
+    private static final Comparator<ExposureRollupId> ROW_ORDER = Comparator
+            .comparing(ExposureRollupId::getFlagKey)
+            .thenComparing(ExposureRollupId::getVariantId)
+            .thenComparing(ExposureRollupId::getBucketStart);
+
+    private final EnvironmentRepository environmentRepository;
+    private final FlagRepository flagRepository;
+    private final ExposureRollupRepository exposureRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Adds a batch of exposure counts to the minute and hour rollups of the API key's environment.
+     * Counts for flags that don't exist, or for buckets more than an hour old or more than five
+     * minutes ahead, are skipped. Counts for the same row are merged first, and the whole batch is
+     * written in one transaction.
+     *
+     * @return the number of counts accepted
+     */
+    public int ingest(String apiKey, ExposureBatchRequest request) {
+        if (apiKey == null || apiKey.isBlank()) {
+            throw new InvalidApiKeyException();
+        }
+        Environment environment = environmentRepository.findByApiKeyAndIsActiveTrue(apiKey)
+                .orElseThrow(InvalidApiKeyException::new);
+
+        Set<String> flagKeys = flagRepository.findActiveKeys(request.getExposures().stream()
+                .map(ExposureCountDto::getFlagKey)
+                .collect(Collectors.toSet()));
+        Instant now = Instant.now();
+        Instant earliest = now.minus(MAX_BUCKET_AGE);
+        Instant latest = now.plus(MAX_BUCKET_AHEAD);
+
+        Map<ExposureRollupId, Long> minutes = new TreeMap<>(ROW_ORDER);
+        Map<ExposureRollupId, Long> hours = new TreeMap<>(ROW_ORDER);
+        int accepted = 0;
+        for (ExposureCountDto exposure : request.getExposures()) {
+            Instant recordedAt = Instant.ofEpochMilli(exposure.getBucket());
+            if (!flagKeys.contains(exposure.getFlagKey()) || recordedAt.isBefore(earliest) || recordedAt.isAfter(latest)) {
+                continue;
+            }
+            accepted++;
+            String variantId = exposure.getVariantId() != null ? exposure.getVariantId() : "";
+            minutes.merge(rollupId(environment.getId(), exposure.getFlagKey(), variantId, recordedAt, ExposureGranularity.MINUTE),
+                    exposure.getCount(), Long::sum);
+            hours.merge(rollupId(environment.getId(), exposure.getFlagKey(), variantId, recordedAt, ExposureGranularity.HOUR),
+                    exposure.getCount(), Long::sum);
+        }
+
+        if (accepted == 0) {
+            return 0;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    exposureRollupRepository.upsert(ExposureGranularity.MINUTE, minutes);
+                    exposureRollupRepository.upsert(ExposureGranularity.HOUR, hours);
+                });
+                return accepted;
+            } catch (DuplicateKeyException e) {
+                // Another node inserted one of the rows first; the retry updates it instead
+                if (attempt == MAX_UPSERT_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public ExposureSeriesDto getSeries(UUID environmentId, String flagKey, ExposureGranularity granularity,
+                                       Instant from, Instant to) {
+        if (!environmentRepository.existsById(environmentId)) {
+            throw new ResourceNotFoundException("Environment", "id", environmentId);
+        }
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(Duration.of(granularity == ExposureGranularity.MINUTE ? 60 : 24,
+                granularity.getUnit()));
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        if (Duration.between(start, end).dividedBy(granularity.getUnit().getDuration()) > MAX_SERIES_BUCKETS) {
+            throw new IllegalArgumentException("Time range spans more than " + MAX_SERIES_BUCKETS + " buckets");
+        }
+
+        Map<Instant, ExposureBucketDto> buckets = new LinkedHashMap<>();
+        for (ExposureRollupRepository.Row row : exposureRollupRepository.findSeries(
+                granularity, environmentId, flagKey, start.truncatedTo(granularity.getUnit()), end)) {
+            ExposureBucketDto bucket = buckets.computeIfAbsent(row.bucketStart(), b -> ExposureBucketDto.builder()
+                    .bucket(b)
+                    .variants(new LinkedHashMap<>())
+                    .total(0L)
+                    .build());
+            bucket.getVariants().put(row.variantId(), row.exposureCount());
+            bucket.setTotal(bucket.getTotal() + row.exposureCount());
+        }
+
+        return ExposureSeriesDto.builder()
+                .flagKey(flagKey)
+                .environmentId(environmentId)
+                .granularity(granularity)
+                .from(start)
+                .to(end)
+                .buckets(new ArrayList<>(buckets.values()))
+                .build();
+    }
+
+    private static ExposureRollupId rollupId(UUID environmentId, String flagKey, String variantId,
+                                             Instant recordedAt, ExposureGranularity granularity) {
+        return new ExposureRollupId(environmentId, flagKey, variantId, recordedAt.truncatedTo(granularity.getUnit()));
+    }
+}
@@ -0,0 +1,199 @@
+package com.github._manan.featureflags.integration.exposures;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github._manan.featureflags.config.TestConfig;
+import com.github._manan.featureflags.entity.FlagType;
+import com.github._manan.featureflags.support.TestHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestConfig.class)
+@Transactional
+class ExposureIntegrationTest {
+
+    // The first two minutes of the current hour, which the API accepts as recent
+    private static final Instant HOUR = Instant.now().truncatedTo(ChronoUnit.HOURS);
+    private static final long MINUTE_1 = HOUR.toEpochMilli();
+    private static final long MINUTE_2 = MINUTE_1 + 60_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String adminToken;
+    private String envId;
+    private String apiKey;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        adminToken = TestHelper.registerAdminAndGetToken(mockMvc);
+        envId = TestHelper.createEnvironment(mockMvc, adminToken, "exposure-env", "Exposure Env", null);
+        MvcResult result = mockMvc.perform(get("/environments/{id}", envId)
+                        .header("Authorization", TestHelper.bearerToken(adminToken)))
+                .andExpect(status().isOk())
+                .andReturn();
+        apiKey = objectMapper.readTree(result.getResponse().getContentAsString()).get("apiKey").asText();
+        TestHelper.createFlag(mockMvc, adminToken, "checkout", "Checkout", FlagType.STRING, "a");
+        TestHelper.createFlag(mockMvc, adminToken, "other-flag", "Other Flag", FlagType.STRING, "x");
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  POST /exposures  — ingest
+    // ═══════════════════════════════════════════════════════════════════
+
+    @Test
+    void ingest_validBatch_returnsAccepted() throws Exception {
+        ingest(exposure("checkout", "v-a", MINUTE_1, 3))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(1));
+    }
+
+    @Test
+    void ingest_unknownFlag_skipsCount() throws Exception {
+        ingest(exposure("checkout", "v-a", MINUTE_1, 3),
+                exposure("no-such-flag", "v-a", MINUTE_1, 3))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(1));
+    }
+
+    @Test
+    void ingest_bucketOutsideWindow_skipsCount() throws Exception {
+        long now = System.currentTimeMillis();
+        ingest(exposure("checkout", "v-a", now - 2 * 3_600_000, 3),
+                exposure("checkout", "v-a", now + 3_600_000, 3))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(0));
+    }
+
+    @Test
+    void ingest_invalidApiKey_returnsUnauthorized() throws Exception {
+        mockMvc.perform(post("/exposures")
+                        .header("X-API-Key", "ff_unknown")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(exposure("checkout", "v-a", MINUTE_1, 3))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void ingest_missingApiKey_returnsUnauthorized() throws Exception {
+        mockMvc.perform(post("/exposures")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(exposure("checkout", "v-a", MINUTE_1, 3))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void ingest_nonPositiveCount_returnsBadRequest() throws Exception {
+        ingest(exposure("checkout", "v-a", MINUTE_1, 0))
+                .andExpect(status().isBadRequest());
+    }
+
+    // ═══════════════════════════════════════════════════════════════════
+    //  GET /exposures  — variant distribution
+    // ═══════════════════════════════════════════════════════════════════
+
+    @Test
+    void getSeries_minuteGranularity_mergesCountsPerBucket() throws Exception {
+        ingest(exposure("checkout", "v-a", MINUTE_1, 3),
+                exposure("checkout", "v-a", MINUTE_1 + 20_000, 2),
+                exposure("checkout", "v-b", MINUTE_1, 1),
+                exposure("checkout", "v-a", MINUTE_2, 4),
+                exposure("other-flag", "v-x", MINUTE_1, 9))
+                .andExpect(status().isAccepted());
+        ingest(exposure("checkout", "v-b", MINUTE_1, 5))
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(get("/exposures")
+                        .header("Authorization", TestHelper.bearerToken(adminToken))
+                        .param("environmentId", envId)
+                        .param("flagKey", "checkout")
+                        .param("granularity", "MINUTE")
+                        .param("from", HOUR.toString())
+                        .param("to", HOUR.plus(1, ChronoUnit.HOURS).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets.length()").value(2))
+                .andExpect(jsonPath("$.buckets[0].variants['v-a']").value(5))
+                .andExpect(jsonPath("$.buckets[0].variants['v-b']").value(6))
+                .andExpect(jsonPath("$.buckets[0].total").value(11))
+                .andExpect(jsonPath("$.buckets[1].variants['v-a']").value(4));
+    }
+
+    @Test
+    void getSeries_hourGranularity_rollsUpMinutes() throws Exception {
+        ingest(exposure("checkout", "v-a", MINUTE_1, 3),
+                exposure("checkout", "v-a", MINUTE_2, 4),
+                exposure("checkout", null, MINUTE_2, 2))
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(get("/exposures")
+                        .header("Authorization", TestHelper.bearerToken(adminToken))
+                        .param("environmentId", envId)
+                        .param("flagKey", "checkout")
+                        .param("from", HOUR.minus(1, ChronoUnit.HOURS).toString())
+                        .param("to", HOUR.plus(1, ChronoUnit.HOURS).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularity").value("HOUR"))
+                .andExpect(jsonPath("$.buckets.length()").value(1))
+                .andExpect(jsonPath("$.buckets[0].variants['v-a']").value(7))
+                .andExpect(jsonPath("$.buckets[0].variants['']").value(2))
+                .andExpect(jsonPath("$.buckets[0].total").value(9));
+    }
+
+    @Test
+    void getSeries_rangeTooLarge_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/exposures")
+                        .header("Authorization", TestHelper.bearerToken(adminToken))
+                        .param("environmentId", envId)
+                        .param("flagKey", "checkout")
+                        .param("granularity", "MINUTE")
+                        .param("from", HOUR.minus(365, ChronoUnit.DAYS).toString())
+                        .param("to", HOUR.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getSeries_guest_returnsForbidden() throws Exception {
+        String guestToken = TestHelper.registerGuestAndGetToken(mockMvc);
+        mockMvc.perform(get("/exposures")
+                        .header("Authorization", TestHelper.bearerToken(guestToken))
+                        .param("environmentId", envId)
+                        .param("flagKey", "checkout"))
+                .andExpect(status().isForbidden());
+    }
+
+    // ── helpers ───────────────────────────────────────────────────────────
+
+    private ResultActions ingest(String... exposures) throws Exception {
+        return mockMvc.perform(post("/exposures")
+                .header("X-API-Key", apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batch(exposures)));
+    }
+
+    private static String batch(String... exposures) {
+        return "{\"exposures\":[" + String.join(",", exposures) + "]}";
+    }
+
+    private static String exposure(String flagKey, String variantId, long bucket, long count) {
+        return "{\"flagKey\":\"" + flagKey + "\",\"variantId\":" + (variantId != null ? "\"" + variantId + "\"" : "null")
+                + ",\"bucket\":" + bucket + ",\"count\":" + count + "}";
+    }
+}